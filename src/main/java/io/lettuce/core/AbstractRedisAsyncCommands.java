@@ -26,6 +26,7 @@ import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.codec.Base16;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.json.JsonCodec;
 import io.lettuce.core.json.JsonParser;
 import io.lettuce.core.json.JsonType;
 import io.lettuce.core.json.JsonValue;
@@ -1553,6 +1554,16 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
         return dispatch(jsonCommandBuilder.jsonGet(key, JsonGetArgs.Builder.defaults(), jsonPaths));
     }
 
+    @Override
+    public <T> RedisFuture<List<T>> jsonGet(K key, Class<T> type, JsonPath... jsonPaths) {
+        return dispatch(jsonCommandBuilder.jsonGet(key, JsonGetArgs.Builder.defaults(), type, jsonPaths));
+    }
+
+    @Override
+    public <T> RedisFuture<List<T>> jsonGet(K key, JsonCodec<T> jsonCodec, JsonPath... jsonPaths) {
+        return dispatch(jsonCommandBuilder.jsonGet(key, JsonGetArgs.Builder.defaults(), jsonCodec, jsonPaths));
+    }
+
     @Override
     public RedisFuture<String> jsonMerge(K key, JsonPath jsonPath, JsonValue value) {
         return dispatch(jsonCommandBuilder.jsonMerge(key, jsonPath, value));
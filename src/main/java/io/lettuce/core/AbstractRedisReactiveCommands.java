@@ -26,6 +26,7 @@ import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.codec.Base16;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.json.JsonCodec;
 import io.lettuce.core.json.JsonParser;
 import io.lettuce.core.json.JsonPath;
 import io.lettuce.core.json.JsonType;
@@ -137,6 +138,10 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return this.scheduler = schedulerToUse;
     }
 
+    private int getPublishOnSchedulerBatchSize() {
+        return connection.getOptions().getPublishOnSchedulerBatchSize();
+    }
+
     @Override
     public JsonParser getJsonParser() {
         return parser.block();
@@ -659,11 +664,12 @@ public abstract class AbstractRedisReactiveCommands<K, V>
 
         if (tracingEnabled) {
 
-            return withTraceContext().flatMapMany(it -> Flux
-                    .from(new RedisPublisher<>(decorate(commandSupplier, it), connection, dissolve, getScheduler().next())));
+            return withTraceContext().flatMapMany(it -> Flux.from(new RedisPublisher<>(decorate(commandSupplier, it), connection,
+                    dissolve, getScheduler().next(), getPublishOnSchedulerBatchSize())));
         }
 
-        return Flux.from(new RedisPublisher<>(commandSupplier, connection, dissolve, getScheduler().next()));
+        return Flux.from(new RedisPublisher<>(commandSupplier, connection, dissolve, getScheduler().next(),
+                getPublishOnSchedulerBatchSize()));
     }
 
     private Mono<TraceContext> withTraceContext() {
@@ -1622,6 +1628,18 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return createDissolvingFlux(() -> jsonCommandBuilder.jsonGet(key, args, jsonPaths));
     }
 
+    @Override
+    public <T> Flux<T> jsonGet(K key, Class<T> type, JsonPath... jsonPaths) {
+        final JsonGetArgs args = JsonGetArgs.Builder.defaults();
+        return createDissolvingFlux(() -> jsonCommandBuilder.jsonGet(key, args, type, jsonPaths));
+    }
+
+    @Override
+    public <T> Flux<T> jsonGet(K key, JsonCodec<T> jsonCodec, JsonPath... jsonPaths) {
+        final JsonGetArgs args = JsonGetArgs.Builder.defaults();
+        return createDissolvingFlux(() -> jsonCommandBuilder.jsonGet(key, args, jsonCodec, jsonPaths));
+    }
+
     @Override
     public Mono<String> jsonMerge(K key, JsonPath jsonPath, JsonValue value) {
         return createMono(() -> jsonCommandBuilder.jsonMerge(key, jsonPath, value));
@@ -55,8 +55,14 @@ public class ClientOptions implements Serializable {
 
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
 
+    public static final boolean DEFAULT_FAILOVER_REPLAY = false;
+
+    public static final LivenessOptions DEFAULT_LIVENESS_OPTIONS = LivenessOptions.create();
+
     public static final boolean DEFAULT_PUBLISH_ON_SCHEDULER = false;
 
+    public static final int DEFAULT_PUBLISH_ON_SCHEDULER_BATCH_SIZE = 1;
+
     public static final boolean DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION = true;
 
     public static final ProtocolVersion DEFAULT_PROTOCOL_VERSION = ProtocolVersion.newestSupported();
@@ -93,8 +99,14 @@ public class ClientOptions implements Serializable {
 
     private final DisconnectedBehavior disconnectedBehavior;
 
+    private final boolean failoverReplay;
+
+    private final LivenessOptions livenessOptions;
+
     private final boolean publishOnScheduler;
 
+    private final int publishOnSchedulerBatchSize;
+
     private final boolean pingBeforeActivateConnection;
 
     private final ProtocolVersion protocolVersion;
@@ -120,7 +132,10 @@ public class ClientOptions implements Serializable {
         this.cancelCommandsOnReconnectFailure = builder.cancelCommandsOnReconnectFailure;
         this.decodeBufferPolicy = builder.decodeBufferPolicy;
         this.disconnectedBehavior = builder.disconnectedBehavior;
+        this.failoverReplay = builder.failoverReplay;
+        this.livenessOptions = builder.livenessOptions;
         this.publishOnScheduler = builder.publishOnScheduler;
+        this.publishOnSchedulerBatchSize = builder.publishOnSchedulerBatchSize;
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
         this.protocolVersion = builder.protocolVersion;
         this.readOnlyCommands = builder.readOnlyCommands;
@@ -138,7 +153,10 @@ public class ClientOptions implements Serializable {
         this.cancelCommandsOnReconnectFailure = original.isCancelCommandsOnReconnectFailure();
         this.decodeBufferPolicy = original.getDecodeBufferPolicy();
         this.disconnectedBehavior = original.getDisconnectedBehavior();
+        this.failoverReplay = original.isFailoverReplay();
+        this.livenessOptions = original.getLivenessOptions();
         this.publishOnScheduler = original.isPublishOnScheduler();
+        this.publishOnSchedulerBatchSize = original.getPublishOnSchedulerBatchSize();
         this.pingBeforeActivateConnection = original.isPingBeforeActivateConnection();
         this.protocolVersion = original.getConfiguredProtocolVersion();
         this.readOnlyCommands = original.getReadOnlyCommands();
@@ -192,12 +210,18 @@ public class ClientOptions implements Serializable {
 
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
 
+        private boolean failoverReplay = DEFAULT_FAILOVER_REPLAY;
+
+        private LivenessOptions livenessOptions = DEFAULT_LIVENESS_OPTIONS;
+
         private boolean pingBeforeActivateConnection = DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION;
 
         private ProtocolVersion protocolVersion;
 
         private boolean publishOnScheduler = DEFAULT_PUBLISH_ON_SCHEDULER;
 
+        private int publishOnSchedulerBatchSize = DEFAULT_PUBLISH_ON_SCHEDULER_BATCH_SIZE;
+
         private ReadOnlyCommands.ReadOnlyPredicate readOnlyCommands = DEFAULT_READ_ONLY_COMMANDS;
 
         private int requestQueueSize = DEFAULT_REQUEST_QUEUE_SIZE;
@@ -293,6 +317,38 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Replay retry-safe commands of a disconnected Redis Cluster or Master/Replica node connection through the routing
+         * connection instead of waiting for the node to reconnect. Commands are retry-safe if they are identified as read-only
+         * by {@link #readOnlyCommands(ReadOnlyCommands.ReadOnlyPredicate)}. Replayed commands are routed again and therefore
+         * can be served by another node, e.g. a different replica or a new master after failover. Other commands remain buffered
+         * until the node reconnects. Defaults to {@code false}. See {@link #DEFAULT_FAILOVER_REPLAY}.
+         *
+         * @param failoverReplay {@code true} to replay retry-safe commands of disconnected node connections.
+         * @return {@code this}
+         * @since 6.5
+         * @see io.lettuce.core.event.connection.CommandsReplayedEvent
+         */
+        public Builder failoverReplay(boolean failoverReplay) {
+            this.failoverReplay = failoverReplay;
+            return this;
+        }
+
+        /**
+         * Sets the {@link LivenessOptions} to probe idle or stalled connections and to close connections whose peer does not
+         * respond. See {@link #DEFAULT_LIVENESS_OPTIONS}.
+         *
+         * @param livenessOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder livenessOptions(LivenessOptions livenessOptions) {
+
+            LettuceAssert.notNull(livenessOptions, "LivenessOptions must not be null");
+            this.livenessOptions = livenessOptions;
+            return this;
+        }
+
         /**
          * Perform a lightweight {@literal PING} connection handshake when establishing a Redis connection. If {@code true}
          * (default is {@code true}, {@link #DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION}), every connection and reconnect will
@@ -346,6 +402,25 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Maximum number of data signals to emit with a single task when {@link #publishOnScheduler(boolean) publishing on a
+         * scheduler}. Data signals of a reactive sequence are collected into batches that are handed off to the scheduler at
+         * once, amortizing the cost of scheduling across the batch. Batches are emitted when they are full, when the
+         * subscriber has no more demand, when no more data is available and before the terminal signal. Defaults to
+         * {@literal 1} to emit each data signal individually, see {@link #DEFAULT_PUBLISH_ON_SCHEDULER_BATCH_SIZE}.
+         *
+         * @param publishOnSchedulerBatchSize the batch size, must be greater than zero.
+         * @return {@code this}
+         * @since 6.5
+         * @see #publishOnScheduler(boolean)
+         */
+        public Builder publishOnSchedulerBatchSize(int publishOnSchedulerBatchSize) {
+
+            LettuceAssert.isTrue(publishOnSchedulerBatchSize > 0, "Publish on scheduler batch size must be greater than zero");
+            this.publishOnSchedulerBatchSize = publishOnSchedulerBatchSize;
+            return this;
+        }
+
         /**
          * Identifies commands (e.g. module commands) as read-only. Defaults {@link #DEFAULT_READ_ONLY_COMMANDS}, see
          * {@link ReadOnlyCommands}.
@@ -484,7 +559,9 @@ public class ClientOptions implements Serializable {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
-                .readOnlyCommands(getReadOnlyCommands()).publishOnScheduler(isPublishOnScheduler())
+                .failoverReplay(isFailoverReplay()).livenessOptions(getLivenessOptions()).readOnlyCommands(getReadOnlyCommands())
+                .publishOnScheduler(isPublishOnScheduler())
+                .publishOnSchedulerBatchSize(getPublishOnSchedulerBatchSize())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
                 .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).jsonParser(getJsonParser())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
@@ -553,6 +630,27 @@ public class ClientOptions implements Serializable {
         return disconnectedBehavior;
     }
 
+    /**
+     * Replay retry-safe commands of disconnected Redis Cluster or Master/Replica node connections through the routing
+     * connection. Defaults to {@code false}. See {@link #DEFAULT_FAILOVER_REPLAY}.
+     *
+     * @return {@code true} if retry-safe commands of disconnected node connections are replayed.
+     * @since 6.5
+     */
+    public boolean isFailoverReplay() {
+        return failoverReplay;
+    }
+
+    /**
+     * Returns the {@link LivenessOptions}.
+     *
+     * @return the {@link LivenessOptions}.
+     * @since 6.5
+     */
+    public LivenessOptions getLivenessOptions() {
+        return livenessOptions;
+    }
+
     /**
      * Predicate to identify commands as read-only. Defaults to {@link #DEFAULT_READ_ONLY_COMMANDS}.
      *
@@ -626,6 +724,18 @@ public class ClientOptions implements Serializable {
         return publishOnScheduler;
     }
 
+    /**
+     * Maximum number of data signals to emit with a single task when publishing on a scheduler. Defaults to {@literal 1}, see
+     * {@link #DEFAULT_PUBLISH_ON_SCHEDULER_BATCH_SIZE}.
+     *
+     * @return the maximum number of data signals per task.
+     * @since 6.5
+     * @see #isPublishOnScheduler()
+     */
+    public int getPublishOnSchedulerBatchSize() {
+        return publishOnSchedulerBatchSize;
+    }
+
     /**
      * If this flag is {@code true}, the reconnect will be suspended on protocol errors. Protocol errors are errors while SSL
      * negotiation or when PING before connect fails.
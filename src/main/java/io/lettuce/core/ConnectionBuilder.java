@@ -35,6 +35,7 @@ import io.lettuce.core.protocol.CommandHandler;
 import io.lettuce.core.protocol.ConnectionInitializer;
 import io.lettuce.core.protocol.ConnectionWatchdog;
 import io.lettuce.core.protocol.Endpoint;
+import io.lettuce.core.protocol.LivenessHandler;
 import io.lettuce.core.protocol.ReconnectionListener;
 import io.lettuce.core.protocol.RedisHandshakeHandler;
 import io.lettuce.core.resource.ClientResources;
@@ -129,6 +130,11 @@ public class ConnectionBuilder {
         handlers.add(new ChannelGroupListener(channelGroup, clientResources.eventBus()));
         handlers.add(new CommandEncoder());
         handlers.add(getHandshakeHandler());
+
+        if (clientOptions.getLivenessOptions().isEnabled()) {
+            handlers.add(createLivenessHandler());
+        }
+
         handlers.add(commandHandlerSupplier.get());
 
         handlers.add(new ConnectionEventTrigger(connectionEvents, connection, clientResources.eventBus()));
@@ -144,6 +150,10 @@ public class ConnectionBuilder {
         return new RedisHandshakeHandler(connectionInitializer, clientResources, timeout);
     }
 
+    protected ChannelHandler createLivenessHandler() {
+        return new LivenessHandler(clientOptions.getLivenessOptions());
+    }
+
     protected ConnectionWatchdog createConnectionWatchdog() {
 
         if (connectionWatchdog != null) {
@@ -286,7 +296,7 @@ public class ConnectionBuilder {
             }
         }
 
-        bootstrap.channel(channelClass).group(eventLoopGroup);
+        bootstrap.channel(channelClass).group(clientResources.eventLoopSelector().select(eventLoopGroup, redisURI));
 
         if (options.isKeepAlive() && options.isExtendedKeepAlive()) {
 
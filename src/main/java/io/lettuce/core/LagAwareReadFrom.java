@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+/**
+ * {@link ReadFrom} setting that routes reads to replicas whose replication lag is within a configured staleness bound and
+ * falls back to the upstream (master) otherwise. Replication lag is the difference between the upstream replication offset
+ * ({@code master_repl_offset}) and the offset acknowledged by a replica, both as reported by {@code INFO replication} of the
+ * upstream node.
+ * <p>
+ * Master/Replica connections record offsets from the {@code INFO replication} output obtained during topology discovery, if
+ * available, and poll {@code INFO replication} on the upstream node every {@link #getPollInterval() poll interval} while this
+ * setting is active. Polls use a dedicated connection to the upstream node so they do not interfere with transactions or
+ * blocking commands issued by the application. Replicas are considered only if their lag was recorded within three poll
+ * intervals and does not exceed {@link #getMaxLag() the maximum lag}. Replicas without a recorded lag, e.g. because the
+ * upstream reports them using a different address, are not considered for reading.
+ * <p>
+ * Instances of {@link LagAwareReadFrom} keep state and are thread-safe. Instances should not be shared across connections
+ * to different Master/Replica setups.
+ *
+ * @since 6.5
+ * @see ReadFrom#lagAware(long)
+ */
+public class LagAwareReadFrom extends ReadFrom {
+
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final long maxLag;
+
+    private final Duration pollInterval;
+
+    private final long staleAfterNanos;
+
+    private final Map<String, ReplicaLag> lags = new ConcurrentHashMap<>();
+
+    private LagAwareReadFrom(long maxLag, Duration pollInterval) {
+        this.maxLag = maxLag;
+        this.pollInterval = pollInterval;
+        this.staleAfterNanos = pollInterval.toNanos() * 3;
+    }
+
+    /**
+     * Create a new {@link LagAwareReadFrom} using the {@link #DEFAULT_POLL_INTERVAL default poll interval}.
+     *
+     * @param maxLag maximum replication lag in bytes of the replication stream. Must be greater or equal to zero.
+     * @return a new {@link LagAwareReadFrom}.
+     */
+    public static LagAwareReadFrom create(long maxLag) {
+        return create(maxLag, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Create a new {@link LagAwareReadFrom}.
+     *
+     * @param maxLag maximum replication lag in bytes of the replication stream. Must be greater or equal to zero.
+     * @param pollInterval interval to poll replication offsets, must not be {@code null} and greater than zero.
+     * @return a new {@link LagAwareReadFrom}.
+     */
+    public static LagAwareReadFrom create(long maxLag, Duration pollInterval) {
+
+        LettuceAssert.isTrue(maxLag >= 0, "Max lag must be greater or equal to zero");
+        LettuceAssert.notNull(pollInterval, "Poll interval must not be null");
+        LettuceAssert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "Poll interval must be greater than zero");
+
+        return new LagAwareReadFrom(maxLag, pollInterval);
+    }
+
+    @Override
+    public List<RedisNodeDescription> select(Nodes nodes) {
+
+        List<RedisNodeDescription> replicas = new ArrayList<>();
+        List<RedisNodeDescription> upstream = new ArrayList<>();
+        long now = System.nanoTime();
+
+        for (RedisNodeDescription node : nodes) {
+
+            if (node.getRole().isUpstream()) {
+                upstream.add(node);
+                continue;
+            }
+
+            if (node.getRole().isReplica() && isWithinBound(node, now)) {
+                replicas.add(node);
+            }
+        }
+
+        return replicas.isEmpty() ? upstream : replicas;
+    }
+
+    private boolean isWithinBound(RedisNodeDescription node, long now) {
+
+        ReplicaLag lag = lags.get(key(node.getUri().getHost(), node.getUri().getPort()));
+
+        return lag != null && lag.lag <= maxLag && now - lag.recorded <= staleAfterNanos;
+    }
+
+    /**
+     * Record the replication offsets of a replica identified by {@code host} and {@code port}.
+     *
+     * @param host the replica host.
+     * @param port the replica port.
+     * @param upstreamOffset the replication offset of the upstream node.
+     * @param replicaOffset the replication offset acknowledged by the replica.
+     */
+    public void recordOffsets(String host, int port, long upstreamOffset, long replicaOffset) {
+        lags.put(key(host, port), new ReplicaLag(Math.max(0, upstreamOffset - replicaOffset), System.nanoTime()));
+    }
+
+    /**
+     * Retrieve the last recorded replication lag of a replica identified by {@code host} and {@code port}.
+     *
+     * @param host the replica host.
+     * @param port the replica port.
+     * @return the replication lag in bytes or {@code -1} if no lag was recorded for the replica.
+     */
+    public long getLag(String host, int port) {
+
+        ReplicaLag lag = lags.get(key(host, port));
+        return lag == null ? -1 : lag.lag;
+    }
+
+    /**
+     * @return the maximum replication lag in bytes.
+     */
+    public long getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * @return the interval to poll replication offsets.
+     */
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [maxLag=").append(maxLag);
+        sb.append(", pollInterval=").append(pollInterval);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private static class ReplicaLag {
+
+        final long lag;
+
+        final long recorded;
+
+        ReplicaLag(long lag, long recorded) {
+            this.lag = lag;
+            this.recorded = recorded;
+        }
+
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+/**
+ * {@link ReadFrom} setting that selects the read node per command based on live command latency. Candidate nodes are
+ * determined by a delegate {@link ReadFrom} (e.g. {@link ReadFrom#ANY_REPLICA}). For each read command, two candidates are
+ * picked at random and the command is routed to the one with the lower load score ("power of two choices"). The load score is
+ * the exponentially weighted moving average (EWMA) of the completion latency of a node multiplied by the number of in-flight
+ * commands to that node.
+ * <p>
+ * Latency samples are decayed based on their age so nodes that turn slow (garbage collection, fork, noisy neighbours) are
+ * avoided within a few commands while nodes recover their score once they become fast again. A latency sample that is higher
+ * than the current average replaces the average immediately.
+ * <p>
+ * Node latency is recorded by Redis Cluster connections. Other connection types fall back to random selection across the
+ * candidates. Instances of {@link LatencyAwareReadFrom} keep state and are thread-safe. Sharing an instance across multiple
+ * connections aggregates the load of all connections per node.
+ *
+ * @since 6.5
+ * @see ReadFrom#latencyAware(ReadFrom)
+ */
+public class LatencyAwareReadFrom extends ReadFrom {
+
+    public static final Duration DEFAULT_DECAY_TIME = Duration.ofSeconds(1);
+
+    private final ReadFrom candidates;
+
+    private final long decayTimeNanos;
+
+    private final Map<String, NodeLoad> loads = new ConcurrentHashMap<>();
+
+    private LatencyAwareReadFrom(ReadFrom candidates, Duration decayTime) {
+        this.candidates = candidates;
+        this.decayTimeNanos = decayTime.toNanos();
+    }
+
+    /**
+     * Create a new {@link LatencyAwareReadFrom} considering all nodes as candidates using the
+     * {@link #DEFAULT_DECAY_TIME default decay time}.
+     *
+     * @return a new {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom create() {
+        return create(ReadFrom.ANY);
+    }
+
+    /**
+     * Create a new {@link LatencyAwareReadFrom} selecting candidate nodes using {@code candidates} using the
+     * {@link #DEFAULT_DECAY_TIME default decay time}.
+     *
+     * @param candidates the {@link ReadFrom} to determine candidate nodes, must not be {@code null}.
+     * @return a new {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom create(ReadFrom candidates) {
+        return create(candidates, DEFAULT_DECAY_TIME);
+    }
+
+    /**
+     * Create a new {@link LatencyAwareReadFrom} selecting candidate nodes using {@code candidates}.
+     *
+     * @param candidates the {@link ReadFrom} to determine candidate nodes, must not be {@code null}.
+     * @param decayTime time after which a latency sample has lost most of its weight, must not be {@code null} and greater
+     *        than zero.
+     * @return a new {@link LatencyAwareReadFrom}.
+     */
+    public static LatencyAwareReadFrom create(ReadFrom candidates, Duration decayTime) {
+
+        LettuceAssert.notNull(candidates, "Candidates ReadFrom must not be null");
+        LettuceAssert.notNull(decayTime, "Decay time must not be null");
+        LettuceAssert.isTrue(!decayTime.isNegative() && !decayTime.isZero(), "Decay time must be greater than zero");
+        LettuceAssert.isTrue(!(candidates instanceof LatencyAwareReadFrom), "Candidates must not be a LatencyAwareReadFrom");
+
+        return new LatencyAwareReadFrom(candidates, decayTime);
+    }
+
+    @Override
+    public List<RedisNodeDescription> select(Nodes nodes) {
+        return candidates.select(nodes);
+    }
+
+    /**
+     * Retrieve the {@link NodeLoad} for a node identified by {@code host} and {@code port}.
+     *
+     * @param host the node host.
+     * @param port the node port.
+     * @return the {@link NodeLoad} for the given node.
+     */
+    public NodeLoad getNodeLoad(String host, int port) {
+        return loads.computeIfAbsent(host + ":" + port, it -> new NodeLoad(decayTimeNanos));
+    }
+
+    /**
+     * Choose one element of {@code candidates} using the power of two choices. Elements for which {@code loadFunction} returns
+     * {@code null} are treated as nodes without load.
+     *
+     * @param candidates the candidates, must not be {@code null}.
+     * @param loadFunction function to obtain the {@link NodeLoad} for a candidate.
+     * @param <T> candidate type.
+     * @return the chosen candidate or {@code null} if {@code candidates} is empty.
+     */
+    public <T> T choose(T[] candidates, Function<? super T, NodeLoad> loadFunction) {
+
+        if (candidates.length == 0) {
+            return null;
+        }
+
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.length);
+        int second = random.nextInt(candidates.length - 1);
+
+        if (second >= first) {
+            second++;
+        }
+
+        return getScore(loadFunction.apply(candidates[first])) <= getScore(loadFunction.apply(candidates[second]))
+                ? candidates[first]
+                : candidates[second];
+    }
+
+    private static double getScore(NodeLoad load) {
+        return load == null ? 0 : load.getScore();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [candidates=").append(candidates);
+        sb.append(", decayTime=").append(Duration.ofNanos(decayTimeNanos));
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Load of a single node tracking in-flight commands and the latency EWMA.
+     */
+    public static class NodeLoad {
+
+        private final long decayTimeNanos;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private volatile double latencyEwma;
+
+        private long lastUpdate = System.nanoTime();
+
+        NodeLoad(long decayTimeNanos) {
+            this.decayTimeNanos = decayTimeNanos;
+        }
+
+        /**
+         * Record a command being dispatched to the node.
+         */
+        public void onDispatch() {
+            inFlight.incrementAndGet();
+        }
+
+        /**
+         * Record a command completion.
+         *
+         * @param latencyNanos command latency in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+         */
+        public void onComplete(long latencyNanos) {
+
+            inFlight.decrementAndGet();
+            long now = System.nanoTime();
+
+            synchronized (this) {
+
+                double current = latencyEwma;
+
+                if (latencyNanos > current) {
+                    latencyEwma = latencyNanos;
+                } else {
+                    double weight = Math.exp(-(double) Math.max(0, now - lastUpdate) / decayTimeNanos);
+                    latencyEwma = current * weight + latencyNanos * (1 - weight);
+                }
+
+                lastUpdate = now;
+            }
+        }
+
+        /**
+         * @return number of in-flight commands.
+         */
+        public int getInFlight() {
+            return Math.max(0, inFlight.get());
+        }
+
+        /**
+         * @return the latency EWMA in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+         */
+        public double getLatencyEwma() {
+            return latencyEwma;
+        }
+
+        /**
+         * @return the load score. Lower scores indicate a less loaded node.
+         */
+        public double getScore() {
+            return latencyEwma * (getInFlight() + 1);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(getClass().getSimpleName());
+            sb.append(" [inFlight=").append(getInFlight());
+            sb.append(", latencyEwma=").append(latencyEwma);
+            sb.append(']');
+            return sb.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for application-level connection liveness checks. Liveness checks detect dead peers (e.g. half-open sockets after a
+ * network partition) faster than TCP keep-alive:
+ * <ul>
+ * <li>A connection that has not received any bytes for {@link #getIdleTimeout() the idle timeout} is probed with a
+ * {@code PING}. A connection with commands in flight is probed once it has not received any bytes for
+ * {@link #getInFlightTimeout() the in-flight timeout} so that stalled connections are detected before commands time out.
+ * Probes are not sent while blocking commands are in flight or while the connection is in a transaction.</li>
+ * <li>If no bytes arrive within {@link #getPingTimeout() the ping timeout} after sending the probe, the connection is closed
+ * and reconnected if auto-reconnect is enabled.</li>
+ * </ul>
+ * Connections that keep receiving responses are never probed. Liveness checks are disabled by default.
+ *
+ * @since 6.5
+ * @see ClientOptions#getLivenessOptions()
+ */
+@SuppressWarnings("serial")
+public class LivenessOptions implements Serializable {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(5);
+
+    public static final Duration DEFAULT_PING_TIMEOUT = Duration.ofMillis(500);
+
+    public static final Duration DEFAULT_IN_FLIGHT_TIMEOUT = Duration.ofSeconds(3);
+
+    private final boolean enabled;
+
+    private final Duration idleTimeout;
+
+    private final Duration pingTimeout;
+
+    private final Duration inFlightTimeout;
+
+    private LivenessOptions(boolean enabled, Duration idleTimeout, Duration pingTimeout, Duration inFlightTimeout) {
+
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+        this.pingTimeout = pingTimeout;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    /**
+     * Returns a new {@link LivenessOptions.Builder} to construct {@link LivenessOptions}.
+     *
+     * @return a new {@link LivenessOptions.Builder} to construct {@link LivenessOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link LivenessOptions} with default settings.
+     *
+     * @return a new instance of {@link LivenessOptions} with default settings.
+     */
+    public static LivenessOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link LivenessOptions} with enabled liveness checks using default timeouts.
+     *
+     * @return a new instance of {@link LivenessOptions} with enabled liveness checks using default timeouts.
+     */
+    public static LivenessOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link LivenessOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+        private Duration pingTimeout = DEFAULT_PING_TIMEOUT;
+
+        private Duration inFlightTimeout = DEFAULT_IN_FLIGHT_TIMEOUT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable liveness checks. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Configure whether liveness checks are enabled. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to enable liveness checks; {@code false} to disable them.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the duration without receiving any bytes after which a connection is probed with a {@code PING}. Defaults to
+         * {@literal 5 seconds}. See {@link #DEFAULT_IDLE_TIMEOUT}.
+         *
+         * @param idleTimeout the idle timeout, must not be {@code null} and greater than zero.
+         * @return {@code this}
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+
+            LettuceAssert.notNull(idleTimeout, "Idle timeout must not be null");
+            LettuceAssert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "Idle timeout must be greater than zero");
+
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Set the deadline to receive bytes after sending a {@code PING} probe. The connection is closed if the deadline
+         * elapses. Defaults to {@literal 500 milliseconds}. See {@link #DEFAULT_PING_TIMEOUT}.
+         *
+         * @param pingTimeout the ping timeout, must not be {@code null} and greater than zero.
+         * @return {@code this}
+         */
+        public Builder pingTimeout(Duration pingTimeout) {
+
+            LettuceAssert.notNull(pingTimeout, "Ping timeout must not be null");
+            LettuceAssert.isTrue(!pingTimeout.isNegative() && !pingTimeout.isZero(), "Ping timeout must be greater than zero");
+
+            this.pingTimeout = pingTimeout;
+            return this;
+        }
+
+        /**
+         * Set the duration without receiving any bytes while commands are in flight after which a connection is probed with a
+         * {@code PING}. Redis answers the probe only after preceding commands have completed, so the in-flight timeout
+         * should exceed the duration of long-running commands. Defaults to {@literal 3 seconds}. See
+         * {@link #DEFAULT_IN_FLIGHT_TIMEOUT}.
+         *
+         * @param inFlightTimeout the in-flight timeout, must not be {@code null} and greater than zero.
+         * @return {@code this}
+         */
+        public Builder inFlightTimeout(Duration inFlightTimeout) {
+
+            LettuceAssert.notNull(inFlightTimeout, "In-flight timeout must not be null");
+            LettuceAssert.isTrue(!inFlightTimeout.isNegative() && !inFlightTimeout.isZero(),
+                    "In-flight timeout must be greater than zero");
+
+            this.inFlightTimeout = inFlightTimeout;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link LivenessOptions}.
+         *
+         * @return new instance of {@link LivenessOptions}
+         */
+        public LivenessOptions build() {
+            return new LivenessOptions(enabled, idleTimeout, pingTimeout, inFlightTimeout);
+        }
+
+    }
+
+    /**
+     * Returns a builder to create new {@link LivenessOptions} whose settings are replicated from the current
+     * {@link LivenessOptions}.
+     *
+     * @return a {@link LivenessOptions.Builder} to create new {@link LivenessOptions} whose settings are replicated from the
+     *         current {@link LivenessOptions}.
+     */
+    public LivenessOptions.Builder mutate() {
+        return builder().enable(isEnabled()).idleTimeout(getIdleTimeout()).pingTimeout(getPingTimeout())
+                .inFlightTimeout(getInFlightTimeout());
+    }
+
+    /**
+     * @return {@code true} if liveness checks are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the duration without receiving any bytes after which a connection is probed.
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @return the deadline to receive bytes after sending a probe.
+     */
+    public Duration getPingTimeout() {
+        return pingTimeout;
+    }
+
+    /**
+     * @return the duration without receiving any bytes while commands are in flight after which a connection is probed.
+     */
+    public Duration getInFlightTimeout() {
+        return inFlightTimeout;
+    }
+
+}
@@ -162,6 +162,32 @@ public abstract class ReadFrom {
         return new ReadFromImpl.ReadFromRegex(pattern, orderSensitive);
     }
 
+    /**
+     * Read from nodes selected by {@code candidates} choosing the node per command based on live command latency and the
+     * number of in-flight commands.
+     *
+     * @param candidates the {@link ReadFrom} to determine candidate nodes, e.g. {@link #ANY_REPLICA}. Must not be {@code null}.
+     * @return a new instance of {@link LatencyAwareReadFrom}.
+     * @since 6.5
+     * @see LatencyAwareReadFrom
+     */
+    public static ReadFrom latencyAware(ReadFrom candidates) {
+        return LatencyAwareReadFrom.create(candidates);
+    }
+
+    /**
+     * Read from replicas whose replication lag does not exceed {@code maxLag} bytes and fall back to the upstream (master)
+     * if no replica is within the bound. Supported by Master/Replica connections.
+     *
+     * @param maxLag maximum replication lag in bytes of the replication stream. Must be greater or equal to zero.
+     * @return a new instance of {@link LagAwareReadFrom}.
+     * @since 6.5
+     * @see LagAwareReadFrom
+     */
+    public static ReadFrom lagAware(long maxLag) {
+        return LagAwareReadFrom.create(maxLag);
+    }
+
     /**
      * Chooses the nodes from the matching Redis nodes that match this read selector.
      *
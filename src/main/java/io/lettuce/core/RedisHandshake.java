@@ -87,41 +87,70 @@ class RedisHandshake implements ConnectionInitializer {
     @Override
     public CompletionStage<Void> initialize(Channel channel) {
 
-        CompletionStage<?> handshake;
+        if (this.requestedProtocolVersion != null && this.requestedProtocolVersion != ProtocolVersion.RESP2
+                && this.requestedProtocolVersion != ProtocolVersion.RESP3) {
+            return Futures.failed(
+                    new RedisConnectionException("Protocol version" + this.requestedProtocolVersion + " not supported"));
+        }
+
+        RedisCredentialsProvider credentialsProvider = connectionState.getCredentialsProvider();
+
+        if (credentialsProvider instanceof RedisCredentialsProvider.ImmediateRedisCredentialsProvider) {
+            return initialize(channel,
+                    ((RedisCredentialsProvider.ImmediateRedisCredentialsProvider) credentialsProvider).resolveCredentialsNow());
+        }
+
+        CompletableFuture<RedisCredentials> credentialsFuture = credentialsProvider.resolveCredentials().toFuture();
+
+        return credentialsFuture.thenComposeAsync(credentials -> initialize(channel, credentials));
+    }
+
+    /**
+     * Pipeline the handshake and all post-handshake commands using a single flush and validate the responses in order. Falls
+     * back to a sequential RESP2 handshake if protocol discovery finds that the server does not support {@code HELLO}.
+     */
+    private CompletionStage<Void> initialize(Channel channel, RedisCredentials credentials) {
+
+        CompletableFuture<String> auth = null;
+        CompletableFuture<Map<String, Object>> hello = null;
 
         if (this.requestedProtocolVersion == ProtocolVersion.RESP2) {
-            handshake = initializeResp2(channel);
+            auth = write(channel, authOrPing(credentials));
             negotiatedProtocolVersion = ProtocolVersion.RESP2;
-        } else if (this.requestedProtocolVersion == ProtocolVersion.RESP3) {
-            handshake = initializeResp3(channel);
-        } else if (this.requestedProtocolVersion == null) {
-            handshake = tryHandshakeResp3(channel);
         } else {
-            handshake = Futures.failed(
-                    new RedisConnectionException("Protocol version" + this.requestedProtocolVersion + " not supported"));
+            hello = write(channel, hello(credentials));
         }
 
         // post-handshake commands, whose execution failures would cause the connection to be considered
         // unsuccessfully established
-        CompletableFuture<Void> postHandshake = applyPostHandshake(channel);
+        CompletableFuture<Void> postHandshake = write(channel, getPostHandshakeCommands());
 
         // post-handshake commands, executed in a 'fire and forget' manner, to avoid having to react to different
         // implementations or versions of the server runtime, and whose execution result (whether a success or a
         // failure ) should not alter the outcome of the connection attempt
-        CompletableFuture<Void> connectionMetadata = applyConnectionMetadata(channel).handle((result, error) -> {
-            if (error != null) {
-                LOG.debug("Error applying connection metadata", error);
-            }
-            return null;
-        });
+        CompletableFuture<Void> connectionMetadata = ignoreErrors(
+                write(channel, getConnectionMetadataCommands(negotiatedProtocolVersion)));
+
+        channel.flush();
 
-        return handshake.thenCompose(ignore -> postHandshake).thenCompose(ignore -> connectionMetadata);
+        if (this.requestedProtocolVersion == ProtocolVersion.RESP2) {
+            return auth.thenRun(this::onResp2Handshake).thenCompose(ignore -> postHandshake)
+                    .thenCompose(ignore -> connectionMetadata);
+        }
+
+        if (this.requestedProtocolVersion == ProtocolVersion.RESP3) {
+            return hello.thenAccept(this::onHelloResponse).thenCompose(ignore -> postHandshake)
+                    .thenCompose(ignore -> connectionMetadata);
+        }
+
+        return tryHandshakeResp3(channel, credentials, hello, postHandshake, connectionMetadata);
     }
 
-    private CompletionStage<?> tryHandshakeResp3(Channel channel) {
+    private CompletionStage<Void> tryHandshakeResp3(Channel channel, RedisCredentials credentials,
+            CompletionStage<Map<String, Object>> hello, CompletableFuture<Void> postHandshake,
+            CompletableFuture<Void> connectionMetadata) {
 
-        CompletableFuture<?> handshake = new CompletableFuture<>();
-        CompletionStage<Map<String, Object>> hello = initiateHandshakeResp3(channel, connectionState.getCredentialsProvider());
+        CompletableFuture<Void> handshake = new CompletableFuture<>();
 
         hello.whenComplete((settings, throwable) -> {
 
@@ -132,7 +161,7 @@ class RedisHandshake implements ConnectionInitializer {
             if (throwable != null) {
                 if (isUnknownCommand(throwable) || isNoProto(throwable)) {
                     try {
-                        fallbackToResp2(channel, handshake);
+                        fallbackToResp2(channel, credentials, handshake);
                     } catch (Exception e) {
                         e.addSuppressed(throwable);
                         handshake.completeExceptionally(e);
@@ -142,37 +171,45 @@ class RedisHandshake implements ConnectionInitializer {
                 }
             } else {
                 onHelloResponse(settings);
-                handshake.complete(null);
+                postHandshake.thenCompose(ignore -> connectionMetadata).whenComplete((ignore, nested) -> {
+
+                    if (nested != null) {
+                        handshake.completeExceptionally(nested);
+                    } else {
+                        handshake.complete(null);
+                    }
+                });
             }
         });
 
         return handshake;
     }
 
-    private void fallbackToResp2(Channel channel, CompletableFuture<?> handshake) {
+    /**
+     * Sequential RESP2 handshake. Pipelined post-handshake commands may have failed because the server rejected
+     * {@code HELLO} (e.g. without authentication), so these are sent again once the RESP2 handshake completes.
+     */
+    private void fallbackToResp2(Channel channel, RedisCredentials credentials, CompletableFuture<Void> handshake) {
 
-        initializeResp2(channel).whenComplete((o, nested) -> {
+        dispatch(channel, authOrPing(credentials)).thenRun(this::onResp2Handshake)
+                .thenCompose(ignore -> dispatch(channel, getPostHandshakeCommands()))
+                .thenCompose(ignore -> ignoreErrors(dispatch(channel, getConnectionMetadataCommands(negotiatedProtocolVersion))))
+                .whenComplete((o, nested) -> {
 
-            if (nested != null) {
-                handshake.completeExceptionally(nested);
-            } else {
-                handshake.complete(null);
-            }
-        });
+                    if (nested != null) {
+                        handshake.completeExceptionally(nested);
+                    } else {
+                        handshake.complete(null);
+                    }
+                });
     }
 
-    private CompletableFuture<?> initializeResp2(Channel channel) {
+    private void onResp2Handshake() {
 
-        return initiateHandshakeResp2(channel, connectionState.getCredentialsProvider()).thenRun(() -> {
-            negotiatedProtocolVersion = ProtocolVersion.RESP2;
-
-            connectionState.setHandshakeResponse(
-                    new ConnectionState.HandshakeResponse(negotiatedProtocolVersion, null, null, null, null));
-        });
-    }
+        negotiatedProtocolVersion = ProtocolVersion.RESP2;
 
-    private CompletionStage<Void> initializeResp3(Channel channel) {
-        return initiateHandshakeResp3(channel, connectionState.getCredentialsProvider()).thenAccept(this::onHelloResponse);
+        connectionState
+                .setHandshakeResponse(new ConnectionState.HandshakeResponse(negotiatedProtocolVersion, null, null, null, null));
     }
 
     private void onHelloResponse(Map<String, Object> response) {
@@ -189,70 +226,42 @@ class RedisHandshake implements ConnectionInitializer {
     }
 
     /**
-     * Perform a RESP2 Handshake: Issue a {@code PING} or {@code AUTH}.
+     * RESP2 Handshake: Issue a {@code PING} or {@code AUTH}.
      *
-     * @param channel
-     * @param credentialsProvider
-     * @return
+     * @param credentials
+     * @return the command or {@code null} if no command is required.
      */
-    private CompletableFuture<?> initiateHandshakeResp2(Channel channel, RedisCredentialsProvider credentialsProvider) {
-
-        if (credentialsProvider instanceof RedisCredentialsProvider.ImmediateRedisCredentialsProvider) {
-            return dispatchAuthOrPing(channel,
-                    ((RedisCredentialsProvider.ImmediateRedisCredentialsProvider) credentialsProvider).resolveCredentialsNow());
-        }
-
-        CompletableFuture<RedisCredentials> credentialsFuture = credentialsProvider.resolveCredentials().toFuture();
-
-        return credentialsFuture.thenComposeAsync(credentials -> dispatchAuthOrPing(channel, credentials));
-    }
-
-    private CompletableFuture<String> dispatchAuthOrPing(Channel channel, RedisCredentials credentials) {
+    private Command<String, String, String> authOrPing(RedisCredentials credentials) {
 
         if (credentials.hasUsername()) {
-            return dispatch(channel, this.commandBuilder.auth(credentials.getUsername(), credentials.getPassword()));
+            return this.commandBuilder.auth(credentials.getUsername(), credentials.getPassword());
         } else if (credentials.hasPassword()) {
-            return dispatch(channel, this.commandBuilder.auth(credentials.getPassword()));
+            return this.commandBuilder.auth(credentials.getPassword());
         } else if (this.pingOnConnect) {
-            return dispatch(channel, this.commandBuilder.ping());
+            return this.commandBuilder.ping();
         }
 
-        return CompletableFuture.completedFuture(null);
+        return null;
     }
 
     /**
-     * Perform a RESP3 Handshake: Issue a {@code HELLO}.
+     * RESP3 Handshake: Issue a {@code HELLO}.
      *
-     * @param channel
-     * @param credentialsProvider
-     * @return
+     * @param credentials
+     * @return the {@code HELLO} command.
      */
-    private CompletionStage<Map<String, Object>> initiateHandshakeResp3(Channel channel,
-            RedisCredentialsProvider credentialsProvider) {
-
-        if (credentialsProvider instanceof RedisCredentialsProvider.ImmediateRedisCredentialsProvider) {
-            return dispatchHello(channel,
-                    ((RedisCredentialsProvider.ImmediateRedisCredentialsProvider) credentialsProvider).resolveCredentialsNow());
-        }
-
-        CompletableFuture<RedisCredentials> credentialsFuture = credentialsProvider.resolveCredentials().toFuture();
-
-        return credentialsFuture.thenComposeAsync(credentials -> dispatchHello(channel, credentials));
-    }
-
-    private AsyncCommand<String, String, Map<String, Object>> dispatchHello(Channel channel, RedisCredentials credentials) {
+    private Command<String, String, Map<String, Object>> hello(RedisCredentials credentials) {
 
         if (credentials.hasPassword()) {
-            return dispatch(channel,
-                    this.commandBuilder.hello(3,
-                            LettuceStrings.isNotEmpty(credentials.getUsername()) ? credentials.getUsername() : "default",
-                            credentials.getPassword(), connectionState.getClientName()));
+            return this.commandBuilder.hello(3,
+                    LettuceStrings.isNotEmpty(credentials.getUsername()) ? credentials.getUsername() : "default",
+                    credentials.getPassword(), connectionState.getClientName());
         }
 
-        return dispatch(channel, this.commandBuilder.hello(3, null, null, connectionState.getClientName()));
+        return this.commandBuilder.hello(3, null, null, connectionState.getClientName());
     }
 
-    private CompletableFuture<Void> applyPostHandshake(Channel channel) {
+    private List<AsyncCommand<?, ?, ?>> getPostHandshakeCommands() {
 
         List<AsyncCommand<?, ?, ?>> postHandshake = new ArrayList<>();
 
@@ -264,21 +273,20 @@ class RedisHandshake implements ConnectionInitializer {
             postHandshake.add(new AsyncCommand<>(this.commandBuilder.readOnly()));
         }
 
-        if (postHandshake.isEmpty()) {
-            return CompletableFuture.completedFuture(null);
-        }
-
-        return dispatch(channel, postHandshake);
+        return postHandshake;
     }
 
-    private CompletableFuture<Void> applyConnectionMetadata(Channel channel) {
+    /**
+     * @param protocolVersion the negotiated protocol version. {@code null} if the protocol version is not yet negotiated and
+     *        the handshake uses {@code HELLO}.
+     */
+    private List<AsyncCommand<?, ?, ?>> getConnectionMetadataCommands(ProtocolVersion protocolVersion) {
 
         List<AsyncCommand<?, ?, ?>> postHandshake = new ArrayList<>();
 
         ConnectionMetadata metadata = connectionState.getConnectionMetadata();
-        ProtocolVersion negotiatedProtocolVersion = getNegotiatedProtocolVersion();
 
-        if (metadata.getClientName() != null && negotiatedProtocolVersion == ProtocolVersion.RESP2) {
+        if (metadata.getClientName() != null && protocolVersion == ProtocolVersion.RESP2) {
             postHandshake.add(new AsyncCommand<>(this.commandBuilder.clientSetname(connectionState.getClientName())));
         }
 
@@ -290,24 +298,55 @@ class RedisHandshake implements ConnectionInitializer {
             postHandshake.add(new AsyncCommand<>(this.commandBuilder.clientSetinfo("lib-ver", metadata.getLibraryVersion())));
         }
 
-        if (postHandshake.isEmpty()) {
-            return CompletableFuture.completedFuture(null);
-        }
+        return postHandshake;
+    }
+
+    private static CompletableFuture<Void> ignoreErrors(CompletableFuture<Void> future) {
 
-        return dispatch(channel, postHandshake);
+        return future.handle((result, error) -> {
+            if (error != null) {
+                LOG.debug("Error applying connection metadata", error);
+            }
+            return null;
+        });
     }
 
-    private CompletableFuture<Void> dispatch(Channel channel, List<AsyncCommand<?, ?, ?>> commands) {
+    private static CompletableFuture<Void> write(Channel channel, List<AsyncCommand<?, ?, ?>> commands) {
+        return dispatch(channel, commands, false);
+    }
 
-        CompletionStage<Void> writeFuture = Futures.toCompletionStage(channel.writeAndFlush(commands));
+    private static <T> CompletableFuture<T> write(Channel channel, Command<String, String, T> command) {
+        return dispatch(channel, command, false);
+    }
+
+    private static CompletableFuture<Void> dispatch(Channel channel, List<AsyncCommand<?, ?, ?>> commands) {
+        return dispatch(channel, commands, true);
+    }
+
+    private static <T> CompletableFuture<T> dispatch(Channel channel, Command<String, String, T> command) {
+        return dispatch(channel, command, true);
+    }
+
+    private static CompletableFuture<Void> dispatch(Channel channel, List<AsyncCommand<?, ?, ?>> commands, boolean flush) {
+
+        if (commands.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletionStage<Void> writeFuture = Futures
+                .toCompletionStage(flush ? channel.writeAndFlush(commands) : channel.write(commands));
         return CompletableFuture.allOf(Futures.allOf(commands), writeFuture.toCompletableFuture());
     }
 
-    private <T> AsyncCommand<String, String, T> dispatch(Channel channel, Command<String, String, T> command) {
+    private static <T> CompletableFuture<T> dispatch(Channel channel, Command<String, String, T> command, boolean flush) {
+
+        if (command == null) {
+            return CompletableFuture.completedFuture(null);
+        }
 
         AsyncCommand<String, String, T> future = new AsyncCommand<>(command);
 
-        channel.writeAndFlush(future).addListener(writeFuture -> {
+        (flush ? channel.writeAndFlush(future) : channel.write(future)).addListener(writeFuture -> {
 
             if (!writeFuture.isSuccess()) {
                 future.completeExceptionally(writeFuture.cause());
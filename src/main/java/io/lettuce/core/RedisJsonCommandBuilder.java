@@ -8,6 +8,8 @@
 package io.lettuce.core;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.json.JsonCodec;
 import io.lettuce.core.json.JsonParser;
 import io.lettuce.core.json.JsonType;
 import io.lettuce.core.json.JsonValue;
@@ -153,6 +155,24 @@ class RedisJsonCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     Command<K, V, List<JsonValue>> jsonGet(K key, JsonGetArgs options, JsonPath... jsonPaths) {
         notNullKey(key);
 
+        return createCommand(JSON_GET, new JsonValueListOutput<>(codec, parser.block()), jsonGetArgs(key, options, jsonPaths));
+    }
+
+    <T> Command<K, V, List<T>> jsonGet(K key, JsonGetArgs options, Class<T> type, JsonPath... jsonPaths) {
+        LettuceAssert.notNull(type, "Type " + MUST_NOT_BE_NULL);
+
+        return jsonGet(key, options, parser.block().createCodec(type), jsonPaths);
+    }
+
+    <T> Command<K, V, List<T>> jsonGet(K key, JsonGetArgs options, JsonCodec<T> jsonCodec, JsonPath... jsonPaths) {
+        notNullKey(key);
+        LettuceAssert.notNull(jsonCodec, "JsonCodec " + MUST_NOT_BE_NULL);
+
+        return createCommand(JSON_GET, new TypedJsonListOutput<>(codec, jsonCodec), jsonGetArgs(key, options, jsonPaths));
+    }
+
+    private CommandArgs<K, V> jsonGetArgs(K key, JsonGetArgs options, JsonPath... jsonPaths) {
+
         CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key);
 
         if (options != null) {
@@ -167,7 +187,7 @@ class RedisJsonCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
             }
         }
 
-        return createCommand(JSON_GET, new JsonValueListOutput<>(codec, parser.block()), args);
+        return args;
     }
 
     Command<K, V, String> jsonMerge(K key, JsonPath jsonPath, JsonValue value) {
@@ -19,7 +19,9 @@
  */
 package io.lettuce.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.Executor;
@@ -77,6 +79,8 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
     private final Executor executor;
 
+    private final int batchSize;
+
     /**
      * Creates a new {@link RedisPublisher} for a static command.
      *
@@ -100,15 +104,33 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
      */
     public RedisPublisher(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection,
             boolean dissolve, Executor publishOn) {
+        this(commandSupplier, connection, dissolve, publishOn, 1);
+    }
+
+    /**
+     * Creates a new {@link RedisPublisher} for a command supplier.
+     *
+     * @param commandSupplier command supplier, must not be {@code null}.
+     * @param connection the connection, must not be {@code null}.
+     * @param dissolve dissolve collections into particular elements.
+     * @param publishOn executor to use for publishOn signals.
+     * @param batchSize maximum number of data signals to emit with a single {@code publishOn} task. Data signals are emitted
+     *        individually if {@code 1}.
+     * @since 6.5
+     */
+    public RedisPublisher(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection,
+            boolean dissolve, Executor publishOn, int batchSize) {
 
         LettuceAssert.notNull(commandSupplier, "CommandSupplier must not be null");
         LettuceAssert.notNull(connection, "StatefulConnection must not be null");
         LettuceAssert.notNull(publishOn, "Executor must not be null");
+        LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater than zero");
 
         this.commandSupplier = commandSupplier;
         this.connection = connection;
         this.dissolve = dissolve;
         this.executor = publishOn;
+        this.batchSize = batchSize;
         this.ref = new AtomicReference<>(commandSupplier.get());
     }
 
@@ -130,7 +152,8 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
             command = commandSupplier.get();
         }
 
-        RedisSubscription<T> redisSubscription = new RedisSubscription<>(connection, command, dissolve, executor);
+        RedisSubscription<T> redisSubscription = new RedisSubscription<>(connection, command, dissolve, executor,
+                batchSize);
         redisSubscription.subscribe(subscriber);
     }
 
@@ -175,6 +198,8 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
         private final Executor executor;
 
+        private final int batchSize;
+
         // accessed via AtomicLongFieldUpdater
         @SuppressWarnings("unused")
         volatile long demand;
@@ -192,6 +217,12 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
         @SuppressWarnings("unchecked")
         RedisSubscription(StatefulConnection<?, ?> connection, RedisCommand<?, ?, T> command, boolean dissolve,
                 Executor executor) {
+            this(connection, command, dissolve, executor, 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        RedisSubscription(StatefulConnection<?, ?> connection, RedisCommand<?, ?, T> command, boolean dissolve,
+                Executor executor, int batchSize) {
 
             LettuceAssert.notNull(connection, "Connection must not be null");
             LettuceAssert.notNull(command, "RedisCommand must not be null");
@@ -201,6 +232,7 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
             this.command = command;
             this.dissolve = dissolve;
             this.executor = executor;
+            this.batchSize = batchSize;
 
             if (command.getOutput() instanceof StreamingOutput<?>) {
                 StreamingOutput<T> streamingOutput = (StreamingOutput<T>) command.getOutput();
@@ -291,8 +323,12 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
                 if (initial > 0) {
 
                     try {
-                        DEMAND.decrementAndGet(this);
+                        long remaining = DEMAND.decrementAndGet(this);
                         this.subscriber.onNext(t);
+
+                        if (remaining == 0) {
+                            this.subscriber.flush();
+                        }
                     } catch (Exception e) {
                         onError(e);
                     }
@@ -428,16 +464,20 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
          */
         void readAndPublish() {
 
-            while (hasDemand()) {
+            try {
+                while (hasDemand()) {
+
+                    T data = read();
 
-                T data = read();
+                    if (data == null) {
+                        return;
+                    }
 
-                if (data == null) {
-                    return;
+                    DEMAND.decrementAndGet(this);
+                    this.subscriber.onNext(data);
                 }
-
-                DEMAND.decrementAndGet(this);
-                this.subscriber.onNext(data);
+            } finally {
+                this.subscriber.flush();
             }
         }
 
@@ -519,7 +559,8 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
                 if (subscription.changeState(this, NO_DEMAND)) {
 
-                    subscription.subscriber = RedisSubscriber.create(subscriber, subscription.executor);
+                    subscription.subscriber = RedisSubscriber.create(subscriber, subscription.executor,
+                            subscription.batchSize);
                     subscriber.onSubscribe(subscription);
                 } else {
                     throw new IllegalStateException(toString());
@@ -855,16 +896,47 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
          * @see ImmediateSubscriber
          * @see PublishOnSubscriber
          */
-        @SuppressWarnings({ "unchecked", "rawtypes" })
         static <T> RedisSubscriber<T> create(Subscriber<?> delegate, Executor executor) {
+            return create(delegate, executor, 1);
+        }
+
+        /**
+         * Create a new {@link RedisSubscriber}. Optimizes for immediate executor usage and uses batched dispatch if
+         * {@code batchSize} is greater than one.
+         *
+         * @param delegate
+         * @param executor
+         * @param batchSize
+         * @param <T>
+         * @return
+         * @see ImmediateSubscriber
+         * @see PublishOnSubscriber
+         * @see BatchingPublishOnSubscriber
+         * @since 6.5
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        static <T> RedisSubscriber<T> create(Subscriber<?> delegate, Executor executor, int batchSize) {
 
             if (executor == ImmediateEventExecutor.INSTANCE) {
                 return new ImmediateSubscriber(delegate);
             }
 
+            if (batchSize > 1) {
+                return new BatchingPublishOnSubscriber(delegate, executor, batchSize);
+            }
+
             return new PublishOnSubscriber(delegate, executor);
         }
 
+        /**
+         * Emit data signals that were buffered by {@link #onNext(Object)}. Called when the publisher pauses emission because
+         * there is no more demand or no more data available.
+         *
+         * @since 6.5
+         */
+        default void flush() {
+        }
+
     }
 
     /**
@@ -950,6 +1022,121 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
     }
 
+    /**
+     * {@link RedisSubscriber} dispatching data signals in batches on a {@link Executor}. Data signals are collected in a window
+     * that is handed off to the {@link Executor} once it contains {@code batchSize} elements, on {@link #flush()} and before
+     * terminal signals, so that a single task emits a batch of elements.
+     *
+     * @param <T>
+     * @since 6.5
+     */
+    static class BatchingPublishOnSubscriber<T> implements RedisSubscriber<T> {
+
+        private final CoreSubscriber<T> delegate;
+
+        private final Executor executor;
+
+        private final int batchSize;
+
+        private List<T> window;
+
+        public BatchingPublishOnSubscriber(Subscriber<T> delegate, Executor executor, int batchSize) {
+            this.delegate = (CoreSubscriber) reactor.core.publisher.Operators.toCoreSubscriber(delegate);
+            this.executor = executor;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public Context currentContext() {
+            return delegate.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            delegate.onSubscribe(s);
+        }
+
+        @Override
+        public void onNext(T t) {
+
+            List<T> window;
+
+            synchronized (this) {
+
+                if (this.window == null) {
+                    this.window = new ArrayList<>(batchSize);
+                }
+
+                this.window.add(t);
+
+                if (this.window.size() < batchSize) {
+                    return;
+                }
+
+                window = this.window;
+                this.window = null;
+            }
+
+            executor.execute(new OnNextBatch<>(window, delegate));
+        }
+
+        @Override
+        public void flush() {
+
+            List<T> window;
+
+            synchronized (this) {
+
+                window = this.window;
+                this.window = null;
+            }
+
+            if (window != null) {
+                executor.execute(new OnNextBatch<>(window, delegate));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            flush();
+            executor.execute(OnComplete.newInstance(t, delegate));
+        }
+
+        @Override
+        public void onComplete() {
+            flush();
+            executor.execute(OnComplete.newInstance(delegate));
+        }
+
+    }
+
+    /**
+     * {@link Runnable} emitting a window of data signals.
+     *
+     * @param <T>
+     * @since 6.5
+     */
+    static class OnNextBatch<T> implements Runnable {
+
+        private final List<T> window;
+
+        private final Subscriber<T> subscriber;
+
+        OnNextBatch(List<T> window, Subscriber<T> subscriber) {
+            this.window = window;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void run() {
+
+            for (T t : window) {
+                subscriber.onNext(t);
+            }
+        }
+
+    }
+
     /**
      * OnNext {@link Runnable}. This listener is pooled and must be {@link #recycle() recycled after usage}.
      */
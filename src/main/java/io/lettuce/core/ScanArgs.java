@@ -146,6 +146,14 @@ public class ScanArgs implements CompositeArgument {
         return this;
     }
 
+    /**
+     * @return the configured count, can be {@code null}.
+     * @since 6.5
+     */
+    Long getCount() {
+        return count;
+    }
+
     @Override
     public <K, V> void build(CommandArgs<K, V> args) {
 
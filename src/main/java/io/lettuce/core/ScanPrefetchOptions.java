@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for prefetching {@link ScanStream scan streams}. A prefetching scan issues the next {@code SCAN} command as soon as
+ * the reply for the current page arrives, as long as fewer than {@link #getPages() pages} are buffered. Scanning therefore
+ * proceeds while the subscriber consumes previously received pages instead of waiting for each page to be drained.
+ * <p>
+ * With {@link Builder#adaptiveCount(long, long) adaptive count}, the {@code COUNT} hint of the next scan command is adjusted
+ * based on the observed page latency and the subscriber drain rate. The count is doubled if the subscriber has drained all
+ * buffered pages by the time a page arrives and the page latency stayed below the {@link #getTargetLatency() target latency}.
+ * The count is halved if the page latency exceeds the target latency.
+ *
+ * @since 6.5
+ * @see ScanStream
+ */
+public class ScanPrefetchOptions {
+
+    public static final int DEFAULT_PAGES = 2;
+
+    public static final boolean DEFAULT_ADAPTIVE_COUNT = false;
+
+    public static final long DEFAULT_MIN_COUNT = 10;
+
+    public static final long DEFAULT_MAX_COUNT = 10_000;
+
+    public static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(10);
+
+    private final int pages;
+
+    private final boolean adaptiveCount;
+
+    private final long minCount;
+
+    private final long maxCount;
+
+    private final Duration targetLatency;
+
+    private ScanPrefetchOptions(Builder builder) {
+        this.pages = builder.pages;
+        this.adaptiveCount = builder.adaptiveCount;
+        this.minCount = builder.minCount;
+        this.maxCount = builder.maxCount;
+        this.targetLatency = builder.targetLatency;
+    }
+
+    /**
+     * Returns a new {@link ScanPrefetchOptions.Builder} to construct {@link ScanPrefetchOptions}.
+     *
+     * @return a new {@link ScanPrefetchOptions.Builder} to construct {@link ScanPrefetchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link ScanPrefetchOptions} with default settings.
+     *
+     * @return a new instance of {@link ScanPrefetchOptions} with default settings.
+     */
+    public static ScanPrefetchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link ScanPrefetchOptions}.
+     */
+    public static class Builder {
+
+        private int pages = DEFAULT_PAGES;
+
+        private boolean adaptiveCount = DEFAULT_ADAPTIVE_COUNT;
+
+        private long minCount = DEFAULT_MIN_COUNT;
+
+        private long maxCount = DEFAULT_MAX_COUNT;
+
+        private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of buffered pages. Defaults to {@literal 2}. See {@link #DEFAULT_PAGES}.
+         *
+         * @param pages the maximum number of buffered pages, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder pages(int pages) {
+
+            LettuceAssert.isTrue(pages > 0, "Pages must be greater than zero");
+
+            this.pages = pages;
+            return this;
+        }
+
+        /**
+         * Enable adaptive {@code COUNT} sizing within the default bounds. See {@link #DEFAULT_MIN_COUNT} and
+         * {@link #DEFAULT_MAX_COUNT}.
+         *
+         * @return {@code this}
+         */
+        public Builder adaptiveCount() {
+            return adaptiveCount(DEFAULT_MIN_COUNT, DEFAULT_MAX_COUNT);
+        }
+
+        /**
+         * Enable adaptive {@code COUNT} sizing within the given bounds.
+         *
+         * @param minCount the minimum count, must be greater than zero.
+         * @param maxCount the maximum count, must be greater than or equal to {@code minCount}.
+         * @return {@code this}
+         */
+        public Builder adaptiveCount(long minCount, long maxCount) {
+
+            LettuceAssert.isTrue(minCount > 0, "Minimum count must be greater than zero");
+            LettuceAssert.isTrue(maxCount >= minCount, "Maximum count must be greater than or equal to minimum count");
+
+            this.adaptiveCount = true;
+            this.minCount = minCount;
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        /**
+         * Set the page latency above which adaptive {@code COUNT} sizing reduces the count. Defaults to {@literal 10 ms}. See
+         * {@link #DEFAULT_TARGET_LATENCY}.
+         *
+         * @param targetLatency the target latency, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder targetLatency(Duration targetLatency) {
+
+            LettuceAssert.notNull(targetLatency, "Target latency must not be null");
+            LettuceAssert.isTrue(!targetLatency.isNegative(), "Target latency must not be negative");
+
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link ScanPrefetchOptions}.
+         */
+        public ScanPrefetchOptions build() {
+            return new ScanPrefetchOptions(this);
+        }
+
+    }
+
+    /**
+     * @return the maximum number of buffered pages.
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * @return {@code true} if the {@code COUNT} hint is adjusted adaptively.
+     */
+    public boolean isAdaptiveCount() {
+        return adaptiveCount;
+    }
+
+    /**
+     * @return the minimum {@code COUNT} hint for adaptive sizing.
+     */
+    public long getMinCount() {
+        return minCount;
+    }
+
+    /**
+     * @return the maximum {@code COUNT} hint for adaptive sizing.
+     */
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * @return the page latency above which adaptive sizing reduces the {@code COUNT} hint.
+     */
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+}
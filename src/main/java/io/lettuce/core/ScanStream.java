@@ -20,11 +20,20 @@
 package io.lettuce.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.api.reactive.RedisHashReactiveCommands;
 import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
@@ -43,6 +52,10 @@ import io.lettuce.core.internal.LettuceAssert;
  * Data structure scanning is progressive and stateful and demand-aware. It supports full iterations (until all received cursors
  * are exhausted) and premature termination. Subsequent scan commands to fetch the cursor data get only issued if the subscriber
  * signals demand.
+ * <p>
+ * Methods accepting {@link ScanPrefetchOptions} return prefetching streams that issue the next scan command as soon as the
+ * current page arrives, buffering a bounded number of pages ahead of the subscriber. See {@link ScanPrefetchOptions} for
+ * adaptive {@code COUNT} sizing.
  *
  * @author Mark Paluch
  * @author Mikhael Sokolov
@@ -81,6 +94,27 @@ public abstract class ScanStream {
         return scan(commands, Optional.of(scanArgs));
     }
 
+    /**
+     * Iterate over keys in the keyspace while prefetching pages. This method uses {@code SCAN} to perform an iterative scan
+     * and issues the next {@code SCAN} command as soon as the current page arrives.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param scanArgs the scan arguments, must not be {@code null}. The {@code COUNT} of the arguments is updated if adaptive
+     *        count sizing is enabled.
+     * @param prefetchOptions the prefetch options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.5
+     */
+    public static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            ScanPrefetchOptions prefetchOptions) {
+
+        LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
+
+        return PrefetchingScan.create((cursor, args) -> commands.scan(cursor, args), scanArgs, prefetchOptions, KeyScanCursor::getKeys);
+    }
+
     private static <K, V> Flux<K> scan(RedisKeyReactiveCommands<K, V> commands, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
@@ -157,6 +191,54 @@ public abstract class ScanStream {
         return hscanNovalues(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Iterate over entries in a hash identified by {@code key} while prefetching pages. This method uses {@code HSCAN} to
+     * perform an iterative scan and issues the next {@code HSCAN} command as soon as the current page arrives.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, must not be {@code null}. The {@code COUNT} of the arguments is updated if adaptive
+     *        count sizing is enabled.
+     * @param prefetchOptions the prefetch options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.5
+     */
+    public static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanPrefetchOptions prefetchOptions) {
+
+        LettuceAssert.notNull(commands, "RedisHashReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return PrefetchingScan.create((cursor, args) -> commands.hscan(key, cursor, args), scanArgs, prefetchOptions,
+                ScanStream::toKeyValues);
+    }
+
+    /**
+     * Iterate over keys in a hash identified by {@code key} while prefetching pages. This method uses {@code HSCAN NOVALUES}
+     * to perform an iterative scan and issues the next {@code HSCAN} command as soon as the current page arrives.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, must not be {@code null}. The {@code COUNT} of the arguments is updated if adaptive
+     *        count sizing is enabled.
+     * @param prefetchOptions the prefetch options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.5
+     */
+    public static <K, V> Flux<K> hscanNovalues(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanPrefetchOptions prefetchOptions) {
+
+        LettuceAssert.notNull(commands, "RedisHashReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return PrefetchingScan.create((cursor, args) -> commands.hscanNovalues(key, cursor, args), scanArgs,
+                prefetchOptions, KeyScanCursor::getKeys);
+    }
+
     private static <K, V> Flux<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -167,14 +249,17 @@ public abstract class ScanStream {
                 .expand(c -> !c.isFinished()
                         ? scanArgs.map(it -> commands.hscan(key, c, it)).orElseGet(() -> commands.hscan(key, c))
                         : Mono.empty())
-                .flatMapIterable(c -> {
-                    List<KeyValue<K, V>> list = new ArrayList<>(c.getMap().size());
+                .flatMapIterable(ScanStream::toKeyValues);
+    }
 
-                    for (Map.Entry<K, V> kvEntry : c.getMap().entrySet()) {
-                        list.add(KeyValue.fromNullable(kvEntry.getKey(), kvEntry.getValue()));
-                    }
-                    return list;
-                });
+    private static <K, V> List<KeyValue<K, V>> toKeyValues(MapScanCursor<K, V> cursor) {
+
+        List<KeyValue<K, V>> list = new ArrayList<>(cursor.getMap().size());
+
+        for (Map.Entry<K, V> kvEntry : cursor.getMap().entrySet()) {
+            list.add(KeyValue.fromNullable(kvEntry.getKey(), kvEntry.getValue()));
+        }
+        return list;
     }
 
     private static <K, V> Flux<K> hscanNovalues(RedisHashReactiveCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
@@ -225,6 +310,30 @@ public abstract class ScanStream {
         return sscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Iterate over elements in a set identified by {@code key} while prefetching pages. This method uses {@code SSCAN} to
+     * perform an iterative scan and issues the next {@code SSCAN} command as soon as the current page arrives.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, must not be {@code null}. The {@code COUNT} of the arguments is updated if adaptive
+     *        count sizing is enabled.
+     * @param prefetchOptions the prefetch options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.5
+     */
+    public static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanPrefetchOptions prefetchOptions) {
+
+        LettuceAssert.notNull(commands, "RedisSetReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return PrefetchingScan.create((cursor, args) -> commands.sscan(key, cursor, args), scanArgs, prefetchOptions,
+                ValueScanCursor::getValues);
+    }
+
     private static <K, V> Flux<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, Optional<ScanArgs> scanArgs) {
 
         LettuceAssert.notNull(commands, "RedisSetReactiveCommands must not be null");
@@ -269,6 +378,30 @@ public abstract class ScanStream {
         return zscan(commands, key, Optional.of(scanArgs));
     }
 
+    /**
+     * Iterate over elements in a sorted set identified by {@code key} while prefetching pages. This method uses {@code ZSCAN}
+     * to perform an iterative scan and issues the next {@code ZSCAN} command as soon as the current page arrives.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, must not be {@code null}. The {@code COUNT} of the arguments is updated if adaptive
+     *        count sizing is enabled.
+     * @param prefetchOptions the prefetch options, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     * @since 6.5
+     */
+    public static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            ScanPrefetchOptions prefetchOptions) {
+
+        LettuceAssert.notNull(commands, "RedisSortedSetReactiveCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return PrefetchingScan.create((cursor, args) -> commands.zscan(key, cursor, args), scanArgs, prefetchOptions,
+                ScoredValueScanCursor::getValues);
+    }
+
     private static <K, V> Flux<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
             Optional<ScanArgs> scanArgs) {
 
@@ -282,4 +415,225 @@ public abstract class ScanStream {
                 .flatMapIterable(ScoredValueScanCursor::getValues);
     }
 
+    /**
+     * Prefetching scan emitting the elements of scan pages to a {@link FluxSink}. The next scan command is issued as soon as a
+     * page arrives if fewer than {@link ScanPrefetchOptions#getPages()} pages are buffered ahead of the page that is being
+     * emitted. Emission is serialized through a work-in-progress counter, so pages may arrive on the I/O thread while the
+     * subscriber requests elements from a different thread.
+     *
+     * @param <C> cursor type.
+     * @param <T> element type.
+     */
+    static class PrefetchingScan<C extends ScanCursor, T> {
+
+        private final BiFunction<ScanCursor, ScanArgs, Mono<C>> scanFunction;
+
+        private final ScanArgs scanArgs;
+
+        private final ScanPrefetchOptions options;
+
+        private final Function<C, ? extends Collection<T>> extractor;
+
+        private final FluxSink<T> sink;
+
+        private final Queue<C> pages = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger buffered = new AtomicInteger();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final long targetLatency;
+
+        private Iterator<T> current;
+
+        private long count;
+
+        private long fetches;
+
+        private volatile long received;
+
+        private volatile ScanCursor cursor = ScanCursor.INITIAL;
+
+        private volatile boolean inFlight;
+
+        private volatile boolean finished;
+
+        private volatile Throwable error;
+
+        private volatile Disposable request;
+
+        PrefetchingScan(BiFunction<ScanCursor, ScanArgs, Mono<C>> scanFunction, ScanArgs scanArgs,
+                ScanPrefetchOptions options, Function<C, ? extends Collection<T>> extractor, FluxSink<T> sink) {
+
+            this.scanFunction = scanFunction;
+            this.scanArgs = scanArgs;
+            this.options = options;
+            this.extractor = extractor;
+            this.sink = sink;
+            this.targetLatency = options.getTargetLatency().toNanos();
+
+            Long count = scanArgs.getCount();
+            this.count = Math.min(options.getMaxCount(),
+                    Math.max(options.getMinCount(), count != null ? count : options.getMinCount()));
+        }
+
+        static <C extends ScanCursor, T> Flux<T> create(BiFunction<ScanCursor, ScanArgs, Mono<C>> scanFunction,
+                ScanArgs scanArgs, ScanPrefetchOptions options, Function<C, ? extends Collection<T>> extractor) {
+
+            LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+            LettuceAssert.notNull(options, "ScanPrefetchOptions must not be null");
+
+            return Flux.create(sink -> new PrefetchingScan<>(scanFunction, scanArgs, options, extractor, sink).start());
+        }
+
+        void start() {
+
+            sink.onRequest(n -> drain());
+            sink.onDispose(this::dispose);
+            drain();
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        private void drain() {
+
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+
+                if (sink.isCancelled()) {
+                    pages.clear();
+                    current = null;
+                    return;
+                }
+
+                Throwable error = this.error;
+                if (error != null) {
+                    sink.error(error);
+                    return;
+                }
+
+                emit();
+
+                if (finished && !inFlight && pages.isEmpty() && (current == null || !current.hasNext())) {
+                    sink.complete();
+                    return;
+                }
+
+                if (!finished && !inFlight && buffered.get() < options.getPages()) {
+                    fetch();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+
+            for (;;) {
+
+                if (current != null && current.hasNext()) {
+
+                    if (sink.requestedFromDownstream() == 0) {
+                        return;
+                    }
+
+                    sink.next(current.next());
+                    continue;
+                }
+
+                C page = pages.poll();
+
+                if (page == null) {
+                    current = null;
+                    return;
+                }
+
+                buffered.decrementAndGet();
+                current = extractor.apply(page).iterator();
+            }
+        }
+
+        private void fetch() {
+
+            inFlight = true;
+
+            if (options.isAdaptiveCount()) {
+                scanArgs.limit(count);
+            }
+
+            long fetch = ++fetches;
+            long start = System.nanoTime();
+
+            request = scanFunction.apply(cursor, scanArgs).subscribe(page -> onPage(fetch, page, System.nanoTime() - start),
+                    this::onError, () -> onComplete(fetch));
+        }
+
+        private void onPage(long fetch, C page, long latency) {
+
+            received = fetch;
+
+            if (options.isAdaptiveCount()) {
+                adapt(latency, buffered.get() == 0);
+            }
+
+            cursor = page;
+
+            if (page.isFinished()) {
+                finished = true;
+            }
+
+            pages.offer(page);
+            buffered.incrementAndGet();
+            inFlight = false;
+            drain();
+        }
+
+        private void onError(Throwable throwable) {
+
+            error = throwable;
+            inFlight = false;
+            drain();
+        }
+
+        private void onComplete(long fetch) {
+
+            // scan command completed without a page
+            if (received != fetch) {
+                finished = true;
+                inFlight = false;
+                drain();
+            }
+        }
+
+        /**
+         * Adapt the count for the next scan command. Grow the count if the subscriber has drained all buffered pages and the
+         * page arrived within the target latency, shrink the count if the page latency exceeds the target latency.
+         */
+        void adapt(long latency, boolean drained) {
+
+            if (latency > targetLatency) {
+                count = Math.max(options.getMinCount(), count / 2);
+            } else if (drained) {
+                count = Math.min(options.getMaxCount(), count * 2);
+            }
+        }
+
+        private void dispose() {
+
+            Disposable request = this.request;
+
+            if (request != null) {
+                request.dispose();
+            }
+        }
+
+    }
+
 }
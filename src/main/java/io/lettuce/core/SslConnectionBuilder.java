@@ -154,6 +154,7 @@ public class SslConnectionBuilder extends ConnectionBuilder {
             sslHandler.setHandshakeTimeoutMillis(sslHandshakeTimeout.toMillis());
 
             channel.pipeline().addLast(sslHandler);
+            channel.pipeline().addLast(new SslHandshakeListener(clientResources.eventBus()));
 
             for (ChannelHandler handler : handlers.get()) {
                 channel.pipeline().addLast(handler);
@@ -165,17 +166,14 @@ public class SslConnectionBuilder extends ConnectionBuilder {
         private SSLEngine initializeSSLEngine(ByteBufAllocator alloc) throws IOException, GeneralSecurityException {
 
             SSLParameters sslParams = sslOptions.createSSLParameters();
-            SslContextBuilder sslContextBuilder = sslOptions.createSslContextBuilder();
 
             if (verifyPeer == SslVerifyMode.FULL) {
                 sslParams.setEndpointIdentificationAlgorithm("HTTPS");
             } else if (verifyPeer == SslVerifyMode.CA) {
                 sslParams.setEndpointIdentificationAlgorithm("");
-            } else if (verifyPeer == SslVerifyMode.NONE) {
-                sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
             }
 
-            SslContext sslContext = sslContextBuilder.build();
+            SslContext sslContext = SslContextCache.INSTANCE.getOrCreate(sslOptions, verifyPeer, this::createSslContext);
 
             SSLEngine sslEngine = hostAndPort != null
                     ? sslContext.newEngine(alloc, hostAndPort.getHostText(), hostAndPort.getPort())
@@ -185,6 +183,17 @@ public class SslConnectionBuilder extends ConnectionBuilder {
             return sslEngine;
         }
 
+        private SslContext createSslContext() throws IOException, GeneralSecurityException {
+
+            SslContextBuilder sslContextBuilder = sslOptions.createSslContextBuilder();
+
+            if (verifyPeer == SslVerifyMode.NONE) {
+                sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+            }
+
+            return sslContextBuilder.build();
+        }
+
         @Override
         public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
             ctx.channel().attr(INIT_FAILURE).set(cause);
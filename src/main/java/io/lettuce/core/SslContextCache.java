@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import io.netty.handler.ssl.SslContext;
+
+/**
+ * Cache for {@link SslContext} instances keyed by {@link SslOptions} identity and {@link SslVerifyMode}. Entries expire after
+ * {@link SslOptions#getSslContextCacheTimeToLive()} and are released once the {@link SslOptions} instance is no longer
+ * referenced. This class is part of the internal API.
+ *
+ * @since 6.5
+ */
+class SslContextCache {
+
+    static final SslContextCache INSTANCE = new SslContextCache();
+
+    private final Map<SslOptions, Map<SslVerifyMode, CachedSslContext>> cache = new WeakHashMap<>();
+
+    /**
+     * Retrieve a cached {@link SslContext} or create a new one using {@code factory}. Caching is bypassed if
+     * {@link SslOptions#getSslContextCacheTimeToLive()} is zero.
+     *
+     * @param sslOptions the SSL options.
+     * @param verifyMode the peer verification mode.
+     * @param factory factory to create a new {@link SslContext}.
+     * @return the {@link SslContext}.
+     */
+    SslContext getOrCreate(SslOptions sslOptions, SslVerifyMode verifyMode, SslContextFactory factory)
+            throws IOException, GeneralSecurityException {
+
+        long timeToLive = sslOptions.getSslContextCacheTimeToLive().toNanos();
+
+        if (timeToLive == 0) {
+            return factory.create();
+        }
+
+        synchronized (cache) {
+
+            Map<SslVerifyMode, CachedSslContext> contexts = cache.computeIfAbsent(sslOptions,
+                    it -> new EnumMap<>(SslVerifyMode.class));
+            CachedSslContext cached = contexts.get(verifyMode);
+            long now = System.nanoTime();
+
+            if (cached == null || now - cached.created >= timeToLive) {
+                cached = new CachedSslContext(factory.create(), now);
+                contexts.put(verifyMode, cached);
+            }
+
+            return cached.sslContext;
+        }
+    }
+
+    void clear() {
+
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Factory to create a {@link SslContext}.
+     */
+    @FunctionalInterface
+    interface SslContextFactory {
+
+        SslContext create() throws IOException, GeneralSecurityException;
+
+    }
+
+    private static class CachedSslContext {
+
+        final SslContext sslContext;
+
+        final long created;
+
+        CachedSslContext(SslContext sslContext, long created) {
+            this.sslContext = sslContext;
+            this.created = created;
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.core.ConnectionEventTrigger.*;
+
+import java.time.Duration;
+
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.SslHandshakeEvent;
+import io.lettuce.core.protocol.CommandHandler;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+
+/**
+ * A netty {@link ChannelHandler} measuring the SSL/TLS handshake duration and publishing {@link SslHandshakeEvent}s. Must be
+ * placed after the {@link SslHandler}. Removes itself once the handshake completed.
+ *
+ * @since 6.5
+ */
+class SslHandshakeListener extends ChannelInboundHandlerAdapter {
+
+    private final EventBus eventBus;
+
+    private long handshakeStart;
+
+    SslHandshakeListener(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+
+        handshakeStart = System.nanoTime();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+
+        if (evt instanceof SslHandshakeCompletionEvent) {
+
+            SslHandshakeCompletionEvent completion = (SslHandshakeCompletionEvent) evt;
+            Duration duration = Duration.ofNanos(handshakeStart == 0 ? 0 : System.nanoTime() - handshakeStart);
+
+            CommandHandler commandHandler = ctx.pipeline().get(CommandHandler.class);
+            SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+            String protocol = completion.isSuccess() && sslHandler != null ? sslHandler.engine().getSession().getProtocol()
+                    : null;
+
+            eventBus.publish(new SslHandshakeEvent(getRedisUri(ctx.channel()),
+                    commandHandler != null ? commandHandler.getEndpoint().getId() : null,
+                    commandHandler != null ? commandHandler.getChannelId() : null, local(ctx), remote(ctx), duration,
+                    completion.isSuccess(), protocol));
+
+            ctx.pipeline().remove(this);
+        }
+
+        super.userEventTriggered(ctx, evt);
+    }
+
+    private static String getRedisUri(Channel channel) {
+
+        String redisUri = null;
+        if (channel.hasAttr(ConnectionBuilder.REDIS_URI)) {
+            redisUri = channel.attr(ConnectionBuilder.REDIS_URI).get();
+        }
+
+        return redisUri;
+    }
+
+}
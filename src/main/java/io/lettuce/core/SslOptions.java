@@ -56,6 +56,8 @@ public class SslOptions {
 
     public static final SslProvider DEFAULT_SSL_PROVIDER = SslProvider.JDK;
 
+    public static final Duration DEFAULT_SSL_CONTEXT_CACHE_TIME_TO_LIVE = Duration.ZERO;
+
     private final String keyStoreType;
 
     private final SslProvider sslProvider;
@@ -82,10 +84,13 @@ public class SslOptions {
 
     private final Duration handshakeTimeout;
 
+    private final Duration sslContextCacheTimeToLive;
+
     protected SslOptions(Builder builder) {
         this.keyStoreType = builder.keyStoreType;
         this.sslProvider = builder.sslProvider;
         this.handshakeTimeout = builder.sslHandshakeTimeout;
+        this.sslContextCacheTimeToLive = builder.sslContextCacheTimeToLive;
         this.keystore = builder.keystore;
         this.keystorePassword = builder.keystorePassword;
         this.truststore = builder.truststore;
@@ -104,6 +109,7 @@ public class SslOptions {
         this.keyStoreType = original.keyStoreType;
         this.sslProvider = original.getSslProvider();
         this.handshakeTimeout = original.handshakeTimeout;
+        this.sslContextCacheTimeToLive = original.sslContextCacheTimeToLive;
         this.keystore = original.keystore;
         this.keystorePassword = original.keystorePassword;
         this.truststore = original.getTruststore();
@@ -179,6 +185,8 @@ public class SslOptions {
 
         private Duration sslHandshakeTimeout = Duration.ofSeconds(10);
 
+        private Duration sslContextCacheTimeToLive = DEFAULT_SSL_CONTEXT_CACHE_TIME_TO_LIVE;
+
         private Builder() {
         }
 
@@ -218,6 +226,18 @@ public class SslOptions {
             return sslProvider(SslProvider.OPENSSL);
         }
 
+        /**
+         * Use the OpenSSL provider for SSL connections if
+         * <a href="https://netty.io/wiki/forked-tomcat-native.html">{@code netty-tcnative}</a> is available and fall back to the
+         * JDK SSL provider otherwise.
+         *
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder preferOpenSslProvider() {
+            return sslProvider(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK);
+        }
+
         private Builder sslProvider(SslProvider sslProvider) {
 
             if (sslProvider == SslProvider.OPENSSL) {
@@ -246,6 +266,28 @@ public class SslOptions {
             return this;
         }
 
+        /**
+         * Sets the duration for which a {@link io.netty.handler.ssl.SslContext} created from these options is reused across
+         * connections. Reusing the {@link io.netty.handler.ssl.SslContext} avoids loading key and trust material for each
+         * connection and enables TLS session resumption through the session cache of the
+         * {@link io.netty.handler.ssl.SslContext}. Key and trust material changes are picked up once the cached
+         * {@link io.netty.handler.ssl.SslContext} expires. Defaults to {@link Duration#ZERO} which creates a new
+         * {@link io.netty.handler.ssl.SslContext} for each connection. See {@link #DEFAULT_SSL_CONTEXT_CACHE_TIME_TO_LIVE}.
+         *
+         * @param timeToLive the time to live of a cached {@link io.netty.handler.ssl.SslContext}, must not be {@code null} or
+         *        negative.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder sslContextCacheTimeToLive(Duration timeToLive) {
+
+            LettuceAssert.notNull(timeToLive, "SslContext cache time to live must not be null");
+            LettuceAssert.isTrue(!timeToLive.isNegative(), "SslContext cache time to live must not be negative");
+
+            this.sslContextCacheTimeToLive = timeToLive;
+            return this;
+        }
+
         /**
          * Sets the KeyStore type. Defaults to {@link KeyStore#getDefaultType()} if not set.
          *
@@ -692,6 +734,7 @@ public class SslOptions {
         builder.keymanager = this.keymanager;
         builder.trustmanager = this.trustmanager;
         builder.sslHandshakeTimeout = this.handshakeTimeout;
+        builder.sslContextCacheTimeToLive = this.sslContextCacheTimeToLive;
 
         return builder;
     }
@@ -735,6 +778,15 @@ public class SslOptions {
         return handshakeTimeout;
     }
 
+    /**
+     * @return the time to live of a cached {@link io.netty.handler.ssl.SslContext}. {@link Duration#ZERO} if caching is
+     *         disabled.
+     * @since 6.5
+     */
+    public Duration getSslContextCacheTimeToLive() {
+        return sslContextCacheTimeToLive;
+    }
+
     /**
      * @return the password for the keystore. May be empty.
      * @deprecated since 5.3, {@link javax.net.ssl.KeyManager} is configured via {@link #createSslContextBuilder()}.
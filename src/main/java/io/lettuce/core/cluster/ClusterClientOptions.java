@@ -24,9 +24,11 @@ import java.time.Duration;
 import java.util.function.Predicate;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.LivenessOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.metrics.ClusterTrafficOptions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.DecodeBufferPolicy;
@@ -57,6 +59,14 @@ public class ClusterClientOptions extends ClientOptions {
 
     public static final Predicate<RedisClusterNode> DEFAULT_NODE_FILTER = node -> true;
 
+    public static final PartitionsSnapshotStore DEFAULT_PARTITIONS_SNAPSHOT_STORE = PartitionsSnapshotStore.none();
+
+    public static final boolean DEFAULT_WARM_UP_CONNECTIONS = false;
+
+    public static final Duration DEFAULT_WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+
+    public static final ClusterTrafficOptions DEFAULT_TRAFFIC_OPTIONS = ClusterTrafficOptions.disabled();
+
     private final int maxRedirects;
 
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
@@ -65,6 +75,14 @@ public class ClusterClientOptions extends ClientOptions {
 
     private final Predicate<RedisClusterNode> nodeFilter;
 
+    private final PartitionsSnapshotStore partitionsSnapshotStore;
+
+    private final boolean warmUpConnections;
+
+    private final Duration warmUpTimeout;
+
+    private final ClusterTrafficOptions trafficOptions;
+
     protected ClusterClientOptions(Builder builder) {
 
         super(builder);
@@ -83,6 +101,10 @@ public class ClusterClientOptions extends ClientOptions {
         this.maxRedirects = builder.maxRedirects;
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.nodeFilter = builder.nodeFilter;
+        this.partitionsSnapshotStore = builder.partitionsSnapshotStore;
+        this.warmUpConnections = builder.warmUpConnections;
+        this.warmUpTimeout = builder.warmUpTimeout;
+        this.trafficOptions = builder.trafficOptions;
     }
 
     protected ClusterClientOptions(ClusterClientOptions original) {
@@ -93,6 +115,10 @@ public class ClusterClientOptions extends ClientOptions {
         this.topologyRefreshOptions = original.topologyRefreshOptions;
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.nodeFilter = original.nodeFilter;
+        this.partitionsSnapshotStore = original.partitionsSnapshotStore;
+        this.warmUpConnections = original.warmUpConnections;
+        this.warmUpTimeout = original.warmUpTimeout;
+        this.trafficOptions = original.trafficOptions;
     }
 
     /**
@@ -134,8 +160,10 @@ public class ClusterClientOptions extends ClientOptions {
                 .cancelCommandsOnReconnectFailure(clientOptions.isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(clientOptions.getDecodeBufferPolicy())
                 .disconnectedBehavior(clientOptions.getDisconnectedBehavior())
+                .failoverReplay(clientOptions.isFailoverReplay()).livenessOptions(clientOptions.getLivenessOptions())
                 .pingBeforeActivateConnection(clientOptions.isPingBeforeActivateConnection())
                 .publishOnScheduler(clientOptions.isPublishOnScheduler())
+                .publishOnSchedulerBatchSize(clientOptions.getPublishOnSchedulerBatchSize())
                 .protocolVersion(clientOptions.getConfiguredProtocolVersion())
                 .requestQueueSize(clientOptions.getRequestQueueSize()).scriptCharset(clientOptions.getScriptCharset())
                 .socketOptions(clientOptions.getSocketOptions()).sslOptions(clientOptions.getSslOptions())
@@ -167,6 +195,14 @@ public class ClusterClientOptions extends ClientOptions {
 
         private Predicate<RedisClusterNode> nodeFilter = DEFAULT_NODE_FILTER;
 
+        private PartitionsSnapshotStore partitionsSnapshotStore = DEFAULT_PARTITIONS_SNAPSHOT_STORE;
+
+        private boolean warmUpConnections = DEFAULT_WARM_UP_CONNECTIONS;
+
+        private Duration warmUpTimeout = DEFAULT_WARM_UP_TIMEOUT;
+
+        private ClusterTrafficOptions trafficOptions = DEFAULT_TRAFFIC_OPTIONS;
+
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
         protected Builder() {
@@ -218,6 +254,18 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder failoverReplay(boolean failoverReplay) {
+            super.failoverReplay(failoverReplay);
+            return this;
+        }
+
+        @Override
+        public Builder livenessOptions(LivenessOptions livenessOptions) {
+            super.livenessOptions(livenessOptions);
+            return this;
+        }
+
         /**
          * Number of maximal cluster redirects ({@literal -MOVED} and {@literal -ASK}) to follow in case a key was moved from
          * one node to another node. Defaults to {@literal 5}. See {@link ClusterClientOptions#DEFAULT_MAX_REDIRECTS}.
@@ -254,6 +302,12 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder publishOnSchedulerBatchSize(int publishOnSchedulerBatchSize) {
+            super.publishOnSchedulerBatchSize(publishOnSchedulerBatchSize);
+            return this;
+        }
+
         @Override
         public Builder readOnlyCommands(ReadOnlyCommands.ReadOnlyPredicate readOnlyCommands) {
 
@@ -329,6 +383,72 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Configure a {@link PartitionsSnapshotStore} to persist the cluster topology. If the store provides a snapshot, the
+         * client uses it as initial topology and validates it through a background topology refresh instead of performing a
+         * full seed discovery on startup. Defaults to {@link PartitionsSnapshotStore#none()}. See
+         * {@link ClusterClientOptions#DEFAULT_PARTITIONS_SNAPSHOT_STORE}.
+         *
+         * @param partitionsSnapshotStore must not be {@code null}.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder partitionsSnapshotStore(PartitionsSnapshotStore partitionsSnapshotStore) {
+
+            LettuceAssert.notNull(partitionsSnapshotStore, "PartitionsSnapshotStore must not be null");
+            this.partitionsSnapshotStore = partitionsSnapshotStore;
+            return this;
+        }
+
+        /**
+         * Eagerly open connections to all upstream nodes (and replica nodes if {@link io.lettuce.core.ReadFrom} reads from
+         * replicas) in parallel once the cluster topology is known and for new nodes after each topology change. Connecting
+         * completes once all connections are established or {@link #warmUpTimeout(Duration) the warm-up timeout} has passed.
+         * Defaults to {@code false}. See {@link ClusterClientOptions#DEFAULT_WARM_UP_CONNECTIONS}.
+         *
+         * @param warmUpConnections {@code true} to eagerly connect to cluster nodes.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder warmUpConnections(boolean warmUpConnections) {
+            this.warmUpConnections = warmUpConnections;
+            return this;
+        }
+
+        /**
+         * Maximum duration to wait for connection warm-up when connecting. Defaults to {@literal 10 seconds}. See
+         * {@link ClusterClientOptions#DEFAULT_WARM_UP_TIMEOUT}.
+         *
+         * @param warmUpTimeout the warm-up timeout, must not be {@code null} or negative.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder warmUpTimeout(Duration warmUpTimeout) {
+
+            LettuceAssert.notNull(warmUpTimeout, "Warm-up timeout must not be null");
+            LettuceAssert.isTrue(!warmUpTimeout.isNegative(), "Warm-up timeout must not be negative");
+
+            this.warmUpTimeout = warmUpTimeout;
+            return this;
+        }
+
+        /**
+         * Configure per-slot and hot-key traffic statistics. Statistics are published periodically as
+         * {@link io.lettuce.core.cluster.event.ClusterTrafficEvent} on the {@link io.lettuce.core.event.EventBus}. Defaults to
+         * {@link ClusterTrafficOptions#disabled() disabled}. See {@link ClusterClientOptions#DEFAULT_TRAFFIC_OPTIONS}.
+         *
+         * @param trafficOptions the {@link ClusterTrafficOptions}, must not be {@code null}.
+         * @return {@code this}
+         * @since 6.5
+         */
+        public Builder trafficOptions(ClusterTrafficOptions trafficOptions) {
+
+            LettuceAssert.notNull(trafficOptions, "ClusterTrafficOptions must not be null");
+
+            this.trafficOptions = trafficOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -355,13 +475,16 @@ public class ClusterClientOptions extends ClientOptions {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
-                .maxRedirects(getMaxRedirects()).publishOnScheduler(isPublishOnScheduler())
+                .failoverReplay(isFailoverReplay()).livenessOptions(getLivenessOptions()).maxRedirects(getMaxRedirects()).publishOnScheduler(isPublishOnScheduler())
+                .publishOnSchedulerBatchSize(getPublishOnSchedulerBatchSize())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
                 .readOnlyCommands(getReadOnlyCommands()).requestQueueSize(getRequestQueueSize())
                 .scriptCharset(getScriptCharset()).socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
                 .topologyRefreshOptions(getTopologyRefreshOptions())
-                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter());
+                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter())
+                .partitionsSnapshotStore(getPartitionsSnapshotStore()).warmUpConnections(isWarmUpConnections())
+                .warmUpTimeout(getWarmUpTimeout()).trafficOptions(getTrafficOptions());
 
         return builder;
     }
@@ -438,4 +561,44 @@ public class ClusterClientOptions extends ClientOptions {
         return nodeFilter;
     }
 
+    /**
+     * The {@link PartitionsSnapshotStore} to persist the cluster topology.
+     *
+     * @return the {@link PartitionsSnapshotStore}.
+     * @since 6.5
+     */
+    public PartitionsSnapshotStore getPartitionsSnapshotStore() {
+        return partitionsSnapshotStore;
+    }
+
+    /**
+     * Flag, whether to eagerly open connections to cluster nodes. Defaults to {@code false}.
+     *
+     * @return {@code true} if connections are warmed up eagerly.
+     * @since 6.5
+     */
+    public boolean isWarmUpConnections() {
+        return warmUpConnections;
+    }
+
+    /**
+     * Maximum duration to wait for connection warm-up when connecting. Defaults to {@literal 10 seconds}.
+     *
+     * @return the warm-up timeout.
+     * @since 6.5
+     */
+    public Duration getWarmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    /**
+     * Returns the {@link ClusterTrafficOptions} for per-slot and hot-key traffic statistics.
+     *
+     * @return the {@link ClusterTrafficOptions}.
+     * @since 6.5
+     */
+    public ClusterTrafficOptions getTrafficOptions() {
+        return trafficOptions;
+    }
+
 }
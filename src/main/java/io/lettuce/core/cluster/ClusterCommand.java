@@ -1,6 +1,9 @@
 package io.lettuce.core.cluster;
 
+import java.nio.ByteBuffer;
+
 import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.cluster.metrics.ClusterTrafficRecorder;
 import io.lettuce.core.protocol.*;
 import io.netty.buffer.ByteBuf;
 
@@ -18,6 +21,12 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
 
     private boolean completed;
 
+    private int slot = NO_SLOT;
+
+    private static final int NO_SLOT = -2;
+
+    private ClusterTrafficRecorder trafficRecorder = ClusterTrafficRecorder.disabled();
+
     /**
      *
      * @param command
@@ -69,14 +78,47 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
         return false;
     }
 
+    /**
+     * Return the slot of the first key. The slot is computed once and retained for redirections.
+     *
+     * @return the slot of the first key or {@code -1} if the command has no key.
+     */
+    int getSlot() {
+
+        if (slot == NO_SLOT) {
+
+            CommandArgs<K, V> args = getArgs();
+            ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+            slot = encodedKey != null ? SlotHash.getSlot(encodedKey) : -1;
+        }
+
+        return slot;
+    }
+
     @Override
     public CommandArgs<K, V> getArgs() {
         return command.getArgs();
     }
 
+    void setTrafficRecorder(ClusterTrafficRecorder trafficRecorder) {
+        this.trafficRecorder = trafficRecorder;
+    }
+
     @Override
     public void encode(ByteBuf buf) {
+
+        if (!trafficRecorder.isEnabled()) {
+            command.encode(buf);
+            return;
+        }
+
+        int start = buf.writerIndex();
         command.encode(buf);
+
+        int slot = getSlot();
+        if (slot != -1) {
+            trafficRecorder.record(slot, getArgs().getFirstEncodedKey(), buf.writerIndex() - start);
+        }
     }
 
     @Override
@@ -28,11 +28,15 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.CommandListenerWriter;
+import io.lettuce.core.LatencyAwareReadFrom;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
@@ -41,6 +45,7 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.event.AskRedirectionEvent;
 import io.lettuce.core.cluster.event.MovedRedirectionEvent;
+import io.lettuce.core.cluster.metrics.ClusterTrafficRecorder;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.StringCodec;
@@ -54,11 +59,14 @@ import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandExpiryWriter;
 import io.lettuce.core.protocol.CommandKeyword;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.CommandWrapper;
 import io.lettuce.core.protocol.ConnectionFacade;
 import io.lettuce.core.protocol.ConnectionIntent;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.ReadOnlyCommands;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.ReplayWriter;
+import io.lettuce.core.protocol.TransactionalCommand;
 import io.lettuce.core.resource.ClientResources;
 
 /**
@@ -68,7 +76,7 @@ import io.lettuce.core.resource.ClientResources;
  * @author Jim Brunner
  * @since 3.0
  */
-class ClusterDistributionChannelWriter implements RedisChannelWriter {
+class ClusterDistributionChannelWriter implements RedisChannelWriter, ReplayWriter {
 
     private final RedisChannelWriter defaultWriter;
 
@@ -88,6 +96,10 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private volatile Partitions partitions;
 
+    private ClusterTrafficRecorder trafficRecorder = ClusterTrafficRecorder.disabled();
+
+    private final Set<DefaultEndpoint> pendingReplays = ConcurrentHashMap.newKeySet();
+
     ClusterDistributionChannelWriter(RedisChannelWriter defaultWriter, ClientOptions clientOptions,
             ClusterEventListener clusterEventListener) {
 
@@ -125,15 +137,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
                 HostAndPort target;
                 boolean asking;
-                ByteBuffer firstEncodedKey = clusterCommand.getArgs().getFirstEncodedKey();
-                String keyAsString = null;
-                int slot = -1;
-                if (firstEncodedKey != null) {
-                    firstEncodedKey.mark();
-                    keyAsString = StringCodec.UTF8.decodeKey(firstEncodedKey);
-                    firstEncodedKey.reset();
-                    slot = getSlot(firstEncodedKey);
-                }
+                Supplier<String> keyAsString = () -> getFirstKeyAsString(clusterCommand);
+                int slot = clusterCommand.getSlot();
 
                 if (clusterCommand.isMoved()) {
 
@@ -172,20 +177,27 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         // exclude CLIENT commands from cluster routing
         if (args != null && !CommandType.CLIENT.equals(commandToSend.getType())) {
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
-            if (encodedKey != null) {
+            int hash = commandToSend.getSlot();
+            if (hash != -1) {
 
-                int hash = getSlot(encodedKey);
                 ConnectionIntent connectionIntent = getIntent(command);
 
                 CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
                         .getConnectionAsync(connectionIntent, hash);
 
                 if (isSuccessfullyCompleted(connectFuture)) {
-                    writeCommand(commandToSend, false, connectFuture.join(), null);
+
+                    StatefulRedisConnection<K, V> connection = connectFuture.join();
+                    recordDispatch(connectionIntent, commandToSend, connection);
+                    writeCommand(commandToSend, false, connection, null);
                 } else {
-                    connectFuture
-                            .whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection, throwable));
+                    connectFuture.whenComplete((connection, throwable) -> {
+
+                        if (throwable == null) {
+                            recordDispatch(connectionIntent, commandToSend, connection);
+                        }
+                        writeCommand(commandToSend, false, connection, throwable);
+                    });
                 }
 
                 return commandToSend;
@@ -197,6 +209,115 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return commandToSend;
     }
 
+    /**
+     * Replay a retry-safe command of a disconnected node connection on the master or a replica serving the command's slot.
+     * Connections that write to {@code failed} are skipped. If only connections that are still being established are left, the
+     * command stays buffered and {@code failed} replays its buffer once one of them completes.
+     */
+    @Override
+    public boolean replay(RedisCommand<?, ?, ?> command, DefaultEndpoint failed) {
+
+        Partitions partitions = this.partitions;
+
+        if (closed || partitions == null || asyncClusterConnectionProvider == null || command.getArgs() == null
+                || CommandWrapper.unwrap(command, TransactionalCommand.class) != null
+                || !readOnlyCommands.isReadOnly(command)) {
+            return false;
+        }
+
+        ClusterCommand<?, ?, ?> commandToSend = getCommandToSend(command);
+        int slot = commandToSend.getSlot();
+        RedisClusterNode master = slot != -1 ? partitions.getMasterBySlot(slot) : null;
+
+        if (master == null) {
+            return false;
+        }
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        for (RedisClusterNode node : getReplayCandidates(partitions, master)) {
+
+            CompletableFuture<StatefulRedisConnection<Object, Object>> connectFuture;
+            try {
+                connectFuture = asyncClusterConnectionProvider.getConnectionAsync(ConnectionIntent.READ,
+                        node.getUri().getHost(), node.getUri().getPort());
+            } catch (RedisException e) {
+                continue;
+            }
+
+            if (!connectFuture.isDone()) {
+                pending.add(connectFuture);
+                continue;
+            }
+
+            if (!isSuccessfullyCompleted(connectFuture)) {
+                continue;
+            }
+
+            StatefulRedisConnection<Object, Object> connection = connectFuture.join();
+            RedisChannelWriter writer = ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+
+            if (!connection.isOpen() || unwrapDefaultEndpoint(writer) == failed) {
+                continue;
+            }
+
+            writeCommand(commandToSend, writer);
+            return true;
+        }
+
+        if (!pending.isEmpty() && pendingReplays.add(failed)) {
+            CompletableFuture.anyOf(pending.toArray(new CompletableFuture[0])).whenComplete((ignore, throwable) -> {
+                pendingReplays.remove(failed);
+                failed.replayBufferedCommands();
+            });
+        }
+
+        return false;
+    }
+
+    private static List<RedisClusterNode> getReplayCandidates(Partitions partitions, RedisClusterNode master) {
+
+        List<RedisClusterNode> candidates = new ArrayList<>();
+        candidates.add(master);
+
+        for (RedisClusterNode node : partitions) {
+            if (node.is(RedisClusterNode.NodeFlag.REPLICA) && master.getNodeId().equals(node.getSlaveOf())) {
+                candidates.add(node);
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Record a read command dispatch to track node load if {@link LatencyAwareReadFrom} is enabled.
+     */
+    private void recordDispatch(ConnectionIntent connectionIntent, ClusterCommand<?, ?, ?> command,
+            StatefulRedisConnection<?, ?> connection) {
+
+        if (connectionIntent != ConnectionIntent.READ
+                || !(clusterConnectionProvider instanceof PooledClusterConnectionProvider)) {
+            return;
+        }
+
+        LatencyAwareReadFrom.NodeLoad load = ((PooledClusterConnectionProvider<?, ?>) clusterConnectionProvider)
+                .getNodeLoad(connection);
+
+        if (load == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        load.onDispatch();
+        command.onComplete((result, throwable) -> load.onComplete(System.nanoTime() - start));
+    }
+
+    private static String getFirstKeyAsString(ClusterCommand<?, ?, ?> command) {
+
+        ByteBuffer firstEncodedKey = command.getArgs() != null ? command.getArgs().getFirstEncodedKey() : null;
+        return firstEncodedKey != null ? StringCodec.UTF8.decodeKey(firstEncodedKey) : null;
+    }
+
     private void publish(Event event) {
 
         ClientResources clientResources = getClientResources();
@@ -216,7 +337,14 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             return (ClusterCommand<K, V, T>) command;
         }
 
-        return new ClusterCommand<>(command, this, executionLimit);
+        return newClusterCommand(command);
+    }
+
+    private <K, V, T> ClusterCommand<K, V, T> newClusterCommand(RedisCommand<K, V, T> command) {
+
+        ClusterCommand<K, V, T> clusterCommand = new ClusterCommand<>(command, this, executionLimit);
+        clusterCommand.setTrafficRecorder(trafficRecorder);
+        return clusterCommand;
     }
 
     @SuppressWarnings("unchecked")
@@ -303,16 +431,16 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             ByteBuffer firstEncodedKey = args != null ? args.getFirstEncodedKey() : null;
 
             if (firstEncodedKey == null) {
-                defaultCommands.add(new ClusterCommand<>(cmd, this, executionLimit));
+                defaultCommands.add(newClusterCommand(cmd));
                 continue;
             }
 
-            int hash = getSlot(args.getFirstEncodedKey());
+            int hash = getSlot(firstEncodedKey);
 
             List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(SlotIntent.of(connectionIntent, hash),
                     slotIntent -> new ArrayList<>());
 
-            commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
+            commandPartition.add(newClusterCommand(cmd));
         }
 
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
@@ -453,7 +581,23 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private DefaultEndpoint unwrapDefaultEndpoint() {
 
-        RedisChannelWriter writer = this.defaultWriter;
+        DefaultEndpoint endpoint = unwrapDefaultEndpoint(this.defaultWriter);
+
+        if (endpoint == null) {
+            throw new IllegalStateException(
+                    String.format("Cannot unwrap defaultWriter %s into DefaultEndpoint", this.defaultWriter));
+        }
+
+        return endpoint;
+    }
+
+    /**
+     * Unwrap the {@link DefaultEndpoint} from {@code writer}.
+     *
+     * @param writer the channel writer.
+     * @return the {@link DefaultEndpoint} or {@code null} if {@code writer} is not backed by a {@link DefaultEndpoint}.
+     */
+    static DefaultEndpoint unwrapDefaultEndpoint(RedisChannelWriter writer) {
 
         while (!(writer instanceof DefaultEndpoint)) {
 
@@ -467,7 +611,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 continue;
             }
 
-            throw new IllegalStateException(String.format("Cannot unwrap defaultWriter %s into DefaultEndpoint", writer));
+            return null;
         }
 
         return (DefaultEndpoint) writer;
@@ -508,6 +652,10 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         this.asyncClusterConnectionProvider = (AsyncClusterConnectionProvider) clusterConnectionProvider;
     }
 
+    void setTrafficRecorder(ClusterTrafficRecorder trafficRecorder) {
+        this.trafficRecorder = trafficRecorder;
+    }
+
     public void setPartitions(Partitions partitions) {
 
         this.partitions = partitions;
@@ -8,6 +8,7 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.ReplayWriter;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -38,6 +39,10 @@ class ClusterNodeEndpoint extends DefaultEndpoint {
         super(clientOptions, clientResources);
 
         this.clusterChannelWriter = clusterChannelWriter;
+
+        if (clusterChannelWriter instanceof ReplayWriter) {
+            setReplayWriter((ReplayWriter) clusterChannelWriter);
+        }
     }
 
     /**
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * File-based {@link PartitionsSnapshotStore} using a compact binary format. Slots are stored as ranges so a snapshot of a
+ * typical cluster requires a few hundred bytes. Connection settings (authentication, SSL) are not part of the snapshot and are
+ * applied from the seed {@link RedisURI} when loading the snapshot.
+ *
+ * @since 6.5
+ */
+class FilePartitionsSnapshotStore implements PartitionsSnapshotStore {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(FilePartitionsSnapshotStore.class);
+
+    static final int MAGIC = 0x4C545053;
+
+    static final byte VERSION = 1;
+
+    private static final RedisClusterNode.NodeFlag[] FLAGS = RedisClusterNode.NodeFlag.values();
+
+    private final Path file;
+
+    FilePartitionsSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public Partitions load() {
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Cannot read Partitions snapshot from " + file, e);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void save(Partitions partitions) {
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                write(partitions, out);
+            }
+
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot write Partitions snapshot to " + file, e);
+        }
+    }
+
+    static void write(Partitions partitions, DataOutputStream out) throws IOException {
+
+        List<RedisClusterNode> nodes = new ArrayList<>();
+        for (RedisClusterNode node : partitions) {
+            if (node.getUri() != null && node.getNodeId() != null) {
+                nodes.add(node);
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(nodes.size());
+
+        for (RedisClusterNode node : nodes) {
+
+            out.writeUTF(node.getNodeId());
+            writeHostAndPort(node.getUri(), out);
+            out.writeBoolean(node.isConnected());
+            out.writeBoolean(node.getSlaveOf() != null);
+            if (node.getSlaveOf() != null) {
+                out.writeUTF(node.getSlaveOf());
+            }
+            out.writeLong(node.getConfigEpoch());
+
+            int flags = 0;
+            for (RedisClusterNode.NodeFlag flag : node.getFlags()) {
+                flags |= 1 << flag.ordinal();
+            }
+            out.writeInt(flags);
+
+            out.writeShort(node.getAliases().size());
+            for (RedisURI alias : node.getAliases()) {
+                writeHostAndPort(alias, out);
+            }
+
+            writeSlotRanges(node, out);
+        }
+    }
+
+    static Partitions read(DataInputStream in) throws IOException {
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Partitions snapshot");
+        }
+
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported Partitions snapshot version " + version);
+        }
+
+        int count = in.readInt();
+        Partitions partitions = new Partitions();
+
+        for (int i = 0; i < count; i++) {
+
+            String nodeId = in.readUTF();
+            RedisURI uri = readHostAndPort(in);
+            boolean connected = in.readBoolean();
+            String slaveOf = in.readBoolean() ? in.readUTF() : null;
+            long configEpoch = in.readLong();
+
+            int flagBits = in.readInt();
+            Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+            for (RedisClusterNode.NodeFlag flag : FLAGS) {
+                if ((flagBits & (1 << flag.ordinal())) != 0) {
+                    flags.add(flag);
+                }
+            }
+
+            int aliasCount = in.readUnsignedShort();
+            List<RedisURI> aliases = new ArrayList<>(aliasCount);
+            for (int j = 0; j < aliasCount; j++) {
+                aliases.add(readHostAndPort(in));
+            }
+
+            List<Integer> slots = readSlotRanges(in);
+
+            RedisClusterNode node = new RedisClusterNode(uri, nodeId, connected, slaveOf, 0, 0, configEpoch, slots, flags);
+            aliases.forEach(node::addAlias);
+            partitions.addPartition(node);
+        }
+
+        partitions.updateCache();
+        return partitions;
+    }
+
+    private static void writeHostAndPort(RedisURI uri, DataOutputStream out) throws IOException {
+        out.writeUTF(uri.getHost());
+        out.writeInt(uri.getPort());
+    }
+
+    private static RedisURI readHostAndPort(DataInputStream in) throws IOException {
+        return RedisURI.create(in.readUTF(), in.readInt());
+    }
+
+    private static void writeSlotRanges(RedisClusterNode node, DataOutputStream out) throws IOException {
+
+        List<int[]> ranges = new ArrayList<>();
+        node.forEachSlot(slot -> {
+
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] == slot - 1) {
+                last[1] = slot;
+            } else {
+                ranges.add(new int[] { slot, slot });
+            }
+        });
+
+        out.writeShort(ranges.size());
+        for (int[] range : ranges) {
+            out.writeShort(range[0]);
+            out.writeShort(range[1]);
+        }
+    }
+
+    private static List<Integer> readSlotRanges(DataInputStream in) throws IOException {
+
+        int rangeCount = in.readUnsignedShort();
+        List<Integer> slots = new ArrayList<>();
+
+        for (int i = 0; i < rangeCount; i++) {
+
+            int from = in.readUnsignedShort();
+            int to = in.readUnsignedShort();
+
+            if (from > to || to >= SlotHash.SLOT_COUNT) {
+                throw new IOException(String.format("Invalid slot range %d-%d", from, to));
+            }
+
+            for (int slot = from; slot <= to; slot++) {
+                slots.add(slot);
+            }
+        }
+
+        return slots;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + file + "]";
+    }
+
+}
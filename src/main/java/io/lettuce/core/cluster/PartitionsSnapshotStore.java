@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster;
+
+import java.nio.file.Path;
+
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Store for {@link Partitions} snapshots. A snapshot store allows {@link RedisClusterClient} to start serving commands from a
+ * previously persisted topology view instead of running a full seed discovery before the first command. The snapshot is
+ * validated by a background topology refresh; stale slot assignments are corrected through {@literal MOVED} redirections.
+ * <p>
+ * {@link RedisClusterClient} calls {@link #save(Partitions)} after the initial topology discovery and on each topology change.
+ * Implementations must be thread-safe.
+ *
+ * @since 6.5
+ * @see ClusterClientOptions.Builder#partitionsSnapshotStore(PartitionsSnapshotStore)
+ */
+public interface PartitionsSnapshotStore {
+
+    /**
+     * Create a {@link PartitionsSnapshotStore} that does not load or store any snapshots.
+     *
+     * @return a {@link PartitionsSnapshotStore} that does not load or store any snapshots.
+     */
+    static PartitionsSnapshotStore none() {
+        return NoOpPartitionsSnapshotStore.INSTANCE;
+    }
+
+    /**
+     * Create a {@link PartitionsSnapshotStore} that stores snapshots in a compact binary format at {@code file}. Snapshots are
+     * written to a temporary file first and moved atomically into place.
+     *
+     * @param file the snapshot file, must not be {@code null}.
+     * @return the file-based {@link PartitionsSnapshotStore}.
+     */
+    static PartitionsSnapshotStore file(Path file) {
+
+        LettuceAssert.notNull(file, "File must not be null");
+
+        return new FilePartitionsSnapshotStore(file);
+    }
+
+    /**
+     * Load the most recent snapshot.
+     *
+     * @return the snapshot or {@code null} if no snapshot is available.
+     */
+    Partitions load();
+
+    /**
+     * Store a snapshot of {@link Partitions}. Implementations should not retain the given {@link Partitions} object as it is
+     * subject to change by topology refreshes.
+     *
+     * @param partitions the topology view to store, must not be {@code null}.
+     */
+    void save(Partitions partitions);
+
+    /**
+     * No-op implementation.
+     */
+    enum NoOpPartitionsSnapshotStore implements PartitionsSnapshotStore {
+
+        INSTANCE;
+
+        @Override
+        public Partitions load() {
+            return null;
+        }
+
+        @Override
+        public void save(Partitions partitions) {
+        }
+
+    }
+
+}
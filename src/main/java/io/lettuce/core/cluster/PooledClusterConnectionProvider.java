@@ -24,16 +24,20 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.LatencyAwareReadFrom;
 import io.lettuce.core.OrderingReadFromAccessor;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
@@ -54,6 +58,7 @@ import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.DefaultEndpoint;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -96,6 +101,10 @@ class PooledClusterConnectionProvider<K, V>
 
     private final AsyncConnectionProvider<ConnectionKey, StatefulRedisConnection<K, V>, ConnectionFuture<StatefulRedisConnection<K, V>>> connectionProvider;
 
+    private final Map<StatefulConnection<?, ?>, ConnectionKey> connectionKeys = new ConcurrentHashMap<>();
+
+    private final Map<StatefulConnection<?, ?>, LatencyAwareReadFrom.NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+
     private Partitions partitions;
 
     private boolean autoFlushCommands = true;
@@ -245,8 +254,8 @@ class PooledClusterConnectionProvider<K, V>
 
                 if (!orderSensitive) {
 
-                    CompletableFuture<StatefulRedisConnection<K, V>> candidate = findRandomActiveConnection(
-                            selectedReaderCandidates, Function.identity());
+                    CompletableFuture<StatefulRedisConnection<K, V>> candidate = findActiveConnection(selectedReaderCandidates,
+                            Function.identity());
 
                     if (candidate != null) {
                         return candidate;
@@ -299,7 +308,7 @@ class PooledClusterConnectionProvider<K, V>
 
             if (!orderSensitive) {
 
-                StatefulRedisConnection<K, V> candidate = findRandomActiveConnection(selectedReaderCandidates,
+                StatefulRedisConnection<K, V> candidate = findActiveConnection(selectedReaderCandidates,
                         CompletableFuture::join);
 
                 if (candidate != null) {
@@ -321,6 +330,77 @@ class PooledClusterConnectionProvider<K, V>
         return OrderingReadFromAccessor.isOrderSensitive(readFrom) || connections.length == 1;
     }
 
+    private <T> T findActiveConnection(CompletableFuture<StatefulRedisConnection<K, V>>[] selectedReaderCandidates,
+            Function<CompletableFuture<StatefulRedisConnection<K, V>>, T> mappingFunction) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom instanceof LatencyAwareReadFrom) {
+            return findLeastLoadedConnection((LatencyAwareReadFrom) readFrom, selectedReaderCandidates, mappingFunction);
+        }
+
+        return findRandomActiveConnection(selectedReaderCandidates, mappingFunction);
+    }
+
+    private <T> T findLeastLoadedConnection(LatencyAwareReadFrom readFrom,
+            CompletableFuture<StatefulRedisConnection<K, V>>[] selectedReaderCandidates,
+            Function<CompletableFuture<StatefulRedisConnection<K, V>>, T> mappingFunction) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>>[] candidates = selectedReaderCandidates;
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : selectedReaderCandidates) {
+
+            if (!isActive(candidate)) {
+                candidates = Arrays.stream(selectedReaderCandidates).filter(PooledClusterConnectionProvider::isActive)
+                        .toArray(CompletableFuture[]::new);
+                break;
+            }
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> chosen = readFrom.choose(candidates,
+                candidate -> getNodeLoad(candidate.join()));
+
+        return chosen != null ? mappingFunction.apply(chosen) : null;
+    }
+
+    private static boolean isActive(CompletableFuture<? extends StatefulConnection<?, ?>> candidate) {
+        return candidate.isDone() && !candidate.isCompletedExceptionally() && candidate.join().isOpen();
+    }
+
+    /**
+     * Retrieve the {@link LatencyAwareReadFrom.NodeLoad} for a node connection if the current {@link ReadFrom} setting is a
+     * {@link LatencyAwareReadFrom}.
+     *
+     * @param connection the node connection.
+     * @return the {@link LatencyAwareReadFrom.NodeLoad} or {@code null} if load tracking is not enabled or the connection is
+     *         unknown.
+     * @since 6.5
+     */
+    LatencyAwareReadFrom.NodeLoad getNodeLoad(StatefulConnection<?, ?> connection) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (!(readFrom instanceof LatencyAwareReadFrom)) {
+            return null;
+        }
+
+        LatencyAwareReadFrom.NodeLoad load = nodeLoads.get(connection);
+
+        if (load == null) {
+
+            ConnectionKey key = connectionKeys.get(connection);
+
+            if (key == null) {
+                return null;
+            }
+
+            load = ((LatencyAwareReadFrom) readFrom).getNodeLoad(key.host, key.port);
+            nodeLoads.put(connection, load);
+        }
+
+        return load;
+    }
+
     private static <T, E extends StatefulConnection<?, ?>> T findRandomActiveConnection(
             CompletableFuture<E>[] selectedReaderCandidates, Function<CompletableFuture<E>, T> mappingFunction) {
 
@@ -513,6 +593,8 @@ class PooledClusterConnectionProvider<K, V>
     public CompletableFuture<Void> closeAsync() {
 
         resetFastConnectionCache();
+        connectionKeys.clear();
+        nodeLoads.clear();
 
         return connectionProvider.close();
     }
@@ -556,6 +638,31 @@ class PooledClusterConnectionProvider<K, V>
         if (expireStaleConnections()) {
             closeStaleConnections();
         }
+
+        if (isWarmUpEnabled()) {
+            warmUpConnections();
+        }
+
+        if (options != null && options.isFailoverReplay()) {
+            replayBufferedCommands();
+        }
+    }
+
+    /**
+     * Replay retry-safe commands buffered by disconnected node connections after the topology has changed so that they can be
+     * routed to the new slot owners.
+     */
+    private void replayBufferedCommands() {
+
+        connectionProvider.forEach(connection -> {
+
+            DefaultEndpoint endpoint = ClusterDistributionChannelWriter
+                    .unwrapDefaultEndpoint(((RedisChannelHandler<?, ?>) connection).getChannelWriter());
+
+            if (endpoint != null) {
+                endpoint.replayBufferedCommands();
+            }
+        });
     }
 
     private boolean expireStaleConnections() {
@@ -572,6 +679,8 @@ class PooledClusterConnectionProvider<K, V>
 
         connectionProvider.forEach((key, connection) -> {
             if (isStale(key)) {
+                connectionKeys.remove(connection);
+                nodeLoads.remove(connection);
                 connectionProvider.close(key);
             }
         });
@@ -579,6 +688,76 @@ class PooledClusterConnectionProvider<K, V>
         logger.debug("closeStaleConnections() count after expiring: {}", getConnectionCount());
     }
 
+    /**
+     * Eagerly open connections to all upstream nodes that serve slots and, if {@link ReadFrom} reads from replicas, to all
+     * replica nodes. Connections are opened in parallel. Already established connections are reused. The resulting future
+     * completes once all connection attempts have completed, regardless of their outcome.
+     *
+     * @return a future that completes when all connection attempts have completed.
+     * @since 6.5
+     */
+    CompletableFuture<Void> warmUpConnections() {
+
+        Partitions partitions;
+        ReadFrom readFrom;
+
+        synchronized (stateLock) {
+            partitions = this.partitions;
+            readFrom = this.readFrom;
+        }
+
+        if (partitions == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        boolean readFromReplicas = readFrom != null && readFrom != ReadFrom.UPSTREAM;
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (RedisClusterNode node : partitions) {
+
+            if (!isWarmUpCandidate(node)) {
+                continue;
+            }
+
+            ConnectionIntent connectionIntent;
+            if (node.is(RedisClusterNode.NodeFlag.UPSTREAM) && !node.hasNoSlots()) {
+                connectionIntent = ConnectionIntent.WRITE;
+            } else if (readFromReplicas && node.is(RedisClusterNode.NodeFlag.REPLICA) && node.getReplOffset() != 0) {
+                connectionIntent = ConnectionIntent.READ;
+            } else {
+                continue;
+            }
+
+            RedisURI uri = node.getUri();
+            ConnectionKey key = new ConnectionKey(connectionIntent, uri.getHost(), uri.getPort());
+
+            try {
+                futures.add(getConnectionAsync(key).handle((connection, throwable) -> {
+
+                    if (throwable != null) {
+                        logger.debug("Cannot warm up connection to " + uri, throwable);
+                    }
+                    return null;
+                }).toCompletableFuture());
+            } catch (RuntimeException e) {
+                logger.debug("Cannot warm up connection to " + uri, e);
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private static boolean isWarmUpCandidate(RedisClusterNode node) {
+
+        return node.getUri() != null && !node.is(RedisClusterNode.NodeFlag.FAIL)
+                && !node.is(RedisClusterNode.NodeFlag.EVENTUAL_FAIL) && !node.is(RedisClusterNode.NodeFlag.NOADDR)
+                && !node.is(RedisClusterNode.NodeFlag.HANDSHAKE);
+    }
+
+    private boolean isWarmUpEnabled() {
+        return options != null && options.isWarmUpConnections();
+    }
+
     private boolean isStale(ConnectionKey connectionKey) {
 
         if (connectionKey.nodeId != null && partitions.getPartitionByNodeId(connectionKey.nodeId) != null) {
@@ -616,9 +795,17 @@ class PooledClusterConnectionProvider<K, V>
     @Override
     public void setReadFrom(ReadFrom readFrom) {
 
+        boolean warmUp;
+
         synchronized (stateLock) {
+            warmUp = readFrom != this.readFrom && this.partitions != null && isWarmUpEnabled();
             this.readFrom = readFrom;
             Arrays.fill(readers, null);
+            nodeLoads.clear();
+        }
+
+        if (warmUp) {
+            warmUpConnections();
         }
     }
 
@@ -723,6 +910,10 @@ class PooledClusterConnectionProvider<K, V>
                     c.setAutoFlushCommands(autoFlushCommands);
                     c.addListener(message -> onPushMessage(actualNode, message));
                 }
+
+                if (key.host != null) {
+                    connectionKeys.put(c, key);
+                }
                 return c;
             });
 
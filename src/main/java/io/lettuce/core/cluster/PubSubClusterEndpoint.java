@@ -58,6 +58,11 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         clusterListeners.remove(listener);
     }
 
+    @Override
+    protected boolean hasDecodingListeners() {
+        return super.hasDecodingListeners() || !clusterListeners.isEmpty();
+    }
+
     public void setNodeMessagePropagation(boolean nodeMessagePropagation) {
         this.nodeMessagePropagation = nodeMessagePropagation;
     }
@@ -159,60 +164,60 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void message(RedisClusterNode node, K channel, V message) {
 
-            getListeners().forEach(listener -> listener.message(channel, message));
+            getNotifyingListener().message(channel, message);
             clusterListeners.forEach(listener -> listener.message(node, channel, message));
         }
 
         @Override
         public void message(RedisClusterNode node, K pattern, K channel, V message) {
 
-            getListeners().forEach(listener -> listener.message(pattern, channel, message));
+            getNotifyingListener().message(pattern, channel, message);
             clusterListeners.forEach(listener -> listener.message(node, pattern, channel, message));
         }
 
         @Override
         public void subscribed(RedisClusterNode node, K channel, long count) {
 
-            getListeners().forEach(listener -> listener.subscribed(channel, count));
+            getNotifyingListener().subscribed(channel, count);
             clusterListeners.forEach(listener -> listener.subscribed(node, channel, count));
         }
 
         @Override
         public void psubscribed(RedisClusterNode node, K pattern, long count) {
 
-            getListeners().forEach(listener -> listener.psubscribed(pattern, count));
+            getNotifyingListener().psubscribed(pattern, count);
             clusterListeners.forEach(listener -> listener.psubscribed(node, pattern, count));
         }
 
         @Override
         public void unsubscribed(RedisClusterNode node, K channel, long count) {
 
-            getListeners().forEach(listener -> listener.unsubscribed(channel, count));
+            getNotifyingListener().unsubscribed(channel, count);
             clusterListeners.forEach(listener -> listener.unsubscribed(node, channel, count));
         }
 
         @Override
         public void punsubscribed(RedisClusterNode node, K pattern, long count) {
 
-            getListeners().forEach(listener -> listener.punsubscribed(pattern, count));
+            getNotifyingListener().punsubscribed(pattern, count);
             clusterListeners.forEach(listener -> listener.punsubscribed(node, pattern, count));
         }
 
         @Override
         public void smessage(RedisClusterNode node, K shardChannel, V message) {
-            getListeners().forEach(listener -> listener.smessage(shardChannel, message));
+            getNotifyingListener().smessage(shardChannel, message);
             clusterListeners.forEach(listener -> listener.smessage(node, shardChannel, message));
         }
 
         @Override
         public void ssubscribed(RedisClusterNode node, K channel, long count) {
-            getListeners().forEach(listener -> listener.ssubscribed(channel, count));
+            getNotifyingListener().ssubscribed(channel, count);
             clusterListeners.forEach(listener -> listener.ssubscribed(node, channel, count));
         }
 
         @Override
         public void sunsubscribed(RedisClusterNode node, K channel, long count) {
-            getListeners().forEach(listener -> listener.sunsubscribed(channel, count));
+            getNotifyingListener().sunsubscribed(channel, count);
             clusterListeners.forEach(listener -> listener.sunsubscribed(node, channel, count));
         }
 
@@ -46,6 +46,9 @@ import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
 import io.lettuce.core.cluster.event.TopologyRefreshEvent;
+import io.lettuce.core.cluster.metrics.ClusterTrafficOptions;
+import io.lettuce.core.cluster.metrics.ClusterTrafficRecorder;
+import io.lettuce.core.cluster.metrics.DefaultClusterTrafficEventPublisher;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
@@ -55,6 +58,7 @@ import io.lettuce.core.cluster.topology.TopologyComparators;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.event.jfr.EventRecorder;
+import io.lettuce.core.event.metrics.MetricEventPublisher;
 import io.lettuce.core.internal.Exceptions;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
@@ -166,6 +170,10 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private volatile Partitions partitions;
 
+    private ClusterTrafficRecorder trafficRecorder;
+
+    private MetricEventPublisher trafficEventPublisher;
+
     /**
      * Non-private constructor to make {@link RedisClusterClient} proxyable.
      */
@@ -667,6 +675,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                 clusterWriter, codec, topologyRefreshScheduler);
 
         clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+        clusterWriter.setTrafficRecorder(getTrafficRecorder());
 
         StatefulRedisClusterConnectionImpl<K, V> connection = newStatefulRedisClusterConnection(clusterWriter,
                 pooledClusterConnectionProvider, codec, getFirstUri().getTimeout(), getClusterClientOptions().getJsonParser());
@@ -686,6 +695,14 @@ public class RedisClusterClient extends AbstractRedisClient {
                     .onErrorResume(t -> connect(socketAddressSupplier, endpoint, connection, commandHandlerSupplier));
         }
 
+        if (getClusterClientOptions().isWarmUpConnections()) {
+
+            Duration warmUpTimeout = getClusterClientOptions().getWarmUpTimeout();
+            connectionMono = connectionMono
+                    .flatMap(c -> Mono.fromCompletionStage(pooledClusterConnectionProvider::warmUpConnections)
+                            .timeout(warmUpTimeout, Mono.empty()).thenReturn(c));
+        }
+
         return connectionMono
                 .doOnNext(
                         c -> connection.registerCloseables(closeableResources, clusterWriter, pooledClusterConnectionProvider))
@@ -899,7 +916,9 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         return loadPartitionsAsync().thenAccept(loadedPartitions -> {
 
-            if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
+            boolean changed = TopologyComparators.isChanged(getPartitions(), loadedPartitions);
+
+            if (changed) {
 
                 logger.debug("Using a new cluster topology");
 
@@ -911,6 +930,10 @@ public class RedisClusterClient extends AbstractRedisClient {
 
             this.partitions.reload(loadedPartitions.getPartitions());
             updatePartitionsInConnections();
+
+            if (changed) {
+                savePartitionsSnapshot(this.partitions);
+            }
         }).whenComplete((unused, throwable) -> event.record());
     }
 
@@ -946,7 +969,94 @@ public class RedisClusterClient extends AbstractRedisClient {
     }
 
     protected CompletableFuture<Partitions> initializePartitions() {
-        return loadPartitionsAsync().thenApply(it -> this.partitions = it);
+
+        Partitions snapshot = loadPartitionsSnapshot();
+
+        if (snapshot != null) {
+
+            logger.debug("Using cluster topology from snapshot, validating topology in the background");
+
+            this.partitions = snapshot;
+            refreshPartitionsAsync().whenComplete((unused, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Cannot validate cluster topology snapshot: " + throwable);
+                }
+            });
+
+            return CompletableFuture.completedFuture(snapshot);
+        }
+
+        return loadPartitionsAsync().thenApply(it -> {
+
+            this.partitions = it;
+            savePartitionsSnapshot(it);
+            return it;
+        });
+    }
+
+    /**
+     * Load the {@link Partitions} snapshot from the configured {@link PartitionsSnapshotStore} and apply connection settings
+     * from the seed {@link RedisURI} to the snapshot nodes.
+     *
+     * @return the {@link Partitions} snapshot or {@code null} if no snapshot is available.
+     */
+    private Partitions loadPartitionsSnapshot() {
+
+        PartitionsSnapshotStore store = getClusterClientOptions().getPartitionsSnapshotStore();
+        Partitions snapshot = store.load();
+
+        if (snapshot == null || snapshot.isEmpty()) {
+            return null;
+        }
+
+        RedisURI seed = getFirstUri();
+        for (RedisClusterNode node : snapshot) {
+            RedisClusterURIUtil.applyUriConnectionSettings(seed, node.getUri());
+        }
+
+        return snapshot;
+    }
+
+    private void savePartitionsSnapshot(Partitions partitions) {
+
+        PartitionsSnapshotStore store = getClusterClientOptions().getPartitionsSnapshotStore();
+
+        if (store == ClusterClientOptions.DEFAULT_PARTITIONS_SNAPSHOT_STORE) {
+            return;
+        }
+
+        Partitions copy = partitions.clone();
+        getResources().eventExecutorGroup().execute(() -> store.save(copy));
+    }
+
+    /**
+     * Obtain the {@link ClusterTrafficRecorder}. Creates the recorder and starts publishing traffic events on first access if
+     * traffic statistics are enabled.
+     *
+     * @return the {@link ClusterTrafficRecorder}.
+     */
+    synchronized ClusterTrafficRecorder getTrafficRecorder() {
+
+        if (trafficRecorder == null) {
+
+            ClusterTrafficOptions trafficOptions = getClusterClientOptions().getTrafficOptions();
+            trafficRecorder = ClusterTrafficRecorder.create(trafficOptions);
+
+            if (trafficRecorder.isEnabled()) {
+                trafficEventPublisher = new DefaultClusterTrafficEventPublisher(getResources().eventExecutorGroup(),
+                        trafficOptions.getEmitInterval(), getResources().eventBus(), trafficRecorder);
+            }
+        }
+
+        return trafficRecorder;
+    }
+
+    private synchronized void shutdownTrafficEventPublisher() {
+
+        if (trafficEventPublisher != null) {
+            trafficEventPublisher.shutdown();
+            trafficEventPublisher = null;
+        }
     }
 
     private void assertInitialPartitions() {
@@ -1104,6 +1214,7 @@ public class RedisClusterClient extends AbstractRedisClient {
     public CompletableFuture<Void> shutdownAsync(long quietPeriod, long timeout, TimeUnit timeUnit) {
 
         suspendTopologyRefresh();
+        shutdownTrafficEventPublisher();
 
         return super.shutdownAsync(quietPeriod, timeout, timeUnit);
     }
@@ -7,6 +7,7 @@
 package io.lettuce.core.cluster.api.async;
 
 import java.util.List;
+import io.lettuce.core.json.JsonCodec;
 import io.lettuce.core.json.JsonPath;
 import io.lettuce.core.json.JsonType;
 import io.lettuce.core.json.JsonValue;
@@ -230,6 +231,38 @@ public interface NodeSelectionJsonAsyncCommands<K, V> {
      */
     AsyncExecutions<List<JsonValue>> jsonGet(K key, JsonPath... jsonPaths);
 
+    /**
+     * Return the value at the specified path decoded to {@code type}. Uses defaults for the {@link JsonGetArgs}. The response is
+     * bound directly to {@code type} without creating intermediate {@link JsonValue}s.
+     * <p>
+     * When using JSONPath syntax, the response is a JSON array of the matching values and {@code type} must be able to
+     * represent an array, e.g. {@code MyType[].class}. A legacy path returns the single value.
+     *
+     * @param key the key holding the JSON document.
+     * @param type the type to bind the JSON value to.
+     * @param jsonPaths the {@link JsonPath}s to use to identify the values to get.
+     * @param <T> the target type.
+     * @return T the value at path decoded to {@code type}.
+     * @since 6.5
+     */
+    <T> AsyncExecutions<List<T>> jsonGet(K key, Class<T> type, JsonPath... jsonPaths);
+
+    /**
+     * Return the value at the specified path decoded through a {@link JsonCodec}. Uses defaults for the {@link JsonGetArgs}.
+     * Values are decoded on the I/O thread unless the codec is {@link JsonCodec#lazy(JsonCodec) lazy}.
+     * <p>
+     * When using JSONPath syntax, the response is a JSON array of the matching values. A legacy path returns the single value.
+     *
+     * @param key the key holding the JSON document.
+     * @param jsonCodec the {@link JsonCodec} to decode the JSON value.
+     * @param jsonPaths the {@link JsonPath}s to use to identify the values to get.
+     * @param <T> the decoded type.
+     * @return T the value at path decoded through {@code jsonCodec}.
+     * @since 6.5
+     * @see JsonCodec#of(io.lettuce.core.json.JsonParser, Class)
+     */
+    <T> AsyncExecutions<List<T>> jsonGet(K key, JsonCodec<T> jsonCodec, JsonPath... jsonPaths);
+
     /**
      * Merge a given {@link JsonValue} with the value matching {@link JsonPath}. Consequently, JSON values at matching paths are
      * updated, deleted, or expanded with new children.
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.event;
+
+import io.lettuce.core.cluster.metrics.ClusterTrafficSnapshot;
+import io.lettuce.core.event.Event;
+
+/**
+ * Event that transports per-slot and hot-key traffic statistics of a Redis Cluster client.
+ *
+ * @since 6.5
+ * @see io.lettuce.core.cluster.metrics.ClusterTrafficOptions
+ */
+public class ClusterTrafficEvent implements Event {
+
+    private final ClusterTrafficSnapshot snapshot;
+
+    public ClusterTrafficEvent(ClusterTrafficSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @return the traffic statistics covering the interval since the previous event.
+     */
+    public ClusterTrafficSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return snapshot.toString();
+    }
+
+}
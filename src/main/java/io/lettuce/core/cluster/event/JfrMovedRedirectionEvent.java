@@ -26,7 +26,7 @@ class JfrMovedRedirectionEvent extends Event {
 
     public JfrMovedRedirectionEvent(RedirectionEventSupport event) {
         this.command = event.getCommand();
-        this.key = event.getKey();
+        this.key = isEnabled() ? event.getKey() : null;
         this.slot = event.getSlot();
         this.message = event.getMessage();
     }
@@ -1,5 +1,7 @@
 package io.lettuce.core.cluster.event;
 
+import java.util.function.Supplier;
+
 /**
  * Event emitted on a {@code MOVED} redirection.
  *
@@ -12,4 +14,17 @@ public class MovedRedirectionEvent extends RedirectionEventSupport {
         super(command, key, slot, message);
     }
 
+    /**
+     * Create a new {@link MovedRedirectionEvent} with a key that is obtained lazily from {@code keySupplier}.
+     *
+     * @param command the command name.
+     * @param keySupplier supplier for the key.
+     * @param slot the slot.
+     * @param message the redirection message.
+     * @since 6.5
+     */
+    public MovedRedirectionEvent(String command, Supplier<String> keySupplier, int slot, String message) {
+        super(command, keySupplier, slot, message);
+    }
+
 }
@@ -1,5 +1,7 @@
 package io.lettuce.core.cluster.event;
 
+import java.util.function.Supplier;
+
 import io.lettuce.core.event.Event;
 
 /**
@@ -9,7 +11,9 @@ public class RedirectionEventSupport implements Event {
 
     private final String command;
 
-    private final String key;
+    private final Supplier<String> keySupplier;
+
+    private volatile String key;
 
     private final int slot;
 
@@ -17,16 +21,41 @@ public class RedirectionEventSupport implements Event {
 
     public RedirectionEventSupport(String command, String key, int slot, String message) {
         this.command = command;
+        this.keySupplier = null;
         this.key = key;
         this.slot = slot;
         this.message = message;
     }
 
+    /**
+     * Create a new {@link RedirectionEventSupport} with a key that is obtained from {@code keySupplier} when calling
+     * {@link #getKey()} for the first time. Deferring the key allows skipping key decoding when the event is not consumed.
+     *
+     * @param command the command name.
+     * @param keySupplier supplier for the key.
+     * @param slot the slot.
+     * @param message the redirection message.
+     * @since 6.5
+     */
+    public RedirectionEventSupport(String command, Supplier<String> keySupplier, int slot, String message) {
+        this.command = command;
+        this.keySupplier = keySupplier;
+        this.slot = slot;
+        this.message = message;
+    }
+
     public String getCommand() {
         return command;
     }
 
     public String getKey() {
+
+        String key = this.key;
+
+        if (key == null && keySupplier != null) {
+            this.key = key = keySupplier.get();
+        }
+
         return key;
     }
 
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Configuration options for per-slot and hot-key traffic statistics of Redis Cluster connections. Traffic statistics are
+ * disabled by default.
+ *
+ * @since 6.5
+ * @see ClusterTrafficRecorder
+ */
+public class ClusterTrafficOptions {
+
+    public static final boolean DEFAULT_ENABLED = true;
+
+    public static final Duration DEFAULT_EMIT_INTERVAL = Duration.ofSeconds(10);
+
+    public static final int DEFAULT_TOP_KEYS = 16;
+
+    public static final int DEFAULT_SKETCH_WIDTH = 4096;
+
+    public static final int DEFAULT_SKETCH_DEPTH = 4;
+
+    private static final ClusterTrafficOptions DISABLED = builder().disable().build();
+
+    private final boolean enabled;
+
+    private final Duration emitInterval;
+
+    private final int topKeys;
+
+    private final int sketchWidth;
+
+    private final int sketchDepth;
+
+    protected ClusterTrafficOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.emitInterval = builder.emitInterval;
+        this.topKeys = builder.topKeys;
+        this.sketchWidth = builder.sketchWidth;
+        this.sketchDepth = builder.sketchDepth;
+    }
+
+    /**
+     * Create a new {@link ClusterTrafficOptions} instance with enabled traffic statistics using default settings.
+     *
+     * @return a new instance of {@link ClusterTrafficOptions} using default settings.
+     */
+    public static ClusterTrafficOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a {@link ClusterTrafficOptions} instance with disabled traffic statistics.
+     *
+     * @return a {@link ClusterTrafficOptions} instance with disabled traffic statistics.
+     */
+    public static ClusterTrafficOptions disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns a new {@link ClusterTrafficOptions.Builder} to construct {@link ClusterTrafficOptions}.
+     *
+     * @return a new {@link ClusterTrafficOptions.Builder} to construct {@link ClusterTrafficOptions}.
+     */
+    public static ClusterTrafficOptions.Builder builder() {
+        return new ClusterTrafficOptions.Builder();
+    }
+
+    /**
+     * Returns a builder to create new {@link ClusterTrafficOptions} whose settings are replicated from the current
+     * {@link ClusterTrafficOptions}.
+     *
+     * @return a {@link ClusterTrafficOptions.Builder} to create new {@link ClusterTrafficOptions} whose settings are replicated
+     *         from the current {@link ClusterTrafficOptions}.
+     */
+    public ClusterTrafficOptions.Builder mutate() {
+
+        Builder builder = new Builder();
+        builder.enabled = isEnabled();
+        return builder.emitInterval(getEmitInterval()).topKeys(getTopKeys()).sketchWidth(getSketchWidth())
+                .sketchDepth(getSketchDepth());
+    }
+
+    /**
+     * Builder for {@link ClusterTrafficOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Duration emitInterval = DEFAULT_EMIT_INTERVAL;
+
+        private int topKeys = DEFAULT_TOP_KEYS;
+
+        private int sketchWidth = DEFAULT_SKETCH_WIDTH;
+
+        private int sketchDepth = DEFAULT_SKETCH_DEPTH;
+
+        private Builder() {
+        }
+
+        /**
+         * Disable traffic statistics.
+         *
+         * @return this {@link Builder}.
+         */
+        public Builder disable() {
+            this.enabled = false;
+            return this;
+        }
+
+        /**
+         * Enable traffic statistics.
+         *
+         * @return this {@link Builder}.
+         */
+        public Builder enable() {
+            this.enabled = true;
+            return this;
+        }
+
+        /**
+         * Interval for publishing a {@link ClusterTrafficSnapshot} through
+         * {@link io.lettuce.core.cluster.event.ClusterTrafficEvent} on the {@link io.lettuce.core.event.EventBus}. Each snapshot
+         * covers the traffic since the previous snapshot. Defaults to {@literal 10 seconds}. See
+         * {@link #DEFAULT_EMIT_INTERVAL}.
+         *
+         * @param emitInterval the emit interval, must not be {@code null} and greater than zero.
+         * @return this {@link Builder}.
+         */
+        public Builder emitInterval(Duration emitInterval) {
+
+            LettuceAssert.notNull(emitInterval, "Emit interval must not be null");
+            LettuceAssert.isTrue(!emitInterval.isNegative() && !emitInterval.isZero(), "Emit interval must be greater than zero");
+
+            this.emitInterval = emitInterval;
+            return this;
+        }
+
+        /**
+         * Number of hottest keys to report per snapshot. Defaults to {@literal 16}. See {@link #DEFAULT_TOP_KEYS}.
+         *
+         * @param topKeys number of keys, must not be negative.
+         * @return this {@link Builder}.
+         */
+        public Builder topKeys(int topKeys) {
+
+            LettuceAssert.isTrue(topKeys >= 0, "Top keys must not be negative");
+
+            this.topKeys = topKeys;
+            return this;
+        }
+
+        /**
+         * Number of counters per row of the Count-Min-Sketch that estimates key frequencies. Wider sketches reduce the
+         * overestimation of key frequencies at the cost of memory. Defaults to {@literal 4096}. See
+         * {@link #DEFAULT_SKETCH_WIDTH}.
+         *
+         * @param sketchWidth the sketch width, must be a power of two.
+         * @return this {@link Builder}.
+         */
+        public Builder sketchWidth(int sketchWidth) {
+
+            LettuceAssert.isTrue(sketchWidth > 0 && Integer.bitCount(sketchWidth) == 1, "Sketch width must be a power of two");
+
+            this.sketchWidth = sketchWidth;
+            return this;
+        }
+
+        /**
+         * Number of rows (hash functions) of the Count-Min-Sketch that estimates key frequencies. Defaults to {@literal 4}.
+         * See {@link #DEFAULT_SKETCH_DEPTH}.
+         *
+         * @param sketchDepth the sketch depth, must be between {@literal 1} and {@literal 16}.
+         * @return this {@link Builder}.
+         */
+        public Builder sketchDepth(int sketchDepth) {
+
+            LettuceAssert.isTrue(sketchDepth > 0 && sketchDepth <= 16, "Sketch depth must be between 1 and 16");
+
+            this.sketchDepth = sketchDepth;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link ClusterTrafficOptions}.
+         */
+        public ClusterTrafficOptions build() {
+            return new ClusterTrafficOptions(this);
+        }
+
+    }
+
+    /**
+     * Returns whether traffic statistics are enabled.
+     *
+     * @return {@code true} if traffic statistics are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the interval for publishing traffic snapshots.
+     *
+     * @return the emit interval.
+     */
+    public Duration getEmitInterval() {
+        return emitInterval;
+    }
+
+    /**
+     * Returns the number of hottest keys to report per snapshot.
+     *
+     * @return the number of hottest keys.
+     */
+    public int getTopKeys() {
+        return topKeys;
+    }
+
+    /**
+     * Returns the width of the Count-Min-Sketch.
+     *
+     * @return the sketch width.
+     */
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    /**
+     * Returns the depth of the Count-Min-Sketch.
+     *
+     * @return the sketch depth.
+     */
+    public int getSketchDepth() {
+        return sketchDepth;
+    }
+
+}
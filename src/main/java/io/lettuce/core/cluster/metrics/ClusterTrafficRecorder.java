@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Recorder for per-slot and hot-key traffic of Redis Cluster connections. Cluster connections report each keyed command that
+ * is written to a cluster node along with its slot, the first key and the number of request bytes.
+ *
+ * @since 6.5
+ * @see ClusterTrafficOptions
+ */
+public interface ClusterTrafficRecorder {
+
+    /**
+     * Returns a disabled no-op {@link ClusterTrafficRecorder}.
+     *
+     * @return a disabled {@link ClusterTrafficRecorder}.
+     */
+    static ClusterTrafficRecorder disabled() {
+        return DisabledClusterTrafficRecorder.INSTANCE;
+    }
+
+    /**
+     * Create a new {@link ClusterTrafficRecorder} given {@link ClusterTrafficOptions}.
+     *
+     * @param options the options, must not be {@code null}.
+     * @return the {@link ClusterTrafficRecorder}. Returns a {@link #disabled() disabled} recorder if traffic statistics are
+     *         disabled.
+     */
+    static ClusterTrafficRecorder create(ClusterTrafficOptions options) {
+
+        LettuceAssert.notNull(options, "ClusterTrafficOptions must not be null");
+
+        return options.isEnabled() ? new DefaultClusterTrafficRecorder(options) : disabled();
+    }
+
+    /**
+     * Record a command written to a cluster node.
+     *
+     * @param slot the slot of the command.
+     * @param key the first key of the command in its encoded form. The buffer position is not changed.
+     * @param bytes number of request bytes.
+     */
+    void record(int slot, ByteBuffer key, int bytes);
+
+    /**
+     * Retrieve the traffic statistics since the previous call and reset the statistics.
+     *
+     * @return the {@link ClusterTrafficSnapshot}.
+     */
+    ClusterTrafficSnapshot retrieveSnapshot();
+
+    /**
+     * Returns {@code true} if the recorder is enabled.
+     *
+     * @return {@code true} if the recorder is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Disabled implementation.
+     */
+    enum DisabledClusterTrafficRecorder implements ClusterTrafficRecorder {
+
+        INSTANCE;
+
+        @Override
+        public void record(int slot, ByteBuffer key, int bytes) {
+        }
+
+        @Override
+        public ClusterTrafficSnapshot retrieveSnapshot() {
+            return ClusterTrafficSnapshot.empty();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Snapshot of Redis Cluster traffic statistics covering the interval since the previous snapshot. Provides per-slot command
+ * and byte counters and the hottest keys. Command counts and byte counts refer to commands written to the cluster including
+ * commands retried after a redirection. Hot key counts are estimates that may overestimate the actual count.
+ *
+ * @since 6.5
+ */
+public class ClusterTrafficSnapshot {
+
+    private static final ClusterTrafficSnapshot EMPTY = new ClusterTrafficSnapshot(Duration.ZERO,
+            new long[SlotHash.SLOT_COUNT], new long[SlotHash.SLOT_COUNT], Collections.emptyList());
+
+    private final Duration interval;
+
+    private final long[] commands;
+
+    private final long[] bytes;
+
+    private final List<HotKey> hotKeys;
+
+    public ClusterTrafficSnapshot(Duration interval, long[] commands, long[] bytes, List<HotKey> hotKeys) {
+        this.interval = interval;
+        this.commands = commands;
+        this.bytes = bytes;
+        this.hotKeys = Collections.unmodifiableList(hotKeys);
+    }
+
+    /**
+     * @return an empty {@link ClusterTrafficSnapshot}.
+     */
+    public static ClusterTrafficSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the duration covered by this snapshot.
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param slot the slot.
+     * @return number of commands written for {@code slot}.
+     */
+    public long getCommands(int slot) {
+        return commands[slot];
+    }
+
+    /**
+     * @param slot the slot.
+     * @return number of request bytes written for {@code slot}.
+     */
+    public long getBytes(int slot) {
+        return bytes[slot];
+    }
+
+    /**
+     * @return total number of commands written across all slots.
+     */
+    public long getTotalCommands() {
+        return sum(commands);
+    }
+
+    /**
+     * @return total number of request bytes written across all slots.
+     */
+    public long getTotalBytes() {
+        return sum(bytes);
+    }
+
+    /**
+     * Return the slots with the most commands ordered by the number of commands descending. Slots without commands are not
+     * included.
+     *
+     * @param count maximum number of slots to return.
+     * @return the hottest slots.
+     */
+    public List<Integer> getHottestSlots(int count) {
+
+        List<Integer> slots = new ArrayList<>();
+
+        for (int slot = 0; slot < commands.length; slot++) {
+            if (commands[slot] > 0) {
+                slots.add(slot);
+            }
+        }
+
+        slots.sort((o1, o2) -> Long.compare(commands[o2], commands[o1]));
+
+        return slots.size() > count ? new ArrayList<>(slots.subList(0, count)) : slots;
+    }
+
+    /**
+     * @return the hottest keys ordered by their estimated count descending.
+     */
+    public List<HotKey> getHotKeys() {
+        return hotKeys;
+    }
+
+    private static long sum(long[] values) {
+
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [interval=").append(interval);
+        sb.append(", commands=").append(getTotalCommands());
+        sb.append(", bytes=").append(getTotalBytes());
+        sb.append(", hotKeys=").append(hotKeys);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * A frequently accessed key along with its slot and estimated command count.
+     */
+    public static class HotKey {
+
+        private final String key;
+
+        private final int slot;
+
+        private final long count;
+
+        public HotKey(String key, int slot, long count) {
+            this.key = key;
+            this.slot = slot;
+            this.count = count;
+        }
+
+        /**
+         * @return the key decoded as {@literal UTF-8}.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return the slot of the key.
+         */
+        public int getSlot() {
+            return slot;
+        }
+
+        /**
+         * @return the estimated number of commands for the key.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return key + "@" + slot + "=" + count;
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Count-Min-Sketch to estimate key frequencies in constant memory. Estimates never underestimate the actual
+ * frequency; the overestimation depends on the sketch width and the number of distinct keys.
+ *
+ * @since 6.5
+ */
+class CountMinSketch {
+
+    private final int width;
+
+    private final int depth;
+
+    private final int mask;
+
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    /**
+     * Increment the counters for {@code hash}.
+     *
+     * @param hash the key hash, see {@link #hash(ByteBuffer)}.
+     * @return the estimated frequency including this increment.
+     */
+    long add(long hash) {
+
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            long count = counters.incrementAndGet(row * width + ((h1 + row * h2) & mask));
+            estimate = Math.min(estimate, count);
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Estimate the frequency for {@code hash}.
+     *
+     * @param hash the key hash, see {@link #hash(ByteBuffer)}.
+     * @return the estimated frequency.
+     */
+    long estimate(long hash) {
+
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + ((h1 + row * h2) & mask)));
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Reset all counters.
+     */
+    void reset() {
+
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    /**
+     * Compute a 64 bit hash of the remaining bytes of {@code key} without changing the buffer position.
+     *
+     * @param key the key.
+     * @return the 64 bit hash.
+     */
+    static long hash(ByteBuffer key) {
+
+        // FNV-1a followed by the MurmurHash3 finalizer to spread bits across both halves
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = key.position(); i < key.limit(); i++) {
+            hash ^= key.get(i) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+}
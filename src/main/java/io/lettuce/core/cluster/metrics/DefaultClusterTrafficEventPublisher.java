@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.cluster.event.ClusterTrafficEvent;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.metrics.MetricEventPublisher;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * {@link MetricEventPublisher} that periodically publishes {@link ClusterTrafficEvent}s with the statistics of a
+ * {@link ClusterTrafficRecorder}.
+ *
+ * @since 6.5
+ */
+public class DefaultClusterTrafficEventPublisher implements MetricEventPublisher {
+
+    private final EventBus eventBus;
+
+    private final ClusterTrafficRecorder recorder;
+
+    private volatile ScheduledFuture<?> scheduledFuture;
+
+    public DefaultClusterTrafficEventPublisher(EventExecutorGroup eventExecutorGroup, Duration emitInterval,
+            EventBus eventBus, ClusterTrafficRecorder recorder) {
+
+        this.eventBus = eventBus;
+        this.recorder = recorder;
+
+        if (recorder.isEnabled()) {
+            scheduledFuture = eventExecutorGroup.scheduleAtFixedRate(this::emitMetricsEvent, emitInterval.toMillis(),
+                    emitInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return scheduledFuture != null;
+    }
+
+    @Override
+    public void shutdown() {
+
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(true);
+            scheduledFuture = null;
+        }
+    }
+
+    @Override
+    public void emitMetricsEvent() {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        eventBus.publish(new ClusterTrafficEvent(recorder.retrieveSnapshot()));
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Default {@link ClusterTrafficRecorder} implementation. Per-slot counters are kept in flat arrays that are striped across
+ * recording threads to avoid contention between I/O threads. Key frequencies are estimated with a {@link CountMinSketch}; keys
+ * whose estimate reaches the admission threshold become heavy-hitter candidates from which the top keys are reported.
+ *
+ * @since 6.5
+ */
+class DefaultClusterTrafficRecorder implements ClusterTrafficRecorder {
+
+    private static final int MAX_STRIPES = 8;
+
+    private final int topKeys;
+
+    private final AtomicLongArray[] stripes;
+
+    private final int stripeMask;
+
+    private final CountMinSketch sketch;
+
+    private final Map<ByteBuffer, Candidate> candidates = new ConcurrentHashMap<>();
+
+    private volatile long admissionThreshold;
+
+    private long intervalStart = System.nanoTime();
+
+    DefaultClusterTrafficRecorder(ClusterTrafficOptions options) {
+
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+        this.topKeys = options.getTopKeys();
+        this.stripes = new AtomicLongArray[stripeCount];
+        this.stripeMask = stripeCount - 1;
+        this.sketch = new CountMinSketch(options.getSketchWidth(), options.getSketchDepth());
+
+        for (int i = 0; i < stripeCount; i++) {
+            // commands followed by bytes
+            stripes[i] = new AtomicLongArray(SlotHash.SLOT_COUNT * 2);
+        }
+    }
+
+    @Override
+    public void record(int slot, ByteBuffer key, int bytes) {
+
+        AtomicLongArray counters = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        counters.incrementAndGet(slot);
+        counters.addAndGet(SlotHash.SLOT_COUNT + slot, bytes);
+
+        if (topKeys == 0 || key == null) {
+            return;
+        }
+
+        long estimate = sketch.add(CountMinSketch.hash(key));
+
+        if (estimate < admissionThreshold) {
+            return;
+        }
+
+        Candidate candidate = candidates.get(key);
+
+        if (candidate == null) {
+            candidate = candidates.computeIfAbsent(copy(key), it -> new Candidate(it, slot));
+        }
+
+        candidate.update(estimate);
+
+        if (candidates.size() > topKeys * 2) {
+            prune();
+        }
+    }
+
+    @Override
+    public synchronized ClusterTrafficSnapshot retrieveSnapshot() {
+
+        long now = System.nanoTime();
+        Duration interval = Duration.ofNanos(now - intervalStart);
+        intervalStart = now;
+
+        long[] commands = new long[SlotHash.SLOT_COUNT];
+        long[] bytes = new long[SlotHash.SLOT_COUNT];
+
+        for (AtomicLongArray stripe : stripes) {
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+                commands[slot] += stripe.getAndSet(slot, 0);
+                bytes[slot] += stripe.getAndSet(SlotHash.SLOT_COUNT + slot, 0);
+            }
+        }
+
+        List<Candidate> top = getTopCandidates();
+        List<ClusterTrafficSnapshot.HotKey> hotKeys = new ArrayList<>(top.size());
+
+        for (Candidate candidate : top) {
+            hotKeys.add(new ClusterTrafficSnapshot.HotKey(StandardCharsets.UTF_8.decode(candidate.key.duplicate()).toString(),
+                    candidate.slot, candidate.count));
+        }
+
+        candidates.clear();
+        sketch.reset();
+        admissionThreshold = 0;
+
+        return new ClusterTrafficSnapshot(interval, commands, bytes, hotKeys);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    private synchronized void prune() {
+
+        if (candidates.size() <= topKeys * 2) {
+            return;
+        }
+
+        List<Candidate> top = getTopCandidates();
+
+        candidates.values().retainAll(top);
+        admissionThreshold = top.isEmpty() ? 0 : top.get(top.size() - 1).count;
+    }
+
+    private List<Candidate> getTopCandidates() {
+
+        List<Candidate> sorted = new ArrayList<>(candidates.values());
+        sorted.sort((o1, o2) -> Long.compare(o2.count, o1.count));
+
+        return sorted.size() > topKeys ? new ArrayList<>(sorted.subList(0, topKeys)) : sorted;
+    }
+
+    private static ByteBuffer copy(ByteBuffer key) {
+
+        ByteBuffer copy = ByteBuffer.allocate(key.remaining());
+        copy.put(key.duplicate()).flip();
+        return copy;
+    }
+
+    static class Candidate {
+
+        final ByteBuffer key;
+
+        final int slot;
+
+        volatile long count;
+
+        Candidate(ByteBuffer key, int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+
+        void update(long estimate) {
+            if (estimate > count) {
+                count = estimate;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.lettuce.core.cluster.event.ClusterTrafficEvent;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.internal.LettuceAssert;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.Disposable;
+
+/**
+ * Micrometer {@link MeterBinder} exposing {@link ClusterTrafficEvent cluster traffic statistics} published on an
+ * {@link EventBus}. Gauges report the values of the most recent {@link ClusterTrafficSnapshot}:
+ * <ul>
+ * <li>{@code lettuce.cluster.slot.commands} and {@code lettuce.cluster.slot.bytes} for the hottest slots tagged with
+ * {@code slot}</li>
+ * <li>{@code lettuce.cluster.key.commands} for the hottest keys tagged with {@code key} and {@code slot}</li>
+ * </ul>
+ * Only the hottest slots and keys are exposed to keep the number of time series bounded. Call {@link #close()} to stop
+ * listening to events.
+ *
+ * @since 6.5
+ */
+public class MicrometerClusterTrafficMetrics implements MeterBinder, AutoCloseable {
+
+    public static final int DEFAULT_TOP_SLOTS = 16;
+
+    static final String METRIC_SLOT_COMMANDS = "lettuce.cluster.slot.commands";
+
+    static final String METRIC_SLOT_BYTES = "lettuce.cluster.slot.bytes";
+
+    static final String METRIC_KEY_COMMANDS = "lettuce.cluster.key.commands";
+
+    static final String LABEL_SLOT = "slot";
+
+    static final String LABEL_KEY = "key";
+
+    private final int topSlots;
+
+    private final Tags tags;
+
+    private final Disposable subscription;
+
+    private final List<Gauges> gauges = new CopyOnWriteArrayList<>();
+
+    // gauges reference their values weakly, retain the current snapshot
+    private volatile ClusterTrafficSnapshot snapshot = ClusterTrafficSnapshot.empty();
+
+    /**
+     * Create a new {@link MicrometerClusterTrafficMetrics} listening to {@link ClusterTrafficEvent}s published on
+     * {@code eventBus}.
+     *
+     * @param eventBus the event bus, must not be {@code null}.
+     */
+    public MicrometerClusterTrafficMetrics(EventBus eventBus) {
+        this(eventBus, DEFAULT_TOP_SLOTS, Tags.empty());
+    }
+
+    /**
+     * Create a new {@link MicrometerClusterTrafficMetrics} listening to {@link ClusterTrafficEvent}s published on
+     * {@code eventBus}.
+     *
+     * @param eventBus the event bus, must not be {@code null}.
+     * @param topSlots number of hottest slots to expose.
+     * @param tags additional tags, must not be {@code null}.
+     */
+    public MicrometerClusterTrafficMetrics(EventBus eventBus, int topSlots, Tags tags) {
+
+        LettuceAssert.notNull(eventBus, "EventBus must not be null");
+        LettuceAssert.isTrue(topSlots >= 0, "Top slots must not be negative");
+        LettuceAssert.notNull(tags, "Tags must not be null");
+
+        this.topSlots = topSlots;
+        this.tags = tags;
+        this.subscription = eventBus.get().filter(ClusterTrafficEvent.class::isInstance).cast(ClusterTrafficEvent.class)
+                .subscribe(event -> onSnapshot(event.getSnapshot()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauges gauges = new Gauges(
+                MultiGauge.builder(METRIC_SLOT_COMMANDS).description("Commands per slot in the last traffic interval")
+                        .tags(tags).register(registry),
+                MultiGauge.builder(METRIC_SLOT_BYTES).description("Request bytes per slot in the last traffic interval")
+                        .baseUnit("bytes").tags(tags).register(registry),
+                MultiGauge.builder(METRIC_KEY_COMMANDS)
+                        .description("Estimated commands per hot key in the last traffic interval").tags(tags)
+                        .register(registry));
+
+        this.gauges.add(gauges);
+    }
+
+    void onSnapshot(ClusterTrafficSnapshot snapshot) {
+
+        this.snapshot = snapshot;
+
+        List<MultiGauge.Row<?>> slotCommands = new ArrayList<>();
+        List<MultiGauge.Row<?>> slotBytes = new ArrayList<>();
+        List<MultiGauge.Row<?>> keyCommands = new ArrayList<>();
+
+        for (Integer slot : snapshot.getHottestSlots(topSlots)) {
+
+            Tags slotTags = Tags.of(LABEL_SLOT, slot.toString());
+            slotCommands.add(MultiGauge.Row.of(slotTags, snapshot, it -> it.getCommands(slot)));
+            slotBytes.add(MultiGauge.Row.of(slotTags, snapshot, it -> it.getBytes(slot)));
+        }
+
+        for (ClusterTrafficSnapshot.HotKey hotKey : snapshot.getHotKeys()) {
+
+            Tags keyTags = Tags.of(LABEL_KEY, hotKey.getKey(), LABEL_SLOT, Integer.toString(hotKey.getSlot()));
+            keyCommands.add(MultiGauge.Row.of(keyTags, snapshot, it -> hotKey.getCount()));
+        }
+
+        for (Gauges gauge : gauges) {
+            gauge.slotCommands.register(slotCommands, true);
+            gauge.slotBytes.register(slotBytes, true);
+            gauge.keyCommands.register(keyCommands, true);
+        }
+    }
+
+    @Override
+    public void close() {
+        subscription.dispose();
+    }
+
+    static class Gauges {
+
+        final MultiGauge slotCommands;
+
+        final MultiGauge slotBytes;
+
+        final MultiGauge keyCommands;
+
+        Gauges(MultiGauge slotCommands, MultiGauge slotBytes, MultiGauge keyCommands) {
+            this.slotCommands = slotCommands;
+            this.slotBytes = slotBytes;
+            this.keyCommands = keyCommands;
+        }
+
+    }
+
+}
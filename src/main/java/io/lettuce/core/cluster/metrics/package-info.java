@@ -0,0 +1,4 @@
+/**
+ * Redis Cluster traffic statistics.
+ */
+package io.lettuce.core.cluster.metrics;
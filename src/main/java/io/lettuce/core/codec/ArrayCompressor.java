@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base class for {@link CompressionCodec.Compressor compressors} that operate on byte arrays. Heap buffers are accessed through
+ * their backing array, direct and read-only buffers are copied through a per-thread scratch array.
+ *
+ * @since 6.5
+ */
+abstract class ArrayCompressor implements CompressionCodec.Compressor {
+
+    /**
+     * Scratch arrays larger than this size are not retained per thread.
+     */
+    private static final int MAX_RETAINED_SCRATCH_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<byte[][]> SCRATCH = ThreadLocal.withInitial(() -> new byte[2][]);
+
+    private static final int SOURCE = 0;
+
+    private static final int TARGET = 1;
+
+    @Override
+    public int compress(ByteBuffer source, ByteBuffer target) {
+
+        int length = source.remaining();
+        int maxLength = target.remaining();
+        int written;
+
+        if (target.hasArray()) {
+            written = compress(source, length, target.array(), target.arrayOffset() + target.position(), maxLength);
+            target.position(target.position() + written);
+        } else {
+            byte[] scratch = scratch(TARGET, maxLength);
+            written = compress(source, length, scratch, 0, maxLength);
+            target.put(scratch, 0, written);
+        }
+
+        source.position(source.limit());
+        return written;
+    }
+
+    private int compress(ByteBuffer source, int length, byte[] target, int targetOffset, int maxLength) {
+
+        if (source.hasArray()) {
+            return compress(source.array(), source.arrayOffset() + source.position(), length, target, targetOffset, maxLength);
+        }
+
+        byte[] scratch = scratch(SOURCE, length);
+        source.duplicate().get(scratch, 0, length);
+        return compress(scratch, 0, length, target, targetOffset, maxLength);
+    }
+
+    @Override
+    public void decompress(ByteBuffer source, ByteBuffer target) {
+
+        int length = target.remaining();
+
+        if (target.hasArray()) {
+            decompress(source, target.array(), target.arrayOffset() + target.position(), length);
+            target.position(target.limit());
+        } else {
+            byte[] scratch = scratch(TARGET, length);
+            decompress(source, scratch, 0, length);
+            target.put(scratch, 0, length);
+        }
+
+        source.position(source.limit());
+    }
+
+    private void decompress(ByteBuffer source, byte[] target, int targetOffset, int length) {
+
+        int sourceLength = source.remaining();
+
+        if (source.hasArray()) {
+            decompress(source.array(), source.arrayOffset() + source.position(), sourceLength, target, targetOffset, length);
+            return;
+        }
+
+        byte[] scratch = scratch(SOURCE, sourceLength);
+        source.duplicate().get(scratch, 0, sourceLength);
+        decompress(scratch, 0, sourceLength, target, targetOffset, length);
+    }
+
+    /**
+     * Compress {@code length} bytes of {@code source} into {@code target}.
+     *
+     * @return the number of bytes written to {@code target}.
+     */
+    abstract int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength);
+
+    /**
+     * Decompress {@code length} bytes of {@code source} into exactly {@code targetLength} bytes of {@code target}.
+     */
+    abstract void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength);
+
+    private static byte[] scratch(int slot, int size) {
+
+        if (size > MAX_RETAINED_SCRATCH_SIZE) {
+            return new byte[size];
+        }
+
+        byte[][] scratch = SCRATCH.get();
+        byte[] array = scratch[slot];
+
+        if (array == null || array.length < size) {
+            array = new byte[Math.max(size, 4096)];
+            scratch[slot] = array;
+        }
+
+        return array;
+    }
+
+}
@@ -37,6 +37,24 @@ public class CRC16 {
             0x5C64, 0x4C45, 0x3CA2, 0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
             0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0 };
 
+    /**
+     * Slicing-by-8 tables. {@code SLICING_TABLES[k][b]} is the CRC of byte {@code b} followed by {@code k} zero bytes which
+     * allows processing eight input bytes per iteration.
+     */
+    private static final int[][] SLICING_TABLES = new int[8][256];
+
+    static {
+
+        SLICING_TABLES[0] = LOOKUP_TABLE;
+
+        for (int k = 1; k < SLICING_TABLES.length; k++) {
+            for (int b = 0; b < 256; b++) {
+                int crc = SLICING_TABLES[k - 1][b];
+                SLICING_TABLES[k][b] = ((crc << 8) ^ LOOKUP_TABLE[(crc >>> 8) & 0xFF]) & 0xFFFF;
+            }
+        }
+    }
+
     /**
      * Utility constructor.
      */
@@ -64,8 +82,14 @@ public class CRC16 {
 
         int crc = 0x0000;
         int end = off + len;
+        int i = off;
 
-        for (int i = off; i < end; i++) {
+        for (; i + 8 <= end; i += 8) {
+            crc = doCrc8(crc, bytes[i], bytes[i + 1], bytes[i + 2], bytes[i + 3], bytes[i + 4], bytes[i + 5], bytes[i + 6],
+                    bytes[i + 7]);
+        }
+
+        for (; i < end; i++) {
             crc = doCrc(bytes[i], crc);
         }
 
@@ -82,14 +106,31 @@ public class CRC16 {
     public static int crc16(ByteBuffer bytes) {
 
         int crc = 0x0000;
+        int i = bytes.position();
+        int end = bytes.limit();
+
+        for (; i + 8 <= end; i += 8) {
+            crc = doCrc8(crc, bytes.get(i), bytes.get(i + 1), bytes.get(i + 2), bytes.get(i + 3), bytes.get(i + 4),
+                    bytes.get(i + 5), bytes.get(i + 6), bytes.get(i + 7));
+        }
 
-        while (bytes.hasRemaining()) {
-            crc = doCrc(bytes.get(), crc);
+        for (; i < end; i++) {
+            crc = doCrc(bytes.get(i), crc);
         }
 
+        bytes.position(end);
+
         return crc & 0xFFFF;
     }
 
+    private static int doCrc8(int crc, byte b0, byte b1, byte b2, byte b3, byte b4, byte b5, byte b6, byte b7) {
+
+        int[][] t = SLICING_TABLES;
+
+        return t[7][((crc >>> 8) ^ b0) & 0xFF] ^ t[6][(crc ^ b1) & 0xFF] ^ t[5][b2 & 0xFF] ^ t[4][b3 & 0xFF] ^ t[3][b4 & 0xFF]
+                ^ t[2][b5 & 0xFF] ^ t[1][b6 & 0xFF] ^ t[0][b7 & 0xFF];
+    }
+
     private static int doCrc(byte b, int crc) {
         return ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]);
     }
@@ -4,11 +4,16 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 
 /**
  * A crypto {@link RedisCodec} that that allows transparent encryption/decryption of values. This codec uses {@link Cipher}
@@ -26,6 +31,14 @@ import io.netty.buffer.ByteBuf;
  * {@link CipherSupplier} to decrypt values with an appropriate key/{@link Cipher}.
  * <p/>
  * This {@link RedisCodec codec} does not provide re-wrapping or key rotation features.
+ * <p/>
+ * {@link #forValues(RedisCodec, SecretKeySupplier)} creates a codec using AES-GCM that reuses {@link Cipher} instances per
+ * thread instead of obtaining a new {@link Cipher} for each value. Its message format prefixes the cipher text with a 12 byte
+ * initialization vector that is unique per value:
+ *
+ * <pre class="code">
+ *     $&lt;key name&gt;+&lt;key version&gt;$&lt;IV&gt;&lt;cipher text&gt;&lt;authentication tag&gt;
+ * </pre>
  *
  * @author Mark Paluch
  * @since 5.2
@@ -55,6 +68,26 @@ public abstract class CipherCodec {
         return (RedisCodec) new CipherCodecWrapper((RedisCodec) delegate, encrypt, decrypt);
     }
 
+    /**
+     * A {@link RedisCodec} that encrypts values from a delegating {@link RedisCodec} using AES-GCM. {@link Cipher} instances are
+     * initialized once per thread and reused for subsequent values. Each value is encrypted with a unique initialization vector
+     * that is stored along with the cipher text, and decryption verifies the authentication tag. Values are decrypted into a
+     * separate buffer, the response buffer is never modified.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@code null}.
+     * @param keys the {@link SecretKeySupplier} providing AES keys, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Cipher codec.
+     * @since 6.5
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <K, V> RedisCodec<K, V> forValues(RedisCodec<K, V> delegate, SecretKeySupplier keys) {
+        LettuceAssert.notNull(delegate, "RedisCodec must not be null");
+        LettuceAssert.notNull(keys, "SecretKeySupplier must not be null");
+        return (RedisCodec) new GcmCipherCodecWrapper((RedisCodec) delegate, keys);
+    }
+
     @SuppressWarnings("unchecked")
     private static class CipherCodecWrapper implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
 
@@ -105,7 +138,7 @@ public abstract class CipherCodec {
             ByteBuf serialized;
             if (delegate instanceof ToByteBufEncoder) {
                 serialized = target.alloc().buffer(estimateSize(value));
-                ((ToByteBufEncoder) delegate).encodeKey(value, serialized);
+                ((ToByteBufEncoder) delegate).encodeValue(value, serialized);
             } else {
                 ByteBuffer byteBuffer = delegate.encodeValue(value);
                 serialized = target.alloc().buffer(byteBuffer.remaining());
@@ -117,7 +150,7 @@ public abstract class CipherCodec {
                 Cipher cipher = this.encrypt.get(keyDescriptor);
 
                 keyDescriptor.writeTo(target);
-                doWithCipher(cipher, serialized, target);
+                doFinal(cipher, serialized.nioBuffer(), target);
             } catch (GeneralSecurityException e) {
                 throw new IllegalStateException(e);
             } finally {
@@ -149,10 +182,10 @@ public abstract class CipherCodec {
                 Cipher cipher = this.encrypt.get(keyDescriptor);
 
                 ByteBuffer intermediate = ByteBuffer
-                        .allocate(cipher.getOutputSize(serialized.remaining() + 3 + keyDescriptor.name.length + 10));
+                        .allocate(keyDescriptor.length() + cipher.getOutputSize(serialized.remaining()));
 
                 keyDescriptor.writeTo(intermediate);
-                intermediate.put(doWithCipher(cipher, serialized));
+                cipher.doFinal(serialized, intermediate);
                 intermediate.flip();
 
                 return intermediate;
@@ -161,35 +194,228 @@ public abstract class CipherCodec {
             }
         }
 
-        private void doWithCipher(Cipher cipher, ByteBuf serialized, ByteBuf target) throws GeneralSecurityException {
+        private ByteBuffer doWithCipher(Cipher cipher, ByteBuffer source) throws GeneralSecurityException {
+
+            ByteBuffer buffer = ByteBuffer.allocate(cipher.getOutputSize(source.remaining()));
 
-            ByteBuffer intermediate = ByteBuffer.allocate(cipher.getOutputSize(serialized.readableBytes()));
+            cipher.doFinal(source, buffer);
+            buffer.flip();
 
-            ByteBuffer buffer = serialized.nioBuffer();
+            return buffer;
+        }
 
-            cipher.update(buffer, intermediate);
-            cipher.doFinal(buffer, intermediate);
+    }
 
-            intermediate.flip();
-            target.writeBytes(intermediate);
+    @SuppressWarnings("unchecked")
+    private static class GcmCipherCodecWrapper implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
 
-            serialized.readerIndex(serialized.writerIndex());
+        private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+        private static final int IV_LENGTH = 12;
+
+        private static final int TAG_LENGTH = 16;
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        private final RedisCodec<Object, Object> delegate;
+
+        private final SecretKeySupplier keys;
+
+        private final ThreadLocal<GcmState> state = ThreadLocal.withInitial(GcmState::new);
+
+        GcmCipherCodecWrapper(RedisCodec<Object, Object> delegate, SecretKeySupplier keys) {
+            this.delegate = delegate;
+            this.keys = keys;
         }
 
-        private ByteBuffer doWithCipher(Cipher cipher, ByteBuffer source) throws GeneralSecurityException {
+        @Override
+        public Object decodeKey(ByteBuffer bytes) {
+            return delegate.decodeKey(bytes);
+        }
+
+        @Override
+        public Object decodeValue(ByteBuffer bytes) {
 
-            byte[] encrypted = new byte[source.remaining()];
-            source.get(encrypted);
+            KeyDescriptor keyDescriptor = KeyDescriptor.from(bytes);
 
-            byte[] update = cipher.update(encrypted);
-            byte[] finalBytes = cipher.doFinal();
+            if (bytes.remaining() < IV_LENGTH + TAG_LENGTH) {
+                throw new IllegalStateException("Encrypted value is truncated");
+            }
 
-            ByteBuffer buffer = ByteBuffer.allocate(update.length + finalBytes.length);
-            buffer.put(update).put(finalBytes).flip();
+            try {
+                GcmState state = this.state.get();
+                Cipher cipher = state.decrypt();
 
-            return buffer;
+                bytes.get(state.decryptIv);
+                cipher.init(Cipher.DECRYPT_MODE, keys.get(keyDescriptor), new GCMParameterSpec(TAG_LENGTH * 8, state.decryptIv));
+
+                ByteBuffer plain = ByteBuffer.allocate(cipher.getOutputSize(bytes.remaining()));
+
+                cipher.doFinal(bytes, plain);
+                plain.flip();
+
+                return delegate.decodeValue(plain);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void encodeKey(Object key, ByteBuf target) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                ((ToByteBufEncoder) delegate).encodeKey(key, target);
+                return;
+            }
+
+            target.writeBytes(delegate.encodeKey(key));
+        }
+
+        @Override
+        public void encodeValue(Object value, ByteBuf target) {
+
+            ByteBuf serialized = serialize(value, target.alloc());
+
+            try {
+                KeyDescriptor keyDescriptor = keys.encryptionKey();
+                GcmState state = this.state.get();
+                Cipher cipher = state.encrypt(keys.get(keyDescriptor));
+
+                keyDescriptor.writeTo(target);
+                target.writeBytes(state.encryptIv);
+                doFinal(cipher, serialized.nioBuffer(), target);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                serialized.release();
+            }
+        }
+
+        private ByteBuf serialize(Object value, ByteBufAllocator allocator) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+
+                ToByteBufEncoder<Object, Object> encoder = (ToByteBufEncoder<Object, Object>) delegate;
+                ByteBuf serialized = allocator.buffer(encoder.estimateSize(value));
+
+                try {
+                    encoder.encodeValue(value, serialized);
+                } catch (RuntimeException e) {
+                    serialized.release();
+                    throw e;
+                }
+
+                return serialized;
+            }
+
+            return Unpooled.wrappedBuffer(delegate.encodeValue(value));
         }
 
+        @Override
+        public int estimateSize(Object keyOrValue) {
+
+            int overhead = /* avg key descriptor size */8 + IV_LENGTH + TAG_LENGTH;
+
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder) delegate).estimateSize(keyOrValue) + overhead;
+            }
+
+            return overhead;
+        }
+
+        @Override
+        public ByteBuffer encodeKey(Object key) {
+            return delegate.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(Object value) {
+
+            try {
+                ByteBuffer serialized = delegate.encodeValue(value);
+                KeyDescriptor keyDescriptor = keys.encryptionKey();
+                GcmState state = this.state.get();
+                Cipher cipher = state.encrypt(keys.get(keyDescriptor));
+
+                ByteBuffer encrypted = ByteBuffer
+                        .allocate(keyDescriptor.length() + IV_LENGTH + cipher.getOutputSize(serialized.remaining()));
+
+                keyDescriptor.writeTo(encrypted);
+                encrypted.put(state.encryptIv);
+                cipher.doFinal(serialized, encrypted);
+                encrypted.flip();
+
+                return encrypted;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Per-thread ciphers and initialization vectors. The encryption IV starts at a random value and is incremented for each
+         * value so that IVs do not repeat for a key.
+         */
+        static class GcmState {
+
+            final byte[] encryptIv = new byte[IV_LENGTH];
+
+            final byte[] decryptIv = new byte[IV_LENGTH];
+
+            private Cipher encrypt;
+
+            private Cipher decrypt;
+
+            GcmState() {
+                RANDOM.nextBytes(encryptIv);
+            }
+
+            Cipher encrypt(SecretKey key) throws GeneralSecurityException {
+
+                if (encrypt == null) {
+                    encrypt = Cipher.getInstance(TRANSFORMATION);
+                }
+
+                for (int i = IV_LENGTH - 1; i >= 0; i--) {
+                    if (++encryptIv[i] != 0) {
+                        break;
+                    }
+                }
+
+                encrypt.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, encryptIv));
+                return encrypt;
+            }
+
+            Cipher decrypt() throws GeneralSecurityException {
+
+                if (decrypt == null) {
+                    decrypt = Cipher.getInstance(TRANSFORMATION);
+                }
+
+                return decrypt;
+            }
+
+        }
+
+    }
+
+    /**
+     * Encrypt or decrypt {@code source} directly into the writable bytes of {@code target}.
+     */
+    private static void doFinal(Cipher cipher, ByteBuffer source, ByteBuf target) throws GeneralSecurityException {
+
+        int outputSize = cipher.getOutputSize(source.remaining());
+        target.ensureWritable(outputSize);
+
+        if (target.nioBufferCount() == 1) {
+            int written = cipher.doFinal(source, target.nioBuffer(target.writerIndex(), outputSize));
+            target.writerIndex(target.writerIndex() + written);
+            return;
+        }
+
+        ByteBuffer intermediate = ByteBuffer.allocate(outputSize);
+        cipher.doFinal(source, intermediate);
+        intermediate.flip();
+        target.writeBytes(intermediate);
     }
 
     /**
@@ -219,6 +445,35 @@ public abstract class CipherCodec {
 
     }
 
+    /**
+     * Represents a supplier of AES {@link SecretKey secret keys} for {@link #forValues(RedisCodec, SecretKeySupplier)}. Keys
+     * are requested for each value and should be cached by the supplier.
+     *
+     * @since 6.5
+     */
+    @FunctionalInterface
+    public interface SecretKeySupplier {
+
+        /**
+         * Returns the {@link SecretKey} for a {@link KeyDescriptor}.
+         *
+         * @param keyDescriptor the key descriptor of the value to encrypt or decrypt.
+         * @return the {@link SecretKey}.
+         * @throws GeneralSecurityException
+         */
+        SecretKey get(KeyDescriptor keyDescriptor) throws GeneralSecurityException;
+
+        /**
+         * Returns the latest {@link KeyDescriptor} to use for encryption.
+         *
+         * @return the {@link KeyDescriptor} to use for encryption.
+         */
+        default KeyDescriptor encryptionKey() {
+            return KeyDescriptor.unnamed();
+        }
+
+    }
+
     /**
      * Descriptor to determine which crypto key to use. Allows versioning and usage of named keys. Key names must not contain
      * dollar {@code $} or plus {@code +} characters as these characters are used within the message format to encode key name
@@ -353,6 +608,10 @@ public abstract class CipherCodec {
             return new String(name, charset);
         }
 
+        int length() {
+            return 3 + this.name.length + Integer.toString(this.version).length();
+        }
+
         void writeTo(ByteBuf target) {
             target.writeByte('$').writeBytes(this.name).writeByte('+').writeBytes(Integer.toString(this.version).getBytes())
                     .writeByte('$');
@@ -5,21 +5,71 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.InflaterInputStream;
 
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.LettuceClassUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 
 /**
  * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP
  * or Deflate. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported compression types.
+ * <p>
+ * Codecs created with a {@link Compressor} prefix each value with a header byte identifying the compressor and store values
+ * below a size threshold uncompressed. These codecs implement {@link ToByteBufEncoder} and compress directly into the output
+ * buffer. Values written by the {@link CompressionType} codecs remain readable.
  *
  * @author Mark Paluch
  */
 public abstract class CompressionCodec {
 
+    /**
+     * Default size in bytes below which values are not compressed.
+     *
+     * @since 6.5
+     */
+    public static final int DEFAULT_THRESHOLD = 256;
+
+    /**
+     * Default size in bytes below which values are not compressed by dictionary-aware {@link Compressor compressors}.
+     *
+     * @since 6.5
+     */
+    public static final int DEFAULT_DICTIONARY_THRESHOLD = 32;
+
+    static final byte UNCOMPRESSED = 0;
+
+    static final byte DEFLATE = 1;
+
+    static final byte LZ4 = 2;
+
+    static final byte ZSTD = 3;
+
+    static final byte DEFLATE_DICTIONARY = 4;
+
+    static final byte ZSTD_DICTIONARY = 5;
+
+    /**
+     * First byte of GZIP streams written by {@link CompressionType#GZIP}.
+     */
+    static final byte GZIP_MAGIC = 0x1f;
+
+    /**
+     * First byte of zlib streams written by {@link CompressionType#DEFLATE}.
+     */
+    static final byte ZLIB_MAGIC = 0x78;
+
+    /**
+     * Header byte followed by the uncompressed length.
+     */
+    static final int HEADER_SIZE = 5;
+
     private CompressionCodec() {
     }
 
@@ -39,6 +89,52 @@ public abstract class CompressionCodec {
         return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
     }
 
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} using a {@link Compressor}. Values smaller
+     * than {@link #DEFAULT_THRESHOLD} ({@link #DEFAULT_DICTIONARY_THRESHOLD} for dictionary-aware compressors) are stored
+     * uncompressed.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@code null}.
+     * @param compressor the compressor, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 6.5
+     */
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, Compressor compressor) {
+        return valueCompressor(delegate, compressor,
+                compressor instanceof DictionaryCompressor ? DEFAULT_DICTIONARY_THRESHOLD : DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} using a {@link Compressor}. Values smaller
+     * than {@code threshold} bytes are stored uncompressed. Dictionary-aware compressors sample values for dictionary training
+     * regardless of the threshold.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@code null}.
+     * @param compressor the compressor, must not be {@code null}.
+     * @param threshold size in bytes below which values are not compressed, must not be negative.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 6.5
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, Compressor compressor, int threshold) {
+
+        LettuceAssert.notNull(delegate, "RedisCodec must not be null");
+        LettuceAssert.notNull(compressor, "Compressor must not be null");
+        LettuceAssert.isTrue(threshold >= 0, "Threshold must not be negative");
+        LettuceAssert.isTrue(isValidId(compressor.getId()),
+                "Compressor id must not be 0x00, 0x1f or 0x78 as these identify uncompressed and GZIP/DEFLATE values");
+
+        return (RedisCodec) new CompressorCodecWrapper((RedisCodec) delegate, compressor, threshold);
+    }
+
+    private static boolean isValidId(byte id) {
+        return id != UNCOMPRESSED && id != GZIP_MAGIC && id != ZLIB_MAGIC;
+    }
+
     private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object> {
 
         private RedisCodec<Object, Object> delegate;
@@ -79,68 +175,297 @@ public abstract class CompressionCodec {
         }
 
         private ByteBuffer compress(ByteBuffer source) throws IOException {
-            if (source.remaining() == 0) {
-                return source;
+            return CompressionCodec.compress(source, compressionType);
+        }
+
+        private ByteBuffer decompress(ByteBuffer source) throws IOException {
+            return CompressionCodec.decompress(source, compressionType);
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class CompressorCodecWrapper implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
+
+        private final RedisCodec<Object, Object> delegate;
+
+        private final Compressor compressor;
+
+        private final int threshold;
+
+        private final CompressionDictionaries dictionaries;
+
+        CompressorCodecWrapper(RedisCodec<Object, Object> delegate, Compressor compressor, int threshold) {
+            this.delegate = delegate;
+            this.compressor = compressor;
+            this.threshold = threshold;
+            this.dictionaries = compressor instanceof DictionaryCompressor
+                    ? ((DictionaryCompressor) compressor).getDictionaries()
+                    : null;
+        }
+
+        @Override
+        public Object decodeKey(ByteBuffer bytes) {
+            return delegate.decodeKey(bytes);
+        }
+
+        @Override
+        public Object decodeValue(ByteBuffer bytes) {
+
+            if (!bytes.hasRemaining()) {
+                return delegate.decodeValue(bytes);
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
-            OutputStream compressor = null;
+            byte id = bytes.get(bytes.position());
 
             try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source)) {
-                    if (compressionType == CompressionType.GZIP) {
-                        compressor = new GZIPOutputStream(outputStream);
-                    }
-
-                    if (compressionType == CompressionType.DEFLATE) {
-                        compressor = new DeflaterOutputStream(outputStream);
-                    }
-                    copy(sourceStream, compressor);
-                } finally {
-
-                    if (compressor != null) {
-                        compressor.close();
-                    }
+                if (id == GZIP_MAGIC) {
+                    return delegate.decodeValue(CompressionCodec.decompress(bytes, CompressionType.GZIP));
                 }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
-            } finally {
-                outputStream.close();
+                if (id == ZLIB_MAGIC) {
+                    return delegate.decodeValue(CompressionCodec.decompress(bytes, CompressionType.DEFLATE));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
             }
+
+            bytes.get();
+
+            if (id == UNCOMPRESSED) {
+                return delegate.decodeValue(bytes);
+            }
+
+            if (bytes.remaining() < HEADER_SIZE - 1) {
+                throw new IllegalStateException("Compressed value header is truncated");
+            }
+
+            int length = bytes.getInt();
+            ByteBuffer decompressed = ByteBuffer.allocate(length);
+
+            getCompressor(id).decompress(bytes, decompressed);
+            decompressed.flip();
+
+            return delegate.decodeValue(decompressed);
         }
 
-        private ByteBuffer decompress(ByteBuffer source) throws IOException {
-            if (source.remaining() == 0) {
-                return source;
+        private Compressor getCompressor(byte id) {
+
+            if (compressor.getId() == id) {
+                return compressor;
             }
 
-            InputStream decompressor = null;
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
+            switch (id) {
+                case DEFLATE:
+                    return DeflateCompressor.DEFAULT;
+                case LZ4:
+                    return Compressor.lz4();
+                case ZSTD:
+                    return Compressor.zstd();
+                case DEFLATE_DICTIONARY:
+                case ZSTD_DICTIONARY:
+                    throw new IllegalStateException(
+                            "Value was compressed with a dictionary, decoding requires a Compressor using CompressionDictionaries");
+                default:
+                    throw new IllegalStateException(String.format("Unknown compressor id 0x%02x", id));
+            }
+        }
+
+        @Override
+        public void encodeKey(Object key, ByteBuf target) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                ((ToByteBufEncoder) delegate).encodeKey(key, target);
+                return;
+            }
+
+            target.writeBytes(delegate.encodeKey(key));
+        }
+
+        @Override
+        public void encodeValue(Object value, ByteBuf target) {
+
+            ByteBuf serialized = serialize(value, target.alloc());
 
             try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);) {
+                compress(serialized, target);
+            } finally {
+                serialized.release();
+            }
+        }
 
-                    if (compressionType == CompressionType.GZIP) {
-                        decompressor = new GZIPInputStream(sourceStream);
-                    }
+        private ByteBuf serialize(Object value, ByteBufAllocator allocator) {
 
-                    if (compressionType == CompressionType.DEFLATE) {
-                        decompressor = new InflaterInputStream(sourceStream);
-                    }
+            if (delegate instanceof ToByteBufEncoder) {
 
-                    copy(decompressor, outputStream);
-                } finally {
-                    if (decompressor != null) {
-                        decompressor.close();
-                    }
+                ToByteBufEncoder<Object, Object> encoder = (ToByteBufEncoder<Object, Object>) delegate;
+                ByteBuf serialized = allocator.buffer(encoder.estimateSize(value));
+
+                try {
+                    encoder.encodeValue(value, serialized);
+                } catch (RuntimeException e) {
+                    serialized.release();
+                    throw e;
                 }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
+                return serialized;
+            }
+
+            return Unpooled.wrappedBuffer(delegate.encodeValue(value));
+        }
+
+        private void compress(ByteBuf serialized, ByteBuf target) {
+
+            int length = serialized.readableBytes();
+
+            if (dictionaries != null) {
+                dictionaries.sample(serialized.nioBuffer());
+            }
+
+            if (length < threshold) {
+                writeUncompressed(serialized, target);
+                return;
+            }
+
+            int maxLength = compressor.maxCompressedLength(length);
+            int start = target.writerIndex();
+            target.ensureWritable(HEADER_SIZE + maxLength);
+
+            int written;
+            if (target.nioBufferCount() == 1) {
+                written = compressor.compress(serialized.nioBuffer(), target.nioBuffer(start + HEADER_SIZE, maxLength));
+            } else {
+                ByteBuffer intermediate = ByteBuffer.allocate(maxLength);
+                written = compressor.compress(serialized.nioBuffer(), intermediate);
+                intermediate.flip();
+
+                if (written < length) {
+                    target.setBytes(start + HEADER_SIZE, intermediate);
+                }
+            }
+
+            if (written >= length) {
+                writeUncompressed(serialized, target);
+                return;
+            }
+
+            target.setByte(start, compressor.getId());
+            target.setInt(start + 1, length);
+            target.writerIndex(start + HEADER_SIZE + written);
+        }
+
+        private static void writeUncompressed(ByteBuf serialized, ByteBuf target) {
+            target.writeByte(UNCOMPRESSED);
+            target.writeBytes(serialized);
+        }
+
+        @Override
+        public int estimateSize(Object keyOrValue) {
+
+            if (delegate instanceof ToByteBufEncoder) {
+                return ((ToByteBufEncoder) delegate).estimateSize(keyOrValue) + HEADER_SIZE;
+            }
+
+            return /* header */HEADER_SIZE + /* avg value size */32;
+        }
+
+        @Override
+        public ByteBuffer encodeKey(Object key) {
+            return delegate.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(Object value) {
+
+            ByteBuffer serialized = delegate.encodeValue(value);
+            int length = serialized.remaining();
+
+            if (dictionaries != null) {
+                dictionaries.sample(serialized);
+            }
+
+            if (length >= threshold) {
+
+                ByteBuffer compressed = ByteBuffer.allocate(HEADER_SIZE + compressor.maxCompressedLength(length));
+                compressed.position(HEADER_SIZE);
+
+                int written = compressor.compress(serialized.duplicate(), compressed);
+
+                if (written < length) {
+                    compressed.put(0, compressor.getId()).putInt(1, length).flip();
+                    return compressed;
+                }
+            }
+
+            ByteBuffer uncompressed = ByteBuffer.allocate(1 + length);
+            uncompressed.put(UNCOMPRESSED).put(serialized).flip();
+
+            return uncompressed;
+        }
+
+    }
+
+    private static ByteBuffer compress(ByteBuffer source, CompressionType compressionType) throws IOException {
+        if (source.remaining() == 0) {
+            return source;
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
+        OutputStream compressor = null;
+
+        try {
+            try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source)) {
+                if (compressionType == CompressionType.GZIP) {
+                    compressor = new GZIPOutputStream(outputStream);
+                }
+
+                if (compressionType == CompressionType.DEFLATE) {
+                    compressor = new DeflaterOutputStream(outputStream);
+                }
+                copy(sourceStream, compressor);
             } finally {
-                outputStream.close();
+
+                if (compressor != null) {
+                    compressor.close();
+                }
             }
+
+            return ByteBuffer.wrap(outputStream.toByteArray());
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static ByteBuffer decompress(ByteBuffer source, CompressionType compressionType) throws IOException {
+        if (source.remaining() == 0) {
+            return source;
         }
 
+        InputStream decompressor = null;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
+
+        try {
+            try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);) {
+
+                if (compressionType == CompressionType.GZIP) {
+                    decompressor = new GZIPInputStream(sourceStream);
+                }
+
+                if (compressionType == CompressionType.DEFLATE) {
+                    decompressor = new InflaterInputStream(sourceStream);
+                }
+
+                copy(decompressor, outputStream);
+            } finally {
+                if (decompressor != null) {
+                    decompressor.close();
+                }
+            }
+
+            return ByteBuffer.wrap(outputStream.toByteArray());
+        } finally {
+            outputStream.close();
+        }
     }
 
     /**
@@ -167,6 +492,155 @@ public abstract class CompressionCodec {
         return total;
     }
 
+    /**
+     * Compressor for values written by {@link #valueCompressor(RedisCodec, Compressor)}. Compressors are identified by a header
+     * byte written in front of each compressed value. Ids {@code 0x01}-{@code 0x0f} are reserved for built-in compressors.
+     * Custom compressors must not use {@code 0x00}, {@code 0x1f} or {@code 0x78}.
+     * <p>
+     * Implementations must be thread-safe.
+     *
+     * @since 6.5
+     */
+    public interface Compressor {
+
+        /**
+         * @return the header byte identifying values compressed by this compressor.
+         */
+        byte getId();
+
+        /**
+         * Returns the maximum number of bytes required to compress {@code length} bytes.
+         *
+         * @param length the uncompressed length.
+         * @return the maximum compressed length.
+         */
+        int maxCompressedLength(int length);
+
+        /**
+         * Compress the remaining bytes of {@code source} into {@code target}. Consumes {@code source} and advances the position
+         * of {@code target} by the number of bytes written. {@code target} provides at least
+         * {@link #maxCompressedLength(int)} remaining bytes.
+         *
+         * @param source the uncompressed bytes.
+         * @param target the target buffer.
+         * @return the number of bytes written to {@code target}.
+         */
+        int compress(ByteBuffer source, ByteBuffer target);
+
+        /**
+         * Decompress the remaining bytes of {@code source} into {@code target}. The decompressed value fills the remaining
+         * bytes of {@code target} exactly.
+         *
+         * @param source the compressed bytes.
+         * @param target the target buffer sized to the uncompressed length.
+         */
+        void decompress(ByteBuffer source, ByteBuffer target);
+
+        /**
+         * @return a {@link Compressor} using DEFLATE with the default compression level.
+         */
+        static Compressor deflate() {
+            return DeflateCompressor.DEFAULT;
+        }
+
+        /**
+         * @param level the compression level ({@code 0}-{@code 9}).
+         * @return a {@link Compressor} using DEFLATE with the given compression level.
+         */
+        static Compressor deflate(int level) {
+
+            LettuceAssert.isTrue(level >= 0 && level <= 9, "Compression level must be between 0 and 9");
+
+            return new DeflateCompressor(level);
+        }
+
+        /**
+         * Returns a {@link Compressor} using DEFLATE with a preset dictionary. Values are compressed with the
+         * {@link CompressionDictionaries#getActive() active dictionary} and sampled for {@link CompressionDictionaries#train()
+         * training}. Preset dictionaries substantially improve the compression of small values that share structure, such as
+         * JSON documents of the same type.
+         *
+         * @param dictionaries the dictionaries, must not be {@code null}.
+         * @return a {@link Compressor} using DEFLATE with a preset dictionary.
+         */
+        static Compressor deflate(CompressionDictionaries dictionaries) {
+
+            LettuceAssert.notNull(dictionaries, "CompressionDictionaries must not be null");
+
+            return new DictionaryDeflateCompressor(Deflater.DEFAULT_COMPRESSION, dictionaries);
+        }
+
+        /**
+         * Returns a {@link Compressor} using LZ4. Uses {@code lz4-java} if it is on the class path and a pure-Java implementation
+         * otherwise. Both implementations produce the LZ4 block format and can read each other's values.
+         *
+         * @return a {@link Compressor} using LZ4.
+         */
+        static Compressor lz4() {
+            return Compressors.LZ4;
+        }
+
+        /**
+         * Returns a {@link Compressor} using zstd with the default compression level. Requires {@code zstd-jni}.
+         *
+         * @return a {@link Compressor} using zstd.
+         * @throws IllegalStateException if {@code zstd-jni} is not on the class path.
+         */
+        static Compressor zstd() {
+
+            Compressors.assertZstdPresent();
+            return ZstdCompressor.DEFAULT;
+        }
+
+        /**
+         * Returns a {@link Compressor} using zstd with the given compression level. Requires {@code zstd-jni}.
+         *
+         * @param level the compression level.
+         * @return a {@link Compressor} using zstd.
+         * @throws IllegalStateException if {@code zstd-jni} is not on the class path.
+         */
+        static Compressor zstd(int level) {
+
+            Compressors.assertZstdPresent();
+            return new ZstdCompressor(level);
+        }
+
+        /**
+         * Returns a {@link Compressor} using zstd with a dictionary. Values are compressed with the
+         * {@link CompressionDictionaries#getActive() active dictionary} and sampled for {@link CompressionDictionaries#train()
+         * training}. Requires {@code zstd-jni}.
+         *
+         * @param dictionaries the dictionaries, must not be {@code null}.
+         * @return a {@link Compressor} using zstd with a dictionary.
+         * @throws IllegalStateException if {@code zstd-jni} is not on the class path.
+         */
+        static Compressor zstd(CompressionDictionaries dictionaries) {
+
+            LettuceAssert.notNull(dictionaries, "CompressionDictionaries must not be null");
+            Compressors.assertZstdPresent();
+
+            return new DictionaryZstdCompressor(ZstdCompressor.DEFAULT_LEVEL, dictionaries);
+        }
+
+    }
+
+    static class Compressors {
+
+        static final boolean LZ4_PRESENT = LettuceClassUtils.isPresent("net.jpountz.lz4.LZ4Factory");
+
+        static final boolean ZSTD_PRESENT = LettuceClassUtils.isPresent("com.github.luben.zstd.Zstd");
+
+        static final Compressor LZ4 = LZ4_PRESENT ? new NativeLz4Compressor() : Lz4Compressor.INSTANCE;
+
+        static void assertZstdPresent() {
+
+            if (!ZSTD_PRESENT) {
+                throw new IllegalStateException("zstd compression requires com.github.luben:zstd-jni on the class path");
+            }
+        }
+
+    }
+
     public enum CompressionType {
         GZIP, DEFLATE;
     }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Registry of {@link CompressionDictionary dictionaries} used by dictionary-aware {@link CompressionCodec.Compressor
+ * compressors}. Values are compressed with the {@link #getActive() active} dictionary and decompressed with the dictionary whose
+ * id is stored in the value, so dictionaries can be rotated by {@link #activate(CompressionDictionary) activating} a new
+ * dictionary while keeping previous ones registered until no stored value references them.
+ * <p>
+ * The registry keeps a uniform random sample of the values it has seen. {@link #train()} trains a new dictionary from these
+ * samples and activates it:
+ *
+ * <pre class="code">
+ * CompressionDictionaries dictionaries = CompressionDictionaries.create();
+ * RedisCodec&lt;String, String&gt; codec = CompressionCodec.valueCompressor(StringCodec.UTF8,
+ *         CompressionCodec.Compressor.deflate(dictionaries), 64);
+ *
+ * // after writing representative values
+ * CompressionDictionary dictionary = dictionaries.train();
+ * // persist dictionary.getBytes() to register it again using CompressionDictionary.of(id, bytes) after a restart
+ * </pre>
+ *
+ * @since 6.5
+ */
+public class CompressionDictionaries {
+
+    public static final int DEFAULT_MAX_SAMPLES = 1000;
+
+    private final Map<Integer, CompressionDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    private final int maxDictionarySize;
+
+    private final AtomicReferenceArray<byte[]> samples;
+
+    private final AtomicLong sampled = new AtomicLong();
+
+    private final AtomicInteger version = new AtomicInteger();
+
+    private volatile CompressionDictionary active;
+
+    private CompressionDictionaries(int maxSamples, int maxDictionarySize) {
+        this.samples = new AtomicReferenceArray<>(maxSamples);
+        this.maxDictionarySize = maxDictionarySize;
+    }
+
+    /**
+     * Create a new {@link CompressionDictionaries} retaining up to {@link #DEFAULT_MAX_SAMPLES} samples and training
+     * dictionaries of up to {@link CompressionDictionary#DEFAULT_MAX_SIZE} bytes.
+     *
+     * @return a new {@link CompressionDictionaries} instance.
+     */
+    public static CompressionDictionaries create() {
+        return create(DEFAULT_MAX_SAMPLES, CompressionDictionary.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a new {@link CompressionDictionaries}.
+     *
+     * @param maxSamples maximum number of retained samples, {@code 0} to disable sampling.
+     * @param maxDictionarySize maximum size in bytes of trained dictionaries, must be greater than zero.
+     * @return a new {@link CompressionDictionaries} instance.
+     */
+    public static CompressionDictionaries create(int maxSamples, int maxDictionarySize) {
+
+        LettuceAssert.isTrue(maxSamples >= 0, "Maximum samples must not be negative");
+        LettuceAssert.isTrue(maxDictionarySize > 0, "Maximum dictionary size must be greater than zero");
+
+        return new CompressionDictionaries(maxSamples, maxDictionarySize);
+    }
+
+    /**
+     * Register a dictionary for decompression without using it for compression.
+     *
+     * @param dictionary the dictionary, must not be {@code null}.
+     */
+    public void add(CompressionDictionary dictionary) {
+
+        LettuceAssert.notNull(dictionary, "CompressionDictionary must not be null");
+
+        dictionaries.put(dictionary.getId(), dictionary);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Register a dictionary and use it to compress subsequent values. The previously active dictionary remains registered for
+     * decompression.
+     *
+     * @param dictionary the dictionary, must not be {@code null}.
+     */
+    public void activate(CompressionDictionary dictionary) {
+
+        add(dictionary);
+        this.active = dictionary;
+        version.incrementAndGet();
+    }
+
+    /**
+     * Remove a dictionary. Values compressed with the removed dictionary can no longer be decompressed.
+     *
+     * @param id the dictionary id.
+     * @throws IllegalStateException if the dictionary is active.
+     */
+    public void remove(int id) {
+
+        CompressionDictionary active = this.active;
+        LettuceAssert.assertState(active == null || active.getId() != id, "Cannot remove the active dictionary");
+
+        dictionaries.remove(id);
+        version.incrementAndGet();
+    }
+
+    /**
+     * @param id the dictionary id.
+     * @return the dictionary registered for {@code id} or {@code null} if no dictionary is registered.
+     */
+    public CompressionDictionary get(int id) {
+        return dictionaries.get(id);
+    }
+
+    /**
+     * @return the dictionary used for compression or {@code null} if no dictionary was activated.
+     */
+    public CompressionDictionary getActive() {
+        return active;
+    }
+
+    /**
+     * @return the number of values seen for sampling since the last training.
+     */
+    public long getSampleCount() {
+        return sampled.get();
+    }
+
+    /**
+     * Train a new dictionary from the sampled values, {@link #activate(CompressionDictionary) activate} it and reset the
+     * samples. The new dictionary id is one greater than the greatest registered id.
+     *
+     * @return the trained dictionary.
+     * @throws IllegalStateException if no values were sampled.
+     */
+    public synchronized CompressionDictionary train() {
+
+        List<byte[]> values = new ArrayList<>(samples.length());
+        for (int i = 0; i < samples.length(); i++) {
+
+            byte[] sample = samples.getAndSet(i, null);
+            if (sample != null) {
+                values.add(sample);
+            }
+        }
+
+        sampled.set(0);
+
+        LettuceAssert.assertState(!values.isEmpty(), "No values sampled");
+
+        int id = 1;
+        for (Integer registered : dictionaries.keySet()) {
+            id = Math.max(id, registered + 1);
+        }
+
+        CompressionDictionary dictionary = CompressionDictionary.train(id, values, maxDictionarySize);
+        activate(dictionary);
+
+        return dictionary;
+    }
+
+    /**
+     * @return a counter that changes whenever dictionaries are registered, activated or removed. Used by compressors to release
+     *         resources associated with replaced dictionaries.
+     */
+    int getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Record a value for training using reservoir sampling. Only a decreasing fraction of values is copied once the sample is
+     * full.
+     */
+    void sample(ByteBuffer value) {
+
+        int capacity = samples.length();
+        if (capacity == 0) {
+            return;
+        }
+
+        long seen = sampled.incrementAndGet();
+        long slot = seen <= capacity ? seen - 1 : ThreadLocalRandom.current().nextLong(seen);
+
+        if (slot < capacity) {
+
+            byte[] bytes = new byte[value.remaining()];
+            value.duplicate().get(bytes);
+            samples.set((int) slot, bytes);
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Preset dictionary for dictionary-aware {@link CompressionCodec.Compressor compressors}. A dictionary contains content that is
+ * typical for the values to compress, allowing small values to reference it instead of repeating common field names and
+ * literals. Dictionaries are identified by an {@link #getId() id} that is written to each compressed value.
+ * <p>
+ * Dictionaries are raw content dictionaries and can be used with DEFLATE and zstd alike.
+ *
+ * @since 6.5
+ * @see CompressionDictionaries
+ */
+public final class CompressionDictionary {
+
+    /**
+     * Default maximum dictionary size in bytes. DEFLATE references at most the last 32 KiB of a dictionary.
+     */
+    public static final int DEFAULT_MAX_SIZE = 16 * 1024;
+
+    private static final int K = 6;
+
+    private static final int SEGMENT_LENGTH = 32;
+
+    private static final int HASH_LOG = 20;
+
+    private final int id;
+
+    private final byte[] bytes;
+
+    private CompressionDictionary(int id, byte[] bytes) {
+        this.id = id;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Create a {@link CompressionDictionary} from previously trained dictionary content.
+     *
+     * @param id the dictionary id, must be greater than zero.
+     * @param bytes the dictionary content, must not be {@code null} or empty.
+     * @return the {@link CompressionDictionary}.
+     */
+    public static CompressionDictionary of(int id, byte[] bytes) {
+
+        LettuceAssert.isTrue(id > 0, "Dictionary id must be greater than zero");
+        LettuceAssert.notNull(bytes, "Dictionary content must not be null");
+        LettuceAssert.isTrue(bytes.length > 0, "Dictionary content must not be empty");
+
+        return new CompressionDictionary(id, Arrays.copyOf(bytes, bytes.length));
+    }
+
+    /**
+     * Train a {@link CompressionDictionary} of at most {@link #DEFAULT_MAX_SIZE} bytes from sample values.
+     *
+     * @param id the dictionary id, must be greater than zero.
+     * @param samples the sample values, must not be {@code null} or empty.
+     * @return the trained {@link CompressionDictionary}.
+     */
+    public static CompressionDictionary train(int id, Collection<byte[]> samples) {
+        return train(id, samples, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Train a {@link CompressionDictionary} from sample values. Training selects the segments of the samples whose byte
+     * sequences occur in the most samples. Segments are placed in ascending order of their score so that the most common
+     * content is closest to the value and can be referenced with the shortest distances.
+     *
+     * @param id the dictionary id, must be greater than zero.
+     * @param samples the sample values, must not be {@code null} or empty.
+     * @param maxSize maximum dictionary size in bytes, must be greater than zero.
+     * @return the trained {@link CompressionDictionary}.
+     */
+    public static CompressionDictionary train(int id, Collection<byte[]> samples, int maxSize) {
+
+        LettuceAssert.isTrue(id > 0, "Dictionary id must be greater than zero");
+        LettuceAssert.notNull(samples, "Samples must not be null");
+        LettuceAssert.isTrue(!samples.isEmpty(), "Samples must not be empty");
+        LettuceAssert.noNullElements(samples, "Samples must not contain null elements");
+        LettuceAssert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+
+        List<byte[]> input = new ArrayList<>(samples.size());
+        for (byte[] sample : samples) {
+            if (sample.length >= K) {
+                input.add(sample);
+            }
+        }
+
+        LettuceAssert.isTrue(!input.isEmpty(), "Samples must contain at least one value of " + K + " bytes or more");
+
+        int[] frequencies = countFrequencies(input);
+        List<byte[]> segments = selectSegments(input, frequencies, maxSize);
+
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(maxSize);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            byte[] segment = segments.get(i);
+            dictionary.write(segment, 0, segment.length);
+        }
+
+        byte[] bytes = dictionary.toByteArray();
+        if (bytes.length == 0) {
+            // no shared content, fall back to the most recent sample
+            byte[] sample = input.get(input.size() - 1);
+            bytes = Arrays.copyOfRange(sample, Math.max(0, sample.length - maxSize), sample.length);
+        }
+
+        return new CompressionDictionary(id, bytes);
+    }
+
+    /**
+     * Count in how many samples each {@code K}-byte sequence occurs.
+     */
+    private static int[] countFrequencies(List<byte[]> samples) {
+
+        int[] frequencies = new int[1 << HASH_LOG];
+        int[] lastSample = new int[1 << HASH_LOG];
+
+        for (int i = 0; i < samples.size(); i++) {
+
+            byte[] sample = samples.get(i);
+
+            for (int position = 0; position <= sample.length - K; position++) {
+
+                int hash = hash(sample, position);
+                if (lastSample[hash] != i + 1) {
+                    lastSample[hash] = i + 1;
+                    frequencies[hash]++;
+                }
+            }
+        }
+
+        return frequencies;
+    }
+
+    /**
+     * Greedily select the best-scoring segments. Samples are partitioned into epochs and each epoch contributes its best segment
+     * per pass, which keeps training linear in the sample size. Sequences of a selected segment no longer contribute to the
+     * score of other segments.
+     */
+    private static List<byte[]> selectSegments(List<byte[]> samples, int[] frequencies, int maxSize) {
+
+        List<byte[]> segments = new ArrayList<>();
+        int epochs = Math.max(1, Math.min(samples.size(), maxSize / SEGMENT_LENGTH));
+        int size = 0;
+
+        while (size < maxSize) {
+
+            boolean selected = false;
+
+            for (int epoch = 0; epoch < epochs && size < maxSize; epoch++) {
+
+                byte[] bestSample = null;
+                int bestPosition = 0;
+                int bestLength = 0;
+                long bestScore = 0;
+
+                for (int i = epoch; i < samples.size(); i += epochs) {
+
+                    byte[] sample = samples.get(i);
+                    int length = Math.min(SEGMENT_LENGTH, sample.length);
+                    int windows = length - K + 1;
+                    long score = 0;
+
+                    for (int position = 0; position <= sample.length - K; position++) {
+
+                        score += score(frequencies, hash(sample, position));
+
+                        if (position >= windows) {
+                            score -= score(frequencies, hash(sample, position - windows));
+                        }
+
+                        int start = position - windows + 1;
+                        if (start >= 0 && score > bestScore) {
+                            bestScore = score;
+                            bestSample = sample;
+                            bestPosition = start;
+                            bestLength = length;
+                        }
+                    }
+                }
+
+                if (bestSample == null) {
+                    continue;
+                }
+
+                for (int position = bestPosition; position <= bestPosition + bestLength - K; position++) {
+                    frequencies[hash(bestSample, position)] = 0;
+                }
+
+                int length = Math.min(bestLength, maxSize - size);
+                segments.add(Arrays.copyOfRange(bestSample, bestPosition + bestLength - length, bestPosition + bestLength));
+                size += length;
+                selected = true;
+            }
+
+            if (!selected) {
+                break;
+            }
+        }
+
+        return segments;
+    }
+
+    private static int score(int[] frequencies, int hash) {
+
+        int frequency = frequencies[hash];
+        return frequency > 1 ? frequency : 0;
+    }
+
+    private static int hash(byte[] bytes, int position) {
+
+        long sequence = 0;
+        for (int i = 0; i < K; i++) {
+            sequence = sequence << 8 | (bytes[position + i] & 0xFF);
+        }
+
+        return (int) ((sequence * 0x9E3779B185EBCA87L) >>> (64 - HASH_LOG));
+    }
+
+    /**
+     * @return the dictionary id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return a copy of the dictionary content.
+     */
+    public byte[] getBytes() {
+        return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    /**
+     * @return the dictionary size in bytes.
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    byte[] content() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [id=" + id + ", size=" + bytes.length + "]";
+    }
+
+}
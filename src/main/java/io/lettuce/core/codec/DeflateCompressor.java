@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link CompressionCodec.Compressor} using {@link Deflater} and {@link Inflater}. Deflater and inflater instances are reused
+ * per thread to avoid allocating native zlib streams for each value. Deflaters are shared across all instances using the same
+ * compression level, so each thread retains at most one native zlib stream per level regardless of the number of codecs.
+ *
+ * @since 6.5
+ */
+class DeflateCompressor extends ArrayCompressor {
+
+    static final DeflateCompressor DEFAULT = new DeflateCompressor(Deflater.DEFAULT_COMPRESSION);
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Per-thread deflaters indexed by compression level, {@link Deflater#DEFAULT_COMPRESSION} is stored at index {@code 10}.
+     */
+    private static final ThreadLocal<Deflater[]> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater[11]);
+
+    private final int level;
+
+    DeflateCompressor(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.DEFLATE;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        // zlib deflateBound plus zlib header and trailer
+        return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13 + 6;
+    }
+
+    @Override
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength) {
+        return compress(source, offset, length, target, targetOffset, maxLength, null);
+    }
+
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength, byte[] dictionary) {
+
+        Deflater deflater = deflater(level);
+
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+
+            deflater.setInput(source, offset, length);
+            deflater.finish();
+
+            int written = deflater.deflate(target, targetOffset, maxLength);
+
+            if (!deflater.finished()) {
+                throw new IllegalStateException("Compressed value exceeds " + maxLength + " bytes");
+            }
+
+            return written;
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    static Deflater deflater(int level) {
+
+        Deflater[] deflaters = DEFLATERS.get();
+        int index = level == Deflater.DEFAULT_COMPRESSION ? 10 : level;
+        Deflater deflater = deflaters[index];
+
+        if (deflater == null) {
+            deflater = new Deflater(level);
+            deflaters[index] = deflater;
+        }
+
+        return deflater;
+    }
+
+    @Override
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength) {
+        decompress(source, offset, length, target, targetOffset, targetLength, null);
+    }
+
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength,
+            byte[] dictionary) {
+
+        Inflater inflater = INFLATER.get();
+
+        try {
+            inflater.setInput(source, offset, length);
+
+            int read = inflater.inflate(target, targetOffset, targetLength);
+
+            if (read == 0 && inflater.needsDictionary()) {
+
+                if (dictionary == null) {
+                    throw new IllegalStateException("Compressed value requires a dictionary");
+                }
+
+                inflater.setDictionary(dictionary);
+                read = inflater.inflate(target, targetOffset, targetLength);
+            }
+
+            if (read != targetLength || !inflater.finished()) {
+                throw new IllegalStateException("Decompressed value does not match its length of " + targetLength + " bytes");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+/**
+ * {@link CompressionCodec.Compressor} compressing values against dictionaries of {@link CompressionDictionaries}. Codecs sample
+ * all values for dictionary training regardless of whether they are compressed.
+ *
+ * @since 6.5
+ */
+interface DictionaryCompressor extends CompressionCodec.Compressor {
+
+    /**
+     * @return the dictionaries used for compression.
+     */
+    CompressionDictionaries getDictionaries();
+
+}
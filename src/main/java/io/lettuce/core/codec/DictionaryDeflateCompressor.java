@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+/**
+ * {@link DeflateCompressor} using a preset dictionary from {@link CompressionDictionaries}. The compressed payload starts with
+ * the id of the dictionary it was compressed with, {@code 0} if no dictionary was active.
+ *
+ * @since 6.5
+ */
+class DictionaryDeflateCompressor extends DeflateCompressor implements DictionaryCompressor {
+
+    private final CompressionDictionaries dictionaries;
+
+    DictionaryDeflateCompressor(int level, CompressionDictionaries dictionaries) {
+        super(level);
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.DEFLATE_DICTIONARY;
+    }
+
+    @Override
+    public CompressionDictionaries getDictionaries() {
+        return dictionaries;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return DictionaryIds.SIZE + super.maxCompressedLength(length);
+    }
+
+    @Override
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength) {
+
+        CompressionDictionary dictionary = dictionaries.getActive();
+        DictionaryIds.write(dictionary, target, targetOffset);
+
+        return DictionaryIds.SIZE + compress(source, offset, length, target, targetOffset + DictionaryIds.SIZE,
+                maxLength - DictionaryIds.SIZE, dictionary != null ? dictionary.content() : null);
+    }
+
+    @Override
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength) {
+
+        CompressionDictionary dictionary = DictionaryIds.read(dictionaries, source, offset, length);
+
+        decompress(source, offset + DictionaryIds.SIZE, length - DictionaryIds.SIZE, target, targetOffset, targetLength,
+                dictionary != null ? dictionary.content() : null);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+/**
+ * Utility to write and read the dictionary id prefix of values compressed with a dictionary.
+ *
+ * @since 6.5
+ */
+class DictionaryIds {
+
+    /**
+     * Size of the dictionary id in bytes.
+     */
+    static final int SIZE = 4;
+
+    private DictionaryIds() {
+    }
+
+    static void write(CompressionDictionary dictionary, byte[] target, int offset) {
+
+        int id = dictionary != null ? dictionary.getId() : 0;
+
+        target[offset] = (byte) (id >>> 24);
+        target[offset + 1] = (byte) (id >>> 16);
+        target[offset + 2] = (byte) (id >>> 8);
+        target[offset + 3] = (byte) id;
+    }
+
+    /**
+     * Read the dictionary id and look up the dictionary.
+     *
+     * @return the dictionary or {@code null} if the value was compressed without dictionary.
+     * @throws IllegalStateException if the dictionary is not registered.
+     */
+    static CompressionDictionary read(CompressionDictionaries dictionaries, byte[] source, int offset, int length) {
+
+        if (length < SIZE) {
+            throw new IllegalStateException("Compressed value does not contain a dictionary id");
+        }
+
+        int id = (source[offset] & 0xFF) << 24 | (source[offset + 1] & 0xFF) << 16 | (source[offset + 2] & 0xFF) << 8
+                | (source[offset + 3] & 0xFF);
+
+        if (id == 0) {
+            return null;
+        }
+
+        CompressionDictionary dictionary = dictionaries.get(id);
+
+        if (dictionary == null) {
+            throw new IllegalStateException("Compressed value requires unknown dictionary " + id);
+        }
+
+        return dictionary;
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+/**
+ * {@link ZstdCompressor} using a dictionary from {@link CompressionDictionaries}. The compressed payload starts with the id of
+ * the dictionary it was compressed with, {@code 0} if no dictionary was active. Digested dictionaries are cached per
+ * {@link CompressionDictionary} and their native memory is released once the dictionary is no longer active (compression) or
+ * registered (decompression).
+ *
+ * @since 6.5
+ */
+class DictionaryZstdCompressor extends ZstdCompressor implements DictionaryCompressor {
+
+    private final CompressionDictionaries dictionaries;
+
+    private final Map<CompressionDictionary, Digested<ZstdDictCompress>> compressDictionaries = new ConcurrentHashMap<>();
+
+    private final Map<CompressionDictionary, Digested<ZstdDictDecompress>> decompressDictionaries = new ConcurrentHashMap<>();
+
+    private volatile int version;
+
+    DictionaryZstdCompressor(int level, CompressionDictionaries dictionaries) {
+        super(level);
+        this.dictionaries = dictionaries;
+        this.version = dictionaries.getVersion();
+    }
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.ZSTD_DICTIONARY;
+    }
+
+    @Override
+    public CompressionDictionaries getDictionaries() {
+        return dictionaries;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return DictionaryIds.SIZE + super.maxCompressedLength(length);
+    }
+
+    @Override
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength) {
+
+        releaseReplacedDictionaries();
+
+        CompressionDictionary dictionary = dictionaries.getActive();
+        DictionaryIds.write(dictionary, target, targetOffset);
+
+        if (dictionary == null) {
+            return DictionaryIds.SIZE + super.compress(source, offset, length, target, targetOffset + DictionaryIds.SIZE,
+                    maxLength - DictionaryIds.SIZE);
+        }
+
+        Digested<ZstdDictCompress> digested = retain(compressDictionaries, dictionary,
+                it -> new ZstdDictCompress(it.content(), getLevel()));
+
+        try {
+            long written = Zstd.compressFastDict(target, targetOffset + DictionaryIds.SIZE, source, offset, length,
+                    digested.dictionary);
+
+            if (Zstd.isError(written)) {
+                throw new IllegalStateException(Zstd.getErrorName(written));
+            }
+
+            return DictionaryIds.SIZE + (int) written;
+        } finally {
+            digested.release();
+        }
+    }
+
+    @Override
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength) {
+
+        releaseReplacedDictionaries();
+
+        CompressionDictionary dictionary = DictionaryIds.read(dictionaries, source, offset, length);
+
+        if (dictionary == null) {
+            super.decompress(source, offset + DictionaryIds.SIZE, length - DictionaryIds.SIZE, target, targetOffset,
+                    targetLength);
+            return;
+        }
+
+        Digested<ZstdDictDecompress> digested = retain(decompressDictionaries, dictionary,
+                it -> new ZstdDictDecompress(it.content()));
+
+        try {
+            long read = Zstd.decompressFastDict(target, targetOffset, source, offset + DictionaryIds.SIZE,
+                    length - DictionaryIds.SIZE, digested.dictionary);
+
+            if (Zstd.isError(read)) {
+                throw new IllegalStateException(Zstd.getErrorName(read));
+            }
+
+            if (read != targetLength) {
+                throw new IllegalStateException("Decompressed value does not match its length of " + targetLength + " bytes");
+            }
+        } finally {
+            digested.release();
+        }
+    }
+
+    int getCachedDictionaryCount() {
+        return compressDictionaries.size() + decompressDictionaries.size();
+    }
+
+    private static <T extends Closeable> Digested<T> retain(Map<CompressionDictionary, Digested<T>> cache,
+            CompressionDictionary dictionary, Function<CompressionDictionary, T> factory) {
+
+        for (;;) {
+
+            Digested<T> digested = cache.computeIfAbsent(dictionary, it -> new Digested<>(factory.apply(it)));
+
+            if (digested.retain()) {
+                return digested;
+            }
+
+            cache.remove(dictionary, digested);
+        }
+    }
+
+    /**
+     * Release digested dictionaries that are no longer active respective registered after {@link CompressionDictionaries} were
+     * changed.
+     */
+    private void releaseReplacedDictionaries() {
+
+        int version = dictionaries.getVersion();
+
+        if (version == this.version) {
+            return;
+        }
+
+        synchronized (this) {
+
+            if (version == this.version) {
+                return;
+            }
+
+            this.version = version;
+
+            CompressionDictionary active = dictionaries.getActive();
+            release(compressDictionaries, dictionary -> dictionary != active);
+            release(decompressDictionaries, dictionary -> dictionaries.get(dictionary.getId()) != dictionary);
+        }
+    }
+
+    private static <T extends Closeable> void release(Map<CompressionDictionary, Digested<T>> cache,
+            Predicate<CompressionDictionary> replaced) {
+
+        Iterator<Map.Entry<CompressionDictionary, Digested<T>>> iterator = cache.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+
+            Map.Entry<CompressionDictionary, Digested<T>> entry = iterator.next();
+
+            if (replaced.test(entry.getKey())) {
+                iterator.remove();
+                entry.getValue().release();
+            }
+        }
+    }
+
+    /**
+     * Reference-counted digested dictionary. The cache holds one reference, each in-flight compression holds another one. The
+     * native dictionary is closed when the last reference is released so that eviction never closes a dictionary in use.
+     */
+    private static class Digested<T extends Closeable> {
+
+        final T dictionary;
+
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        Digested(T dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        boolean retain() {
+
+            for (;;) {
+
+                int references = this.references.get();
+
+                if (references == 0) {
+                    return false;
+                }
+
+                if (this.references.compareAndSet(references, references + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+
+            if (references.decrementAndGet() == 0) {
+                try {
+                    dictionary.close();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+    }
+
+}
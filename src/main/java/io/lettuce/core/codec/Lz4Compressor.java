@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.util.Arrays;
+
+/**
+ * Pure-Java {@link CompressionCodec.Compressor} producing the LZ4 block format. Used when {@code lz4-java} is not on the class
+ * path. Output is interchangeable with {@link NativeLz4Compressor}.
+ * <p>
+ * The compressor favors speed over ratio: it looks up the most recent occurrence of each 4-byte sequence in a per-thread hash
+ * table and emits a match if the sequence repeats within the 64 KiB window.
+ *
+ * @since 6.5
+ */
+class Lz4Compressor extends ArrayCompressor {
+
+    static final Lz4Compressor INSTANCE = new Lz4Compressor();
+
+    private static final int MIN_MATCH = 4;
+
+    private static final int LAST_LITERALS = 5;
+
+    private static final int MF_LIMIT = 12;
+
+    private static final int MAX_DISTANCE = 65535;
+
+    private static final int HASH_LOG = 12;
+
+    private static final int RUN_MASK = 15;
+
+    private static final ThreadLocal<int[]> HASH_TABLE = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.LZ4;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    @Override
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength) {
+
+        if (maxLength < maxCompressedLength(length)) {
+            throw new IllegalStateException("Target must provide at least " + maxCompressedLength(length) + " bytes");
+        }
+
+        int end = offset + length;
+        int anchor = offset;
+        int out = targetOffset;
+
+        if (length > MF_LIMIT) {
+
+            int[] table = HASH_TABLE.get();
+            Arrays.fill(table, -1);
+
+            int matchLimit = end - LAST_LITERALS;
+            int inputLimit = end - MF_LIMIT;
+            int in = offset + 1;
+
+            while (in < inputLimit) {
+
+                int sequence = readInt(source, in);
+                int hash = hash(sequence);
+                int ref = table[hash];
+                table[hash] = in;
+
+                if (ref < 0 || in - ref > MAX_DISTANCE || readInt(source, ref) != sequence) {
+                    in++;
+                    continue;
+                }
+
+                // extend the match backwards into pending literals
+                while (in > anchor && ref > offset && source[in - 1] == source[ref - 1]) {
+                    in--;
+                    ref--;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (in + matchLength < matchLimit && source[in + matchLength] == source[ref + matchLength]) {
+                    matchLength++;
+                }
+
+                out = writeSequence(source, anchor, in - anchor, in - ref, matchLength - MIN_MATCH, target, out);
+
+                in += matchLength;
+                anchor = in;
+            }
+        }
+
+        out = writeLiterals(source, anchor, end - anchor, target, out);
+        return out - targetOffset;
+    }
+
+    @Override
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength) {
+
+        int in = offset;
+        int end = offset + length;
+        int out = targetOffset;
+        int targetEnd = targetOffset + targetLength;
+
+        try {
+            while (in < end) {
+
+                int token = source[in++] & 0xFF;
+
+                int literals = token >>> 4;
+                if (literals == RUN_MASK) {
+                    int b;
+                    do {
+                        b = source[in++] & 0xFF;
+                        literals += b;
+                    } while (b == 255);
+                }
+
+                if (out + literals > targetEnd || in + literals > end) {
+                    throw new IllegalStateException("Malformed LZ4 block: literals exceed block bounds");
+                }
+
+                System.arraycopy(source, in, target, out, literals);
+                in += literals;
+                out += literals;
+
+                if (in >= end) {
+                    break;
+                }
+
+                int distance = (source[in++] & 0xFF) | ((source[in++] & 0xFF) << 8);
+
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = source[in++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+
+                int ref = out - distance;
+                if (distance == 0 || ref < targetOffset || out + matchLength > targetEnd) {
+                    throw new IllegalStateException("Malformed LZ4 block: match exceeds block bounds");
+                }
+
+                // byte-wise copy as matches may overlap their output
+                for (int i = 0; i < matchLength; i++) {
+                    target[out + i] = target[ref + i];
+                }
+                out += matchLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Malformed LZ4 block", e);
+        }
+
+        if (out != targetEnd) {
+            throw new IllegalStateException("Decompressed value does not match its length of " + targetLength + " bytes");
+        }
+    }
+
+    private static int writeSequence(byte[] source, int literalOffset, int literals, int distance, int matchLength,
+            byte[] target, int out) {
+
+        int tokenPosition = out++;
+        int token;
+
+        if (literals >= RUN_MASK) {
+            token = RUN_MASK << 4;
+            out = writeLength(literals - RUN_MASK, target, out);
+        } else {
+            token = literals << 4;
+        }
+
+        System.arraycopy(source, literalOffset, target, out, literals);
+        out += literals;
+
+        target[out++] = (byte) distance;
+        target[out++] = (byte) (distance >>> 8);
+
+        if (matchLength >= RUN_MASK) {
+            token |= RUN_MASK;
+            out = writeLength(matchLength - RUN_MASK, target, out);
+        } else {
+            token |= matchLength;
+        }
+
+        target[tokenPosition] = (byte) token;
+        return out;
+    }
+
+    private static int writeLiterals(byte[] source, int literalOffset, int literals, byte[] target, int out) {
+
+        if (literals >= RUN_MASK) {
+            target[out++] = (byte) (RUN_MASK << 4);
+            out = writeLength(literals - RUN_MASK, target, out);
+        } else {
+            target[out++] = (byte) (literals << 4);
+        }
+
+        System.arraycopy(source, literalOffset, target, out, literals);
+        return out + literals;
+    }
+
+    private static int writeLength(int length, byte[] target, int out) {
+
+        while (length >= 255) {
+            target[out++] = (byte) 255;
+            length -= 255;
+        }
+
+        target[out++] = (byte) length;
+        return out;
+    }
+
+    private static int readInt(byte[] bytes, int index) {
+        return (bytes[index] & 0xFF) | (bytes[index + 1] & 0xFF) << 8 | (bytes[index + 2] & 0xFF) << 16
+                | (bytes[index + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+}
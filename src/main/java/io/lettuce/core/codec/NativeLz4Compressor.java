@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * {@link CompressionCodec.Compressor} using {@code lz4-java}. Compresses and decompresses heap and direct buffers without
+ * intermediate copies.
+ *
+ * @since 6.5
+ */
+class NativeLz4Compressor implements CompressionCodec.Compressor {
+
+    private final LZ4Compressor compressor;
+
+    private final LZ4SafeDecompressor decompressor;
+
+    NativeLz4Compressor() {
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.LZ4;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return compressor.maxCompressedLength(length);
+    }
+
+    @Override
+    public int compress(ByteBuffer source, ByteBuffer target) {
+
+        int length = source.remaining();
+        int written = compressor.compress(source, source.position(), length, target, target.position(),
+                target.remaining());
+
+        source.position(source.limit());
+        target.position(target.position() + written);
+
+        return written;
+    }
+
+    @Override
+    public void decompress(ByteBuffer source, ByteBuffer target) {
+
+        int length = target.remaining();
+
+        try {
+            int read = decompressor.decompress(source, source.position(), source.remaining(), target, target.position(),
+                    length);
+
+            if (read != length) {
+                throw new IllegalStateException("Decompressed value does not match its length of " + length + " bytes");
+            }
+        } catch (LZ4Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        source.position(source.limit());
+        target.position(target.limit());
+    }
+
+}
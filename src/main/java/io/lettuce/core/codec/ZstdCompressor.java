@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.codec;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * {@link CompressionCodec.Compressor} using {@code zstd-jni}.
+ *
+ * @since 6.5
+ */
+class ZstdCompressor extends ArrayCompressor {
+
+    static final int DEFAULT_LEVEL = 3;
+
+    static final ZstdCompressor DEFAULT = new ZstdCompressor(DEFAULT_LEVEL);
+
+    private final int level;
+
+    ZstdCompressor(int level) {
+        this.level = level;
+    }
+
+    int getLevel() {
+        return level;
+    }
+
+    @Override
+    public byte getId() {
+        return CompressionCodec.ZSTD;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return (int) Zstd.compressBound(length);
+    }
+
+    @Override
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset, int maxLength) {
+
+        long written = Zstd.compressByteArray(target, targetOffset, maxLength, source, offset, length, level);
+
+        if (Zstd.isError(written)) {
+            throw new IllegalStateException(Zstd.getErrorName(written));
+        }
+
+        return (int) written;
+    }
+
+    @Override
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int targetLength) {
+
+        long read = Zstd.decompressByteArray(target, targetOffset, targetLength, source, offset, length);
+
+        if (Zstd.isError(read)) {
+            throw new IllegalStateException(Zstd.getErrorName(read));
+        }
+
+        if (read != targetLength) {
+            throw new IllegalStateException("Decompressed value does not match its length of " + targetLength + " bytes");
+        }
+    }
+
+}
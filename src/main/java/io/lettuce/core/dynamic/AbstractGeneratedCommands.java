@@ -0,0 +1,317 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.dynamic;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.Range;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.dynamic.domain.Timeout;
+import io.lettuce.core.dynamic.segment.CommandSegment;
+import io.lettuce.core.dynamic.segment.CommandSegments;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Base class for Redis Command interface implementations generated at build time by
+ * {@link io.lettuce.core.dynamic.apt.CommandsProcessor}. Generated subclasses resolve command segments, parameter binding and
+ * command outputs during compilation and use the binding methods of this class to contribute arguments. Binding follows the
+ * rules applied by {@link RedisCommandFactory} so that generated implementations and proxy-based implementations issue the
+ * same commands.
+ * <p>
+ * This class is not intended to be subclassed by application code.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.5
+ * @see io.lettuce.core.dynamic.annotation.GenerateCommands
+ */
+public abstract class AbstractGeneratedCommands<K, V> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final StatefulConnection<Object, Object> connection;
+
+    protected final RedisCodec<K, V> codec;
+
+    /**
+     * Create a new {@link AbstractGeneratedCommands} instance.
+     *
+     * @param connection the connection, must not be {@code null}.
+     * @param codec the codec to encode arguments and decode responses, must not be {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractGeneratedCommands(StatefulConnection<?, ?> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "Redis Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        this.connection = (StatefulConnection<Object, Object>) connection;
+        this.codec = codec;
+    }
+
+    /**
+     * Resolve a command name to a {@link io.lettuce.core.protocol.CommandType} or a custom {@link ProtocolKeyword}.
+     *
+     * @param name the command name.
+     * @return the {@link ProtocolKeyword}.
+     */
+    protected static ProtocolKeyword commandType(String name) {
+        return new CommandSegments(Collections.singletonList(CommandSegment.constant(name))).getCommandType();
+    }
+
+    /**
+     * @return new {@link CommandArgs} using this instance's codec.
+     */
+    protected CommandArgs<K, V> args() {
+        return new CommandArgs<>(codec);
+    }
+
+    /**
+     * Dispatch the command and await its completion using the connection timeout.
+     *
+     * @param command the command.
+     * @param <T> response type.
+     * @return the command result.
+     */
+    protected <T> T execute(Command<K, V, T> command) {
+        return execute(command, (Timeout) null);
+    }
+
+    /**
+     * Dispatch the command and await its completion using {@code timeout} or the connection timeout if {@code timeout} is
+     * {@code null}.
+     *
+     * @param command the command.
+     * @param timeout the timeout, can be {@code null}.
+     * @param <T> response type.
+     * @return the command result.
+     */
+    protected <T> T execute(Command<K, V, T> command, Timeout timeout) {
+
+        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(command);
+        dispatch(asyncCommand);
+
+        Duration duration = timeout != null ? timeout.getTimeout() : connection.getTimeout();
+
+        return Futures.awaitOrCancel(asyncCommand, duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Dispatch the command without awaiting its completion.
+     *
+     * @param command the command.
+     * @param <T> response type.
+     * @return the {@link AsyncCommand} that completes with the command result.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> AsyncCommand<K, V, T> executeAsync(Command<K, V, T> command) {
+
+        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(command);
+        RedisCommand<K, V, T> dispatched = dispatch(asyncCommand);
+
+        if (dispatched instanceof AsyncCommand) {
+            return (AsyncCommand<K, V, T>) dispatched;
+        }
+
+        return asyncCommand;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> RedisCommand<K, V, T> dispatch(AsyncCommand<K, V, T> command) {
+        return (RedisCommand) connection.dispatch((RedisCommand) command);
+    }
+
+    /**
+     * Bind a key.
+     *
+     * @param args the command arguments.
+     * @param key the key, can be {@code null}.
+     */
+    protected void bindKey(CommandArgs<K, V> args, K key) {
+
+        if (key == null) {
+            args.add(EMPTY);
+        } else {
+            args.addKey(key);
+        }
+    }
+
+    /**
+     * Bind multiple keys.
+     *
+     * @param args the command arguments.
+     * @param keys the keys, can be {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected void bindKeys(CommandArgs<K, V> args, Iterable<? extends K> keys) {
+
+        if (keys == null) {
+            args.add(EMPTY);
+        } else {
+            args.addKeys((Iterable<K>) keys);
+        }
+    }
+
+    /**
+     * Bind multiple keys.
+     *
+     * @param args the command arguments.
+     * @param keys the keys, can be {@code null}.
+     */
+    protected void bindKeys(CommandArgs<K, V> args, K[] keys) {
+        bindKeys(args, keys != null ? Arrays.asList(keys) : null);
+    }
+
+    /**
+     * Bind a value.
+     *
+     * @param args the command arguments.
+     * @param value the value, can be {@code null}.
+     */
+    protected void bindValue(CommandArgs<K, V> args, V value) {
+
+        if (value == null) {
+            args.add(EMPTY);
+        } else {
+            args.addValue(value);
+        }
+    }
+
+    /**
+     * Bind multiple values.
+     *
+     * @param args the command arguments.
+     * @param values the values, can be {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected void bindValues(CommandArgs<K, V> args, Iterable<? extends V> values) {
+
+        if (values == null) {
+            args.add(EMPTY);
+        } else {
+            args.addValues((Iterable<V>) values);
+        }
+    }
+
+    /**
+     * Bind multiple values.
+     *
+     * @param args the command arguments.
+     * @param values the values, can be {@code null}.
+     */
+    protected void bindValues(CommandArgs<K, V> args, V[] values) {
+        bindValues(args, values != null ? Arrays.asList(values) : null);
+    }
+
+    /**
+     * Bind a value range. {@code null} ranges are not bound.
+     *
+     * @param args the command arguments.
+     * @param range the value range, can be {@code null}.
+     */
+    protected void bindValueRange(CommandArgs<K, V> args, Range<? extends V> range) {
+
+        if (range != null) {
+            ParameterBinder.bindValueRange(args, codec, range);
+        }
+    }
+
+    /**
+     * Bind a {@link String} argument.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     */
+    protected void bindString(CommandArgs<K, V> args, String argument) {
+
+        if (argument == null) {
+            args.add(EMPTY);
+        } else {
+            args.add(argument);
+        }
+    }
+
+    /**
+     * Bind a {@code byte[]} argument as-is.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     */
+    protected void bindBytes(CommandArgs<K, V> args, byte[] argument) {
+        args.add(argument == null ? EMPTY : argument);
+    }
+
+    /**
+     * Bind a numeric argument. {@link Double} values are bound as floating point number, other numbers as integer.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     */
+    protected void bindNumber(CommandArgs<K, V> args, Number argument) {
+
+        if (argument == null) {
+            args.add(EMPTY);
+        } else if (argument instanceof Double) {
+            args.add(argument.doubleValue());
+        } else {
+            args.add(argument.longValue());
+        }
+    }
+
+    /**
+     * Bind a {@link ProtocolKeyword} argument.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     */
+    protected void bindKeyword(CommandArgs<K, V> args, ProtocolKeyword argument) {
+
+        if (argument == null) {
+            args.add(EMPTY);
+        } else {
+            args.add(argument);
+        }
+    }
+
+    /**
+     * Bind an argument according to its runtime type. Arrays and {@link Iterable}s are unwound.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     */
+    protected void bindArgument(CommandArgs<K, V> args, Object argument) {
+        bind(args, argument, false, false);
+    }
+
+    /**
+     * Bind an argument whose key or value role is determined at runtime.
+     *
+     * @param args the command arguments.
+     * @param argument the argument, can be {@code null}.
+     * @param key whether to bind the argument as key.
+     * @param value whether to bind the argument as value.
+     */
+    protected void bind(CommandArgs<K, V> args, Object argument, boolean key, boolean value) {
+
+        if (argument == null) {
+            args.add(EMPTY);
+        } else {
+            ParameterBinder.bind(args, codec, argument, key, !key && value);
+        }
+    }
+
+}
@@ -35,6 +35,8 @@ class CommandSegmentCommandFactory implements CommandFactory {
 
     private final TypeContext typeContext;
 
+    private final ParameterBinder.BindingPlan bindingPlan;
+
     public CommandSegmentCommandFactory(CommandSegments commandSegments, CommandMethod commandMethod,
             RedisCodec<?, ?> redisCodec, CommandOutputFactoryResolver outputResolver) {
 
@@ -63,6 +65,7 @@ class CommandSegmentCommandFactory implements CommandFactory {
         }
 
         this.outputFactory = factory;
+        this.bindingPlan = parameterBinder.plan(commandSegments, commandMethod.getParameters(), typeContext);
     }
 
     protected CommandOutputFactoryResolver getOutputResolver() {
@@ -76,15 +79,20 @@ class CommandSegmentCommandFactory implements CommandFactory {
     @Override
     public RedisCommand<Object, Object, Object> createCommand(Object[] parameters) {
 
-        MethodParametersAccessor parametersAccessor = new CodecAwareMethodParametersAccessor(
-                new DefaultMethodParametersAccessor(commandMethod.getParameters(), parameters), typeContext);
-
         CommandArgs<Object, Object> args = new CommandArgs<>(redisCodec);
 
         CommandOutput<Object, Object, ?> output = outputFactory.create(redisCodec);
         Command<Object, Object, ?> command = new Command<>(this.segments.getCommandType(), output, args);
 
-        parameterBinder.bind(args, redisCodec, segments, parametersAccessor);
+        if (bindingPlan != null) {
+            bindingPlan.bind(args, redisCodec, parameters);
+        } else {
+
+            MethodParametersAccessor parametersAccessor = new CodecAwareMethodParametersAccessor(
+                    new DefaultMethodParametersAccessor(commandMethod.getParameters(), parameters), typeContext);
+
+            parameterBinder.bind(args, redisCodec, segments, parametersAccessor);
+        }
 
         return (Command) command;
     }
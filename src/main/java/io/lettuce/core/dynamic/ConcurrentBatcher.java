@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.dynamic;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Non-blocking threadsafe {@link Batcher} that flushes queued commands when either:
+ * <ul>
+ * <li>Reaches the configured {@link #batchSize}</li>
+ * <li>Encounters a {@link CommandBatching#flush() force flush}</li>
+ * <li>The oldest queued command has waited for the configured {@code maxLinger} duration</li>
+ * </ul>
+ * Commands are enqueued into a lock-free queue and counted with a single atomic counter. Flushing is serialized through a
+ * work-in-progress counter: a thread that finds another thread flushing hands over its flush request and returns immediately
+ * instead of spinning. The flushing thread re-checks the queue before it completes so that no flush request is lost.
+ * Consequently, the returned {@link BatchTasks} contain only the commands dispatched by the calling thread.
+ *
+ * @since 6.5
+ */
+class ConcurrentBatcher implements Batcher {
+
+    private final StatefulConnection<Object, Object> connection;
+
+    private final int batchSize;
+
+    private final long maxLingerNanos;
+
+    private final Queue<RedisCommand<Object, Object, Object>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicBoolean lingerScheduled = new AtomicBoolean();
+
+    ConcurrentBatcher(StatefulConnection<Object, Object> connection, int batchSize) {
+        this(connection, batchSize, Duration.ZERO);
+    }
+
+    ConcurrentBatcher(StatefulConnection<Object, Object> connection, int batchSize, Duration maxLinger) {
+
+        LettuceAssert.isTrue(batchSize == -1 || batchSize > 1, "Batch size must be greater zero or -1");
+        LettuceAssert.notNull(maxLinger, "Max linger must not be null");
+        LettuceAssert.isTrue(!maxLinger.isNegative(), "Max linger must not be negative");
+
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.maxLingerNanos = maxLinger.toNanos();
+    }
+
+    @Override
+    public BatchTasks batch(RedisCommand<Object, Object, Object> command, CommandBatching batching) {
+
+        queue.add(command);
+        int queued = size.incrementAndGet();
+
+        if (batching == CommandBatching.flush()) {
+            return drain(true);
+        }
+
+        if (batching != CommandBatching.queue() && (batchSize == -1 || queued >= batchSize)) {
+            return drain(false);
+        }
+
+        scheduleLinger();
+        return BatchTasks.EMPTY;
+    }
+
+    @Override
+    public BatchTasks flush() {
+        return drain(true);
+    }
+
+    private BatchTasks drain(boolean forcedFlush) {
+
+        if (forcedFlush) {
+            flushRequested.set(true);
+        }
+
+        if (wip.getAndIncrement() != 0) {
+            return BatchTasks.EMPTY;
+        }
+
+        List<RedisCommand<?, ?, ?>> dispatched = null;
+        int missed = 1;
+
+        for (;;) {
+
+            if (flushRequested.compareAndSet(true, false)) {
+                dispatched = dispatch(poll(Integer.MAX_VALUE), dispatched);
+            }
+
+            while (batchSize == -1 ? size.get() > 0 : size.get() >= batchSize) {
+
+                List<RedisCommand<Object, Object, Object>> batch = poll(batchSize == -1 ? Integer.MAX_VALUE : batchSize);
+
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                dispatched = dispatch(batch, dispatched);
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+
+        return dispatched == null ? BatchTasks.EMPTY : new BatchTasks(dispatched);
+    }
+
+    private List<RedisCommand<Object, Object, Object>> poll(int limit) {
+
+        List<RedisCommand<Object, Object, Object>> batch = new ArrayList<>(Math.min(limit, Math.max(1, size.get())));
+
+        RedisCommand<Object, Object, Object> command;
+        while (batch.size() < limit && (command = queue.poll()) != null) {
+            batch.add(command);
+        }
+
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private List<RedisCommand<?, ?, ?>> dispatch(List<RedisCommand<Object, Object, Object>> batch,
+            List<RedisCommand<?, ?, ?>> dispatched) {
+
+        if (batch.isEmpty()) {
+            return dispatched;
+        }
+
+        if (batch.size() == 1) {
+            connection.dispatch(batch.get(0));
+        } else {
+            connection.dispatch(batch);
+        }
+
+        if (dispatched == null) {
+            dispatched = new ArrayList<>(batch.size());
+        }
+
+        dispatched.addAll(batch);
+        return dispatched;
+    }
+
+    private void scheduleLinger() {
+
+        if (maxLingerNanos == 0 || lingerScheduled.get() || !lingerScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        connection.getResources().eventExecutorGroup().schedule(() -> {
+
+            lingerScheduled.set(false);
+
+            if (!queue.isEmpty()) {
+                drain(true);
+            }
+        }, maxLingerNanos, TimeUnit.NANOSECONDS);
+    }
+
+}
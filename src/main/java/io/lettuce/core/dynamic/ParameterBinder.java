@@ -3,15 +3,20 @@ package io.lettuce.core.dynamic;
 import static io.lettuce.core.protocol.CommandKeyword.LIMIT;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
 import java.nio.ByteBuffer;
 import java.util.*;
 
 import io.lettuce.core.*;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.dynamic.CodecAwareMethodParametersAccessor.TypeContext;
 import io.lettuce.core.dynamic.parameter.MethodParametersAccessor;
+import io.lettuce.core.dynamic.parameter.Parameter;
+import io.lettuce.core.dynamic.parameter.Parameters;
 import io.lettuce.core.dynamic.segment.CommandSegment;
 import io.lettuce.core.dynamic.segment.CommandSegments;
 import io.lettuce.core.dynamic.segment.CommandSegment.ArgumentContribution;
+import io.lettuce.core.internal.LettuceClassUtils;
 import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.ProtocolKeyword;
 
@@ -27,6 +32,8 @@ class ParameterBinder {
 
     private static final byte[] PLUS_BYTES = { '+' };
 
+    private static final byte[] EMPTY = new byte[0];
+
     /**
      * Bind {@link CommandSegments} and method parameters to {@link CommandArgs}.
      *
@@ -68,10 +75,206 @@ class ParameterBinder {
         return args;
     }
 
+    /**
+     * Create a {@link BindingPlan} for {@link CommandSegments} and method {@link Parameters}. The plan resolves segment
+     * contributions, key/value roles and argument types once so that binding a method invocation does not need to inspect
+     * segments and parameter declarations again. Roles and types that depend on the runtime type of an argument are resolved
+     * per invocation.
+     *
+     * @param commandSegments the command segments.
+     * @param parameters the method parameters.
+     * @param typeContext the codec type context.
+     * @return the {@link BindingPlan} or {@code null} if the segments cannot be resolved against the parameters.
+     * @since 6.5
+     */
+    BindingPlan plan(CommandSegments commandSegments, Parameters<? extends Parameter> parameters, TypeContext typeContext) {
+
+        MethodParametersAccessor accessor = new DefaultMethodParametersAccessor(parameters,
+                new Object[parameters.getParameters().size()]);
+
+        int parameterCount = accessor.getParameterCount();
+        List<ArgumentBinder> binders = new ArrayList<>(commandSegments.size() + parameterCount);
+        BitSet set = new BitSet(parameterCount);
+
+        try {
+            for (CommandSegment commandSegment : commandSegments) {
+
+                ArgumentContribution argumentContribution = commandSegment.contribute(accessor);
+                int index = argumentContribution.getParameterIndex();
+
+                if (index == -1) {
+                    binders.add(constant(argumentContribution.getValue()));
+                } else {
+                    binders.add(parameter(parameters.getBindableParameter(index), index, accessor, typeContext));
+                    set.set(index);
+                }
+            }
+        } catch (RuntimeException e) {
+            // report unresolvable segments when binding an invocation
+            return null;
+        }
+
+        for (int i = 0; i < parameterCount; i++) {
+
+            if (!set.get(i)) {
+                binders.add(parameter(parameters.getBindableParameter(i), i, accessor, typeContext));
+            }
+        }
+
+        return new BindingPlan(binders.toArray(new ArgumentBinder[0]));
+    }
+
+    private static ArgumentBinder constant(Object constant) {
+
+        if (constant instanceof String) {
+
+            String value = (String) constant;
+            return (args, codec, parameters) -> args.add(value);
+        }
+
+        return (args, codec, parameters) -> bindArgument(args, constant);
+    }
+
+    private static ArgumentBinder parameter(Parameter parameter, int index, MethodParametersAccessor accessor,
+            TypeContext typeContext) {
+
+        int parameterIndex = parameter.getParameterIndex();
+        boolean bindNull = accessor.isBindableNullValue(index);
+        boolean annotatedKey = accessor.isKey(index);
+        boolean annotatedValue = accessor.isValue(index);
+
+        Class<?> type = parameter.getParameterType();
+        Class<?> keyType = typeContext.keyType.getType();
+        Class<?> valueType = typeContext.valueType.getType();
+
+        Boolean key = getRole(type, keyType, annotatedKey, annotatedValue);
+        Boolean value = Boolean.TRUE.equals(key) ? Boolean.FALSE : getRole(type, valueType, annotatedValue, annotatedKey);
+
+        ValueBinder binder = key != null && value != null ? specialize(type, key, value) : null;
+
+        if (binder == null) {
+
+            // role or argument type depends on the runtime type
+            binder = (args, codec, argument) -> {
+
+                boolean isKey = key != null ? key : keyType.isAssignableFrom(argument.getClass());
+                boolean isValue = !isKey && (value != null ? value : valueType.isAssignableFrom(argument.getClass()));
+
+                bind(args, codec, argument, isKey, isValue);
+            };
+        }
+
+        ValueBinder toUse = binder;
+        return (args, codec, parameters) -> {
+
+            Object argument = parameters[parameterIndex];
+
+            if (argument == null) {
+
+                if (bindNull) {
+                    args.add(EMPTY);
+                }
+                return;
+            }
+
+            toUse.bind(args, codec, argument);
+        };
+    }
+
+    /**
+     * Determine the key or value role as {@link CodecAwareMethodParametersAccessor} does.
+     *
+     * @return the role or {@code null} if the role depends on the runtime type.
+     */
+    private static Boolean getRole(Class<?> type, Class<?> codecType, boolean annotated, boolean annotatedOther) {
+
+        if (annotatedOther) {
+            return false;
+        }
+
+        if (annotated || LettuceClassUtils.isAssignable(codecType, type)) {
+            return true;
+        }
+
+        return isEffectivelyFinal(type) ? Boolean.FALSE : null;
+    }
+
+    /**
+     * Create a {@link ValueBinder} for a declared type if binding does not depend on the runtime type of the argument.
+     */
+    @SuppressWarnings("unchecked")
+    private static ValueBinder specialize(Class<?> type, boolean key, boolean value) {
+
+        if (type == byte[].class) {
+            return key ? (args, codec, argument) -> args.addKey(argument)
+                    : (args, codec, argument) -> args.add((byte[]) argument);
+        }
+
+        boolean iterable = Iterable.class.isAssignableFrom(type);
+        boolean array = type.isArray() && !type.getComponentType().isPrimitive();
+
+        if (!iterable && !isEffectivelyFinal(type)) {
+            return null;
+        }
+
+        if (key) {
+
+            if (iterable) {
+                return (args, codec, argument) -> args.addKeys((Iterable<Object>) argument);
+            }
+
+            return array ? (args, codec, argument) -> args.addKeys(Arrays.asList((Object[]) argument))
+                    : type.isArray() ? null : (args, codec, argument) -> args.addKey(argument);
+        }
+
+        if (value) {
+
+            if (Range.class.isAssignableFrom(type)) {
+                return (args, codec, argument) -> bindValueRange(args, codec, (Range<?>) argument);
+            }
+
+            if (iterable) {
+                return (args, codec, argument) -> args.addValues((Iterable<Object>) argument);
+            }
+
+            return array ? (args, codec, argument) -> args.addValues(Arrays.asList((Object[]) argument))
+                    : type.isArray() ? null : (args, codec, argument) -> args.addValue(argument);
+        }
+
+        if (type == String.class) {
+            return (args, codec, argument) -> args.add((String) argument);
+        }
+
+        if (type == Double.class || type == double.class) {
+            return (args, codec, argument) -> args.add((Double) argument);
+        }
+
+        if (LettuceClassUtils.isAssignable(Number.class, type)) {
+            return (args, codec, argument) -> args.add(((Number) argument).longValue());
+        }
+
+        if (ProtocolKeyword.class.isAssignableFrom(type)) {
+            return (args, codec, argument) -> args.add((ProtocolKeyword) argument);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return {@code true} if arguments of {@code type} cannot be a subtype of {@code type}.
+     */
+    private static boolean isEffectivelyFinal(Class<?> type) {
+
+        if (type.isArray()) {
+            return isEffectivelyFinal(type.getComponentType());
+        }
+
+        return type.isPrimitive() || Modifier.isFinal(type.getModifiers());
+    }
+
     /*
      * Bind key/value/byte[] arguments. Other arguments are unwound, if applicable, and bound according to their type.
      */
-    @SuppressWarnings("unchecked")
     private <K, V> void bind(CommandArgs<K, V> args, RedisCodec<K, V> codec, Object argument, int index,
             MethodParametersAccessor accessor) {
 
@@ -84,8 +287,20 @@ class ParameterBinder {
             return;
         }
 
+        boolean key = index != -1 && accessor.isKey(index);
+        boolean value = index != -1 && !key && accessor.isValue(index);
+
+        bind(args, codec, argument, key, value);
+    }
+
+    /*
+     * Bind a non-null argument that is considered a key or value, as determined by the caller.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> void bind(CommandArgs<K, V> args, RedisCodec<K, V> codec, Object argument, boolean key, boolean value) {
+
         if (argument instanceof byte[]) {
-            if (index != -1 && accessor.isKey(index)) {
+            if (key) {
                 args.addKey((K) argument);
             } else {
                 args.add((byte[]) argument);
@@ -97,32 +312,29 @@ class ParameterBinder {
             argument = asIterable(argument);
         }
 
-        if (index != -1) {
-
-            if (accessor.isKey(index)) {
+        if (key) {
 
-                if (argument instanceof Iterable) {
-                    args.addKeys((Iterable<K>) argument);
-                } else {
-                    args.addKey((K) argument);
-                }
-                return;
+            if (argument instanceof Iterable) {
+                args.addKeys((Iterable<K>) argument);
+            } else {
+                args.addKey((K) argument);
             }
+            return;
+        }
 
-            if (accessor.isValue(index)) {
-
-                if (argument instanceof Range) {
-                    bindValueRange(args, codec, (Range<? extends V>) argument);
-                    return;
-                }
+        if (value) {
 
-                if (argument instanceof Iterable) {
-                    args.addValues((Iterable<V>) argument);
-                } else {
-                    args.addValue((V) argument);
-                }
+            if (argument instanceof Range) {
+                bindValueRange(args, codec, (Range<? extends V>) argument);
                 return;
             }
+
+            if (argument instanceof Iterable) {
+                args.addValues((Iterable<V>) argument);
+            } else {
+                args.addValue((V) argument);
+            }
+            return;
         }
 
         if (argument instanceof Iterable) {
@@ -142,7 +354,7 @@ class ParameterBinder {
      * Composite Arguments).
      */
     @SuppressWarnings("unchecked")
-    private static <K, V> void bindArgument(CommandArgs<K, V> args, Object argument) {
+    static <K, V> void bindArgument(CommandArgs<K, V> args, Object argument) {
 
         if (argument instanceof byte[]) {
             args.add((byte[]) argument);
@@ -236,7 +448,7 @@ class ParameterBinder {
         throw new IllegalArgumentException("Cannot bind unsupported command argument " + args);
     }
 
-    private static <K, V> void bindValueRange(CommandArgs<K, V> args, RedisCodec<K, V> codec, Range<? extends V> range) {
+    static <K, V> void bindValueRange(CommandArgs<K, V> args, RedisCodec<K, V> codec, Range<? extends V> range) {
 
         args.add(minValue(codec, range));
         args.add(maxValue(codec, range));
@@ -330,4 +542,57 @@ class ParameterBinder {
         return Arrays.asList((Object[]) argument);
     }
 
+    /**
+     * Precomputed binding of {@link CommandSegments} and method parameters for a command method.
+     *
+     * @since 6.5
+     */
+    static class BindingPlan {
+
+        private final ArgumentBinder[] binders;
+
+        BindingPlan(ArgumentBinder[] binders) {
+            this.binders = binders;
+        }
+
+        /**
+         * Bind method invocation arguments to {@link CommandArgs}.
+         *
+         * @param args the command arguments.
+         * @param codec the codec.
+         * @param parameters the method invocation arguments including special parameters.
+         * @return the command arguments.
+         */
+        CommandArgs<Object, Object> bind(CommandArgs<Object, Object> args, RedisCodec<Object, Object> codec,
+                Object[] parameters) {
+
+            for (ArgumentBinder binder : binders) {
+                binder.bind(args, codec, parameters);
+            }
+
+            return args;
+        }
+
+    }
+
+    /**
+     * Binds a command segment or method parameter.
+     */
+    @FunctionalInterface
+    interface ArgumentBinder {
+
+        void bind(CommandArgs<Object, Object> args, RedisCodec<Object, Object> codec, Object[] parameters);
+
+    }
+
+    /**
+     * Binds a non-null argument.
+     */
+    @FunctionalInterface
+    interface ValueBinder {
+
+        void bind(CommandArgs<Object, Object> args, RedisCodec<Object, Object> codec, Object argument);
+
+    }
+
 }
@@ -4,6 +4,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 
 import io.lettuce.core.AbstractRedisReactiveCommands;
@@ -295,6 +296,8 @@ public class RedisCommandFactory {
 
         private final long batchSize;
 
+        private final Duration maxLinger;
+
         private Batcher batcher = Batcher.NONE;
 
         private BatchExecutableCommandLookupStrategy batchingStrategy;
@@ -311,11 +314,13 @@ public class RedisCommandFactory {
 
                 this.globalBatching = true;
                 this.batchSize = batchSize.value();
+                this.maxLinger = Duration.ofMillis(batchSize.maxLingerMillis());
 
             } else {
 
                 this.globalBatching = false;
                 this.batchSize = -1;
+                this.maxLinger = Duration.ZERO;
             }
         }
 
@@ -325,7 +330,7 @@ public class RedisCommandFactory {
             if (BatchExecutableCommandLookupStrategy.supports(method) || globalBatching) {
 
                 if (batcher == Batcher.NONE) {
-                    batcher = new SimpleBatcher((StatefulConnection) connection, Math.toIntExact(batchSize));
+                    batcher = new ConcurrentBatcher((StatefulConnection) connection, Math.toIntExact(batchSize), maxLinger);
                     batchingStrategy = new BatchExecutableCommandLookupStrategy(redisCodecs, commandOutputFactoryResolver,
                             verifier, batcher, (StatefulConnection) connection);
                 }
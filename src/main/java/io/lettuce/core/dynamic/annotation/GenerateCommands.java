@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.dynamic.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Request build-time generation of an implementation for a Redis Command interface. The
+ * {@link io.lettuce.core.dynamic.apt.CommandsProcessor annotation processor} generates a class named after the interface with
+ * an {@code Impl} suffix in the same package. The generated class resolves command segments, parameter binding and command
+ * outputs during compilation and therefore does not require reflection or dynamic proxies at runtime:
+ *
+ * <pre class="code">
+ * &#64;GenerateCommands
+ * interface MyRedisCommands extends Commands {
+ *
+ *     String get(String key);
+ *
+ *     RedisFuture&lt;String&gt; set(String key, String value);
+ * }
+ *
+ * MyRedisCommands commands = new MyRedisCommandsImpl(connection, StringCodec.UTF8);
+ * </pre>
+ *
+ * Key and value types are declared through {@link #keyType()} and {@link #valueType()} and must match the generics of the
+ * {@link io.lettuce.core.codec.RedisCodec} passed to the generated class. Synchronous and {@link java.util.concurrent.Future}
+ * based methods are supported. Reactive and batching methods require {@link io.lettuce.core.dynamic.RedisCommandFactory}.
+ *
+ * @since 6.5
+ * @see io.lettuce.core.dynamic.AbstractGeneratedCommands
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Documented
+public @interface GenerateCommands {
+
+    /**
+     * Key type of the codec used with the generated implementation, defaults to {@link String}.
+     */
+    Class<?> keyType() default String.class;
+
+    /**
+     * Value type of the codec used with the generated implementation, defaults to {@link String}.
+     */
+    Class<?> valueType() default String.class;
+
+}
@@ -0,0 +1,963 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.dynamic.apt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating implementations of Redis Command interfaces annotated with
+ * {@link io.lettuce.core.dynamic.annotation.GenerateCommands}. Generated classes extend
+ * {@link io.lettuce.core.dynamic.AbstractGeneratedCommands} and apply the rules of
+ * {@link io.lettuce.core.dynamic.RedisCommandFactory} during compilation:
+ * <ul>
+ * <li>Command segments are derived from {@link io.lettuce.core.dynamic.annotation.Command} and
+ * {@link io.lettuce.core.dynamic.annotation.CommandNaming}.</li>
+ * <li>Parameters are bound as key, value or plain argument based on their declared type, {@code @Key} and {@code @Value}
+ * annotations and the codec types declared on {@code @GenerateCommands}. Parameters whose role depends on their runtime type
+ * are checked with {@code instanceof}.</li>
+ * <li>Command outputs are selected from the builtin outputs in the same order as
+ * {@link io.lettuce.core.dynamic.output.OutputRegistry}.</li>
+ * </ul>
+ * Methods that cannot be implemented statically (reactive or batch execution, custom outputs) are reported as compilation
+ * errors. The processor is not registered as a service and must be enabled explicitly, for example through
+ * {@code -processor io.lettuce.core.dynamic.apt.CommandsProcessor} or Maven's {@code annotationProcessors} configuration.
+ *
+ * @since 6.5
+ */
+@SupportedAnnotationTypes(CommandsProcessor.GENERATE_COMMANDS)
+public class CommandsProcessor extends AbstractProcessor {
+
+    static final String GENERATE_COMMANDS = "io.lettuce.core.dynamic.annotation.GenerateCommands";
+
+    static final String IMPLEMENTATION_SUFFIX = "Impl";
+
+    private static final String ANNOTATION_PACKAGE = "io.lettuce.core.dynamic.annotation.";
+
+    private static final String SUPPORT_CLASS = "io.lettuce.core.dynamic.AbstractGeneratedCommands";
+
+    private static final String COMMAND_ARGS = "io.lettuce.core.protocol.CommandArgs";
+
+    private static final String COMMAND_TYPE = "io.lettuce.core.protocol.CommandType";
+
+    private static final String OUTPUT_PACKAGE = "io.lettuce.core.output.";
+
+    private static final Pattern SPACE = Pattern.compile("\\s");
+
+    /**
+     * Non-streaming builtin outputs in registration order of {@code OutputRegistry}. {@code K} and {@code V} are replaced with
+     * the codec types.
+     */
+    private static final String[][] OUTPUTS = { { "ListOfMapsOutput", "java.util.List", "java.util.Map", "K", "V" },
+            { "ArrayOutput", "java.util.List", "java.lang.Object" }, { "DoubleOutput", "java.lang.Double" },
+            { "ByteArrayOutput", "byte[]" }, { "IntegerOutput", "java.lang.Long" }, { "KeyOutput", "K" },
+            { "ValueOutput", "V" }, { "KeyListOutput", "java.util.List", "K" }, { "ValueListOutput", "java.util.List", "V" },
+            { "MapOutput", "java.util.Map", "K", "V" }, { "ValueSetOutput", "java.util.Set", "V" },
+            { "BooleanOutput", "java.lang.Boolean" }, { "BooleanListOutput", "java.util.List", "java.lang.Boolean" },
+            { "GeoCoordinatesListOutput", "java.util.List", "io.lettuce.core.GeoCoordinates" },
+            { "GeoCoordinatesValueListOutput", "java.util.List", "io.lettuce.core.Value", "io.lettuce.core.GeoCoordinates" },
+            { "ScoredValueListOutput", "java.util.List", "io.lettuce.core.ScoredValue", "V" },
+            { "ValueValueListOutput", "java.util.List", "io.lettuce.core.Value", "V" },
+            { "StringValueListOutput", "java.util.List", "io.lettuce.core.Value", "java.lang.String" },
+            { "StringListOutput", "java.util.List", "java.lang.String" }, { "VoidOutput", "java.lang.Void" },
+            { "StringMatchResultOutput", "io.lettuce.core.StringMatchResult" } };
+
+    /**
+     * Types that are not bound if the argument is {@code null}.
+     */
+    private static final String[] NON_NULL_BINDABLE = { "io.lettuce.core.Limit", "io.lettuce.core.Value",
+            "io.lettuce.core.KeyValue", "io.lettuce.core.ScoredValue", "io.lettuce.core.GeoCoordinates", "io.lettuce.core.Range" };
+
+    private static final String[] REACTIVE_TYPES = { "org.reactivestreams.Publisher", "io.reactivex.Observable",
+            "io.reactivex.Single", "io.reactivex.Maybe", "io.reactivex.Completable", "io.reactivex.Flowable",
+            "io.reactivex.rxjava3.core.Observable", "io.reactivex.rxjava3.core.Single", "io.reactivex.rxjava3.core.Maybe",
+            "io.reactivex.rxjava3.core.Completable", "io.reactivex.rxjava3.core.Flowable", "kotlinx.coroutines.flow.Flow" };
+
+    private Types types;
+
+    private Elements elements;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+
+                try {
+                    if (element.getKind() != ElementKind.INTERFACE) {
+                        throw new ProcessingException("@GenerateCommands is only supported on interfaces", element);
+                    }
+
+                    generate((TypeElement) element);
+                } catch (ProcessingException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Cannot write implementation: " + e.getMessage(), element);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void generate(TypeElement commandsInterface) throws IOException {
+
+        if (!commandsInterface.getTypeParameters().isEmpty()) {
+            throw new ProcessingException("Generic Redis Command interfaces are not supported", commandsInterface);
+        }
+
+        if (commandsInterface.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new ProcessingException("Redis Command interface must not be private", commandsInterface);
+        }
+
+        if (findAnnotation(commandsInterface, "io.lettuce.core.dynamic.batch.BatchSize") != null) {
+            throw new ProcessingException("Batching is not supported by generated implementations, use RedisCommandFactory",
+                    commandsInterface);
+        }
+
+        AnnotationMirror generateCommands = findAnnotation(commandsInterface, GENERATE_COMMANDS);
+        TypeMirror keyType = getCodecType(commandsInterface, generateCommands, "keyType");
+        TypeMirror valueType = getCodecType(commandsInterface, generateCommands, "valueType");
+
+        String packageName = elements.getPackageOf(commandsInterface).getQualifiedName().toString();
+        String className = getImplementationName(commandsInterface);
+
+        ClassWriter writer = new ClassWriter(commandsInterface, keyType, valueType);
+
+        String source = writer.write(packageName, className);
+
+        if (source == null) {
+            return;
+        }
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer out = processingEnv.getFiler().createSourceFile(qualifiedName, commandsInterface).openWriter()) {
+            out.write(source);
+        }
+    }
+
+    private TypeMirror getCodecType(TypeElement commandsInterface, AnnotationMirror annotation, String attribute) {
+
+        TypeMirror type = (TypeMirror) getValue(annotation, attribute);
+
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) {
+            throw new ProcessingException("Codec " + attribute + " must not be a primitive type", commandsInterface);
+        }
+
+        return type;
+    }
+
+    static String getImplementationName(TypeElement commandsInterface) {
+
+        StringBuilder name = new StringBuilder(commandsInterface.getSimpleName());
+
+        Element enclosing = commandsInterface.getEnclosingElement();
+        while (enclosing != null && !(enclosing instanceof PackageElement)) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return name.append(IMPLEMENTATION_SUFFIX).toString();
+    }
+
+    /**
+     * Writer for a single generated class.
+     */
+    private class ClassWriter {
+
+        private final TypeElement commandsInterface;
+
+        private final TypeMirror keyType;
+
+        private final TypeMirror valueType;
+
+        private final String codecTypes;
+
+        private final Map<String, String> commandTypeConstants = new LinkedHashMap<>();
+
+        private boolean failed;
+
+        ClassWriter(TypeElement commandsInterface, TypeMirror keyType, TypeMirror valueType) {
+            this.commandsInterface = commandsInterface;
+            this.keyType = keyType;
+            this.valueType = valueType;
+            this.codecTypes = keyType + ", " + valueType;
+        }
+
+        /**
+         * @return the class source or {@code null} if a method cannot be implemented.
+         */
+        String write(String packageName, String className) {
+
+            StringBuilder methods = new StringBuilder();
+            Set<String> signatures = new HashSet<>();
+
+            for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(commandsInterface))) {
+
+                if (!method.getModifiers().contains(Modifier.ABSTRACT) || !signatures.add(getSignature(method))) {
+                    continue;
+                }
+
+                try {
+                    writeMethod(method, methods);
+                } catch (ProcessingException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                    failed = true;
+                }
+            }
+
+            if (failed) {
+                return null;
+            }
+
+            StringBuilder source = new StringBuilder();
+
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+
+            source.append("/**\n * Generated implementation of {@link ").append(commandsInterface.getQualifiedName())
+                    .append("}.\n */\n");
+
+            if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+                source.append("@javax.annotation.processing.Generated(\"").append(CommandsProcessor.class.getName())
+                        .append("\")\n");
+            }
+
+            if (commandsInterface.getModifiers().contains(Modifier.PUBLIC)) {
+                source.append("public ");
+            }
+
+            source.append("class ").append(className).append(" extends ").append(SUPPORT_CLASS).append('<').append(codecTypes)
+                    .append("> implements ").append(commandsInterface.getQualifiedName()).append(" {\n\n");
+
+            for (Map.Entry<String, String> constant : commandTypeConstants.entrySet()) {
+                source.append("    private static final io.lettuce.core.protocol.ProtocolKeyword ").append(constant.getValue())
+                        .append(" = commandType(").append(literal(constant.getKey())).append(");\n\n");
+            }
+
+            String defaultCodec = getDefaultCodec();
+            if (defaultCodec != null) {
+                source.append("    public ").append(className)
+                        .append("(io.lettuce.core.api.StatefulConnection<?, ?> connection) {\n        this(connection, ")
+                        .append(defaultCodec).append(");\n    }\n\n");
+            }
+
+            source.append("    public ").append(className)
+                    .append("(io.lettuce.core.api.StatefulConnection<?, ?> connection, io.lettuce.core.codec.RedisCodec<")
+                    .append(codecTypes).append("> codec) {\n        super(connection, codec);\n    }\n");
+
+            source.append(methods).append("\n}\n");
+
+            return source.toString();
+        }
+
+        private String getDefaultCodec() {
+
+            if (isType(keyType, "java.lang.String") && isType(valueType, "java.lang.String")) {
+                return "io.lettuce.core.codec.StringCodec.UTF8";
+            }
+
+            if (isByteArray(keyType) && isByteArray(valueType)) {
+                return "io.lettuce.core.codec.ByteArrayCodec.INSTANCE";
+            }
+
+            return null;
+        }
+
+        private void writeMethod(ExecutableElement method, StringBuilder out) {
+
+            if (!method.getTypeParameters().isEmpty()) {
+                throw new ProcessingException("Generic command methods are not supported", method);
+            }
+
+            ExecutableType methodType = (ExecutableType) types.asMemberOf((DeclaredType) commandsInterface.asType(), method);
+            List<? extends VariableElement> parameters = method.getParameters();
+            List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+
+            if (methodType.getReturnType().getKind() == TypeKind.ERROR
+                    || parameterTypes.stream().anyMatch(type -> type.getKind() == TypeKind.ERROR)) {
+                // unresolvable types are reported by the compiler
+                failed = true;
+                return;
+            }
+
+            String timeoutParameter = null;
+            List<Integer> bindable = new ArrayList<>();
+
+            for (int i = 0; i < parameters.size(); i++) {
+
+                if (isAssignable(parameterTypes.get(i), "io.lettuce.core.dynamic.batch.CommandBatching")) {
+                    throw new ProcessingException("Batching is not supported by generated implementations, use RedisCommandFactory",
+                            parameters.get(i));
+                }
+
+                if (isAssignable(parameterTypes.get(i), "io.lettuce.core.dynamic.domain.Timeout")) {
+                    timeoutParameter = "arg" + i;
+                    continue;
+                }
+
+                bindable.add(i);
+            }
+
+            TypeMirror returnType = methodType.getReturnType();
+            boolean async = isFuture(returnType);
+            TypeMirror selector = getOutputSelector(method, returnType, async);
+            String[] output = resolveOutput(method, selector);
+
+            out.append("\n    @Override\n");
+
+            if (async && !isAssignable(getAsyncCommandType(output), returnType)) {
+                out.append("    @SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+            }
+
+            out.append("    public ").append(returnType).append(' ').append(method.getSimpleName()).append('(');
+
+            for (int i = 0; i < parameters.size(); i++) {
+
+                String type = parameterTypes.get(i).toString();
+                if (method.isVarArgs() && i == parameters.size() - 1 && type.endsWith("[]")) {
+                    type = type.substring(0, type.length() - 2) + "...";
+                }
+
+                out.append(i == 0 ? "" : ", ").append(type).append(" arg").append(i);
+            }
+
+            out.append(") {\n\n");
+            out.append("        ").append(COMMAND_ARGS).append('<').append(codecTypes).append("> args = args();\n");
+
+            List<String> segments = getCommandSegments(method);
+            Set<Integer> bound = new HashSet<>();
+
+            for (int i = 1; i < segments.size(); i++) {
+
+                String segment = segments.get(i);
+
+                if (segment.startsWith("?")) {
+                    int index = resolveIndex(method, segment.substring(1), bindable.size());
+                    bindParameter(parameters.get(bindable.get(index)), parameterTypes.get(bindable.get(index)),
+                            "arg" + bindable.get(index), out);
+                    bound.add(index);
+                    continue;
+                }
+
+                if (segment.startsWith(":")) {
+                    int index = resolveName(method, segment.substring(1), bindable);
+                    bindParameter(parameters.get(bindable.get(index)), parameterTypes.get(bindable.get(index)),
+                            "arg" + bindable.get(index), out);
+                    bound.add(index);
+                    continue;
+                }
+
+                out.append("        args.add(").append(literal(segment)).append(");\n");
+            }
+
+            for (int i = 0; i < bindable.size(); i++) {
+                if (!bound.contains(i)) {
+                    bindParameter(parameters.get(bindable.get(i)), parameterTypes.get(bindable.get(i)), "arg" + bindable.get(i),
+                            out);
+                }
+            }
+
+            String command = "new io.lettuce.core.protocol.Command<" + codecTypes + ", " + output[1] + ">("
+                    + getCommandType(segments.get(0)) + ", new " + OUTPUT_PACKAGE + output[0] + "<" + codecTypes
+                    + ">(codec), args)";
+
+            out.append('\n');
+
+            if (async) {
+
+                out.append("        return ");
+                if (!isAssignable(getAsyncCommandType(output), returnType)) {
+                    out.append('(').append(returnType).append(") (io.lettuce.core.protocol.AsyncCommand) ");
+                }
+                out.append("executeAsync(").append(command).append(");\n");
+            } else {
+
+                out.append("        ").append(returnType.getKind() == TypeKind.VOID ? "" : "return ").append("execute(")
+                        .append(command).append(timeoutParameter != null ? ", " + timeoutParameter : "").append(");\n");
+            }
+
+            out.append("    }\n");
+        }
+
+        private TypeMirror getOutputSelector(ExecutableElement method, TypeMirror returnType, boolean async) {
+
+            if (returnType.getKind() == TypeKind.VOID) {
+                return getType("java.lang.Void");
+            }
+
+            if (returnType.getKind().isPrimitive()) {
+                return types.boxedClass((javax.lang.model.type.PrimitiveType) returnType).asType();
+            }
+
+            for (String reactiveType : REACTIVE_TYPES) {
+                if (isAssignable(returnType, reactiveType)) {
+                    throw new ProcessingException(
+                            "Reactive execution is not supported by generated implementations, use RedisCommandFactory", method);
+                }
+            }
+
+            if (isAssignable(returnType, "io.lettuce.core.output.CommandOutput")) {
+                throw new ProcessingException("Custom CommandOutput types are not supported by generated implementations",
+                        method);
+            }
+
+            if (!async) {
+                return returnType;
+            }
+
+            if (!isAssignable(types.erasure(getType("io.lettuce.core.protocol.AsyncCommand")), types.erasure(returnType))) {
+                throw new ProcessingException("Future type " + returnType + " must be assignable from AsyncCommand", method);
+            }
+
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+            if (typeArguments.isEmpty()) {
+                return getType("java.lang.Object");
+            }
+
+            TypeMirror actual = typeArguments.get(0);
+            if (actual.getKind() == TypeKind.WILDCARD) {
+                TypeMirror bound = ((WildcardType) actual).getExtendsBound();
+                return bound != null ? bound : getType("java.lang.Object");
+            }
+
+            return actual;
+        }
+
+        /**
+         * @return output class name and the output's result type.
+         */
+        private String[] resolveOutput(ExecutableElement method, TypeMirror selector) {
+
+            for (String[] output : OUTPUTS) {
+
+                TypeMirror provider = getOutputType(output);
+
+                if (isAssignable(provider, selector)) {
+                    return new String[] { output[0], provider.toString() };
+                }
+            }
+
+            throw new ProcessingException("Cannot resolve CommandOutput for result type " + selector, method);
+        }
+
+        private TypeMirror getOutputType(String[] output) {
+
+            String type = output[1];
+
+            if (output.length == 2) {
+                return resolveType(type);
+            }
+
+            if (output.length == 3) {
+                return types.getDeclaredType(elements.getTypeElement(type), resolveType(output[2]));
+            }
+
+            if (output[0].equals("ListOfMapsOutput")) {
+                return types.getDeclaredType(elements.getTypeElement(type),
+                        types.getDeclaredType(elements.getTypeElement(output[2]), keyType, valueType));
+            }
+
+            if (output[0].equals("MapOutput")) {
+                return types.getDeclaredType(elements.getTypeElement(type), keyType, valueType);
+            }
+
+            return types.getDeclaredType(elements.getTypeElement(type),
+                    types.getDeclaredType(elements.getTypeElement(output[2]), resolveType(output[3])));
+        }
+
+        private TypeMirror resolveType(String type) {
+
+            if (type.equals("K")) {
+                return keyType;
+            }
+
+            if (type.equals("V")) {
+                return valueType;
+            }
+
+            if (type.equals("byte[]")) {
+                return types.getArrayType(types.getPrimitiveType(TypeKind.BYTE));
+            }
+
+            return getType(type);
+        }
+
+        private TypeMirror getAsyncCommandType(String[] output) {
+
+            TypeElement asyncCommand = elements.getTypeElement("io.lettuce.core.protocol.AsyncCommand");
+            return types.getDeclaredType(asyncCommand, keyType, valueType, getOutputType(output));
+        }
+
+        private List<String> getCommandSegments(ExecutableElement method) {
+
+            AnnotationMirror command = findAnnotation(method, ANNOTATION_PACKAGE + "Command");
+
+            if (command != null) {
+
+                String value = (String) getValue(command, "value");
+                if (value != null && !value.isEmpty()) {
+
+                    String[] split = SPACE.split(value);
+                    if (split.length == 0) {
+                        throw new ProcessingException("Command must not be empty", method);
+                    }
+
+                    List<String> segments = new ArrayList<>(split.length);
+                    Collections.addAll(segments, split);
+                    return segments;
+                }
+            }
+
+            String strategy = getNaming(method, "strategy", "SPLIT");
+            String letterCase = getNaming(method, "letterCase", "UPPERCASE");
+
+            List<String> parts = parseMethodName(method.getSimpleName().toString(), strategy);
+            List<String> segments = new ArrayList<>(parts.size());
+
+            for (String part : parts) {
+                segments.add(letterCase.equals("AS_IS") ? part : part.toUpperCase());
+            }
+
+            return segments;
+        }
+
+        private String getNaming(ExecutableElement method, String attribute, String defaultValue) {
+
+            for (Element element : new Element[] { method, method.getEnclosingElement() }) {
+
+                AnnotationMirror naming = findAnnotation(element, ANNOTATION_PACKAGE + "CommandNaming");
+                if (naming == null) {
+                    continue;
+                }
+
+                String value = ((VariableElement) getValue(naming, attribute)).getSimpleName().toString();
+                if (!value.equals("DEFAULT")) {
+                    return value;
+                }
+            }
+
+            return defaultValue;
+        }
+
+        private String getCommandType(String name) {
+
+            TypeElement commandType = elements.getTypeElement(COMMAND_TYPE);
+
+            for (Element constant : commandType.getEnclosedElements()) {
+                if (constant.getKind() == ElementKind.ENUM_CONSTANT && constant.getSimpleName().contentEquals(name)) {
+                    return COMMAND_TYPE + "." + name;
+                }
+            }
+
+            String constant = commandTypeConstants.get(name);
+            if (constant == null) {
+                constant = "COMMAND_" + commandTypeConstants.size();
+                commandTypeConstants.put(name, constant);
+            }
+
+            return constant;
+        }
+
+        private int resolveIndex(ExecutableElement method, String index, int bindableCount) {
+
+            try {
+                int value = Integer.parseInt(index);
+                if (value >= 0 && value < bindableCount) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+
+            throw new ProcessingException("Cannot resolve indexed parameter ?" + index, method);
+        }
+
+        private int resolveName(ExecutableElement method, String name, List<Integer> bindable) {
+
+            for (int i = 0; i < bindable.size(); i++) {
+
+                VariableElement parameter = method.getParameters().get(bindable.get(i));
+                AnnotationMirror param = findAnnotation(parameter, ANNOTATION_PACKAGE + "Param");
+                String parameterName = param != null ? (String) getValue(param, "value")
+                        : parameter.getSimpleName().toString();
+
+                if (name.equals(parameterName)) {
+                    return i;
+                }
+            }
+
+            throw new ProcessingException("Cannot resolve named parameter " + name, method);
+        }
+
+        /**
+         * Emit the binding statement for a parameter, mirroring {@code ParameterBinder} and
+         * {@code CodecAwareMethodParametersAccessor}.
+         */
+        private void bindParameter(VariableElement parameter, TypeMirror type, String name, StringBuilder out) {
+
+            boolean annotatedKey = findAnnotation(parameter, ANNOTATION_PACKAGE + "Key") != null;
+            boolean annotatedValue = findAnnotation(parameter, ANNOTATION_PACKAGE + "Value") != null;
+
+            if (type.getKind().isPrimitive()) {
+                out.append("        ").append(bindPrimitive(parameter, type, name, annotatedKey, annotatedValue)).append('\n');
+                return;
+            }
+
+            String key = getRole(type, name, keyType, annotatedKey, annotatedValue);
+            String value = key.equals("true") ? "false" : getRole(type, name, valueType, annotatedValue, annotatedKey);
+
+            String statement;
+            if (key.equals("true")) {
+                statement = bindKey(type, name);
+            } else if (key.equals("false") && value.equals("true")) {
+                statement = bindValue(type, name);
+            } else if (key.equals("false") && value.equals("false")) {
+                statement = bindArgument(type, name);
+            } else {
+                statement = "bind(args, " + name + ", " + key + ", " + value + ");";
+            }
+
+            if (isNonNullBindable(type)) {
+                out.append("        if (").append(name).append(" != null) {\n            ").append(statement)
+                        .append("\n        }\n");
+            } else {
+                out.append("        ").append(statement).append('\n');
+            }
+        }
+
+        private String bindPrimitive(VariableElement parameter, TypeMirror type, String name, boolean annotatedKey,
+                boolean annotatedValue) {
+
+            if (type.getKind() == TypeKind.BOOLEAN || type.getKind() == TypeKind.CHAR) {
+                throw new ProcessingException("Cannot bind parameter of type " + type, parameter);
+            }
+
+            TypeMirror boxed = types.boxedClass((javax.lang.model.type.PrimitiveType) type).asType();
+
+            if (!annotatedValue && (annotatedKey || isAssignable(boxed, keyType))) {
+                assertAssignable(parameter, boxed, keyType);
+                return "bindKey(args, " + name + ");";
+            }
+
+            if (!annotatedKey && (annotatedValue || isAssignable(boxed, valueType))) {
+                assertAssignable(parameter, boxed, valueType);
+                return "bindValue(args, " + name + ");";
+            }
+
+            if (type.getKind() == TypeKind.FLOAT) {
+                return "args.add((long) " + name + ");";
+            }
+
+            return "args.add(" + name + ");";
+        }
+
+        /**
+         * @return {@code "true"}, {@code "false"} or an {@code instanceof} expression.
+         */
+        private String getRole(TypeMirror type, String name, TypeMirror codecType, boolean annotated,
+                boolean annotatedOther) {
+
+            if (annotatedOther) {
+                return "false";
+            }
+
+            if (annotated) {
+                return "true";
+            }
+
+            if (types.isAssignable(types.erasure(type), types.erasure(codecType))) {
+                return "true";
+            }
+
+            if (types.isAssignable(types.erasure(codecType), types.erasure(type))) {
+                return name + " instanceof " + types.erasure(codecType);
+            }
+
+            return "false";
+        }
+
+        private String bindKey(TypeMirror type, String name) {
+
+            if (isByteArray(type) || !isMultiValued(type)) {
+                return isAssignable(type, keyType) && !isAnyObject(type) ? "bindKey(args, " + name + ");"
+                        : "bind(args, " + name + ", true, false);";
+            }
+
+            return isAssignable(type, getMultiValuedType(type, keyType)) ? "bindKeys(args, " + name + ");"
+                    : "bind(args, " + name + ", true, false);";
+        }
+
+        private String bindValue(TypeMirror type, String name) {
+
+            if (isByteArray(type)) {
+                return "bindBytes(args, " + name + ");";
+            }
+
+            if (isMultiValued(type)) {
+                return isAssignable(type, getMultiValuedType(type, valueType)) ? "bindValues(args, " + name + ");"
+                        : "bind(args, " + name + ", false, true);";
+            }
+
+            if (isAssignable(type, "io.lettuce.core.Range")) {
+
+                TypeMirror valueRange = types.getDeclaredType(elements.getTypeElement("io.lettuce.core.Range"),
+                        types.getWildcardType(valueType, null));
+
+                return isAssignable(type, valueRange) ? "bindValueRange(args, " + name + ");"
+                        : "bind(args, " + name + ", false, true);";
+            }
+
+            return isAssignable(type, valueType) && !isAnyObject(type) ? "bindValue(args, " + name + ");"
+                    : "bind(args, " + name + ", false, true);";
+        }
+
+        private String bindArgument(TypeMirror type, String name) {
+
+            if (isByteArray(type)) {
+                return "bindBytes(args, " + name + ");";
+            }
+
+            if (isType(type, "java.lang.String")) {
+                return "bindString(args, " + name + ");";
+            }
+
+            if (isAssignable(type, "java.lang.Number")) {
+                return "bindNumber(args, " + name + ");";
+            }
+
+            if (isAssignable(type, "io.lettuce.core.protocol.ProtocolKeyword")) {
+                return "bindKeyword(args, " + name + ");";
+            }
+
+            return "bindArgument(args, " + name + ");";
+        }
+
+        private TypeMirror getMultiValuedType(TypeMirror type, TypeMirror elementType) {
+
+            if (type.getKind() == TypeKind.ARRAY) {
+                return types.getArrayType(elementType);
+            }
+
+            return types.getDeclaredType(elements.getTypeElement("java.lang.Iterable"),
+                    types.getWildcardType(elementType, null));
+        }
+
+        private boolean isMultiValued(TypeMirror type) {
+            return (type.getKind() == TypeKind.ARRAY && !isByteArray(type)) || isAssignable(type, "java.lang.Iterable");
+        }
+
+        private boolean isNonNullBindable(TypeMirror type) {
+
+            for (String nonNullBindable : NON_NULL_BINDABLE) {
+                if (isAssignable(type, nonNullBindable)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void assertAssignable(Element element, TypeMirror type, TypeMirror codecType) {
+
+            if (!isAssignable(type, codecType)) {
+                throw new ProcessingException("Parameter type " + type + " is not assignable to codec type " + codecType,
+                        element);
+            }
+        }
+
+    }
+
+    private static String getSignature(ExecutableElement method) {
+
+        StringBuilder signature = new StringBuilder(method.getSimpleName());
+
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(',').append(parameter.asType());
+        }
+
+        return signature.toString();
+    }
+
+    private static List<String> parseMethodName(String name, String strategy) {
+
+        if (strategy.equals("METHOD_NAME")) {
+            return Collections.singletonList(name);
+        }
+
+        List<String> parts = new ArrayList<>();
+        StringBuilder buffer = new StringBuilder(name.length());
+        boolean previousUpperCase = false;
+
+        for (char theChar : name.toCharArray()) {
+
+            if (!Character.isUpperCase(theChar)) {
+                buffer.append(theChar);
+                previousUpperCase = false;
+                continue;
+            }
+
+            // Camel hump
+            if (!previousUpperCase && buffer.length() != 0) {
+
+                if (strategy.equals("DOT")) {
+                    buffer.append('.');
+                }
+
+                if (strategy.equals("SPLIT")) {
+                    parts.add(buffer.toString());
+                    buffer = new StringBuilder(name.length());
+                }
+            }
+
+            previousUpperCase = true;
+            buffer.append(theChar);
+        }
+
+        if (buffer.length() != 0) {
+            parts.add(buffer.toString());
+        }
+
+        return parts;
+    }
+
+    private boolean isFuture(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && isAssignable(types.erasure(type), "java.util.concurrent.Future");
+    }
+
+    private boolean isAnyObject(TypeMirror type) {
+
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            return true;
+        }
+
+        return isType(type, "java.lang.Object") || isType(type, "java.io.Serializable") || isType(type, "java.lang.Cloneable");
+    }
+
+    private boolean isType(TypeMirror type, String name) {
+        return type.getKind() == TypeKind.DECLARED && types.isSameType(types.erasure(type), types.erasure(getType(name)));
+    }
+
+    private static boolean isByteArray(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY
+                && ((javax.lang.model.type.ArrayType) type).getComponentType().getKind() == TypeKind.BYTE;
+    }
+
+    private boolean isAssignable(TypeMirror type, String target) {
+
+        TypeElement element = elements.getTypeElement(target);
+        return element != null && types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private boolean isAssignable(TypeMirror type, TypeMirror target) {
+        return types.isAssignable(type, target);
+    }
+
+    private TypeMirror getType(String name) {
+        return elements.getTypeElement(name).asType();
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationType) {
+
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+            TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationType)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String attribute) {
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private static String literal(String value) {
+
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+
+        for (char c : value.toCharArray()) {
+
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Exception reporting a processing error for an {@link Element}.
+     */
+    private static class ProcessingException extends RuntimeException {
+
+        private final Element element;
+
+        ProcessingException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Annotation processing support to generate Redis Command interface implementations at build time.
+ */
+package io.lettuce.core.dynamic.apt;
@@ -29,7 +29,9 @@ import java.lang.annotation.*;
  * <p>
  * Alternatively, a command interface can implement {@link BatchExecutor} to {@link BatchExecutor#flush()} commands before the
  * batch size is reached. Commands remain in a batch queue until the batch size is reached or the queue is
- * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed.
+ * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed unless
+ * {@link #maxLingerMillis()} is configured. A max linger flushes partial batches once the oldest queued command has waited for
+ * the given duration.
  * <p>
  * Batching command interfaces are thread-safe and can be shared amongst multiple threads.
  *
@@ -50,4 +52,13 @@ public @interface BatchSize {
      */
     int value();
 
+    /**
+     * Declares the maximum time in milliseconds that commands remain queued before a partial batch is flushed. Defaults to
+     * {@code 0} which disables time-triggered flushing.
+     *
+     * @return the maximum linger time in milliseconds, {@code 0} to disable.
+     * @since 6.5
+     */
+    long maxLingerMillis() default 0;
+
 }
@@ -0,0 +1,68 @@
+package io.lettuce.core.event.connection;
+
+import io.lettuce.core.event.Event;
+
+/**
+ * Event fired after retry-safe commands of a disconnected node connection were replayed through the routing connection.
+ *
+ * @since 6.5
+ * @see io.lettuce.core.ClientOptions#isFailoverReplay()
+ */
+public class CommandsReplayedEvent implements Event {
+
+    private final String epId;
+
+    private final int replayed;
+
+    private final int failed;
+
+    private final long totalReplayed;
+
+    public CommandsReplayedEvent(String epId, int replayed, int failed, long totalReplayed) {
+        this.epId = epId;
+        this.replayed = replayed;
+        this.failed = failed;
+        this.totalReplayed = totalReplayed;
+    }
+
+    /**
+     * @return the endpoint identifier of the disconnected connection.
+     */
+    public String getEpId() {
+        return epId;
+    }
+
+    /**
+     * @return number of commands replayed with this event.
+     */
+    public int getReplayed() {
+        return replayed;
+    }
+
+    /**
+     * @return number of commands that could not be replayed with this event and were completed exceptionally.
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return total number of commands replayed by the disconnected connection.
+     */
+    public long getTotalReplayed() {
+        return totalReplayed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [epId=").append(epId);
+        sb.append(", replayed=").append(replayed);
+        sb.append(", failed=").append(failed);
+        sb.append(", totalReplayed=").append(totalReplayed);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.lettuce.core.event.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event variant of {@link CommandsReplayedEvent}.
+ *
+ * @since 6.5
+ */
+@Category({ "Lettuce", "Connection Events" })
+@Label("Commands replayed")
+@StackTrace(false)
+class JfrCommandsReplayedEvent extends Event {
+
+    private final String epId;
+
+    private final int replayed;
+
+    private final int failed;
+
+    private final long totalReplayed;
+
+    public JfrCommandsReplayedEvent(CommandsReplayedEvent event) {
+
+        this.epId = event.getEpId();
+        this.replayed = event.getReplayed();
+        this.failed = event.getFailed();
+        this.totalReplayed = event.getTotalReplayed();
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.lettuce.core.event.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event variant of {@link SslHandshakeEvent}.
+ *
+ * @since 6.5
+ */
+@Category({ "Lettuce", "Connection Events" })
+@Label("SSL handshake")
+@StackTrace(false)
+class JfrSslHandshakeEvent extends Event {
+
+    private final String redisUri;
+
+    private final String epId;
+
+    private final String remote;
+
+    @Timespan
+    private final long duration;
+
+    private final boolean success;
+
+    private final String protocol;
+
+    public JfrSslHandshakeEvent(SslHandshakeEvent event) {
+
+        this.redisUri = event.getRedisUri();
+        this.epId = event.getEpId();
+        this.remote = String.valueOf(event.remoteAddress());
+        this.duration = event.getDuration().toNanos();
+        this.success = event.isSuccess();
+        this.protocol = event.getProtocol();
+    }
+
+}
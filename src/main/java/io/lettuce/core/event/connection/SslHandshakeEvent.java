@@ -0,0 +1,48 @@
+package io.lettuce.core.event.connection;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+/**
+ * Event fired once the SSL/TLS handshake of a connection completed, either successfully or with a failure.
+ *
+ * @since 6.5
+ */
+public class SslHandshakeEvent extends ConnectionEventSupport {
+
+    private final Duration duration;
+
+    private final boolean success;
+
+    private final String protocol;
+
+    public SslHandshakeEvent(String redisUri, String epId, String channelId, SocketAddress local, SocketAddress remote,
+            Duration duration, boolean success, String protocol) {
+        super(redisUri, epId, channelId, local, remote);
+        this.duration = duration;
+        this.success = success;
+        this.protocol = protocol;
+    }
+
+    /**
+     * @return the duration of the handshake.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return {@code true} if the handshake completed successfully.
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return the negotiated protocol, e.g. {@code TLSv1.3}. {@code null} if the handshake failed.
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+}
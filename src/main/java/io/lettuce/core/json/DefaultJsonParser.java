@@ -7,23 +7,40 @@
 
 package io.lettuce.core.json;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.IOException;
-import java.nio.ByteBuffer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Default implementation of the {@link JsonParser} that should fit most use cases. Utilizes the Jackson library for maintaining
  * the JSON tree model and provides the ability to create new instances of the {@link JsonValue}, {@link JsonArray} and
  * {@link JsonObject}.
+ * <p>
+ * All instances share a single, thread-safe {@link ObjectMapper} along with its readers and writer. JSON documents are parsed
+ * straight from the {@link ByteBuffer} without copying heap buffers and {@link #toObject(ByteBuffer, Class)} binds the document
+ * directly to the target type without building a JSON tree.
  *
  * @since 6.5
  * @author Tihomir Mateev
  */
 public class DefaultJsonParser implements JsonParser {
 
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+    private static final ObjectReader TREE_READER = OBJECT_MAPPER.reader();
+
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
     @Override
     public JsonValue loadJsonValue(ByteBuffer bytes) {
         return new UnproccessedJsonValue(bytes, this);
@@ -51,19 +68,46 @@ public class DefaultJsonParser implements JsonParser {
 
     @Override
     public JsonValue fromObject(Object object) {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            JsonNode root = objectMapper.valueToTree(object);
+            JsonNode root = OBJECT_MAPPER.valueToTree(object);
             return DelegateJsonValue.wrap(root);
         } catch (IllegalArgumentException e) {
             throw new RedisJsonException("Failed to process the provided object as JSON", e);
         }
     }
 
+    @Override
+    public <T> T toObject(ByteBuffer bytes, Class<T> type) {
+        return read(getReader(type), bytes, type);
+    }
+
+    @Override
+    public <T> JsonCodec<T> createCodec(Class<T> type) {
+
+        ObjectReader reader = getReader(type);
+        return bytes -> read(reader, bytes, type);
+    }
+
+    private static ObjectReader getReader(Class<?> type) {
+        return READERS.computeIfAbsent(type, OBJECT_MAPPER::readerFor);
+    }
+
+    private static <T> T read(ObjectReader reader, ByteBuffer bytes, Class<T> type) {
+
+        try {
+            if (bytes.hasArray()) {
+                return reader.readValue(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            }
+
+            return reader.readValue(new ByteBufferBackedInputStream(bytes.duplicate()));
+        } catch (IOException e) {
+            throw new RedisJsonException("Unable to map the provided JSON to " + type.getName(), e);
+        }
+    }
+
     private JsonValue parse(String value) {
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            JsonNode root = mapper.readTree(value);
+            JsonNode root = TREE_READER.readTree(value);
             return DelegateJsonValue.wrap(root);
         } catch (JsonProcessingException e) {
             throw new RedisJsonException(
@@ -72,11 +116,16 @@ public class DefaultJsonParser implements JsonParser {
     }
 
     private JsonValue parse(ByteBuffer byteBuffer) {
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            byte[] bytes = new byte[byteBuffer.remaining()];
-            byteBuffer.get(bytes);
-            JsonNode root = mapper.readTree(bytes);
+            JsonNode root;
+
+            if (byteBuffer.hasArray()) {
+                root = TREE_READER.readTree(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                        byteBuffer.remaining());
+            } else {
+                root = TREE_READER.readTree(new ByteBufferBackedInputStream(byteBuffer.duplicate()));
+            }
+
             return DelegateJsonValue.wrap(root);
         } catch (IOException e) {
             throw new RedisJsonException("Failed to process the provided value as JSON", e);
@@ -9,7 +9,6 @@ package io.lettuce.core.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.nio.ByteBuffer;
 
@@ -33,8 +32,11 @@ class DelegateJsonValue implements JsonValue {
 
     @Override
     public ByteBuffer asByteBuffer() {
-        byte[] result = node.toString().getBytes();
-        return ByteBuffer.wrap(result);
+        try {
+            return ByteBuffer.wrap(DefaultJsonParser.WRITER.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new RedisJsonException("Unable to serialize the JsonValue", e);
+        }
     }
 
     @Override
@@ -101,9 +103,8 @@ class DelegateJsonValue implements JsonValue {
 
     @Override
     public <T> T toObject(Class<T> type) {
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.treeToValue(node, type);
+            return DefaultJsonParser.OBJECT_MAPPER.treeToValue(node, type);
         } catch (IllegalArgumentException | JsonProcessingException e) {
             throw new RedisJsonException("Unable to map the provided JsonValue to " + type.getName(), e);
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Read-only {@link JsonArray} backed by a range of a raw JSON document. Elements are indexed on first access; element values
+ * are created when they are accessed.
+ *
+ * @since 6.5
+ */
+class IndexedJsonArray extends IndexedJsonValue implements JsonArray {
+
+    private volatile int[] elements;
+
+    IndexedJsonArray(ByteBuffer source, int start, int end, JsonParser parser) {
+        super(source, start, end, parser);
+    }
+
+    @Override
+    public JsonArray add(JsonValue element) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public void addAll(JsonArray element) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public List<JsonValue> asList() {
+
+        return new AbstractList<JsonValue>() {
+
+            @Override
+            public JsonValue get(int index) {
+
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+                }
+
+                return IndexedJsonArray.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return IndexedJsonArray.this.size();
+            }
+
+        };
+    }
+
+    @Override
+    public JsonValue get(int index) {
+
+        int[] elements = getElements();
+
+        if (index < 0 || index * 2 >= elements.length) {
+            return null;
+        }
+
+        return of(source, elements[index * 2], elements[index * 2 + 1], parser);
+    }
+
+    @Override
+    public JsonValue getFirst() {
+        return get(0);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public JsonValue remove(int index) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public JsonValue replace(int index, JsonValue newElement) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public int size() {
+        return getElements().length / 2;
+    }
+
+    @Override
+    public boolean isJsonArray() {
+        return true;
+    }
+
+    @Override
+    public JsonArray asJsonArray() {
+        return this;
+    }
+
+    private int[] getElements() {
+
+        int[] elements = this.elements;
+
+        if (elements == null) {
+            elements = JsonTape.indexArray(source, start, end);
+            this.elements = elements;
+        }
+
+        return elements;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link JsonObject} backed by a range of a raw JSON document. Members are indexed on first access; member values are
+ * created when they are looked up.
+ *
+ * @since 6.5
+ */
+class IndexedJsonObject extends IndexedJsonValue implements JsonObject {
+
+    private volatile int[] members;
+
+    IndexedJsonObject(ByteBuffer source, int start, int end, JsonParser parser) {
+        super(source, start, end, parser);
+    }
+
+    @Override
+    public JsonObject put(String key, JsonValue element) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public JsonValue get(String key) {
+
+        int[] members = getMembers();
+        byte[] expected = key.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < members.length; i += 4) {
+            if (keyEquals(members[i], members[i + 1], key, expected)) {
+                return of(source, members[i + 2], members[i + 3], parser);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public JsonValue remove(String key) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public int size() {
+        return getMembers().length / 4;
+    }
+
+    @Override
+    public boolean isJsonObject() {
+        return true;
+    }
+
+    @Override
+    public JsonObject asJsonObject() {
+        return this;
+    }
+
+    private boolean keyEquals(int keyStart, int keyEnd, String key, byte[] expected) {
+
+        int from = keyStart + 1;
+        int to = keyEnd - 1;
+
+        if (JsonTape.containsEscape(source, from, to)) {
+            return key.equals(new IndexedJsonValue(source, keyStart, keyEnd, parser).asString());
+        }
+
+        if (to - from != expected.length) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            if (source.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int[] getMembers() {
+
+        int[] members = this.members;
+
+        if (members == null) {
+            members = JsonTape.indexObject(source, start, end);
+            this.members = members;
+        }
+
+        return members;
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link JsonValue} backed by a range of a raw JSON document. The value type is determined from the first byte
+ * without parsing. Objects and arrays index their direct children on first access through {@link JsonTape} and create child
+ * values on demand, so that only the parts of the document that are read get decoded. Scalars are decoded when accessed.
+ *
+ * @since 6.5
+ * @see ProjectingJsonParser
+ */
+class IndexedJsonValue implements JsonValue {
+
+    static final String READ_ONLY = "Projected JSON values are read-only, use JsonParser.createJsonValue(ByteBuffer) "
+            + "to obtain a modifiable copy";
+
+    protected final ByteBuffer source;
+
+    protected final int start;
+
+    protected final int end;
+
+    protected final JsonParser parser;
+
+    private volatile JsonValue decoded;
+
+    IndexedJsonValue(ByteBuffer source, int start, int end, JsonParser parser) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.parser = parser;
+    }
+
+    /**
+     * Create a {@link JsonValue} for the JSON document contained in the remaining bytes of {@code bytes}.
+     *
+     * @param bytes the raw JSON document
+     * @param parser the {@link JsonParser} to decode scalars and to bind values
+     * @return the {@link JsonValue}
+     */
+    static JsonValue load(ByteBuffer bytes, JsonParser parser) {
+
+        int start = JsonTape.skipWhitespace(bytes, bytes.position(), bytes.limit());
+        int end = JsonTape.trimWhitespace(bytes, start, bytes.limit());
+
+        if (start == end) {
+            throw new RedisJsonException("Empty JSON document");
+        }
+
+        return of(bytes, start, end, parser);
+    }
+
+    static IndexedJsonValue of(ByteBuffer source, int start, int end, JsonParser parser) {
+
+        switch (source.get(start)) {
+            case '{':
+                return new IndexedJsonObject(source, start, end, parser);
+            case '[':
+                return new IndexedJsonArray(source, start, end, parser);
+            default:
+                return new IndexedJsonValue(source, start, end, parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StandardCharsets.UTF_8.decode(slice(start, end)).toString();
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        return slice(start, end);
+    }
+
+    @Override
+    public boolean isJsonArray() {
+        return false;
+    }
+
+    @Override
+    public JsonArray asJsonArray() {
+        return null;
+    }
+
+    @Override
+    public boolean isJsonObject() {
+        return false;
+    }
+
+    @Override
+    public JsonObject asJsonObject() {
+        return null;
+    }
+
+    @Override
+    public boolean isString() {
+        return firstByte() == '"';
+    }
+
+    @Override
+    public String asString() {
+
+        if (!isString()) {
+            return null;
+        }
+
+        if (!JsonTape.containsEscape(source, start + 1, end - 1)) {
+            return StandardCharsets.UTF_8.decode(slice(start + 1, end - 1)).toString();
+        }
+
+        return decode().asString();
+    }
+
+    @Override
+    public boolean isNumber() {
+        byte b = firstByte();
+        return b == '-' || (b >= '0' && b <= '9');
+    }
+
+    @Override
+    public Number asNumber() {
+        return isNumber() ? decode().asNumber() : null;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        byte b = firstByte();
+        return b == 't' || b == 'f';
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return isBoolean() ? firstByte() == 't' : null;
+    }
+
+    @Override
+    public boolean isNull() {
+        return firstByte() == 'n';
+    }
+
+    @Override
+    public <T> T toObject(Class<T> type) {
+        return parser.toObject(slice(start, end), type);
+    }
+
+    ByteBuffer slice(int from, int to) {
+
+        ByteBuffer slice = source.duplicate();
+        slice.limit(to);
+        slice.position(from);
+        return slice;
+    }
+
+    private byte firstByte() {
+        return source.get(start);
+    }
+
+    private JsonValue decode() {
+
+        JsonValue decoded = this.decoded;
+
+        if (decoded == null) {
+            decoded = parser.createJsonValue(slice(start, end));
+            this.decoded = decoded;
+        }
+
+        return decoded;
+    }
+
+}
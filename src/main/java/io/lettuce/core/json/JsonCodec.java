@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Codec that decodes a JSON document, as returned by RedisJSON commands, directly into a value of type {@code T} without
+ * creating an intermediate {@link JsonValue}.
+ * <p>
+ * By default, values are decoded as soon as the response is read, that is on the I/O thread. A {@link #lazy(JsonCodec) lazy}
+ * codec retains the raw response and decodes each element on first access on the thread that consumes the result. Lazy
+ * decoding keeps CPU-intensive binding off the I/O thread at the cost of copying the response bytes.
+ * <p>
+ * Codec implementations must be thread-safe.
+ *
+ * @param <T> the decoded type.
+ * @since 6.5
+ * @see JsonParser#createCodec(Class)
+ */
+@FunctionalInterface
+public interface JsonCodec<T> {
+
+    /**
+     * Decode the JSON document contained in {@code bytes}. The {@link ByteBuffer} is only valid during the call and must not be
+     * retained.
+     *
+     * @param bytes the JSON document.
+     * @return the decoded value.
+     * @throws RedisJsonException if the JSON document cannot be decoded.
+     */
+    T decode(ByteBuffer bytes);
+
+    /**
+     * Returns {@code true} if values are decoded on first access instead of on the I/O thread.
+     *
+     * @return {@code true} if values are decoded on first access.
+     */
+    default boolean isLazy() {
+        return false;
+    }
+
+    /**
+     * Create a {@link JsonCodec} that binds JSON documents to {@code type} using the given {@link JsonParser}.
+     *
+     * @param parser the {@link JsonParser}, must not be {@code null}.
+     * @param type the target type, must not be {@code null}.
+     * @param <T> the target type.
+     * @return the {@link JsonCodec}.
+     */
+    static <T> JsonCodec<T> of(JsonParser parser, Class<T> type) {
+
+        LettuceAssert.notNull(parser, "JsonParser must not be null");
+        LettuceAssert.notNull(type, "Type must not be null");
+
+        return parser.createCodec(type);
+    }
+
+    /**
+     * Create a {@link JsonCodec} that defers decoding through {@code codec} to the first access of each value.
+     *
+     * @param codec the codec to decode values, must not be {@code null}.
+     * @param <T> the decoded type.
+     * @return the lazy {@link JsonCodec}.
+     */
+    static <T> JsonCodec<T> lazy(JsonCodec<T> codec) {
+
+        LettuceAssert.notNull(codec, "JsonCodec must not be null");
+
+        if (codec.isLazy()) {
+            return codec;
+        }
+
+        return new JsonCodec<T>() {
+
+            @Override
+            public T decode(ByteBuffer bytes) {
+                return codec.decode(bytes);
+            }
+
+            @Override
+            public boolean isLazy() {
+                return true;
+            }
+
+        };
+    }
+
+}
@@ -75,4 +75,31 @@ public interface JsonParser {
      */
     JsonValue fromObject(Object object);
 
+    /**
+     * Bind the JSON document contained in the provided {@link ByteBuffer} to the given type. Implementations may bind the
+     * document directly without creating an intermediate {@link JsonValue}. The position of the {@link ByteBuffer} is not
+     * changed.
+     *
+     * @param bytes the {@link ByteBuffer} containing the JSON document
+     * @param type the target type
+     * @param <T> the target type
+     * @return the newly created instance of the provided type with the data from the JSON document
+     * @throws RedisJsonException if the JSON document cannot be mapped to the provided type
+     */
+    default <T> T toObject(ByteBuffer bytes, Class<T> type) {
+        return createJsonValue(bytes.duplicate()).toObject(type);
+    }
+
+    /**
+     * Create a {@link JsonCodec} that binds JSON documents to the given type. The default implementation delegates to
+     * {@link #toObject(ByteBuffer, Class)}; implementations may return a codec that resolves type-specific state only once.
+     *
+     * @param type the target type
+     * @param <T> the target type
+     * @return the {@link JsonCodec} for the provided type
+     */
+    default <T> JsonCodec<T> createCodec(Class<T> type) {
+        return bytes -> toObject(bytes, type);
+    }
+
 }
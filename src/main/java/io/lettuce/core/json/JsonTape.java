@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Structural scanner for raw JSON documents. Computes the offsets of the direct children of a JSON object or array without
+ * decoding or allocating the children. Nested values are skipped by matching brackets, their content is only scanned when they
+ * are indexed themselves.
+ * <p>
+ * Offsets are absolute indexes into the {@link ByteBuffer}, end offsets are exclusive. The scanner does not validate values it
+ * skips; malformed content is reported once the affected value is decoded.
+ *
+ * @since 6.5
+ */
+final class JsonTape {
+
+    private static final int[] EMPTY = new int[0];
+
+    private JsonTape() {
+    }
+
+    /**
+     * Index the members of the JSON object starting at {@code start}.
+     *
+     * @return member offsets, four entries per member: key start, key end (both including the quotes), value start and value
+     *         end.
+     */
+    static int[] indexObject(ByteBuffer buffer, int start, int end) {
+
+        int index = skipWhitespace(buffer, start + 1, end);
+
+        if (index < end && buffer.get(index) == '}') {
+            return EMPTY;
+        }
+
+        int[] tape = new int[16];
+        int size = 0;
+
+        while (true) {
+
+            if (index >= end || buffer.get(index) != '"') {
+                throw malformed(index);
+            }
+
+            int keyEnd = skipString(buffer, index, end);
+            int colon = skipWhitespace(buffer, keyEnd, end);
+
+            if (colon >= end || buffer.get(colon) != ':') {
+                throw malformed(colon);
+            }
+
+            int valueStart = skipWhitespace(buffer, colon + 1, end);
+            int valueEnd = skipValue(buffer, valueStart, end);
+
+            if (size + 4 > tape.length) {
+                tape = Arrays.copyOf(tape, tape.length * 2);
+            }
+
+            tape[size++] = index;
+            tape[size++] = keyEnd;
+            tape[size++] = valueStart;
+            tape[size++] = valueEnd;
+
+            index = nextElement(buffer, valueEnd, end, '}');
+
+            if (index == -1) {
+                return Arrays.copyOf(tape, size);
+            }
+        }
+    }
+
+    /**
+     * Index the elements of the JSON array starting at {@code start}.
+     *
+     * @return element offsets, two entries per element: value start and value end.
+     */
+    static int[] indexArray(ByteBuffer buffer, int start, int end) {
+
+        int index = skipWhitespace(buffer, start + 1, end);
+
+        if (index < end && buffer.get(index) == ']') {
+            return EMPTY;
+        }
+
+        int[] tape = new int[16];
+        int size = 0;
+
+        while (true) {
+
+            int valueEnd = skipValue(buffer, index, end);
+
+            if (size + 2 > tape.length) {
+                tape = Arrays.copyOf(tape, tape.length * 2);
+            }
+
+            tape[size++] = index;
+            tape[size++] = valueEnd;
+
+            index = nextElement(buffer, valueEnd, end, ']');
+
+            if (index == -1) {
+                return Arrays.copyOf(tape, size);
+            }
+        }
+    }
+
+    /**
+     * Skip the JSON value starting at {@code index}.
+     *
+     * @return the end offset of the value.
+     */
+    static int skipValue(ByteBuffer buffer, int index, int end) {
+
+        if (index >= end) {
+            throw malformed(index);
+        }
+
+        switch (buffer.get(index)) {
+            case '"':
+                return skipString(buffer, index, end);
+            case '{':
+            case '[':
+                return skipContainer(buffer, index, end);
+            default:
+                return skipLiteral(buffer, index, end);
+        }
+    }
+
+    /**
+     * Skip the JSON string starting with the opening quote at {@code index}.
+     *
+     * @return the offset after the closing quote.
+     */
+    static int skipString(ByteBuffer buffer, int index, int end) {
+
+        for (int i = index + 1; i < end; i++) {
+
+            byte b = buffer.get(i);
+
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i + 1;
+            }
+        }
+
+        throw malformed(index);
+    }
+
+    static int skipWhitespace(ByteBuffer buffer, int index, int end) {
+
+        while (index < end && isWhitespace(buffer.get(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    static int trimWhitespace(ByteBuffer buffer, int start, int end) {
+
+        while (end > start && isWhitespace(buffer.get(end - 1))) {
+            end--;
+        }
+
+        return end;
+    }
+
+    /**
+     * Check whether the range contains an escape sequence.
+     */
+    static boolean containsEscape(ByteBuffer buffer, int start, int end) {
+
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\\') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Advance to the next element of a container.
+     *
+     * @return the start offset of the next element or {@code -1} if the container is closed.
+     */
+    private static int nextElement(ByteBuffer buffer, int index, int end, char close) {
+
+        index = skipWhitespace(buffer, index, end);
+
+        if (index < end) {
+
+            byte b = buffer.get(index);
+
+            if (b == close) {
+                return -1;
+            }
+
+            if (b == ',') {
+                return skipWhitespace(buffer, index + 1, end);
+            }
+        }
+
+        throw malformed(index);
+    }
+
+    private static int skipContainer(ByteBuffer buffer, int index, int end) {
+
+        int depth = 0;
+
+        for (int i = index; i < end; i++) {
+
+            byte b = buffer.get(i);
+
+            if (b == '"') {
+                i = skipString(buffer, i, end) - 1;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+
+        throw malformed(index);
+    }
+
+    private static int skipLiteral(ByteBuffer buffer, int index, int end) {
+
+        int i = index;
+
+        while (i < end) {
+
+            byte b = buffer.get(i);
+
+            if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                break;
+            }
+
+            i++;
+        }
+
+        if (i == index) {
+            throw malformed(index);
+        }
+
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static RedisJsonException malformed(int index) {
+        return new RedisJsonException("Malformed JSON document at offset " + index);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link JsonParser} that loads JSON documents returned by RedisJSON commands as read-only projections of the raw response.
+ * Instead of building a tree of the whole document, the document is indexed structurally on access and only the values that are
+ * read get decoded. Parse time and memory usage are therefore proportional to the part of the document that is read, which
+ * suits large documents of which only a few fields are used.
+ * <p>
+ * Values loaded by this parser cannot be modified. {@link JsonObject} and {@link JsonArray} modifications throw
+ * {@link UnsupportedOperationException}, use {@link #createJsonValue(ByteBuffer)} to obtain a modifiable copy. All other
+ * operations behave like {@link DefaultJsonParser}.
+ * <p>
+ * Configure the parser through {@link io.lettuce.core.ClientOptions.Builder#jsonParser(reactor.core.publisher.Mono)}.
+ *
+ * @since 6.5
+ */
+public class ProjectingJsonParser extends DefaultJsonParser {
+
+    @Override
+    public JsonValue loadJsonValue(ByteBuffer bytes) {
+        return IndexedJsonValue.load(bytes, this);
+    }
+
+}
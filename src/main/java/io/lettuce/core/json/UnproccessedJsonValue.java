@@ -16,6 +16,10 @@ import java.nio.ByteBuffer;
  * that is currently being used. The purpose of this class is to provide a lazy initialization mechanism and avoid any
  * deserialization in the event loop that processes the data coming from the Redis server.
  * <p>
+ * The source data is retained, {@link #toString()} and {@link #asByteBuffer()} return the source data as long as no mutable
+ * {@link JsonObject} or {@link JsonArray} view was obtained. {@link #toObject(Class)} binds the source data directly if the
+ * value was not deserialized yet.
+ * <p>
  * This class is thread-safe and can be used in a multi-threaded environment.
  *
  * @author Tihomir Mateev
@@ -28,6 +32,8 @@ class UnproccessedJsonValue implements JsonValue {
 
     private final ByteBuffer unprocessedData;
 
+    private volatile boolean modifiable;
+
     /**
      * Create a new instance of the {@link UnproccessedJsonValue}.
      *
@@ -41,36 +47,24 @@ class UnproccessedJsonValue implements JsonValue {
 
     @Override
     public String toString() {
-        if (isDeserialized()) {
+        if (modifiable) {
             return jsonValue.toString();
         }
 
-        synchronized (this) {
-            if (isDeserialized()) {
-                return jsonValue.toString();
-            }
-
-            // if no deserialization took place, so no modification took place
-            // in this case we can decode the source data as is
-            return StringCodec.UTF8.decodeValue(unprocessedData);
-        }
+        // no mutable view was handed out, so no modification took place
+        // in this case we can decode the source data as is
+        return StringCodec.UTF8.decodeValue(unprocessedData.duplicate());
     }
 
     @Override
     public ByteBuffer asByteBuffer() {
-        if (isDeserialized()) {
+        if (modifiable) {
             return jsonValue.asByteBuffer();
         }
 
-        synchronized (this) {
-            if (isDeserialized()) {
-                return jsonValue.asByteBuffer();
-            }
-
-            // if no deserialization took place, so no modification took place
-            // in this case we can decode the source data as is
-            return unprocessedData;
-        }
+        // no mutable view was handed out, so no modification took place
+        // in this case we can return the source data as is
+        return unprocessedData.duplicate();
     }
 
     @Override
@@ -82,6 +76,7 @@ class UnproccessedJsonValue implements JsonValue {
     @Override
     public JsonArray asJsonArray() {
         lazilyDeserialize();
+        modifiable = true;
         return jsonValue.asJsonArray();
     }
 
@@ -94,6 +89,7 @@ class UnproccessedJsonValue implements JsonValue {
     @Override
     public JsonObject asJsonObject() {
         lazilyDeserialize();
+        modifiable = true;
         return jsonValue.asJsonObject();
     }
 
@@ -141,7 +137,11 @@ class UnproccessedJsonValue implements JsonValue {
 
     @Override
     public <T> T toObject(Class<T> targetType) {
-        lazilyDeserialize();
+        if (!isDeserialized()) {
+            // bind straight from the source data without building a tree
+            return parser.toObject(unprocessedData, targetType);
+        }
+
         return jsonValue.toObject(targetType);
     }
 
@@ -149,8 +149,7 @@ class UnproccessedJsonValue implements JsonValue {
         if (!isDeserialized()) {
             synchronized (this) {
                 if (!isDeserialized()) {
-                    jsonValue = parser.createJsonValue(unprocessedData);
-                    unprocessedData.clear();
+                    jsonValue = parser.createJsonValue(unprocessedData.duplicate());
                 }
             }
         }
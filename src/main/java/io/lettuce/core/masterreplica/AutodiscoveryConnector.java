@@ -133,6 +133,10 @@ class AutodiscoveryConnector<K, V> implements MasterReplicaConnector<K, V> {
             MasterReplicaChannelWriter channelWriter = new MasterReplicaChannelWriter(connectionProvider,
                     redisClient.getResources(), redisClient.getOptions());
 
+            if (redisClient.getOptions().isFailoverReplay()) {
+                connectionProvider.setReplayWriter(channelWriter);
+            }
+
             StatefulRedisMasterReplicaConnectionImpl<K, V> connection = new StatefulRedisMasterReplicaConnectionImpl<>(
                     channelWriter, codec, redisURI.getTimeout(), redisClient.getOptions().getJsonParser());
 
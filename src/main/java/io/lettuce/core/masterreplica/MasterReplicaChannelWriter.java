@@ -28,10 +28,14 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.CommandWrapper;
 import io.lettuce.core.protocol.ConnectionFacade;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.ProtocolKeyword;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.ReplayWriter;
+import io.lettuce.core.protocol.TransactionalCommand;
 import io.lettuce.core.resource.ClientResources;
 
 /**
@@ -40,7 +44,7 @@ import io.lettuce.core.resource.ClientResources;
  * @author Mark Paluch
  * @author Jim Brunner
  */
-class MasterReplicaChannelWriter implements RedisChannelWriter {
+class MasterReplicaChannelWriter implements RedisChannelWriter, ReplayWriter {
 
     private MasterReplicaConnectionProvider<?, ?> masterReplicaConnectionProvider;
 
@@ -94,6 +98,23 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
         return command;
     }
 
+    /**
+     * Replay a retry-safe command of a disconnected node connection on another known node. Commands are not replayed while a
+     * transaction is active as transactions are bound to the master connection.
+     */
+    @Override
+    public boolean replay(RedisCommand<?, ?, ?> command, DefaultEndpoint failed) {
+
+        MasterReplicaConnectionProvider<?, ?> provider = this.masterReplicaConnectionProvider;
+
+        if (closed || provider == null || inTransaction || CommandWrapper.unwrap(command, TransactionalCommand.class) != null
+                || !readOnlyCommands.isReadOnly(command)) {
+            return false;
+        }
+
+        return provider.replay(command, failed);
+    }
+
     @SuppressWarnings("unchecked")
     private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
             Throwable throwable) {
@@ -6,20 +6,28 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import io.lettuce.core.CommandListenerWriter;
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.LagAwareReadFrom;
 import io.lettuce.core.OrderingReadFromAccessor;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
@@ -27,10 +35,16 @@ import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.AsyncConnectionProvider;
 import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.models.role.RedisInstance;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandExpiryWriter;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.ReplayWriter;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -58,10 +72,28 @@ class MasterReplicaConnectionProvider<K, V> {
 
     private ReadFrom readFrom;
 
+    private final RedisClient redisClient;
+
+    private final NodeConnectionFactory nodeConnectionFactory;
+
+    private final AtomicBoolean lagPollInProgress = new AtomicBoolean();
+
+    private ScheduledFuture<?> lagPolling;
+
+    private RedisURI lagPollingUri;
+
+    private CompletableFuture<StatefulRedisConnection<String, String>> lagPollingConnection;
+
+    private volatile ReplayWriter replayWriter;
+
+    private final Set<DefaultEndpoint> pendingReplays = ConcurrentHashMap.newKeySet();
+
     MasterReplicaConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec, RedisURI initialRedisUri,
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
 
+        this.redisClient = redisClient;
         this.initialRedisUri = initialRedisUri;
+        this.nodeConnectionFactory = new RedisClientNodeConnectionFactory(redisClient);
 
         Function<ConnectionKey, CompletionStage<StatefulRedisConnection<K, V>>> connectionFactory = new DefaultConnectionFactory(
                 redisClient, redisCodec);
@@ -229,6 +261,11 @@ class MasterReplicaConnectionProvider<K, V> {
      */
     @SuppressWarnings("unchecked")
     public CompletableFuture<Void> closeAsync() {
+
+        synchronized (stateLock) {
+            stopLagPolling();
+        }
+
         return connectionProvider.close();
     }
 
@@ -255,6 +292,138 @@ class MasterReplicaConnectionProvider<K, V> {
         }
     }
 
+    /**
+     * Set the {@link ReplayWriter} to replay retry-safe commands of disconnected node connections.
+     *
+     * @param replayWriter the routing writer.
+     * @see DefaultEndpoint#setReplayWriter(ReplayWriter)
+     */
+    public void setReplayWriter(ReplayWriter replayWriter) {
+
+        synchronized (stateLock) {
+            this.replayWriter = replayWriter;
+            connectionProvider.forEach(connection -> applyReplayWriter(connection, replayWriter));
+        }
+    }
+
+    /**
+     * Replay a retry-safe command of a disconnected node connection on another known node. Nodes selected by {@link ReadFrom}
+     * are preferred over the remaining known nodes. Connections that write to {@code failed} are skipped. If only connections
+     * that are still being established are left, {@code failed} replays its buffer once one of them completes.
+     *
+     * @param command the retry-safe command.
+     * @param failed the disconnected endpoint.
+     * @return {@code true} if the command was dispatched to another node.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    boolean replay(RedisCommand<?, ?, ?> command, DefaultEndpoint failed) {
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        for (RedisNodeDescription node : getReplayCandidates()) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> future = getConnection(node);
+
+            if (!future.isDone()) {
+                pending.add(future);
+                continue;
+            }
+
+            if (future.isCompletedExceptionally()) {
+                continue;
+            }
+
+            StatefulRedisConnection<K, V> connection = future.join();
+
+            if (!connection.isOpen() || unwrapDefaultEndpoint(connection) == failed) {
+                continue;
+            }
+
+            connection.dispatch((RedisCommand) command);
+            return true;
+        }
+
+        if (!pending.isEmpty() && pendingReplays.add(failed)) {
+            CompletableFuture.anyOf(pending.toArray(new CompletableFuture[0])).whenComplete((ignore, throwable) -> {
+                pendingReplays.remove(failed);
+                failed.replayBufferedCommands();
+            });
+        }
+
+        return false;
+    }
+
+    private Collection<RedisNodeDescription> getReplayCandidates() {
+
+        synchronized (stateLock) {
+
+            Set<RedisNodeDescription> candidates = new LinkedHashSet<>();
+
+            if (readFrom != null) {
+                candidates.addAll(readFrom.select(new ReadFrom.Nodes() {
+
+                    @Override
+                    public List<RedisNodeDescription> getNodes() {
+                        return knownNodes;
+                    }
+
+                    @Override
+                    public Iterator<RedisNodeDescription> iterator() {
+                        return knownNodes.iterator();
+                    }
+
+                }));
+            }
+
+            candidates.addAll(knownNodes);
+            return candidates;
+        }
+    }
+
+    /**
+     * Replay retry-safe commands buffered by disconnected node connections after the topology has changed.
+     */
+    private void replayBufferedCommands() {
+
+        if (replayWriter == null) {
+            return;
+        }
+
+        connectionProvider.forEach(connection -> {
+
+            DefaultEndpoint endpoint = unwrapDefaultEndpoint(connection);
+
+            if (endpoint != null) {
+                endpoint.replayBufferedCommands();
+            }
+        });
+    }
+
+    private static void applyReplayWriter(StatefulRedisConnection<?, ?> connection, ReplayWriter replayWriter) {
+
+        DefaultEndpoint endpoint = replayWriter != null ? unwrapDefaultEndpoint(connection) : null;
+
+        if (endpoint != null) {
+            endpoint.setReplayWriter(replayWriter);
+        }
+    }
+
+    private static DefaultEndpoint unwrapDefaultEndpoint(StatefulRedisConnection<?, ?> connection) {
+
+        if (!(connection instanceof RedisChannelHandler)) {
+            return null;
+        }
+
+        RedisChannelWriter writer = ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+
+        while (writer instanceof CommandListenerWriter || writer instanceof CommandExpiryWriter) {
+            writer = writer instanceof CommandListenerWriter ? ((CommandListenerWriter) writer).getDelegate()
+                    : ((CommandExpiryWriter) writer).getDelegate();
+        }
+
+        return writer instanceof DefaultEndpoint ? (DefaultEndpoint) writer : null;
+    }
+
     /**
      * @return all connections that are connected.
      */
@@ -275,8 +444,55 @@ class MasterReplicaConnectionProvider<K, V> {
             this.knownNodes.clear();
             this.knownNodes.addAll(knownNodes);
 
+            if (readFrom instanceof LagAwareReadFrom) {
+                recordReplicationOffsets((LagAwareReadFrom) readFrom, knownNodes);
+            }
+
             closeStaleConnections();
         }
+
+        replayBufferedCommands();
+    }
+
+    /**
+     * Apply a master switch to the known nodes without a full topology discovery. The new master replaces the current master
+     * and is no longer considered a replica. Other replicas are retained.
+     *
+     * @param host the host of the new master.
+     * @param port the port of the new master.
+     * @return the new known nodes or {@code null} if the master is unknown or did not change.
+     */
+    public List<RedisNodeDescription> switchMaster(String host, int port) {
+
+        List<RedisNodeDescription> nodes = new ArrayList<>();
+
+        synchronized (stateLock) {
+
+            RedisNodeDescription master = findMaster();
+
+            if (master == null || isNode(master, host, port)) {
+                return null;
+            }
+
+            nodes.add(new RedisMasterReplicaNode(host, port, master.getUri(), RedisInstance.Role.UPSTREAM));
+
+            for (RedisNodeDescription knownNode : knownNodes) {
+                if (knownNode.getRole().isReplica() && !isNode(knownNode, host, port)) {
+                    nodes.add(knownNode);
+                }
+            }
+        }
+
+        setKnownNodes(nodes);
+        return nodes;
+    }
+
+    private static boolean isNode(RedisNodeDescription node, String host, int port) {
+        return isNode(node.getUri(), host, port);
+    }
+
+    private static boolean isNode(RedisURI uri, String host, int port) {
+        return uri.getPort() == port && host.equals(uri.getHost());
     }
 
     /**
@@ -290,19 +506,159 @@ class MasterReplicaConnectionProvider<K, V> {
 
     public void setReadFrom(ReadFrom readFrom) {
         synchronized (stateLock) {
+
             this.readFrom = readFrom;
+            stopLagPolling();
+
+            if (readFrom instanceof LagAwareReadFrom) {
+                recordReplicationOffsets((LagAwareReadFrom) readFrom, knownNodes);
+                startLagPolling((LagAwareReadFrom) readFrom);
+            }
+        }
+    }
+
+    private void startLagPolling(LagAwareReadFrom readFrom) {
+
+        long interval = readFrom.getPollInterval().toNanos();
+        lagPolling = redisClient.getResources().eventExecutorGroup()
+                .scheduleWithFixedDelay(() -> pollReplicationOffsets(readFrom), interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    private void stopLagPolling() {
+
+        if (lagPolling != null) {
+            lagPolling.cancel(false);
+            lagPolling = null;
+        }
+
+        closeLagPollingConnection();
+    }
+
+    /**
+     * Poll {@code INFO replication} on the master and record replication offsets. Polling uses a dedicated connection so that
+     * polls never interleave with transactions or wait behind blocking commands of application connections. A poll is skipped
+     * while the previous one is still in progress.
+     */
+    private void pollReplicationOffsets(LagAwareReadFrom readFrom) {
+
+        RedisNodeDescription master;
+        CompletableFuture<StatefulRedisConnection<String, String>> connection;
+
+        synchronized (stateLock) {
+
+            if (this.readFrom != readFrom) {
+                return;
+            }
+
+            master = findMaster();
+
+            if (master == null || !lagPollInProgress.compareAndSet(false, true)) {
+                return;
+            }
+
+            connection = getLagPollingConnection(master.getUri());
+        }
+
+        connection.thenCompose(it -> new ReplicaTopologyProvider(it, master.getUri()).getNodesAsync())
+                .whenComplete((nodes, throwable) -> {
+
+                    lagPollInProgress.set(false);
+
+                    if (throwable != null) {
+                        if (debugEnabled) {
+                            logger.debug("Cannot poll replication offsets from " + master.getUri(), throwable);
+                        }
+                        return;
+                    }
+
+                    recordReplicationOffsets(readFrom, nodes);
+                });
+    }
+
+    /**
+     * Return the dedicated lag polling connection to {@code master}. Reconnects if the master changed or the connection is no
+     * longer usable.
+     */
+    private CompletableFuture<StatefulRedisConnection<String, String>> getLagPollingConnection(RedisURI master) {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> connection = this.lagPollingConnection;
+
+        if (connection != null && lagPollingUri != null && isNode(master, lagPollingUri.getHost(), lagPollingUri.getPort())) {
+
+            if (!connection.isDone()) {
+                return connection;
+            }
+
+            if (!connection.isCompletedExceptionally() && connection.join().isOpen()) {
+                return connection;
+            }
+        }
+
+        closeLagPollingConnection();
+
+        this.lagPollingUri = master;
+        this.lagPollingConnection = nodeConnectionFactory.connectToNodeAsync(StringCodec.UTF8, master);
+
+        return this.lagPollingConnection;
+    }
+
+    private void closeLagPollingConnection() {
+
+        if (lagPollingConnection != null) {
+            lagPollingConnection.thenAccept(StatefulConnection::closeAsync);
+            lagPollingConnection = null;
+            lagPollingUri = null;
+        }
+    }
+
+    private static void recordReplicationOffsets(LagAwareReadFrom readFrom, Collection<RedisNodeDescription> nodes) {
+
+        long upstreamOffset = -1;
+
+        for (RedisNodeDescription node : nodes) {
+            if (node.getRole().isUpstream() && node instanceof RedisMasterReplicaNode) {
+                upstreamOffset = ((RedisMasterReplicaNode) node).getReplicationOffset();
+            }
+        }
+
+        if (upstreamOffset < 0) {
+            return;
+        }
+
+        for (RedisNodeDescription node : nodes) {
+
+            if (!node.getRole().isReplica() || !(node instanceof RedisMasterReplicaNode)) {
+                continue;
+            }
+
+            long replicaOffset = ((RedisMasterReplicaNode) node).getReplicationOffset();
+
+            if (replicaOffset >= 0) {
+                readFrom.recordOffsets(node.getUri().getHost(), node.getUri().getPort(), upstreamOffset, replicaOffset);
+            }
         }
     }
 
     public RedisNodeDescription getMaster() {
 
+        RedisNodeDescription master = findMaster();
+
+        if (master == null) {
+            throw new RedisException(String.format("Master is currently unknown: %s", knownNodes));
+        }
+
+        return master;
+    }
+
+    private RedisNodeDescription findMaster() {
+
         for (RedisNodeDescription knownNode : knownNodes) {
             if (knownNode.getRole().isUpstream()) {
                 return knownNode;
             }
         }
 
-        throw new RedisException(String.format("Master is currently unknown: %s", knownNodes));
+        return null;
     }
 
     class DefaultConnectionFactory implements Function<ConnectionKey, CompletionStage<StatefulRedisConnection<K, V>>> {
@@ -327,6 +683,7 @@ class MasterReplicaConnectionProvider<K, V> {
             connectionFuture.thenAccept(connection -> {
                 synchronized (stateLock) {
                     connection.setAutoFlushCommands(autoFlushCommands);
+                    applyReplayWriter(connection, replayWriter);
                 }
             });
 
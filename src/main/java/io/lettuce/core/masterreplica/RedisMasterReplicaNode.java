@@ -15,10 +15,17 @@ class RedisMasterReplicaNode implements RedisNodeDescription {
 
     private final Role role;
 
+    private final long replicationOffset;
+
     RedisMasterReplicaNode(String host, int port, RedisURI seed, Role role) {
+        this(host, port, seed, role, -1);
+    }
+
+    RedisMasterReplicaNode(String host, int port, RedisURI seed, Role role, long replicationOffset) {
 
         this.redisURI = RedisURI.builder(seed).withHost(host).withPort(port).build();
         this.role = role;
+        this.replicationOffset = replicationOffset;
     }
 
     @Override
@@ -31,6 +38,13 @@ class RedisMasterReplicaNode implements RedisNodeDescription {
         return role;
     }
 
+    /**
+     * @return the replication offset reported by the upstream node at discovery time or {@code -1} if unknown.
+     */
+    long getReplicationOffset() {
+        return replicationOffset;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -59,6 +59,11 @@ class ReplicaTopologyProvider implements TopologyProvider {
 
     public static final Pattern PORT_PATTERN = Pattern.compile("port\\=([\\d]+)");
 
+    public static final Pattern OFFSET_PATTERN = Pattern.compile("offset\\=([\\d]+)");
+
+    public static final Pattern MASTER_REPL_OFFSET_PATTERN = Pattern.compile("^master_repl_offset\\:(\\d+)$",
+            Pattern.MULTILINE);
+
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(ReplicaTopologyProvider.class);
 
     private final StatefulRedisConnection<?, ?> connection;
@@ -132,7 +137,7 @@ class ReplicaTopologyProvider implements TopologyProvider {
             throw new IllegalStateException("No role property in info " + info);
         }
 
-        return getRedisNodeDescription(matcher);
+        return getRedisNodeDescription(matcher, info);
     }
 
     private List<RedisNodeDescription> getReplicasFromInfo(String info) {
@@ -145,13 +150,21 @@ class ReplicaTopologyProvider implements TopologyProvider {
             String group = matcher.group(2);
             String ip = getNested(IP_PATTERN, group, 1);
             String port = getNested(PORT_PATTERN, group, 1);
+            Matcher offset = OFFSET_PATTERN.matcher(group);
 
-            replicas.add(new RedisMasterReplicaNode(ip, Integer.parseInt(port), redisURI, RedisInstance.Role.SLAVE));
+            replicas.add(new RedisMasterReplicaNode(ip, Integer.parseInt(port), redisURI, RedisInstance.Role.SLAVE,
+                    offset.find() ? Long.parseLong(offset.group(1)) : -1));
         }
 
         return replicas;
     }
 
+    private static long getMasterReplicationOffset(String info) {
+
+        Matcher matcher = MASTER_REPL_OFFSET_PATTERN.matcher(info);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
     private RedisNodeDescription getMasterFromInfo(String info) {
 
         Matcher masterHostMatcher = MASTER_HOST_PATTERN.matcher(info);
@@ -181,7 +194,7 @@ class ReplicaTopologyProvider implements TopologyProvider {
 
     }
 
-    private RedisNodeDescription getRedisNodeDescription(Matcher matcher) {
+    private RedisNodeDescription getRedisNodeDescription(Matcher matcher, String info) {
 
         String roleString = matcher.group(1);
         RedisInstance.Role role = null;
@@ -200,7 +213,9 @@ class ReplicaTopologyProvider implements TopologyProvider {
                     + RedisInstance.Role.REPLICA);
         }
 
-        return new RedisMasterReplicaNode(redisURI.getHost(), redisURI.getPort(), redisURI, role);
+        long offset = role.isUpstream() ? getMasterReplicationOffset(info) : -1;
+
+        return new RedisMasterReplicaNode(redisURI.getHost(), redisURI.getPort(), redisURI, role, offset);
     }
 
 }
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 
 import reactor.core.publisher.Mono;
 import io.lettuce.core.RedisClient;
@@ -31,6 +32,7 @@ import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.event.jfr.EventRecorder;
+import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -97,17 +99,39 @@ class SentinelConnector<K, V> implements MasterReplicaConnector<K, V> {
 
         };
 
+        if (redisClient.getOptions().isFailoverReplay()) {
+            connectionProvider.setReplayWriter(channelWriter);
+        }
+
         StatefulRedisMasterReplicaConnectionImpl<K, V> connection = new StatefulRedisMasterReplicaConnectionImpl<>(
                 channelWriter, codec, redisURI.getTimeout(), redisClient.getOptions().getJsonParser());
         connection.setOptions(redisClient.getOptions());
 
-        CompletionStage<Void> bind = sentinelTopologyRefresh.bind(runnable);
+        CompletionStage<Void> bind = sentinelTopologyRefresh.bind(runnable, getMasterSwitchListener(connectionProvider));
 
         return Mono.fromCompletionStage(bind).onErrorResume(t -> {
             return ResumeAfter.close(connection).thenError(t);
         }).then(Mono.just(connection));
     }
 
+    private Consumer<HostAndPort> getMasterSwitchListener(MasterReplicaConnectionProvider<K, V> connectionProvider) {
+
+        return address -> {
+            try {
+
+                List<RedisNodeDescription> nodes = connectionProvider.switchMaster(address.getHostText(), address.getPort());
+
+                if (nodes != null) {
+
+                    EventRecorder.getInstance().record(new MasterReplicaTopologyChangedEvent(redisURI, nodes));
+                    LOG.debug("Applied master switch: {}", nodes);
+                }
+            } catch (Exception e) {
+                LOG.error("Error applying master switch", e);
+            }
+        };
+    }
+
     private Runnable getTopologyRefreshRunnable(MasterReplicaTopologyRefresh refresh,
             MasterReplicaConnectionProvider<K, V> connectionProvider) {
 
@@ -15,6 +15,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -27,6 +28,7 @@ import io.lettuce.core.api.AsyncCloseable;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.event.jfr.EventRecorder;
 import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
@@ -37,6 +39,11 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 /**
  * Sentinel Pub/Sub listener-enabled topology refresh. This refresh triggers topology updates if Redis topology changes
  * (monitored master/replicas) or the Sentinel availability changes.
+ * <p>
+ * Topology change messages are coalesced into a single topology refresh that runs after a short debounce delay. A
+ * {@code +switch-master} message is additionally applied directly to bound master switch listeners once a quorum (majority)
+ * of the configured Sentinels reported the same new master address so that writes are routed to the new master without
+ * waiting for the topology refresh.
  *
  * @author Mark Paluch
  * @since 4.2
@@ -47,6 +54,10 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
 
     private static final StringCodec CODEC = new StringCodec(StandardCharsets.US_ASCII);
 
+    private static final Duration REFRESH_DEBOUNCE = Duration.ofMillis(500);
+
+    private static final Duration SWITCH_VOTE_WINDOW = Duration.ofSeconds(30);
+
     private static final Set<String> PROCESSING_CHANNELS = new HashSet<>(
             Arrays.asList("failover-end", "failover-end-for-timeout"));
 
@@ -58,9 +69,11 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
 
     private final List<Runnable> refreshRunnables = new CopyOnWriteArrayList<>();
 
+    private final List<Consumer<HostAndPort>> masterSwitchListeners = new CopyOnWriteArrayList<>();
+
     private final PubSubMessageHandler messageHandler = SentinelTopologyRefresh.this::processMessage;
 
-    private final PubSubMessageActionScheduler topologyRefresh;
+    private final TopologyRefreshCoordinator topologyRefresh;
 
     private final PubSubMessageActionScheduler sentinelReconnect;
 
@@ -72,8 +85,11 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
 
         this.redisClient = redisClient;
         this.sentinels = LettuceLists.newList(sentinels);
-        this.topologyRefresh = new PubSubMessageActionScheduler(redisClient.getResources().eventExecutorGroup(),
-                new TopologyRefreshMessagePredicate(masterId));
+        this.topologyRefresh = new TopologyRefreshCoordinator(redisClient.getResources().eventExecutorGroup(),
+                new TopologyRefreshMessagePredicate(masterId), masterId, this.sentinels.size() / 2 + 1, REFRESH_DEBOUNCE,
+                SWITCH_VOTE_WINDOW,
+                () -> refreshRunnables.forEach(Runnable::run),
+                address -> masterSwitchListeners.forEach(listener -> listener.accept(address)));
         this.sentinelReconnect = new PubSubMessageActionScheduler(redisClient.getResources().eventExecutorGroup(),
                 new SentinelReconnectMessagePredicate());
     }
@@ -121,9 +137,25 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
     }
 
     CompletionStage<Void> bind(Runnable runnable) {
+        return bind(runnable, null);
+    }
+
+    /**
+     * Bind a topology refresh {@link Runnable} and a master switch listener that is notified with the new master address upon
+     * a quorum-confirmed {@code +switch-master} message.
+     *
+     * @param runnable the topology refresh action.
+     * @param masterSwitchListener the master switch listener, can be {@code null}.
+     * @return completion stage that completes once the Sentinel connections are initialized.
+     */
+    CompletionStage<Void> bind(Runnable runnable, Consumer<HostAndPort> masterSwitchListener) {
 
         refreshRunnables.add(runnable);
 
+        if (masterSwitchListener != null) {
+            masterSwitchListeners.add(masterSwitchListener);
+        }
+
         return initializeSentinels();
     }
 
@@ -259,10 +291,7 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
 
     private void processMessage(String source, String channel, String message) {
 
-        topologyRefresh.processMessage(source, channel, message, () -> {
-            LOG.debug("Received topology changed signal from Redis Sentinel ({}), scheduling topology update", channel);
-            return () -> refreshRunnables.forEach(Runnable::run);
-        });
+        topologyRefresh.processMessage(source, channel, message);
 
         sentinelReconnect.processMessage(source, channel, message, () -> {
 
@@ -272,6 +301,130 @@ class SentinelTopologyRefresh implements AsyncCloseable, Closeable {
         });
     }
 
+    /**
+     * Coordinator for topology refreshes triggered by Sentinel messages. Messages received while a refresh is pending are
+     * coalesced into the pending refresh. {@code +switch-master} messages are counted per reported master address and
+     * distinct Sentinel. Once {@code quorum} Sentinels reported the same address, the master switch is applied directly. Votes
+     * are retained across debounced refreshes until the switch is applied or the vote window expires, since Sentinels learn
+     * about a failover at different times.
+     */
+    static class TopologyRefreshCoordinator {
+
+        private final EventExecutorGroup eventExecutors;
+
+        private final MessagePredicate filter;
+
+        private final String masterId;
+
+        private final int quorum;
+
+        private final long debounceMs;
+
+        private final Runnable refresh;
+
+        private final Consumer<HostAndPort> masterSwitch;
+
+        private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+        private final long voteWindowNanos;
+
+        private final Map<HostAndPort, SwitchVotes> switchVotes = new HashMap<>();
+
+        private HostAndPort switchedTo;
+
+        TopologyRefreshCoordinator(EventExecutorGroup eventExecutors, MessagePredicate filter, String masterId, int quorum,
+                Duration debounce, Duration voteWindow, Runnable refresh, Consumer<HostAndPort> masterSwitch) {
+            this.eventExecutors = eventExecutors;
+            this.filter = filter;
+            this.masterId = masterId;
+            this.quorum = quorum;
+            this.debounceMs = debounce.toMillis();
+            this.voteWindowNanos = voteWindow.toNanos();
+            this.refresh = refresh;
+            this.masterSwitch = masterSwitch;
+        }
+
+        void processMessage(String source, String channel, String message) {
+
+            if (eventExecutors.isShuttingDown() || !filter.test(channel, message)) {
+                return;
+            }
+
+            if (channel.equals("+switch-master")) {
+                onSwitchMaster(source, message);
+            }
+
+            if (!refreshPending.compareAndSet(false, true)) {
+                return;
+            }
+
+            LOG.debug("Received topology changed signal from Redis Sentinel ({}), scheduling topology update", channel);
+            EventRecorder.getInstance().record(new SentinelTopologyRefreshEvent(source, message, debounceMs));
+
+            eventExecutors.schedule(() -> {
+
+                refreshPending.set(false);
+                refresh.run();
+            }, debounceMs, TimeUnit.MILLISECONDS);
+        }
+
+        private void onSwitchMaster(String source, String message) {
+
+            // <master name> <old ip> <old port> <new ip> <new port>
+            String[] parts = message.split(" ");
+
+            if (parts.length != 5 || !parts[0].equals(masterId)) {
+                return;
+            }
+
+            HostAndPort address;
+            try {
+                address = HostAndPort.of(parts[3], Integer.parseInt(parts[4]));
+            } catch (IllegalArgumentException e) {
+                return;
+            }
+
+            synchronized (this) {
+
+                if (address.equals(switchedTo)) {
+                    return;
+                }
+
+                long now = System.nanoTime();
+                switchVotes.values().removeIf(votes -> now - votes.started > voteWindowNanos);
+
+                SwitchVotes votes = switchVotes.computeIfAbsent(address, it -> new SwitchVotes(now));
+                votes.sources.add(String.valueOf(source));
+
+                if (votes.sources.size() < quorum) {
+                    return;
+                }
+
+                switchedTo = address;
+                switchVotes.clear();
+            }
+
+            LOG.debug("Master switch to {} confirmed by {} Sentinel(s)", address, quorum);
+            eventExecutors.submit(() -> masterSwitch.accept(address));
+        }
+
+        /**
+         * Sentinels that reported a switch to the same master address and the time of the first report.
+         */
+        private static class SwitchVotes {
+
+            final Set<String> sources = new HashSet<>();
+
+            final long started;
+
+            SwitchVotes(long started) {
+                this.started = started;
+            }
+
+        }
+
+    }
+
     private static class PubSubMessageActionScheduler {
 
         private final TimedSemaphore timedSemaphore = new TimedSemaphore();
@@ -89,6 +89,10 @@ class StaticMasterReplicaConnector<K, V> implements MasterReplicaConnector<K, V>
         MasterReplicaChannelWriter channelWriter = new MasterReplicaChannelWriter(connectionProvider,
                 redisClient.getResources(), redisClient.getOptions());
 
+        if (redisClient.getOptions().isFailoverReplay()) {
+            connectionProvider.setReplayWriter(channelWriter);
+        }
+
         StatefulRedisMasterReplicaConnectionImpl<K, V> connection = new StatefulRedisMasterReplicaConnectionImpl<>(
                 channelWriter, codec, seedNode.getTimeout(), redisClient.getOptions().getJsonParser());
         connection.setOptions(redisClient.getOptions());
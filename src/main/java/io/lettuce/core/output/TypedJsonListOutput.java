@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.json.JsonCodec;
+
+/**
+ * {@link List} of JSON documents decoded through a {@link JsonCodec}. Eager codecs decode each document straight from the
+ * response buffer. {@link JsonCodec#isLazy() Lazy} codecs retain a copy of each document and decode it on first access of the
+ * list element.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Decoded type.
+ * @since 6.5
+ */
+public class TypedJsonListOutput<K, V, T> extends CommandOutput<K, V, List<T>> {
+
+    private final JsonCodec<T> jsonCodec;
+
+    private boolean initialized;
+
+    private List<ByteBuffer> documents;
+
+    public TypedJsonListOutput(RedisCodec<K, V> codec, JsonCodec<T> jsonCodec) {
+        super(codec, Collections.emptyList());
+        this.jsonCodec = jsonCodec;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (!initialized) {
+            multi(1);
+        }
+
+        if (documents != null) {
+            documents.add(bytes == null ? null : copy(bytes));
+            return;
+        }
+
+        output.add(bytes == null ? null : jsonCodec.decode(bytes));
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (initialized) {
+            return;
+        }
+
+        if (jsonCodec.isLazy()) {
+            documents = new ArrayList<>(Math.max(1, count));
+            output = new LazyDecodingList<>(documents, jsonCodec);
+        } else {
+            output = OutputFactory.newList(count);
+        }
+
+        initialized = true;
+    }
+
+    private static ByteBuffer copy(ByteBuffer bytes) {
+
+        ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+        copy.put(bytes).flip();
+        return copy;
+    }
+
+    /**
+     * Read-only list that decodes its elements on first access. Concurrent first access may decode an element more than once.
+     */
+    static class LazyDecodingList<T> extends AbstractList<T> implements RandomAccess {
+
+        private static final Object UNDECODED = new Object();
+
+        private final List<ByteBuffer> documents;
+
+        private final JsonCodec<T> jsonCodec;
+
+        private Object[] values;
+
+        LazyDecodingList(List<ByteBuffer> documents, JsonCodec<T> jsonCodec) {
+            this.documents = documents;
+            this.jsonCodec = jsonCodec;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+
+            Object[] values = getValues();
+            Object value = values[index];
+
+            if (value == UNDECODED) {
+
+                ByteBuffer document = documents.get(index);
+                value = document == null ? null : jsonCodec.decode(document.duplicate());
+                values[index] = value;
+            }
+
+            return (T) value;
+        }
+
+        @Override
+        public int size() {
+            return documents.size();
+        }
+
+        private Object[] getValues() {
+
+            Object[] values = this.values;
+
+            if (values == null || values.length != documents.size()) {
+
+                values = new Object[documents.size()];
+                Arrays.fill(values, UNDECODED);
+                this.values = values;
+            }
+
+            return values;
+        }
+
+    }
+
+}
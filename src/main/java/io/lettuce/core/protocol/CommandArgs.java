@@ -671,6 +671,8 @@ public class CommandArgs<K, V> {
 
         final RedisCodec<K, V> codec;
 
+        private volatile ByteBuffer encodedKey;
+
         private KeyArgument(K key, RedisCodec<K, V> codec) {
             this.key = key;
             this.codec = codec;
@@ -680,10 +682,34 @@ public class CommandArgs<K, V> {
             return new KeyArgument<>(key, codec);
         }
 
+        /**
+         * Encode the key using {@link RedisCodec#encodeKey(Object)} and retain the encoded form so that subsequent calls and
+         * {@link #encode(ByteBuf)} do not encode the key again.
+         *
+         * @return a view of the encoded key.
+         */
+        ByteBuffer getEncodedKey() {
+
+            ByteBuffer encodedKey = this.encodedKey;
+
+            if (encodedKey == null) {
+                this.encodedKey = encodedKey = codec.encodeKey(key);
+            }
+
+            return encodedKey.duplicate();
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
 
+            ByteBuffer encodedKey = this.encodedKey;
+
+            if (encodedKey != null) {
+                ByteBufferArgument.writeByteBuffer(target, encodedKey.duplicate());
+                return;
+            }
+
             if (codec instanceof ToByteBufEncoder) {
                 CommandArgs.encode(target, (ToByteBufEncoder<K, K>) codec, key, ToByteBufEncoder::encodeKey);
                 return;
@@ -18,7 +18,8 @@ import io.lettuce.core.protocol.CommandArgs.StringArgument;
 public class CommandArgsAccessor {
 
     /**
-     * Get the first encoded key for cluster command routing.
+     * Get the first encoded key for cluster command routing. The encoded key is retained by the key argument so the key is
+     * encoded only once for routing and for writing the command.
      *
      * @param commandArgs must not be null.
      * @return the first encoded key or {@code null}.
@@ -29,7 +30,7 @@ public class CommandArgsAccessor {
         for (SingularArgument singularArgument : commandArgs.singularArguments) {
 
             if (singularArgument instanceof CommandArgs.KeyArgument) {
-                return commandArgs.codec.encodeKey(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+                return ((CommandArgs.KeyArgument<K, V>) singularArgument).getEncodedKey();
             }
         }
 
@@ -136,6 +136,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private boolean pristine;
 
+    private boolean inTransaction;
+
+    private RedisCommand<?, ?, ?> transactionStart;
+
     private Tracing.Endpoint tracedEndpoint;
 
     /**
@@ -173,6 +177,18 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return stack;
     }
 
+    /**
+     * Returns whether this connection is within a transaction. The transaction starts when {@code MULTI} is written and ends
+     * when {@code EXEC} or {@code DISCARD} completes, {@code MULTI} fails or the channel becomes inactive. Must be called from
+     * the channel's event loop.
+     *
+     * @return {@code true} if this connection is within a transaction.
+     * @since 6.5
+     */
+    public boolean isInTransaction() {
+        return inTransaction;
+    }
+
     protected void setState(LifecycleState lifecycleState) {
 
         if (this.lifecycleState != LifecycleState.CLOSED) {
@@ -359,6 +375,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         }
 
         tracedEndpoint = null;
+        inTransaction = false;
+        transactionStart = null;
         setState(LifecycleState.DISCONNECTED);
         setState(LifecycleState.DEACTIVATING);
 
@@ -521,6 +539,12 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
 
             stack.add(redisCommand);
+
+            if (command.getType() == CommandType.MULTI && !inTransaction) {
+                inTransaction = true;
+                transactionStart = redisCommand;
+            }
+
             if (!promise.isVoid()) {
                 promise.addListener(AddToStack.newInstance(stack, redisCommand));
             }
@@ -689,6 +713,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
                     if (canComplete(command)) {
                         stack.poll();
+                        updateTransactionState(command);
 
                         try {
                             if (debugEnabled) {
@@ -707,6 +732,24 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         decodeBufferPolicy.afterDecoding(buffer);
     }
 
+    private void updateTransactionState(RedisCommand<?, ?, ?> command) {
+
+        if (command == transactionStart) {
+
+            transactionStart = null;
+
+            if (command.getOutput() != null && command.getOutput().hasError()) {
+                inTransaction = false;
+            }
+
+            return;
+        }
+
+        if (command.getType() == CommandType.EXEC || command.getType() == CommandType.DISCARD) {
+            inTransaction = false;
+        }
+    }
+
     protected void notifyPushListeners(PushMessage notification) {
 
         Collection<PushListener> pushListeners = endpoint.getPushListeners();
@@ -948,6 +991,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private void reset() {
 
+        inTransaction = false;
+        transactionStart = null;
         resetInternals();
         cancelCommands("Reset", drainCommands(stack));
     }
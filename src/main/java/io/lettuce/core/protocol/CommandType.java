@@ -114,7 +114,7 @@ public enum CommandType implements ProtocolKeyword {
 
     // Others
 
-    TIME, WAIT,
+    TIME, WAIT, WAITAOF,
 
     // SENTINEL
 
@@ -26,6 +26,7 @@ import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -41,6 +42,7 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.event.connection.CommandsReplayedEvent;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
@@ -115,6 +117,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private volatile Throwable connectionError;
 
+    private volatile ReplayWriter replayWriter;
+
+    private final AtomicLong replayedCommands = new AtomicLong();
+
     // access via QUEUE_SIZE
     @SuppressWarnings("unused")
     private volatile int queueSize = 0;
@@ -156,6 +162,26 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return clientResources;
     }
 
+    /**
+     * Set the {@link ReplayWriter} that routes commands across nodes (e.g. the Redis Cluster or Master/Replica channel writer).
+     * If {@link ClientOptions#isFailoverReplay() failover replay} is enabled, retry-safe commands that are written while this
+     * endpoint is disconnected are replayed on another node through {@code replayWriter} instead of awaiting reconnection.
+     *
+     * @param replayWriter the routing writer, can be {@code null} to disable replay.
+     * @since 6.5
+     */
+    public void setReplayWriter(ReplayWriter replayWriter) {
+        this.replayWriter = replayWriter;
+    }
+
+    /**
+     * @return total number of commands that were replayed through the {@link #setReplayWriter(ReplayWriter) replay writer}.
+     * @since 6.5
+     */
+    public long getReplayedCommandCount() {
+        return replayedCommands.get();
+    }
+
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
         this.autoFlushCommands = autoFlush;
@@ -344,6 +370,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             return;
         }
 
+        if (replay(command)) {
+            return;
+        }
+
         if (debugEnabled) {
             logger.debug("{} writeToDisconnectedBuffer() buffering (disconnected) command {}", logPrefix(), command);
         }
@@ -722,6 +752,144 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 flushCommands(disconnectedBuffer);
             }
         });
+
+        replayBufferedCommands();
+    }
+
+    /**
+     * Replay retry-safe buffered commands through the {@link #setReplayWriter(ReplayWriter) replay writer} while this endpoint
+     * is disconnected. Commands that cannot be routed to another node remain buffered. Routing writers call this method once a
+     * node becomes available or the topology changes.
+     *
+     * @since 6.5
+     */
+    public void replayBufferedCommands() {
+
+        ReplayWriter writer = this.replayWriter;
+
+        if (writer == null || !isReplayEnabled()) {
+            return;
+        }
+
+        ReadOnlyCommands.ReadOnlyPredicate retrySafe = clientOptions.getReadOnlyCommands();
+        List<RedisCommand<?, ?, ?>> commands = sharedLock.doExclusive(() -> {
+
+            List<RedisCommand<?, ?, ?>> target = new ArrayList<>();
+            boolean inTransaction = false;
+
+            for (Iterator<RedisCommand<?, ?, ?>> iterator = disconnectedBuffer.iterator(); iterator.hasNext();) {
+
+                RedisCommand<?, ?, ?> command = iterator.next();
+
+                // commands between MULTI and EXEC/DISCARD must stay with their transaction
+                if (isType(command, CommandType.MULTI)) {
+                    inTransaction = true;
+                    continue;
+                }
+
+                if (isType(command, CommandType.EXEC) || isType(command, CommandType.DISCARD)) {
+                    inTransaction = false;
+                    continue;
+                }
+
+                if (!inTransaction && isReplayable(command, retrySafe)) {
+                    iterator.remove();
+                    target.add(command);
+                }
+            }
+
+            return target;
+        });
+
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<RedisCommand<?, ?, ?>> remaining = new ArrayList<>();
+        int replayed = 0;
+        int failed = 0;
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            try {
+                if (writer.replay(command, this)) {
+                    replayed++;
+                } else {
+                    remaining.add(command);
+                }
+            } catch (RedisException e) {
+                command.completeExceptionally(e);
+                failed++;
+            }
+        }
+
+        if (!remaining.isEmpty()) {
+            sharedLock.doExclusive(() -> {
+
+                disconnectedBuffer.addAll(remaining);
+
+                if (isConnected()) {
+                    flushCommands(disconnectedBuffer);
+                }
+            });
+        }
+
+        if (replayed != 0 || failed != 0) {
+            onReplayed(replayed, failed);
+        }
+    }
+
+    /**
+     * Replay a single command that is written while this endpoint is disconnected.
+     *
+     * @return {@code true} if the command was written to another node.
+     */
+    private boolean replay(RedisCommand<?, ?, ?> command) {
+
+        ReplayWriter writer = this.replayWriter;
+
+        if (writer == null || !isReplayEnabled() || !isReplayable(command, clientOptions.getReadOnlyCommands())) {
+            return false;
+        }
+
+        try {
+            if (!writer.replay(command, this)) {
+                return false;
+            }
+            onReplayed(1, 0);
+        } catch (RedisException e) {
+            command.completeExceptionally(e);
+            onReplayed(0, 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Commands are replayable if they are retry-safe and not part of a transaction. Transactional commands must be executed
+     * on the connection that issued {@code MULTI}.
+     */
+    private static boolean isReplayable(RedisCommand<?, ?, ?> command, ReadOnlyCommands.ReadOnlyPredicate retrySafe) {
+        return !command.isDone() && !ActivationCommand.isActivationCommand(command)
+                && CommandWrapper.unwrap(command, TransactionalCommand.class) == null && retrySafe.isReadOnly(command);
+    }
+
+    private static boolean isType(RedisCommand<?, ?, ?> command, CommandType type) {
+        return command.getType() != null && type.name().equals(command.getType().toString());
+    }
+
+    private boolean isReplayEnabled() {
+        return clientOptions.isFailoverReplay() && !isClosed() && !isConnected();
+    }
+
+    private void onReplayed(int replayed, int failed) {
+
+        long total = replayedCommands.addAndGet(replayed);
+
+        if (debugEnabled) {
+            logger.debug("{} replayed {} command(s), {} failed", logPrefix(), replayed, failed);
+        }
+
+        clientResources.eventBus().publish(new CommandsReplayedEvent(getId(), replayed, failed, total));
     }
 
     public boolean isClosed() {
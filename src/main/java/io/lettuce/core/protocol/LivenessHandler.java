@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.lettuce.core.LivenessOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Handler to detect dead peers by observing read progress. The handler must be placed in front of the {@link CommandHandler}
+ * to see inbound bytes. A connection that did not receive any bytes for {@link LivenessOptions#getIdleTimeout() the idle
+ * timeout} is probed with a {@code PING} and closed if no bytes arrive within {@link LivenessOptions#getPingTimeout() the
+ * ping timeout}. Closing the channel hands over to {@link ConnectionWatchdog} for reconnection.
+ * <p>
+ * Read progress is recorded once per read cycle and checked by a single scheduled task per idle period so connections that
+ * keep receiving responses are not probed. While commands are in flight, the connection is probed after it did not receive
+ * any bytes for {@link LivenessOptions#getInFlightTimeout() the in-flight timeout} so that a stalled connection is detected
+ * well before its commands time out. Probes are not sent while a blocking command is in flight or while the connection is in
+ * a transaction. Probes are marked as activation commands and therefore not retried after a reconnect.
+ *
+ * @since 6.5
+ * @see LivenessOptions
+ */
+public class LivenessHandler extends ChannelInboundHandlerAdapter {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(LivenessHandler.class);
+
+    private static final Set<CommandType> BLOCKING_COMMANDS = EnumSet.of(CommandType.BLMOVE, CommandType.BLMPOP,
+            CommandType.BLPOP, CommandType.BRPOP, CommandType.BRPOPLPUSH, CommandType.BZMPOP, CommandType.BZPOPMAX,
+            CommandType.BZPOPMIN, CommandType.WAIT, CommandType.WAITAOF, CommandType.XREAD, CommandType.XREADGROUP);
+
+    private static final Set<String> BLOCKING_COMMAND_NAMES = BLOCKING_COMMANDS.stream()
+            .map(it -> new String(it.getBytes(), StandardCharsets.US_ASCII)).collect(Collectors.toSet());
+
+    private final long idleTimeoutNanos;
+
+    private final long pingTimeoutNanos;
+
+    private final long inFlightTimeoutNanos;
+
+    private long lastRead;
+
+    private long probeSent;
+
+    private boolean probing;
+
+    private ScheduledFuture<?> check;
+
+    /**
+     * Create a new {@link LivenessHandler}.
+     *
+     * @param livenessOptions the liveness options, must not be {@code null}.
+     */
+    public LivenessHandler(LivenessOptions livenessOptions) {
+
+        LettuceAssert.notNull(livenessOptions, "LivenessOptions must not be null");
+
+        this.idleTimeoutNanos = livenessOptions.getIdleTimeout().toNanos();
+        this.pingTimeoutNanos = livenessOptions.getPingTimeout().toNanos();
+        this.inFlightTimeoutNanos = livenessOptions.getInFlightTimeout().toNanos();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+
+        lastRead = System.nanoTime();
+        probing = false;
+        schedule(ctx, Math.min(idleTimeoutNanos, inFlightTimeoutNanos));
+
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+
+        cancel();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+
+        cancel();
+        super.handlerRemoved(ctx);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+
+        lastRead = System.nanoTime();
+        super.channelReadComplete(ctx);
+    }
+
+    void check(ChannelHandlerContext ctx) {
+
+        check = null;
+
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        if (probing) {
+
+            if (lastRead - probeSent >= 0) {
+                probing = false;
+            } else {
+
+                long remaining = pingTimeoutNanos - (now - probeSent);
+                if (remaining > 0) {
+                    schedule(ctx, remaining);
+                    return;
+                }
+
+                logger.warn("{} No response within {} ms after liveness probe, closing connection", ctx.channel(),
+                        TimeUnit.NANOSECONDS.toMillis(pingTimeoutNanos));
+                ctx.close();
+                return;
+            }
+        }
+
+        CommandHandler commandHandler = ctx.pipeline().get(CommandHandler.class);
+        boolean inFlight = commandHandler != null && !commandHandler.getStack().isEmpty();
+        long timeout = inFlight ? inFlightTimeoutNanos : idleTimeoutNanos;
+
+        long remaining = timeout - (now - lastRead);
+        if (remaining > 0) {
+            // check again within the in-flight timeout to detect commands written in the meantime
+            schedule(ctx, inFlight ? remaining : Math.min(remaining, inFlightTimeoutNanos));
+            return;
+        }
+
+        if (commandHandler != null && (commandHandler.isInTransaction() || hasBlockingCommand(commandHandler))) {
+            schedule(ctx, idleTimeoutNanos);
+            return;
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} No bytes received within {} ms, sending liveness probe", ctx.channel(),
+                    TimeUnit.NANOSECONDS.toMillis(timeout));
+        }
+
+        probing = true;
+        probeSent = now;
+        ctx.channel().writeAndFlush(newProbe());
+        schedule(ctx, pingTimeoutNanos);
+    }
+
+    /**
+     * Create a probe command. Probes are activation commands so that they are discarded instead of being retried after a
+     * reconnect.
+     */
+    private static RedisCommand<String, String, String> newProbe() {
+        return new ActivationCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.ASCII)));
+    }
+
+    private static boolean hasBlockingCommand(CommandHandler commandHandler) {
+
+        for (RedisCommand<?, ?, ?> command : commandHandler.getStack()) {
+            if (isBlocking(command.getType())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isBlocking(ProtocolKeyword type) {
+
+        if (type instanceof CommandType) {
+            return BLOCKING_COMMANDS.contains(type);
+        }
+
+        return type != null && BLOCKING_COMMAND_NAMES.contains(new String(type.getBytes(), StandardCharsets.US_ASCII));
+    }
+
+    private void schedule(ChannelHandlerContext ctx, long delayNanos) {
+        check = ctx.executor().schedule(() -> check(ctx), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void cancel() {
+
+        ScheduledFuture<?> check = this.check;
+        this.check = null;
+
+        if (check != null) {
+            check.cancel(false);
+        }
+    }
+
+}
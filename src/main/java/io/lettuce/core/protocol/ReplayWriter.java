@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.protocol;
+
+/**
+ * Routing component that replays retry-safe commands of a disconnected node connection on another node, e.g. the Redis
+ * Cluster or Master/Replica channel writer.
+ *
+ * @since 6.5
+ * @see DefaultEndpoint#setReplayWriter(ReplayWriter)
+ * @see io.lettuce.core.ClientOptions#isFailoverReplay()
+ */
+@FunctionalInterface
+public interface ReplayWriter {
+
+    /**
+     * Replay {@code command} on a connected node other than the one backed by {@code failed}. Implementations must not write
+     * the command to {@code failed}. If no other node is available right now, implementations return {@code false} and may
+     * call {@link DefaultEndpoint#replayBufferedCommands()} once a node becomes available.
+     *
+     * @param command the retry-safe command to replay.
+     * @param failed the disconnected endpoint that buffered the command.
+     * @return {@code true} if the command was written to another node; {@code false} if {@code failed} should keep the command
+     *         buffered.
+     */
+    boolean replay(RedisCommand<?, ?, ?> command, DefaultEndpoint failed);
+
+}
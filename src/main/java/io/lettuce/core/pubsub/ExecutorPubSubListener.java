@@ -0,0 +1,339 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.PlatformDependent;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * {@link RedisPubSubListener} that hands off Pub/Sub signals to a delegate listener running on an {@link Executor}. Signals are
+ * buffered in a bounded queue per listener and delivered in batches, so that a slow listener does not block the I/O thread
+ * that decodes Pub/Sub messages.
+ * <p>
+ * If the queue is full, signals are dropped and counted, see {@link #getDroppedSignals()}. A single drain task is active at a
+ * time, so the delegate observes signals in the order they were received and does not need to be thread-safe. After a batch of
+ * signals, the drain task is resubmitted to the executor to allow other tasks to run.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.5
+ */
+public class ExecutorPubSubListener<K, V> implements RedisPubSubListener<K, V> {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ExecutorPubSubListener.class);
+
+    private final RedisPubSubListener<K, V> delegate;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    private final Queue<Signal<K, V>> queue;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Runnable drain = this::drain;
+
+    private ExecutorPubSubListener(Builder<K, V> builder) {
+        this.delegate = builder.delegate;
+        this.executor = builder.executor;
+        this.batchSize = builder.batchSize;
+        this.queue = PlatformDependent.newFixedMpscQueue(builder.capacity);
+    }
+
+    /**
+     * Create a new {@link ExecutorPubSubListener} with default capacity and batch size.
+     *
+     * @param delegate the listener to notify, must not be {@code null}.
+     * @param executor the executor to notify the listener on, must not be {@code null}.
+     * @return the {@link ExecutorPubSubListener}.
+     */
+    public static <K, V> ExecutorPubSubListener<K, V> create(RedisPubSubListener<K, V> delegate, Executor executor) {
+        return builder(delegate).executor(executor).build();
+    }
+
+    /**
+     * Returns a new {@link Builder} to construct a {@link ExecutorPubSubListener}.
+     *
+     * @param delegate the listener to notify, must not be {@code null}.
+     * @return a new {@link Builder}.
+     */
+    public static <K, V> Builder<K, V> builder(RedisPubSubListener<K, V> delegate) {
+
+        LettuceAssert.notNull(delegate, "Delegate listener must not be null");
+
+        return new Builder<>(delegate);
+    }
+
+    /**
+     * Builder for {@link ExecutorPubSubListener}.
+     */
+    public static class Builder<K, V> {
+
+        private final RedisPubSubListener<K, V> delegate;
+
+        private Executor executor;
+
+        private int capacity = DEFAULT_CAPACITY;
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder(RedisPubSubListener<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Set the {@link Executor} to notify the delegate listener on.
+         *
+         * @param executor the executor, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder<K, V> executor(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of buffered signals. Defaults to {@literal 8192}. See {@link #DEFAULT_CAPACITY}.
+         *
+         * @param capacity the queue capacity, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder<K, V> capacity(int capacity) {
+
+            LettuceAssert.isTrue(capacity > 0, "Capacity must be greater than zero");
+
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of signals delivered by a single executor task. Defaults to {@literal 256}. See
+         * {@link #DEFAULT_BATCH_SIZE}.
+         *
+         * @param batchSize the batch size, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder<K, V> batchSize(int batchSize) {
+
+            LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link ExecutorPubSubListener}.
+         */
+        public ExecutorPubSubListener<K, V> build() {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            return new ExecutorPubSubListener<>(this);
+        }
+
+    }
+
+    @Override
+    public void message(K channel, V message) {
+        offer(new Signal<>(PubSubOutput.Type.message, null, channel, message, 0));
+    }
+
+    @Override
+    public void message(K pattern, K channel, V message) {
+        offer(new Signal<>(PubSubOutput.Type.pmessage, pattern, channel, message, 0));
+    }
+
+    @Override
+    public void subscribed(K channel, long count) {
+        offer(new Signal<>(PubSubOutput.Type.subscribe, null, channel, null, count));
+    }
+
+    @Override
+    public void psubscribed(K pattern, long count) {
+        offer(new Signal<>(PubSubOutput.Type.psubscribe, pattern, null, null, count));
+    }
+
+    @Override
+    public void unsubscribed(K channel, long count) {
+        offer(new Signal<>(PubSubOutput.Type.unsubscribe, null, channel, null, count));
+    }
+
+    @Override
+    public void punsubscribed(K pattern, long count) {
+        offer(new Signal<>(PubSubOutput.Type.punsubscribe, pattern, null, null, count));
+    }
+
+    @Override
+    public void smessage(K shardChannel, V message) {
+        offer(new Signal<>(PubSubOutput.Type.smessage, null, shardChannel, message, 0));
+    }
+
+    @Override
+    public void ssubscribed(K shardChannel, long count) {
+        offer(new Signal<>(PubSubOutput.Type.ssubscribe, null, shardChannel, null, count));
+    }
+
+    @Override
+    public void sunsubscribed(K shardChannel, long count) {
+        offer(new Signal<>(PubSubOutput.Type.sunsubscribe, null, shardChannel, null, count));
+    }
+
+    /**
+     * @return number of signals delivered to the delegate listener.
+     */
+    public long getDeliveredSignals() {
+        return delivered.get();
+    }
+
+    /**
+     * @return number of signals dropped because the queue was full or the executor rejected the delivery.
+     */
+    public long getDroppedSignals() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of signals awaiting delivery.
+     */
+    public int getPendingSignals() {
+        return queue.size();
+    }
+
+    private void offer(Signal<K, V> signal) {
+
+        if (!queue.offer(signal)) {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        schedule();
+    }
+
+    private void schedule() {
+
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(drain);
+        } catch (RejectedExecutionException e) {
+
+            logger.warn("Executor rejected Pub/Sub signal delivery, discarding pending signals", e);
+
+            int discarded = 0;
+            while (queue.poll() != null) {
+                discarded++;
+            }
+
+            dropped.addAndGet(discarded);
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+
+        int count = 0;
+        Signal<K, V> signal;
+
+        while (count < batchSize && (signal = queue.poll()) != null) {
+
+            try {
+                signal.deliver(delegate);
+            } catch (Exception e) {
+                logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+            }
+
+            count++;
+        }
+
+        delivered.addAndGet(count);
+        draining.set(false);
+
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    static class Signal<K, V> {
+
+        private final PubSubOutput.Type type;
+
+        private final K pattern;
+
+        private final K channel;
+
+        private final V message;
+
+        private final long count;
+
+        Signal(PubSubOutput.Type type, K pattern, K channel, V message, long count) {
+            this.type = type;
+            this.pattern = pattern;
+            this.channel = channel;
+            this.message = message;
+            this.count = count;
+        }
+
+        void deliver(RedisPubSubListener<K, V> listener) {
+
+            switch (type) {
+                case message:
+                    listener.message(channel, message);
+                    break;
+                case pmessage:
+                    listener.message(pattern, channel, message);
+                    break;
+                case psubscribe:
+                    listener.psubscribed(pattern, count);
+                    break;
+                case punsubscribe:
+                    listener.punsubscribed(pattern, count);
+                    break;
+                case subscribe:
+                    listener.subscribed(channel, count);
+                    break;
+                case unsubscribe:
+                    listener.unsubscribed(channel, count);
+                    break;
+                case smessage:
+                    listener.smessage(channel, message);
+                    break;
+                case ssubscribe:
+                    listener.ssubscribed(channel, count);
+                    break;
+                case sunsubscribe:
+                    listener.sunsubscribed(channel, count);
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Operation " + type + " not supported");
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interned name of a Pub/Sub channel or pattern as delivered to {@link RawPubSubListener}s. Names are interned per connection,
+ * so a channel is represented by the same {@link PubSubChannel} instance and {@link #getId() id} for every message and can be
+ * compared by identity as long as it {@link #isInterned() is interned}. Names that exceed the interning capacity (see the
+ * {@code io.lettuce.core.pubsub.maxInternedChannels} system property) are represented by non-interned instances with an id
+ * of {@code -1} that must be compared using {@link #equals(Object)}.
+ *
+ * @since 6.5
+ */
+public final class PubSubChannel {
+
+    private final int id;
+
+    private final byte[] name;
+
+    private final int hash;
+
+    private volatile String string;
+
+    PubSubChannel(int id, byte[] name, int hash) {
+        this.id = id;
+        this.name = name;
+        this.hash = hash;
+    }
+
+    /**
+     * @return the id of the channel, unique per connection. {@code -1} if the channel name was not interned.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return {@code true} if the channel name was interned.
+     */
+    public boolean isInterned() {
+        return id != -1;
+    }
+
+    /**
+     * @return a read-only view of the raw channel name.
+     */
+    public ByteBuffer getName() {
+        return ByteBuffer.wrap(name).asReadOnlyBuffer();
+    }
+
+    /**
+     * Check whether the raw channel name equals the remaining bytes of {@code bytes} without changing its position.
+     *
+     * @param bytes the raw name.
+     * @return {@code true} if the name matches.
+     */
+    public boolean matches(ByteBuffer bytes) {
+        return matches(bytes, hash(bytes));
+    }
+
+    boolean matches(ByteBuffer bytes, int hash) {
+
+        if (this.hash != hash || bytes.remaining() != name.length) {
+            return false;
+        }
+
+        for (int i = 0; i < name.length; i++) {
+            if (bytes.get(bytes.position() + i) != name[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    int hash() {
+        return hash;
+    }
+
+    static int hash(ByteBuffer bytes) {
+
+        int hash = 1;
+
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+            hash = 31 * hash + bytes.get(i);
+        }
+
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof PubSubChannel)) {
+            return false;
+        }
+
+        PubSubChannel that = (PubSubChannel) o;
+        return hash == that.hash && Arrays.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return the channel name decoded as {@literal UTF-8}.
+     */
+    @Override
+    public String toString() {
+
+        String string = this.string;
+
+        if (string == null) {
+            string = new String(name, StandardCharsets.UTF_8);
+            this.string = string;
+        }
+
+        return string;
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.netty.util.internal.SystemPropertyUtil;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Interns raw channel names into {@link PubSubChannel} instances. Lookups of known names read from an open-addressing table
+ * without allocating; only new names are inserted under a lock. The number of interned names is bounded by
+ * {@value #MAX_SIZE_KEY} (defaults to {@value #DEFAULT_MAX_SIZE}). Further names are returned as non-interned
+ * {@link PubSubChannel} instances that cannot be compared by identity and a warning is logged once the limit is reached.
+ *
+ * @since 6.5
+ */
+class PubSubChannelInterner {
+
+    static final String MAX_SIZE_KEY = "io.lettuce.core.pubsub.maxInternedChannels";
+
+    static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubChannelInterner.class);
+
+    private final int maxSize;
+
+    private volatile AtomicReferenceArray<PubSubChannel> table = new AtomicReferenceArray<>(64);
+
+    private int size;
+
+    private boolean limitExceeded;
+
+    PubSubChannelInterner() {
+        this(SystemPropertyUtil.getInt(MAX_SIZE_KEY, DEFAULT_MAX_SIZE));
+    }
+
+    PubSubChannelInterner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Intern the remaining bytes of {@code bytes}. Does not change the buffer position.
+     *
+     * @param bytes the raw channel name.
+     * @return the {@link PubSubChannel}.
+     */
+    PubSubChannel intern(ByteBuffer bytes) {
+
+        int hash = PubSubChannel.hash(bytes);
+        PubSubChannel channel = lookup(table, bytes, hash);
+
+        if (channel != null) {
+            return channel;
+        }
+
+        synchronized (this) {
+
+            AtomicReferenceArray<PubSubChannel> table = this.table;
+            channel = lookup(table, bytes, hash);
+
+            if (channel != null) {
+                return channel;
+            }
+
+            byte[] name = new byte[bytes.remaining()];
+            bytes.duplicate().get(name);
+
+            if (size >= maxSize) {
+
+                if (!limitExceeded) {
+                    limitExceeded = true;
+                    logger.warn("Pub/Sub channel interning limit of {} names exceeded. Further channels are not interned and "
+                            + "cannot be compared by identity. Increase the limit through -D{}", maxSize, MAX_SIZE_KEY);
+                }
+
+                return new PubSubChannel(-1, name, hash);
+            }
+
+            channel = new PubSubChannel(size, name, hash);
+
+            if ((size + 1) * 2 > table.length()) {
+                table = resize(table);
+            }
+
+            insert(table, channel);
+            this.table = table;
+            size++;
+
+            return channel;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static PubSubChannel lookup(AtomicReferenceArray<PubSubChannel> table, ByteBuffer bytes, int hash) {
+
+        int mask = table.length() - 1;
+
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+
+            PubSubChannel channel = table.get(i);
+
+            if (channel == null) {
+                return null;
+            }
+
+            if (channel.matches(bytes, hash)) {
+                return channel;
+            }
+        }
+    }
+
+    private static AtomicReferenceArray<PubSubChannel> resize(AtomicReferenceArray<PubSubChannel> table) {
+
+        AtomicReferenceArray<PubSubChannel> resized = new AtomicReferenceArray<>(table.length() * 2);
+
+        for (int i = 0; i < table.length(); i++) {
+
+            PubSubChannel channel = table.get(i);
+
+            if (channel != null) {
+                insert(resized, channel);
+            }
+        }
+
+        return resized;
+    }
+
+    private static void insert(AtomicReferenceArray<PubSubChannel> table, PubSubChannel channel) {
+
+        int mask = table.length() - 1;
+        int i = spread(channel.hash()) & mask;
+
+        while (table.get(i) != null) {
+            i = (i + 1) & mask;
+        }
+
+        table.set(i, channel);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -64,7 +64,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         this.endpoint = endpoint;
         this.codec = codec;
         this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy();
-        this.output = new PubSubOutput<>(codec);
+        this.output = new PubSubOutput<>(codec, endpoint);
     }
 
     @Override
@@ -90,7 +90,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             RedisCommand<?, ?, ?> peek = getStack().peek();
             canComplete(peek);
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = nextOutput(output);
         }
 
         if (!getStack().isEmpty() || isPushDecode(buffer)) {
@@ -102,7 +102,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
             replay.replay(output);
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = nextOutput(output);
         }
 
         while (super.getStack().isEmpty() && buffer.isReadable()) {
@@ -113,7 +113,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             }
 
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = nextOutput(output);
         }
 
         decodeBufferPolicy.afterDecoding(buffer);
@@ -253,7 +253,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
     private PubSubMessage<K, V> toPubSubMessage(PushMessage notification) {
 
-        PubSubOutput<K, V> output = new PubSubOutput<>(codec);
+        PubSubOutput<K, V> output = new PubSubOutput<>(codec, endpoint);
 
         for (Object argument : notification.getContent()) {
 
@@ -278,6 +278,20 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         }
     }
 
+    /**
+     * Obtain the output for the next message. Outputs of messages that were only dispatched to raw listeners are reused to avoid
+     * allocations per message.
+     */
+    private PubSubOutput<K, V> nextOutput(PubSubOutput<K, V> previous) {
+
+        if (previous.isRawOnly()) {
+            previous.reset();
+            return previous;
+        }
+
+        return new PubSubOutput<>(codec, endpoint);
+    }
+
     private void doNotifyMessage(PubSubMessage<K, V> message) {
         try {
             endpoint.notifyMessage(message);
@@ -19,6 +19,7 @@
  */
 package io.lettuce.core.pubsub;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -31,6 +32,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ConnectionState;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.ProtocolVersion;
@@ -52,7 +54,11 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
     private static final Set<String> SUBSCRIBE_COMMANDS;
 
-    private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+    private final PubSubListenerRegistry<K, V> listeners = new PubSubListenerRegistry<>();
+
+    private final List<RawPubSubListener> rawListeners = new CopyOnWriteArrayList<>();
+
+    private final PubSubChannelInterner interner = new PubSubChannelInterner();
 
     private final Set<Wrapper<K>> channels;
 
@@ -104,7 +110,7 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
      * @param listener the listener, must not be {@code null}.
      */
     public void addListener(RedisPubSubListener<K, V> listener) {
-        listeners.add(listener);
+        listeners.addListener(listener);
     }
 
     /**
@@ -113,13 +119,130 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
      * @param listener the listener, must not be {@code null}.
      */
     public void removeListener(RedisPubSubListener<K, V> listener) {
-        listeners.remove(listener);
+        listeners.removeListener(listener);
+    }
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about signals for the given {@code channel}
+     * (regular and shard channels).
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        listeners.addChannelListener(channel, listener);
+    }
+
+    /**
+     * Remove an existing {@link RedisPubSubListener listener} registered for the given {@code channel}.
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        listeners.removeChannelListener(channel, listener);
+    }
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about signals for the given {@code pattern}.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        listeners.addPatternListener(pattern, listener);
+    }
+
+    /**
+     * Remove an existing {@link RedisPubSubListener listener} registered for the given {@code pattern}.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        listeners.removePatternListener(pattern, listener);
+    }
+
+    /**
+     * Add a new {@link RawPubSubListener listener}.
+     *
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void addRawListener(RawPubSubListener listener) {
+
+        LettuceAssert.notNull(listener, "Listener must not be null");
+        rawListeners.add(listener);
+    }
+
+    /**
+     * Remove an existing {@link RawPubSubListener listener}.
+     *
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    public void removeRawListener(RawPubSubListener listener) {
+        rawListeners.remove(listener);
     }
 
     protected List<RedisPubSubListener<K, V>> getListeners() {
+        return listeners.getListeners();
+    }
+
+    /**
+     * Returns a {@link RedisPubSubListener} that notifies all registered listeners including channel and pattern listeners.
+     *
+     * @return the notifying {@link RedisPubSubListener}.
+     * @since 6.5
+     */
+    protected RedisPubSubListener<K, V> getNotifyingListener() {
         return listeners;
     }
 
+    /**
+     * @return {@code true} if {@link RawPubSubListener}s are registered.
+     * @since 6.5
+     */
+    boolean hasRawListeners() {
+        return !rawListeners.isEmpty();
+    }
+
+    /**
+     * Returns whether messages need to be decoded for listeners other than {@link RawPubSubListener}s.
+     *
+     * @return {@code true} if decoded messages are required.
+     * @since 6.5
+     */
+    protected boolean hasDecodingListeners() {
+        return listeners.hasListeners();
+    }
+
+    PubSubChannel intern(ByteBuffer bytes) {
+        return interner.intern(bytes);
+    }
+
+    void notifyRawMessage(PubSubOutput.Type type, PubSubChannel pattern, PubSubChannel channel, ByteBuffer body) {
+
+        RawPubSubMessage message = RawPubSubMessage.newInstance(type, pattern, channel, body);
+
+        try {
+            for (RawPubSubListener listener : rawListeners) {
+                try {
+                    listener.message(message);
+                } catch (Exception e) {
+                    logger.error("Unexpected error occurred in RawPubSubListener callback", e);
+                }
+                message.rewind();
+            }
+        } finally {
+            message.recycle();
+        }
+    }
+
     public boolean hasChannelSubscriptions() {
         return !channels.isEmpty();
     }
@@ -250,38 +373,36 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
     protected void notifyListeners(PubSubMessage<K, V> message) {
         // update listeners
-        for (RedisPubSubListener<K, V> listener : listeners) {
-            switch (message.type()) {
-                case message:
-                    listener.message(message.channel(), message.body());
-                    break;
-                case pmessage:
-                    listener.message(message.pattern(), message.channel(), message.body());
-                    break;
-                case psubscribe:
-                    listener.psubscribed(message.pattern(), message.count());
-                    break;
-                case punsubscribe:
-                    listener.punsubscribed(message.pattern(), message.count());
-                    break;
-                case subscribe:
-                    listener.subscribed(message.channel(), message.count());
-                    break;
-                case unsubscribe:
-                    listener.unsubscribed(message.channel(), message.count());
-                    break;
-                case smessage:
-                    listener.smessage(message.channel(), message.body());
-                    break;
-                case ssubscribe:
-                    listener.ssubscribed(message.channel(), message.count());
-                    break;
-                case sunsubscribe:
-                    listener.sunsubscribed(message.channel(), message.count());
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Operation " + message.type() + " not supported");
-            }
+        switch (message.type()) {
+            case message:
+                listeners.message(message.channel(), message.body());
+                break;
+            case pmessage:
+                listeners.message(message.pattern(), message.channel(), message.body());
+                break;
+            case psubscribe:
+                listeners.psubscribed(message.pattern(), message.count());
+                break;
+            case punsubscribe:
+                listeners.punsubscribed(message.pattern(), message.count());
+                break;
+            case subscribe:
+                listeners.subscribed(message.channel(), message.count());
+                break;
+            case unsubscribe:
+                listeners.unsubscribed(message.channel(), message.count());
+                break;
+            case smessage:
+                listeners.smessage(message.channel(), message.body());
+                break;
+            case ssubscribe:
+                listeners.ssubscribed(message.channel(), message.count());
+                break;
+            case sunsubscribe:
+                listeners.sunsubscribed(message.channel(), message.count());
+                break;
+            default:
+                throw new UnsupportedOperationException("Operation " + message.type() + " not supported");
         }
     }
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Registry of {@link RedisPubSubListener}s that fans out Pub/Sub signals. Listeners are either registered for all signals or
+ * indexed by channel or pattern. Indexed listeners are looked up by the channel respective the pattern that is part of the
+ * signal, so dispatching a message does not visit listeners registered for other channels.
+ * <p>
+ * Channel listeners receive {@code message}, {@code smessage} and the subscription signals for their channel. Pattern listeners
+ * receive {@code pmessage} and the subscription signals for their pattern.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.5
+ */
+class PubSubListenerRegistry<K, V> implements RedisPubSubListener<K, V> {
+
+    private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> channelListeners = new ConcurrentHashMap<>();
+
+    private final Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> patternListeners = new ConcurrentHashMap<>();
+
+    void addListener(RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(listener, "Listener must not be null");
+        listeners.add(listener);
+    }
+
+    void removeListener(RedisPubSubListener<K, V> listener) {
+        listeners.remove(listener);
+    }
+
+    void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        add(channelListeners, channel, listener);
+    }
+
+    void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        remove(channelListeners, channel, listener);
+    }
+
+    void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        add(patternListeners, pattern, listener);
+    }
+
+    void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        remove(patternListeners, pattern, listener);
+    }
+
+    List<RedisPubSubListener<K, V>> getListeners() {
+        return listeners;
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty() || !channelListeners.isEmpty() || !patternListeners.isEmpty();
+    }
+
+    @Override
+    public void message(K channel, V message) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.message(channel, message);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, channel)) {
+            listener.message(channel, message);
+        }
+    }
+
+    @Override
+    public void message(K pattern, K channel, V message) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.message(pattern, channel, message);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(patternListeners, pattern)) {
+            listener.message(pattern, channel, message);
+        }
+    }
+
+    @Override
+    public void subscribed(K channel, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.subscribed(channel, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, channel)) {
+            listener.subscribed(channel, count);
+        }
+    }
+
+    @Override
+    public void psubscribed(K pattern, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.psubscribed(pattern, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(patternListeners, pattern)) {
+            listener.psubscribed(pattern, count);
+        }
+    }
+
+    @Override
+    public void unsubscribed(K channel, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.unsubscribed(channel, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, channel)) {
+            listener.unsubscribed(channel, count);
+        }
+    }
+
+    @Override
+    public void punsubscribed(K pattern, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.punsubscribed(pattern, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(patternListeners, pattern)) {
+            listener.punsubscribed(pattern, count);
+        }
+    }
+
+    @Override
+    public void smessage(K shardChannel, V message) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.smessage(shardChannel, message);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, shardChannel)) {
+            listener.smessage(shardChannel, message);
+        }
+    }
+
+    @Override
+    public void ssubscribed(K shardChannel, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.ssubscribed(shardChannel, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, shardChannel)) {
+            listener.ssubscribed(shardChannel, count);
+        }
+    }
+
+    @Override
+    public void sunsubscribed(K shardChannel, long count) {
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            listener.sunsubscribed(shardChannel, count);
+        }
+
+        for (RedisPubSubListener<K, V> listener : lookup(channelListeners, shardChannel)) {
+            listener.sunsubscribed(shardChannel, count);
+        }
+    }
+
+    private static <K, V> void add(Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(name, "Channel or pattern must not be null");
+        LettuceAssert.notNull(listener, "Listener must not be null");
+
+        index.compute(new PubSubEndpoint.Wrapper<>(name), (key, listeners) -> {
+
+            List<RedisPubSubListener<K, V>> result = listeners != null ? listeners : new CopyOnWriteArrayList<>();
+            result.add(listener);
+            return result;
+        });
+    }
+
+    private static <K, V> void remove(Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(name, "Channel or pattern must not be null");
+
+        index.computeIfPresent(new PubSubEndpoint.Wrapper<>(name), (key, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private static <K, V> List<RedisPubSubListener<K, V>> lookup(
+            Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name) {
+
+        if (index.isEmpty() || name == null) {
+            return Collections.emptyList();
+        }
+
+        List<RedisPubSubListener<K, V>> listeners = index.get(new PubSubEndpoint.Wrapper<>(name));
+        return listeners != null ? listeners : Collections.emptyList();
+    }
+
+}
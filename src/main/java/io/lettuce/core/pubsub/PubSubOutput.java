@@ -64,8 +64,33 @@ public class PubSubOutput<K, V> extends CommandOutput<K, V, V> implements PubSub
 
     private boolean completed;
 
+    private final PubSubEndpoint<K, V> endpoint;
+
+    private int elements;
+
+    private boolean raw;
+
+    private boolean decode = true;
+
+    private PubSubChannel rawChannel;
+
+    private PubSubChannel rawPattern;
+
     public PubSubOutput(RedisCodec<K, V> codec) {
+        this(codec, null);
+    }
+
+    /**
+     * Create a new {@link PubSubOutput} that dispatches messages to {@link RawPubSubListener}s registered with the
+     * {@link PubSubEndpoint} while decoding. Messages are decoded through the codec only if other listeners are registered.
+     *
+     * @param codec the codec.
+     * @param endpoint the endpoint, can be {@code null}.
+     * @since 6.5
+     */
+    PubSubOutput(RedisCodec<K, V> codec, PubSubEndpoint<K, V> endpoint) {
         super(codec, null);
+        this.endpoint = endpoint;
     }
 
     public Type type() {
@@ -94,6 +119,11 @@ public class PubSubOutput<K, V> extends CommandOutput<K, V, V> implements PubSub
 
         if (type == null) {
             type = Type.valueOf(decodeAscii(bytes));
+
+            if (endpoint != null && isMessage(type) && endpoint.hasRawListeners()) {
+                raw = true;
+                decode = endpoint.hasDecodingListeners();
+            }
             return;
         }
 
@@ -102,19 +132,38 @@ public class PubSubOutput<K, V> extends CommandOutput<K, V, V> implements PubSub
 
     @SuppressWarnings("unchecked")
     private void handleOutput(ByteBuffer bytes) {
+
+        int element = elements++;
+
         switch (type) {
             case pmessage:
-                if (pattern == null) {
-                    pattern = codec.decodeKey(bytes);
+                if (element == 0) {
+                    if (raw) {
+                        rawPattern = endpoint.intern(bytes);
+                    }
+                    if (decode) {
+                        pattern = codec.decodeKey(bytes);
+                    }
                     break;
                 }
+                element--;
             case smessage:
             case message:
-                if (channel == null) {
-                    channel = codec.decodeKey(bytes);
+                if (element == 0) {
+                    if (raw) {
+                        rawChannel = endpoint.intern(bytes);
+                    }
+                    if (decode) {
+                        channel = codec.decodeKey(bytes);
+                    }
                     break;
                 }
-                output = codec.decodeValue(bytes);
+                if (raw) {
+                    endpoint.notifyRawMessage(type, rawPattern, rawChannel, bytes);
+                }
+                if (decode) {
+                    output = codec.decodeValue(bytes);
+                }
                 completed = true;
                 break;
             case psubscribe:
@@ -132,6 +181,37 @@ public class PubSubOutput<K, V> extends CommandOutput<K, V, V> implements PubSub
         }
     }
 
+    private static boolean isMessage(Type type) {
+        return type == Type.message || type == Type.pmessage || type == Type.smessage;
+    }
+
+    /**
+     * @return {@code true} if the message was only dispatched to {@link RawPubSubListener}s and not decoded. Such outputs do not
+     *         require further notification and can be {@link #reset() reused}.
+     */
+    boolean isRawOnly() {
+        return raw && !decode;
+    }
+
+    /**
+     * Reset this output to decode the next message.
+     */
+    void reset() {
+
+        type = null;
+        channel = null;
+        pattern = null;
+        output = null;
+        error = null;
+        count = 0;
+        completed = false;
+        elements = 0;
+        raw = false;
+        decode = true;
+        rawChannel = null;
+        rawPattern = null;
+    }
+
     @Override
     public void set(long integer) {
         count = integer;
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+/**
+ * Low-level listener for Pub/Sub messages ({@code message}, {@code pmessage} and {@code smessage}) that receives channel names
+ * as interned {@link PubSubChannel}s and the message body as raw {@link java.nio.ByteBuffer} without decoding through the
+ * codec. Messages are delivered on the I/O thread.
+ * <p>
+ * The {@link RawPubSubMessage} and its body are only valid during the callback. The message instance is recycled afterwards
+ * and the body refers to the receive buffer, so listeners must copy any data they want to retain. If only raw listeners are
+ * registered, messages are not decoded at all and no per-message objects are allocated.
+ *
+ * @since 6.5
+ * @see StatefulRedisPubSubConnection#addRawListener(RawPubSubListener)
+ */
+@FunctionalInterface
+public interface RawPubSubListener {
+
+    /**
+     * Message received from a channel, pattern or shard channel subscription.
+     *
+     * @param message the message, only valid during the callback.
+     */
+    void message(RawPubSubMessage message);
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.nio.ByteBuffer;
+
+import io.netty.util.Recycler;
+
+/**
+ * Pooled {@link PubSubMessage} carrying interned channel names and the raw message body. Instances are recycled after they were
+ * delivered to {@link RawPubSubListener}s and must not be retained.
+ *
+ * @since 6.5
+ */
+public final class RawPubSubMessage implements PubSubMessage<PubSubChannel, ByteBuffer> {
+
+    private static final Recycler<RawPubSubMessage> RECYCLER = new Recycler<RawPubSubMessage>() {
+
+        @Override
+        protected RawPubSubMessage newObject(Handle<RawPubSubMessage> handle) {
+            return new RawPubSubMessage(handle);
+        }
+
+    };
+
+    private final Recycler.Handle<RawPubSubMessage> handle;
+
+    private PubSubOutput.Type type;
+
+    private PubSubChannel pattern;
+
+    private PubSubChannel channel;
+
+    private ByteBuffer body;
+
+    private int bodyPosition;
+
+    private RawPubSubMessage(Recycler.Handle<RawPubSubMessage> handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Allocate a new instance.
+     *
+     * @return new instance of {@link RawPubSubMessage}.
+     */
+    static RawPubSubMessage newInstance(PubSubOutput.Type type, PubSubChannel pattern, PubSubChannel channel, ByteBuffer body) {
+
+        RawPubSubMessage message = RECYCLER.get();
+
+        message.type = type;
+        message.pattern = pattern;
+        message.channel = channel;
+        message.body = body.asReadOnlyBuffer();
+        message.bodyPosition = body.position();
+
+        return message;
+    }
+
+    @Override
+    public PubSubOutput.Type type() {
+        return type;
+    }
+
+    @Override
+    public PubSubChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public PubSubChannel pattern() {
+        return pattern;
+    }
+
+    @Override
+    public long count() {
+        return 0;
+    }
+
+    /**
+     * @return read-only view of the raw message body. The view refers to the receive buffer and is only valid during the
+     *         callback.
+     */
+    @Override
+    public ByteBuffer body() {
+        return body;
+    }
+
+    /**
+     * Restore the body position for the next listener.
+     */
+    void rewind() {
+        body.position(bodyPosition);
+    }
+
+    /**
+     * Clear the message and return it to the pool.
+     */
+    void recycle() {
+
+        this.type = null;
+        this.pattern = null;
+        this.channel = null;
+        this.body = null;
+
+        handle.recycle(this);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [type=").append(type);
+        sb.append(", pattern=").append(pattern);
+        sb.append(", channel=").append(channel);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
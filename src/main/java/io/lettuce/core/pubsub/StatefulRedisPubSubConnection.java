@@ -57,4 +57,60 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
      */
     void removeListener(RedisPubSubListener<K, V> listener);
 
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about messages and subscription signals for the
+     * given {@code channel}. Applies to regular and shard channels. Messages are dispatched to channel listeners by a lookup
+     * instead of visiting all listeners.
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void addChannelListener(K channel, RedisPubSubListener<K, V> listener);
+
+    /**
+     * Remove an existing {@link RedisPubSubListener listener} registered for the given {@code channel}.
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void removeChannelListener(K channel, RedisPubSubListener<K, V> listener);
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about messages and subscription signals for the
+     * given {@code pattern}. Messages are matched by the pattern that Redis reports along with the message.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void addPatternListener(K pattern, RedisPubSubListener<K, V> listener);
+
+    /**
+     * Remove an existing {@link RedisPubSubListener listener} registered for the given {@code pattern}.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void removePatternListener(K pattern, RedisPubSubListener<K, V> listener);
+
+    /**
+     * Add a new {@link RawPubSubListener listener} receiving messages without decoding through the codec. Messages are delivered
+     * with interned channel names and a view of the raw message body that is only valid during the callback.
+     *
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void addRawListener(RawPubSubListener listener);
+
+    /**
+     * Remove an existing {@link RawPubSubListener listener}.
+     *
+     * @param listener the listener, must not be {@code null}.
+     * @since 6.5
+     */
+    void removeRawListener(RawPubSubListener listener);
+
 }
@@ -87,6 +87,36 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         endpoint.removeListener(listener);
     }
 
+    @Override
+    public void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        endpoint.addChannelListener(channel, listener);
+    }
+
+    @Override
+    public void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        endpoint.removeChannelListener(channel, listener);
+    }
+
+    @Override
+    public void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        endpoint.addPatternListener(pattern, listener);
+    }
+
+    @Override
+    public void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        endpoint.removePatternListener(pattern, listener);
+    }
+
+    @Override
+    public void addRawListener(RawPubSubListener listener) {
+        endpoint.addRawListener(listener);
+    }
+
+    @Override
+    public void removeRawListener(RawPubSubListener listener) {
+        endpoint.removeRawListener(listener);
+    }
+
     @Override
     public RedisPubSubAsyncCommands<K, V> async() {
         return (RedisPubSubAsyncCommands<K, V>) async;
@@ -204,6 +204,16 @@ public interface ClientResources {
          */
         Builder eventLoopGroupProvider(EventLoopGroupProvider eventLoopGroupProvider);
 
+        /**
+         * Sets the {@link EventLoopSelector} to assign connections to an {@link io.netty.channel.EventLoop}. Defaults to
+         * {@link EventLoopSelector#roundRobin()}.
+         *
+         * @param eventLoopSelector the event loop selector, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.5
+         */
+        Builder eventLoopSelector(EventLoopSelector eventLoopSelector);
+
         /**
          * Sets the thread pool size (number of threads to use) for I/O operations (default value is the number of CPUs). The
          * thread pool size is only effective if no {@code eventLoopGroupProvider} is provided.
@@ -384,6 +394,16 @@ public interface ClientResources {
      */
     EventLoopGroupProvider eventLoopGroupProvider();
 
+    /**
+     * Return the {@link EventLoopSelector} to assign connections to an {@link io.netty.channel.EventLoop}.
+     *
+     * @return the {@link EventLoopSelector}, defaults to {@link EventLoopSelector#roundRobin()}.
+     * @since 6.5
+     */
+    default EventLoopSelector eventLoopSelector() {
+        return EventLoopSelector.roundRobin();
+    }
+
     /**
      * Return the computation pool used for internal operations. Such tasks are periodic Redis Cluster and Redis Sentinel
      * topology updates and scheduling of connection reconnection by {@link io.lettuce.core.protocol.ConnectionWatchdog}.
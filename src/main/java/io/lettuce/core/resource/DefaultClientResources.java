@@ -66,6 +66,7 @@ import reactor.core.scheduler.Schedulers;
  * <li>the {@code ioThreadPoolSize}, alternatively</li>
  * <li>a {@code eventLoopGroupProvider} which is a provided instance of {@link EventLoopGroupProvider}. Higher precedence than
  * {@code ioThreadPoolSize}.</li>
+ * <li>an {@code eventLoopSelector} to assign connections to an event loop.</li>
  * <li>computationThreadPoolSize</li>
  * <li>a {@code eventExecutorGroup} which is a provided instance of {@link EventExecutorGroup}. Higher precedence than
  * {@code computationThreadPoolSize}.</li>
@@ -143,6 +144,8 @@ public class DefaultClientResources implements ClientResources {
 
     private final EventLoopGroupProvider eventLoopGroupProvider;
 
+    private final EventLoopSelector eventLoopSelector;
+
     private final boolean sharedEventExecutor;
 
     private final EventExecutorGroup eventExecutorGroup;
@@ -171,6 +174,7 @@ public class DefaultClientResources implements ClientResources {
 
         addressResolverGroup = builder.addressResolverGroup;
         threadFactoryProvider = builder.threadFactoryProvider;
+        eventLoopSelector = builder.eventLoopSelector;
 
         if (builder.eventLoopGroupProvider == null) {
             int ioThreadPoolSize = builder.ioThreadPoolSize;
@@ -315,6 +319,8 @@ public class DefaultClientResources implements ClientResources {
 
         private EventLoopGroupProvider eventLoopGroupProvider;
 
+        private EventLoopSelector eventLoopSelector = EventLoopSelector.roundRobin();
+
         private int ioThreadPoolSize = DEFAULT_IO_THREADS;
 
         private NettyCustomizer nettyCustomizer = DEFAULT_NETTY_CUSTOMIZER;
@@ -493,6 +499,23 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link EventLoopSelector} to assign connections to an {@link io.netty.channel.EventLoop}. Defaults to
+         * {@link EventLoopSelector#roundRobin()}.
+         *
+         * @param eventLoopSelector the event loop selector, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         * @since 6.5
+         */
+        @Override
+        public Builder eventLoopSelector(EventLoopSelector eventLoopSelector) {
+
+            LettuceAssert.notNull(eventLoopSelector, "EventLoopSelector must not be null");
+
+            this.eventLoopSelector = eventLoopSelector;
+            return this;
+        }
+
         /**
          * Sets a shared {@link EventExecutorGroup event executor group} that can be used across different instances of
          * {@link io.lettuce.core.RedisClient} and {@link io.lettuce.core.cluster.RedisClusterClient}. The provided
@@ -694,7 +717,8 @@ public class DefaultClientResources implements ClientResources {
 
         builder.afterBuild(() -> this.shutdownCheck = false).commandLatencyRecorder(commandLatencyRecorder())
                 .commandLatencyPublisherOptions(commandLatencyPublisherOptions()).dnsResolver(dnsResolver())
-                .eventBus(eventBus()).eventExecutorGroup(eventExecutorGroup()).reconnectDelay(reconnectDelay)
+                .eventBus(eventBus()).eventExecutorGroup(eventExecutorGroup()).eventLoopSelector(eventLoopSelector())
+                .reconnectDelay(reconnectDelay)
                 .socketAddressResolver(socketAddressResolver()).nettyCustomizer(nettyCustomizer())
                 .threadFactoryProvider(threadFactoryProvider).timer(timer()).tracing(tracing())
                 .addressResolverGroup(addressResolverGroup());
@@ -801,6 +825,11 @@ public class DefaultClientResources implements ClientResources {
         return eventLoopGroupProvider;
     }
 
+    @Override
+    public EventLoopSelector eventLoopSelector() {
+        return eventLoopSelector;
+    }
+
     @Override
     public EventExecutorGroup eventExecutorGroup() {
         return eventExecutorGroup;
@@ -2,7 +2,9 @@ package io.lettuce.core.resource;
 
 import static io.lettuce.core.resource.PromiseAdapter.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -296,6 +298,26 @@ public class DefaultEventLoopGroupProvider implements EventLoopGroupProvider {
         return numberOfThreads;
     }
 
+    /**
+     * Return {@link EventLoopMetrics utilization snapshots} for the event loops of all allocated {@link EventLoopGroup event
+     * loop groups}.
+     *
+     * @return the {@link EventLoopMetrics} of all allocated event loops.
+     * @since 6.5
+     */
+    public List<EventLoopMetrics> getEventLoopMetrics() {
+
+        List<EventLoopMetrics> metrics = new ArrayList<>();
+
+        for (EventExecutorGroup group : eventLoopGroups.values()) {
+            if (group instanceof EventLoopGroup) {
+                metrics.addAll(EventLoopMetrics.of((EventLoopGroup) group));
+            }
+        }
+
+        return metrics;
+    }
+
     @Override
     public Future<Boolean> shutdown(long quietPeriod, long timeout, TimeUnit timeUnit) {
 
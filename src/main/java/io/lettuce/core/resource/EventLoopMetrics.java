@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SingleThreadEventLoop;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+/**
+ * Point-in-time utilization snapshot of an {@link EventLoop}. Values are obtained without synchronizing with the event loop and
+ * are therefore approximate.
+ *
+ * @since 6.5
+ * @see EventLoopSelector
+ * @see DefaultEventLoopGroupProvider#getEventLoopMetrics()
+ */
+public class EventLoopMetrics {
+
+    private final String eventLoop;
+
+    private final int registeredChannels;
+
+    private final int pendingTasks;
+
+    private EventLoopMetrics(String eventLoop, int registeredChannels, int pendingTasks) {
+        this.eventLoop = eventLoop;
+        this.registeredChannels = registeredChannels;
+        this.pendingTasks = pendingTasks;
+    }
+
+    /**
+     * Create a snapshot for the given {@link EventLoop}.
+     *
+     * @param eventLoop the event loop, must not be {@code null}.
+     * @return the {@link EventLoopMetrics} snapshot.
+     */
+    public static EventLoopMetrics of(EventLoop eventLoop) {
+
+        LettuceAssert.notNull(eventLoop, "EventLoop must not be null");
+
+        int registeredChannels = eventLoop instanceof SingleThreadEventLoop
+                ? ((SingleThreadEventLoop) eventLoop).registeredChannels()
+                : -1;
+        int pendingTasks = eventLoop instanceof SingleThreadEventExecutor
+                ? ((SingleThreadEventExecutor) eventLoop).pendingTasks()
+                : -1;
+
+        return new EventLoopMetrics(eventLoop.toString(), registeredChannels, pendingTasks);
+    }
+
+    /**
+     * Create snapshots for all {@link EventLoop event loops} of the given {@link EventLoopGroup}.
+     *
+     * @param eventLoopGroup the event loop group, must not be {@code null}.
+     * @return the {@link EventLoopMetrics} snapshots in iteration order of the {@link EventLoopGroup}.
+     */
+    public static List<EventLoopMetrics> of(EventLoopGroup eventLoopGroup) {
+
+        LettuceAssert.notNull(eventLoopGroup, "EventLoopGroup must not be null");
+
+        List<EventLoopMetrics> metrics = new ArrayList<>();
+
+        for (EventLoop eventLoop : EventLoopSelector.eventLoops(eventLoopGroup)) {
+            metrics.add(of(eventLoop));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * @return the string representation of the event loop.
+     */
+    public String getEventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * @return number of channels registered with the event loop or {@code -1} if the event loop does not report registered
+     *         channels.
+     */
+    public int getRegisteredChannels() {
+        return registeredChannels;
+    }
+
+    /**
+     * @return number of tasks pending for execution or {@code -1} if the event loop does not report pending tasks.
+     */
+    public int getPendingTasks() {
+        return pendingTasks;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [eventLoop=").append(eventLoop);
+        sb.append(", registeredChannels=").append(registeredChannels);
+        sb.append(", pendingTasks=").append(pendingTasks);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
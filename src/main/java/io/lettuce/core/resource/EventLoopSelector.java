@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Strategy to select the {@link EventLoop} a connection is assigned to. The selected {@link EventLoop} handles all I/O of the
+ * connection including reconnects. Implementations must be thread-safe.
+ * <p>
+ * Built-in strategies:
+ * <ul>
+ * <li>{@link #roundRobin()}: delegates to {@link EventLoopGroup#next()} (default).</li>
+ * <li>{@link #leastLoaded()}: selects the {@link EventLoop} with the fewest registered channels and, among those, the fewest
+ * pending tasks.</li>
+ * <li>{@link #pinned(Function)}: pins connections to a particular {@link EventLoop} by index and delegates all other
+ * connections to this selector.</li>
+ * </ul>
+ *
+ * @since 6.5
+ * @see ClientResources#eventLoopSelector()
+ * @see EventLoopMetrics
+ */
+@FunctionalInterface
+public interface EventLoopSelector {
+
+    /**
+     * Select the {@link EventLoop} for a new connection.
+     *
+     * @param eventLoopGroup the {@link EventLoopGroup} to select from.
+     * @param redisURI the {@link RedisURI} of the connection. Can be {@code null} if the connection is not associated with a
+     *        {@link RedisURI}.
+     * @return the selected {@link EventLoop}.
+     */
+    EventLoop select(EventLoopGroup eventLoopGroup, RedisURI redisURI);
+
+    /**
+     * Create a {@link EventLoopSelector} that pins connections to an {@link EventLoop} at the index returned by
+     * {@code pinning} and delegates to this selector if {@code pinning} returns {@code null}. The index is applied modulo the
+     * number of event loops.
+     *
+     * @param pinning function to determine the {@link EventLoop} index for a {@link RedisURI}, must not be {@code null}.
+     * @return the pinning {@link EventLoopSelector}.
+     */
+    default EventLoopSelector pinned(Function<RedisURI, Integer> pinning) {
+
+        LettuceAssert.notNull(pinning, "Pinning function must not be null");
+
+        return (eventLoopGroup, redisURI) -> {
+
+            Integer index = redisURI != null ? pinning.apply(redisURI) : null;
+
+            if (index == null) {
+                return select(eventLoopGroup, redisURI);
+            }
+
+            List<EventLoop> eventLoops = eventLoops(eventLoopGroup);
+
+            if (eventLoops.isEmpty()) {
+                return select(eventLoopGroup, redisURI);
+            }
+
+            return eventLoops.get(Math.floorMod(index, eventLoops.size()));
+        };
+    }
+
+    /**
+     * Create a {@link EventLoopSelector} that assigns connections in a round-robin fashion using {@link EventLoopGroup#next()}.
+     *
+     * @return the round-robin {@link EventLoopSelector}.
+     */
+    static EventLoopSelector roundRobin() {
+        return (eventLoopGroup, redisURI) -> eventLoopGroup.next();
+    }
+
+    /**
+     * Create a {@link EventLoopSelector} that assigns connections to the {@link EventLoop} with the fewest registered channels
+     * and, among those, the fewest pending tasks. Falls back to {@link EventLoopGroup#next()} if the event loops do not report
+     * their registered channels.
+     *
+     * @return the least-loaded {@link EventLoopSelector}.
+     */
+    static EventLoopSelector leastLoaded() {
+
+        return (eventLoopGroup, redisURI) -> {
+
+            EventLoop selected = null;
+            EventLoopMetrics selectedMetrics = null;
+
+            for (EventLoop eventLoop : eventLoops(eventLoopGroup)) {
+
+                EventLoopMetrics metrics = EventLoopMetrics.of(eventLoop);
+
+                if (metrics.getRegisteredChannels() < 0) {
+                    return eventLoopGroup.next();
+                }
+
+                if (selectedMetrics == null || metrics.getRegisteredChannels() < selectedMetrics.getRegisteredChannels()
+                        || (metrics.getRegisteredChannels() == selectedMetrics.getRegisteredChannels()
+                                && metrics.getPendingTasks() < selectedMetrics.getPendingTasks())) {
+                    selected = eventLoop;
+                    selectedMetrics = metrics;
+                }
+            }
+
+            return selected != null ? selected : eventLoopGroup.next();
+        };
+    }
+
+    /**
+     * Return the {@link EventLoop event loops} of the given {@link EventLoopGroup}.
+     *
+     * @param eventLoopGroup the event loop group.
+     * @return the {@link EventLoop event loops}.
+     */
+    static List<EventLoop> eventLoops(EventLoopGroup eventLoopGroup) {
+
+        List<EventLoop> eventLoops = new ArrayList<>();
+
+        for (EventExecutor executor : eventLoopGroup) {
+            if (executor instanceof EventLoop) {
+                eventLoops.add((EventLoop) executor);
+            }
+        }
+
+        return eventLoops;
+    }
+
+}
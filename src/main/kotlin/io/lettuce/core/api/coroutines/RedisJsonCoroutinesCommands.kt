@@ -9,6 +9,7 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import kotlinx.coroutines.flow.Flow
+import io.lettuce.core.json.JsonCodec
 import io.lettuce.core.json.JsonType
 import io.lettuce.core.json.JsonValue
 import io.lettuce.core.json.arguments.JsonGetArgs
@@ -25,7 +26,7 @@ import io.lettuce.core.json.arguments.JsonSetArgs
  * @author Tihomir Mateev
  * @see <a href="https://redis.io/docs/latest/develop/data-types/json/">Redis JSON</a>
  * @since 6.5
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesApi
+ * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesApi
  */
 @ExperimentalLettuceCoroutinesApi
 interface RedisJsonCoroutinesCommands<K : Any, V : Any> {
@@ -233,6 +234,37 @@ interface RedisJsonCoroutinesCommands<K : Any, V : Any> {
      */
     suspend fun jsonGet(key: K, vararg jsonPaths: JsonPath): List<JsonValue>
 
+    /**
+     * Return the value at the specified path decoded to [type]. Uses defaults for the [JsonGetArgs]. The response is
+     * bound directly to [type] without creating intermediate [JsonValue]s.
+     * <p>
+     * When using JSONPath syntax, the response is a JSON array of the matching values and [type] must be able to
+     * represent an array, e.g. `MyType[].class`. A legacy path returns the single value.
+     *
+     * @param key the key holding the JSON document.
+     * @param type the type to bind the JSON value to.
+     * @param jsonPaths the [JsonPath]s to use to identify the values to get.
+     * @param <T> the target type.
+     * @return T the value at path decoded to [type].
+     * @since 6.5
+     */
+    suspend fun <T : Any> jsonGet(key: K, type: Class<T>, vararg jsonPaths: JsonPath): List<T>
+
+    /**
+     * Return the value at the specified path decoded through a [JsonCodec]. Uses defaults for the [JsonGetArgs].
+     * Values are decoded on the I/O thread unless the codec is [JsonCodec.lazy].
+     * <p>
+     * When using JSONPath syntax, the response is a JSON array of the matching values. A legacy path returns the single value.
+     *
+     * @param key the key holding the JSON document.
+     * @param jsonCodec the [JsonCodec] to decode the JSON value.
+     * @param jsonPaths the [JsonPath]s to use to identify the values to get.
+     * @param <T> the decoded type.
+     * @return T the value at path decoded through [jsonCodec].
+     * @since 6.5
+     */
+    suspend fun <T : Any> jsonGet(key: K, jsonCodec: JsonCodec<T>, vararg jsonPaths: JsonPath): List<T>
+
     /**
      * Merge a given [JsonValue] with the value matching [JsonPath]. Consequently, JSON values at matching paths are
      * updated, deleted, or expanded with new children.
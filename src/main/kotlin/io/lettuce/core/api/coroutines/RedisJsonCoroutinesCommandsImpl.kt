@@ -9,6 +9,7 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
 import io.lettuce.core.api.reactive.RedisJsonReactiveCommands
+import io.lettuce.core.json.JsonCodec
 import io.lettuce.core.json.JsonPath
 import io.lettuce.core.json.JsonType
 import io.lettuce.core.json.JsonValue
@@ -86,6 +87,12 @@ internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
     override suspend fun jsonGet(key: K, vararg jsonPaths: JsonPath): List<JsonValue> =
         ops.jsonGet(key, *jsonPaths).asFlow().toList()
 
+    override suspend fun <T : Any> jsonGet(key: K, type: Class<T>, vararg jsonPaths: JsonPath): List<T> =
+        ops.jsonGet(key, type, *jsonPaths).asFlow().toList()
+
+    override suspend fun <T : Any> jsonGet(key: K, jsonCodec: JsonCodec<T>, vararg jsonPaths: JsonPath): List<T> =
+        ops.jsonGet(key, jsonCodec, *jsonPaths).asFlow().toList()
+
     override suspend fun jsonMerge(key: K, jsonPath: JsonPath, value: JsonValue): String? =
         ops.jsonMerge(key, jsonPath, value).awaitFirstOrNull()
 
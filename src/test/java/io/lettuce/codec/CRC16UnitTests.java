@@ -3,10 +3,13 @@ package io.lettuce.codec;
 import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -40,6 +43,43 @@ class CRC16UnitTests {
         assertThat(result).describedAs("Expects " + Integer.toHexString(fixture.expected)).isEqualTo(fixture.expected);
     }
 
+    @Test
+    void slicingShouldMatchBytewiseCRC16() {
+
+        Random random = new Random(42);
+
+        for (int length = 0; length < 100; length++) {
+
+            byte[] bytes = new byte[length + 3];
+            random.nextBytes(bytes);
+
+            int expected = bytewise(bytes, 3, length);
+
+            assertThat(CRC16.crc16(bytes, 3, length)).isEqualTo(expected);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).position(3);
+            assertThat(CRC16.crc16(direct)).isEqualTo(expected);
+            assertThat(direct.hasRemaining()).isFalse();
+        }
+    }
+
+    private static int bytewise(byte[] bytes, int off, int len) {
+
+        int crc = 0;
+
+        for (int i = off; i < off + len; i++) {
+
+            crc ^= (bytes[i] & 0xFF) << 8;
+
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+
+        return crc & 0xFFFF;
+    }
+
     static class Fixture {
 
         final byte[] bytes;
@@ -110,6 +110,9 @@ class ClientOptionsUnitTests {
         assertThat(sut.getProtocolVersion()).isEqualTo(ProtocolVersion.RESP3);
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isFalse();
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
+        assertThat(sut.getPublishOnSchedulerBatchSize()).isEqualTo(ClientOptions.DEFAULT_PUBLISH_ON_SCHEDULER_BATCH_SIZE);
+        assertThat(sut.isFailoverReplay()).isFalse();
+        assertThat(sut.getLivenessOptions().isEnabled()).isFalse();
     }
 
 }
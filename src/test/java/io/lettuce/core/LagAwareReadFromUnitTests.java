@@ -0,0 +1,111 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.models.role.RedisInstance;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+/**
+ * Unit tests for {@link LagAwareReadFrom}.
+ */
+@Tag(UNIT_TEST)
+class LagAwareReadFromUnitTests {
+
+    private final RedisNodeDescription upstream = createNode(6379, RedisInstance.Role.UPSTREAM);
+
+    private final RedisNodeDescription replica1 = createNode(6380, RedisInstance.Role.REPLICA);
+
+    private final RedisNodeDescription replica2 = createNode(6381, RedisInstance.Role.REPLICA);
+
+    @Test
+    void shouldSelectReplicasWithinBound() {
+
+        LagAwareReadFrom sut = LagAwareReadFrom.create(100);
+
+        sut.recordOffsets("localhost", 6380, 1000, 950);
+        sut.recordOffsets("localhost", 6381, 1000, 500);
+
+        assertThat(sut.select(getNodes())).containsOnly(replica1);
+        assertThat(sut.getLag("localhost", 6381)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldFallBackToUpstream() {
+
+        LagAwareReadFrom sut = LagAwareReadFrom.create(100);
+
+        assertThat(sut.select(getNodes())).containsOnly(upstream);
+
+        sut.recordOffsets("localhost", 6380, 1000, 0);
+
+        assertThat(sut.select(getNodes())).containsOnly(upstream);
+        assertThat(sut.getLag("localhost", 6381)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldIgnoreStaleOffsets() throws InterruptedException {
+
+        LagAwareReadFrom sut = LagAwareReadFrom.create(100, Duration.ofMillis(1));
+
+        sut.recordOffsets("localhost", 6380, 1000, 1000);
+
+        Thread.sleep(10);
+
+        assertThat(sut.select(getNodes())).containsOnly(upstream);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+
+        assertThatThrownBy(() -> LagAwareReadFrom.create(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LagAwareReadFrom.create(1, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReadFrom.Nodes getNodes() {
+
+        List<RedisNodeDescription> nodes = Arrays.asList(upstream, replica1, replica2);
+
+        return new ReadFrom.Nodes() {
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return nodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return nodes.iterator();
+            }
+
+        };
+    }
+
+    private static RedisNodeDescription createNode(int port, RedisInstance.Role role) {
+
+        RedisURI uri = RedisURI.create("localhost", port);
+
+        return new RedisNodeDescription() {
+
+            @Override
+            public RedisURI getUri() {
+                return uri;
+            }
+
+            @Override
+            public Role getRole() {
+                return role;
+            }
+
+        };
+    }
+
+}
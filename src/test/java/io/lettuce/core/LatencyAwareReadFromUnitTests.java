@@ -0,0 +1,108 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyAwareReadFrom}.
+ */
+@Tag(UNIT_TEST)
+class LatencyAwareReadFromUnitTests {
+
+    @Test
+    void shouldReuseNodeLoadPerNode() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        assertThat(sut.getNodeLoad("localhost", 6379)).isSameAs(sut.getNodeLoad("localhost", 6379));
+        assertThat(sut.getNodeLoad("localhost", 6379)).isNotSameAs(sut.getNodeLoad("localhost", 6380));
+    }
+
+    @Test
+    void shouldApplyPeakLatencyImmediately() {
+
+        LatencyAwareReadFrom.NodeLoad load = LatencyAwareReadFrom.create().getNodeLoad("localhost", 6379);
+
+        load.onDispatch();
+        load.onComplete(TimeUnit.MILLISECONDS.toNanos(1));
+        load.onDispatch();
+        load.onComplete(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThat(load.getLatencyEwma()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(load.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldDecayLatency() throws InterruptedException {
+
+        LatencyAwareReadFrom.NodeLoad load = LatencyAwareReadFrom.create(ReadFrom.ANY, Duration.ofMillis(1))
+                .getNodeLoad("localhost", 6379);
+
+        load.onDispatch();
+        load.onComplete(TimeUnit.MILLISECONDS.toNanos(50));
+
+        Thread.sleep(20);
+
+        load.onDispatch();
+        load.onComplete(TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(load.getLatencyEwma()).isLessThan(TimeUnit.MILLISECONDS.toNanos(2));
+    }
+
+    @Test
+    void shouldWeighInFlightCommands() {
+
+        LatencyAwareReadFrom.NodeLoad load = LatencyAwareReadFrom.create().getNodeLoad("localhost", 6379);
+
+        load.onDispatch();
+        load.onComplete(1000);
+        double idleScore = load.getScore();
+
+        load.onDispatch();
+        load.onDispatch();
+
+        assertThat(load.getInFlight()).isEqualTo(2);
+        assertThat(load.getScore()).isEqualTo(idleScore * 3);
+    }
+
+    @Test
+    void shouldChooseLessLoadedCandidate() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        LatencyAwareReadFrom.NodeLoad fast = sut.getNodeLoad("fast", 6379);
+        LatencyAwareReadFrom.NodeLoad slow = sut.getNodeLoad("slow", 6379);
+
+        fast.onDispatch();
+        fast.onComplete(TimeUnit.MICROSECONDS.toNanos(100));
+        slow.onDispatch();
+        slow.onComplete(TimeUnit.MILLISECONDS.toNanos(100));
+
+        String[] candidates = { "slow", "fast" };
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.choose(candidates, it -> sut.getNodeLoad(it, 6379))).isEqualTo("fast");
+        }
+    }
+
+    @Test
+    void shouldChooseSingleCandidate() {
+
+        LatencyAwareReadFrom sut = LatencyAwareReadFrom.create();
+
+        assertThat(sut.choose(new String[] { "a" }, it -> null)).isEqualTo("a");
+        assertThat(sut.choose(new String[0], it -> null)).isNull();
+    }
+
+    @Test
+    void shouldRejectNestedLatencyAwareReadFrom() {
+        assertThatIllegalArgumentException().isThrownBy(() -> LatencyAwareReadFrom.create(LatencyAwareReadFrom.create()));
+    }
+
+}
@@ -7,13 +7,17 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ProtocolVersion;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 
 /**
@@ -106,6 +110,81 @@ class RedisHandshakeUnitTests {
         assertThat(handshakeInit.toCompletableFuture().isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    void handshakeShouldPipelinePostHandshakeCommandsWithSingleFlush() {
+
+        AtomicInteger flushes = new AtomicInteger();
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+                flushes.incrementAndGet();
+                super.flush(ctx);
+            }
+
+        });
+
+        ConnectionMetadata connectionMetdata = new ConnectionMetadata();
+        connectionMetdata.setLibraryName("library-name");
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider(null, null));
+        state.setDb(2);
+        state.apply(connectionMetdata);
+        RedisHandshake handshake = new RedisHandshake(null, false, state);
+        CompletionStage<Void> handshakeInit = handshake.initialize(channel);
+
+        assertThat(flushes).hasValue(1);
+
+        AsyncCommand<String, String, Map<String, String>> hello = channel.readOutbound();
+        List<AsyncCommand<String, String, String>> postHandshake = channel.readOutbound();
+        List<AsyncCommand<String, String, String>> metadata = channel.readOutbound();
+
+        assertThat(hello.getType()).isEqualTo(CommandType.HELLO);
+        assertThat(postHandshake).extracting(AsyncCommand::getType).containsExactly(CommandType.SELECT);
+        assertThat(metadata).extracting(AsyncCommand::getType).containsExactly(CommandType.CLIENT);
+
+        helloResponse(hello.getOutput());
+        hello.complete();
+
+        assertThat(handshakeInit.toCompletableFuture()).isNotDone();
+
+        postHandshake.get(0).complete();
+        metadata.get(0).complete();
+
+        assertThat(handshakeInit.toCompletableFuture()).isCompleted();
+        assertThat(state.getNegotiatedProtocolVersion()).isEqualTo(ProtocolVersion.RESP3);
+    }
+
+    @Test
+    void handshakeWithDiscoveryShouldResendPostHandshakeCommandsAfterDowngrade() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider(null, "bar".toCharArray()));
+        state.setDb(2);
+        RedisHandshake handshake = new RedisHandshake(null, false, state);
+        CompletionStage<Void> handshakeInit = handshake.initialize(channel);
+
+        AsyncCommand<String, String, Map<String, String>> hello = channel.readOutbound();
+        List<AsyncCommand<String, String, String>> pipelined = channel.readOutbound();
+
+        pipelined.get(0).completeExceptionally(new RedisException("NOAUTH Authentication required."));
+        hello.completeExceptionally(new RedisException("ERR unknown command 'HELLO'"));
+
+        AsyncCommand<String, String, String> auth = channel.readOutbound();
+        assertThat(auth.getType()).isEqualTo(CommandType.AUTH);
+        auth.complete();
+
+        List<AsyncCommand<String, String, String>> postHandshake = channel.readOutbound();
+        assertThat(postHandshake).extracting(AsyncCommand::getType).containsExactly(CommandType.SELECT);
+        postHandshake.get(0).complete();
+
+        assertThat(handshakeInit.toCompletableFuture()).isCompleted();
+        assertThat(state.getNegotiatedProtocolVersion()).isEqualTo(ProtocolVersion.RESP2);
+    }
+
     @Test
     void shouldParseVersionWithCharacters() {
 
@@ -0,0 +1,121 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import reactor.core.CoreSubscriber;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link RedisPublisher}.
+ */
+@Tag(UNIT_TEST)
+class RedisPublisherUnitTests {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final CoreSubscriber<String> subscriber = mock(CoreSubscriber.class);
+
+    private Command<String, String, List<String>> command;
+
+    @BeforeEach
+    void before() {
+        command = new Command<>(CommandType.LRANGE, new ValueListOutput<>(StringCodec.UTF8));
+    }
+
+    @Test
+    void shouldEmitDataSignalsInBatches() {
+
+        RedisPublisher.RedisSubscription<String> subscription = subscribe(2);
+        subscription.request(Long.MAX_VALUE);
+
+        emit("a", "b", "c", "d", "e");
+        new RedisPublisher.SubscriptionCommand<>(command, subscription, true).complete();
+
+        assertThat(tasks).hasSize(4);
+
+        runTasks();
+
+        InOrder inOrder = inOrder(subscriber);
+        inOrder.verify(subscriber).onNext("a");
+        inOrder.verify(subscriber).onNext("b");
+        inOrder.verify(subscriber).onNext("c");
+        inOrder.verify(subscriber).onNext("d");
+        inOrder.verify(subscriber).onNext("e");
+        inOrder.verify(subscriber).onComplete();
+    }
+
+    @Test
+    void shouldFlushBatchWhenDemandIsExhausted() {
+
+        RedisPublisher.RedisSubscription<String> subscription = subscribe(4);
+        subscription.request(3);
+
+        emit("a", "b", "c", "d");
+
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        verify(subscriber).onNext("a");
+        verify(subscriber).onNext("b");
+        verify(subscriber).onNext("c");
+        verify(subscriber, never()).onNext("d");
+
+        subscription.request(1);
+        runTasks();
+
+        verify(subscriber).onNext("d");
+    }
+
+    @Test
+    void shouldEmitDataSignalsIndividuallyByDefault() {
+
+        RedisPublisher.RedisSubscription<String> subscription = subscribe(1);
+        subscription.request(Long.MAX_VALUE);
+
+        emit("a", "b", "c");
+
+        assertThat(tasks).hasSize(3);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private RedisPublisher.RedisSubscription<String> subscribe(int batchSize) {
+
+        RedisPublisher.RedisSubscription<String> subscription = new RedisPublisher.RedisSubscription<>(
+                mock(StatefulConnection.class), (Command) command, true, tasks::add, batchSize);
+        subscription.subscribe(subscriber);
+
+        return subscription;
+    }
+
+    private void emit(String... values) {
+
+        for (String value : values) {
+            command.getOutput().set(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private void runTasks() {
+
+        List<Runnable> tasks = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+}
@@ -0,0 +1,99 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
+
+/**
+ * Unit tests for {@link ScanStream}.
+ */
+@Tag(UNIT_TEST)
+class ScanStreamUnitTests {
+
+    @SuppressWarnings("unchecked")
+    private final RedisKeyReactiveCommands<String, String> commands = mock(RedisKeyReactiveCommands.class);
+
+    @Test
+    void shouldEmitAllElementsWhilePrefetching() {
+
+        pages(Arrays.asList("a", "b"), Arrays.asList(), Arrays.asList("c"));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanPrefetchOptions.create()))
+                .expectNext("a", "b", "c").verifyComplete();
+    }
+
+    @Test
+    void shouldPrefetchBoundedNumberOfPages() {
+
+        pages(Arrays.asList("a"), Arrays.asList("b"), Arrays.asList("c"), Arrays.asList("d"), Arrays.asList("e"));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanPrefetchOptions.builder().pages(2).build()), 0)
+                .then(() -> verify(commands, times(3)).scan(any(ScanCursor.class), any(ScanArgs.class))).thenRequest(1)
+                .expectNext("a").then(() -> verify(commands, times(4)).scan(any(ScanCursor.class), any(ScanArgs.class)))
+                .thenRequest(Long.MAX_VALUE).expectNext("b", "c", "d", "e").verifyComplete();
+    }
+
+    @Test
+    void shouldPropagateScanErrors() {
+
+        when(commands.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(Mono.error(new RedisException("fail")));
+
+        StepVerifier.create(ScanStream.scan(commands, new ScanArgs(), ScanPrefetchOptions.create()))
+                .verifyError(RedisException.class);
+    }
+
+    @Test
+    void shouldAdaptCount() {
+
+        ScanPrefetchOptions options = ScanPrefetchOptions.builder().adaptiveCount(50, 400)
+                .targetLatency(Duration.ofMillis(10)).build();
+        ScanStream.PrefetchingScan<KeyScanCursor<String>, String> scan = new ScanStream.PrefetchingScan<>(
+                (cursor, args) -> Mono.empty(), ScanArgs.Builder.limit(100), options, KeyScanCursor::getKeys, null);
+
+        assertThat(scan.getCount()).isEqualTo(100);
+
+        scan.adapt(Duration.ofMillis(1).toNanos(), true);
+        assertThat(scan.getCount()).isEqualTo(200);
+
+        scan.adapt(Duration.ofMillis(1).toNanos(), false);
+        assertThat(scan.getCount()).isEqualTo(200);
+
+        scan.adapt(Duration.ofMillis(1).toNanos(), true);
+        scan.adapt(Duration.ofMillis(1).toNanos(), true);
+        assertThat(scan.getCount()).isEqualTo(400);
+
+        scan.adapt(Duration.ofMillis(20).toNanos(), true);
+        assertThat(scan.getCount()).isEqualTo(200);
+    }
+
+    @SafeVarargs
+    private final void pages(List<String>... pages) {
+
+        AtomicInteger page = new AtomicInteger();
+
+        when(commands.scan(any(ScanCursor.class), any(ScanArgs.class))).thenAnswer(invocation -> Mono.fromSupplier(() -> {
+
+            int index = page.getAndIncrement();
+
+            KeyScanCursor<String> cursor = new KeyScanCursor<>();
+            cursor.setCursor(Integer.toString(index + 1));
+            cursor.setFinished(index == pages.length - 1);
+            cursor.getKeys().addAll(pages[index]);
+            return cursor;
+        }));
+    }
+
+}
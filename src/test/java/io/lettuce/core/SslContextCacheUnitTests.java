@@ -0,0 +1,66 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.handler.ssl.SslContext;
+
+/**
+ * Unit tests for {@link SslContextCache}.
+ */
+@Tag(UNIT_TEST)
+class SslContextCacheUnitTests {
+
+    private final SslContextCache sut = new SslContextCache();
+
+    @AfterEach
+    void after() {
+        sut.clear();
+    }
+
+    @Test
+    void shouldCreateSslContextPerConnectionByDefault() throws Exception {
+
+        SslOptions options = SslOptions.create();
+
+        SslContext first = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+        SslContext second = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldReuseCachedSslContext() throws Exception {
+
+        SslOptions options = SslOptions.builder().sslContextCacheTimeToLive(Duration.ofMinutes(1)).build();
+
+        SslContext first = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+        SslContext second = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+        SslContext insecure = sut.getOrCreate(options, SslVerifyMode.NONE, () -> mock(SslContext.class));
+        SslContext other = sut.getOrCreate(options.mutate().build(), SslVerifyMode.FULL, () -> mock(SslContext.class));
+
+        assertThat(first).isSameAs(second);
+        assertThat(insecure).isNotSameAs(first);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldExpireCachedSslContext() throws Exception {
+
+        SslOptions options = SslOptions.builder().sslContextCacheTimeToLive(Duration.ofMillis(1)).build();
+
+        SslContext first = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+        Thread.sleep(5);
+        SslContext second = sut.getOrCreate(options, SslVerifyMode.FULL, () -> mock(SslContext.class));
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+}
@@ -38,6 +38,16 @@ class SslOptionsUnitTests {
         assertThat(options.getHandshakeTimeout()).isEqualTo(Duration.ofSeconds(1));
     }
 
+    @Test
+    void shouldConfigureSslContextCacheTimeToLive() {
+
+        SslOptions options = SslOptions.builder().sslContextCacheTimeToLive(Duration.ofMinutes(5)).build();
+
+        assertThat(SslOptions.create().getSslContextCacheTimeToLive()).isEqualTo(Duration.ZERO);
+        assertThat(options.getSslContextCacheTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(options.mutate().build().getSslContextCacheTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+    }
+
     @Test
     void shouldConfigureCipherSuiteAndProtocol() {
 
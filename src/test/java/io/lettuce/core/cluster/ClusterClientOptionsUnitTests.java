@@ -4,12 +4,14 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.cluster.metrics.ClusterTrafficOptions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
@@ -27,10 +29,12 @@ class ClusterClientOptionsUnitTests {
     void testCopy() {
 
         Predicate<RedisClusterNode> nodeFilter = it -> true;
+        ClusterTrafficOptions trafficOptions = ClusterTrafficOptions.create();
         ClusterClientOptions options = ClusterClientOptions.builder().autoReconnect(false).requestQueueSize(100)
                 .suspendReconnectOnProtocolFailure(true).maxRedirects(1234).validateClusterNodeMembership(false)
                 .readOnlyCommands(command -> command.getType() == CommandType.PING).protocolVersion(ProtocolVersion.RESP2)
-                .nodeFilter(nodeFilter).build();
+                .nodeFilter(nodeFilter).warmUpConnections(true).warmUpTimeout(Duration.ofSeconds(2))
+                .trafficOptions(trafficOptions).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -46,6 +50,9 @@ class ClusterClientOptionsUnitTests {
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
         assertThat(copy.getScriptCharset()).isEqualTo(StandardCharsets.UTF_8);
         assertThat(copy.getNodeFilter()).isEqualTo(nodeFilter);
+        assertThat(copy.isWarmUpConnections()).isTrue();
+        assertThat(copy.getWarmUpTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(copy.getTrafficOptions()).isSameAs(trafficOptions);
         assertThat(copy.getReadOnlyCommands().isReadOnly(new Command<>(CommandType.GET, null))).isFalse();
         assertThat(copy.getReadOnlyCommands().isReadOnly(new Command<>(CommandType.PING, null))).isTrue();
     }
@@ -20,6 +20,7 @@ import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 
 /**
@@ -105,4 +106,15 @@ class ClusterCommandUnitTests {
         assertThat(someList.size()).describedAs("Inner listener has to add one element").isEqualTo(1);
     }
 
+    @Test
+    void shouldRetainSlot() {
+
+        Command<String, String, String> keyed = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key"));
+        ClusterCommand<String, String, String> clusterCommand = new ClusterCommand<>(keyed, writerMock, 1);
+
+        assertThat(clusterCommand.getSlot()).isEqualTo(SlotHash.getSlot("key"));
+        assertThat(sut.getSlot()).isEqualTo(-1);
+    }
+
 }
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -247,6 +248,82 @@ class ClusterDistributionChannelWriterUnitTests {
         verifyWriteCommandCountWhenRedirecting(true);
     }
 
+    @Test
+    void replayShouldRouteToReplicaExcludingFailedNode() {
+
+        ClusterNodeEndpoint failedEndpoint = mock(ClusterNodeEndpoint.class);
+        ClusterNodeEndpoint replicaEndpoint = mock(ClusterNodeEndpoint.class);
+        setupReplayTopology(failedEndpoint, replicaEndpoint);
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("KEY"));
+
+        assertThat(clusterDistributionChannelWriter.replay(command, failedEndpoint)).isTrue();
+
+        verify(failedEndpoint, never()).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+        verify(replicaEndpoint).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+    }
+
+    @Test
+    void replayShouldNotRouteWriteCommands() {
+
+        ClusterNodeEndpoint failedEndpoint = mock(ClusterNodeEndpoint.class);
+        ClusterNodeEndpoint replicaEndpoint = mock(ClusterNodeEndpoint.class);
+        setupReplayTopology(failedEndpoint, replicaEndpoint);
+
+        Command<String, String, String> command = new Command<>(CommandType.SET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("KEY").addValue("value"));
+
+        assertThat(clusterDistributionChannelWriter.replay(command, failedEndpoint)).isFalse();
+
+        verify(replicaEndpoint, never()).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+    }
+
+    @Test
+    void replayShouldRetryOnceConnectionIsEstablished() {
+
+        ClusterNodeEndpoint failedEndpoint = mock(ClusterNodeEndpoint.class);
+        CompletableFuture<StatefulRedisConnection<String, String>> pending = new CompletableFuture<>();
+        setupReplayTopology(failedEndpoint, null);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(ConnectionIntent.READ, "127.0.0.1", 6380))
+                .thenReturn(pending);
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("KEY"));
+
+        assertThat(clusterDistributionChannelWriter.replay(command, failedEndpoint)).isFalse();
+        verify(failedEndpoint, never()).replayBufferedCommands();
+
+        pending.complete(connection);
+
+        verify(failedEndpoint).replayBufferedCommands();
+    }
+
+    private void setupReplayTopology(ClusterNodeEndpoint failedEndpoint, ClusterNodeEndpoint replicaEndpoint) {
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("127.0.0.1", 6379), "master", true, null, 0, 0, 0,
+                Collections.singletonList(SlotHash.getSlot("KEY")), EnumSet.of(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.add(new RedisClusterNode(RedisURI.create("127.0.0.1", 6380), "replica", true, "master", 0, 0, 0,
+                Collections.emptyList(), EnumSet.of(RedisClusterNode.NodeFlag.REPLICA)));
+
+        StatefulRedisConnectionImpl<String, String> failedConnection = mock(StatefulRedisConnectionImpl.class);
+        when(failedConnection.isOpen()).thenReturn(true);
+        when(failedConnection.getChannelWriter()).thenReturn(failedEndpoint);
+
+        when(connection.isOpen()).thenReturn(true);
+        when(connection.getChannelWriter()).thenReturn(replicaEndpoint);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(ConnectionIntent.READ, "127.0.0.1", 6379))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(failedConnection));
+        when(pooledClusterConnectionProvider.getConnectionAsync(ConnectionIntent.READ, "127.0.0.1", 6380))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(connection));
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+        clusterDistributionChannelWriter.setPartitions(partitions);
+    }
+
     private void verifyWriteCommandCountWhenRedirecting(boolean isMoved) {
 
         String outputError = isMoved ? "MOVED 1234 127.0.0.1:6379" : "ASK 1234 127.0.0.1:6379";
@@ -0,0 +1,85 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Unit tests for {@link FilePartitionsSnapshotStore}.
+ */
+@Tag(UNIT_TEST)
+class FilePartitionsSnapshotStoreUnitTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReturnNullWithoutSnapshot() {
+
+        PartitionsSnapshotStore store = PartitionsSnapshotStore.file(tempDir.resolve("partitions"));
+
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    void shouldRoundTripPartitions() {
+
+        RedisClusterNode upstream = new RedisClusterNode(RedisURI.create("10.0.0.1", 7379), "a", true, null, 0, 0, 3,
+                Arrays.asList(0, 1, 2, 3, 100, 16383), EnumSet.of(RedisClusterNode.NodeFlag.UPSTREAM));
+        upstream.addAlias(RedisURI.create("redis-a", 7379));
+
+        RedisClusterNode replica = new RedisClusterNode(RedisURI.create("10.0.0.2", 7380), "b", false, "a", 0, 0, 3,
+                Collections.emptyList(), EnumSet.of(RedisClusterNode.NodeFlag.REPLICA, RedisClusterNode.NodeFlag.FAIL));
+
+        Partitions partitions = new Partitions();
+        partitions.add(upstream);
+        partitions.add(replica);
+
+        PartitionsSnapshotStore store = PartitionsSnapshotStore.file(tempDir.resolve("partitions"));
+        store.save(partitions);
+
+        Partitions loaded = store.load();
+
+        assertThat(loaded).hasSize(2);
+
+        RedisClusterNode loadedUpstream = loaded.getPartitionByNodeId("a");
+        assertThat(loadedUpstream.getUri()).isEqualTo(upstream.getUri());
+        assertThat(loadedUpstream.getSlots()).containsExactly(0, 1, 2, 3, 100, 16383);
+        assertThat(loadedUpstream.getFlags()).containsOnly(RedisClusterNode.NodeFlag.UPSTREAM);
+        assertThat(loadedUpstream.getConfigEpoch()).isEqualTo(3);
+        assertThat(loadedUpstream.getAliases()).containsExactly(RedisURI.create("redis-a", 7379));
+        assertThat(loadedUpstream.isConnected()).isTrue();
+
+        RedisClusterNode loadedReplica = loaded.getPartitionByNodeId("b");
+        assertThat(loadedReplica.getSlaveOf()).isEqualTo("a");
+        assertThat(loadedReplica.hasNoSlots()).isTrue();
+        assertThat(loadedReplica.getFlags()).containsOnly(RedisClusterNode.NodeFlag.REPLICA, RedisClusterNode.NodeFlag.FAIL);
+        assertThat(loadedReplica.isConnected()).isFalse();
+
+        assertThat(loaded.getMasterBySlot(100)).isSameAs(loadedUpstream);
+    }
+
+    @Test
+    void shouldIgnoreCorruptSnapshot() throws IOException {
+
+        Path file = tempDir.resolve("partitions");
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        assertThat(PartitionsSnapshotStore.file(file).load()).isNull();
+    }
+
+}
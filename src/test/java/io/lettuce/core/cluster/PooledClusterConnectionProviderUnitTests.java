@@ -55,6 +55,7 @@ import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.Futures;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
@@ -419,6 +420,48 @@ class PooledClusterConnectionProviderUnitTests {
         verify(channelHandlerMock).closeAsync();
     }
 
+    @Test
+    void shouldWarmUpUpstreamConnections() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        sut.setReadFrom(ReadFrom.UPSTREAM);
+        sut.warmUpConnections().join();
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock, never()).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+        assertThat(sut.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWarmUpReplicaConnectionsWhenReadingFromReplicas() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+
+        sut.setReadFrom(ReadFrom.REPLICA_PREFERRED);
+        sut.warmUpConnections().join();
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+        verify(asyncCommandsMock).readOnly();
+    }
+
+    @Test
+    void warmUpShouldCompleteIfConnectionFails() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, Futures.failed(new RedisConnectionException("foo"))));
+
+        assertThat(sut.warmUpConnections()).isCompleted();
+    }
+
     @Test
     void shouldRejectConnectionsToUnknownNodeId() {
 
@@ -0,0 +1,106 @@
+package io.lettuce.core.cluster.metrics;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Unit tests for {@link DefaultClusterTrafficRecorder}.
+ */
+@Tag(UNIT_TEST)
+class DefaultClusterTrafficRecorderUnitTests {
+
+    @Test
+    void shouldCountCommandsAndBytesPerSlot() {
+
+        ClusterTrafficRecorder sut = ClusterTrafficRecorder.create(ClusterTrafficOptions.create());
+
+        sut.record(1, key("a"), 10);
+        sut.record(1, key("b"), 20);
+        sut.record(42, key("c"), 5);
+
+        ClusterTrafficSnapshot snapshot = sut.retrieveSnapshot();
+
+        assertThat(snapshot.getCommands(1)).isEqualTo(2);
+        assertThat(snapshot.getBytes(1)).isEqualTo(30);
+        assertThat(snapshot.getCommands(42)).isEqualTo(1);
+        assertThat(snapshot.getTotalCommands()).isEqualTo(3);
+        assertThat(snapshot.getTotalBytes()).isEqualTo(35);
+        assertThat(snapshot.getHottestSlots(1)).containsExactly(1);
+        assertThat(snapshot.getHottestSlots(10)).containsExactly(1, 42);
+    }
+
+    @Test
+    void shouldResetAfterSnapshot() {
+
+        ClusterTrafficRecorder sut = ClusterTrafficRecorder.create(ClusterTrafficOptions.create());
+
+        sut.record(1, key("a"), 10);
+        sut.retrieveSnapshot();
+
+        ClusterTrafficSnapshot snapshot = sut.retrieveSnapshot();
+
+        assertThat(snapshot.getTotalCommands()).isZero();
+        assertThat(snapshot.getHotKeys()).isEmpty();
+    }
+
+    @Test
+    void shouldReportHotKeys() {
+
+        ClusterTrafficRecorder sut = ClusterTrafficRecorder.create(ClusterTrafficOptions.builder().topKeys(2).build());
+
+        for (int i = 0; i < 1000; i++) {
+            sut.record(SlotHash.getSlot("key-" + i), key("key-" + i), 10);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            sut.record(SlotHash.getSlot("hot"), key("hot"), 10);
+            sut.record(SlotHash.getSlot("warm"), key("warm"), 10);
+            if (i % 2 == 0) {
+                sut.record(SlotHash.getSlot("warm"), key("warm"), 10);
+            }
+        }
+
+        ClusterTrafficSnapshot snapshot = sut.retrieveSnapshot();
+
+        assertThat(snapshot.getHotKeys()).hasSize(2);
+        assertThat(snapshot.getHotKeys().get(0).getKey()).isEqualTo("warm");
+        assertThat(snapshot.getHotKeys().get(0).getSlot()).isEqualTo(SlotHash.getSlot("warm"));
+        assertThat(snapshot.getHotKeys().get(0).getCount()).isGreaterThanOrEqualTo(150);
+        assertThat(snapshot.getHotKeys().get(1).getKey()).isEqualTo("hot");
+    }
+
+    @Test
+    void disabledRecorderShouldReturnEmptySnapshot() {
+
+        ClusterTrafficRecorder sut = ClusterTrafficRecorder.create(ClusterTrafficOptions.disabled());
+
+        sut.record(1, key("a"), 10);
+
+        assertThat(sut.isEnabled()).isFalse();
+        assertThat(sut.retrieveSnapshot().getTotalCommands()).isZero();
+    }
+
+    @Test
+    void shouldNotChangeKeyPosition() {
+
+        ClusterTrafficRecorder sut = ClusterTrafficRecorder.create(ClusterTrafficOptions.create());
+        ByteBuffer key = key("a");
+
+        sut.record(1, key, 10);
+
+        assertThat(key.remaining()).isEqualTo(1);
+    }
+
+    private static ByteBuffer key(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
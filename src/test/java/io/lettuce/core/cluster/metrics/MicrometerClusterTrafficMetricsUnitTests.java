@@ -0,0 +1,74 @@
+package io.lettuce.core.cluster.metrics;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static io.lettuce.core.cluster.metrics.MicrometerClusterTrafficMetrics.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.event.ClusterTrafficEvent;
+import io.lettuce.core.event.DefaultEventBus;
+import io.lettuce.core.event.EventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests for {@link MicrometerClusterTrafficMetrics}.
+ */
+@Tag(UNIT_TEST)
+class MicrometerClusterTrafficMetricsUnitTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EventBus eventBus = new DefaultEventBus(Schedulers.immediate());
+
+    @Test
+    void shouldExposeHottestSlotsAndKeys() {
+
+        ClusterTrafficRecorder recorder = ClusterTrafficRecorder.create(ClusterTrafficOptions.create());
+        int slot = SlotHash.getSlot("key");
+
+        recorder.record(slot, ByteBuffer.wrap("key".getBytes(StandardCharsets.UTF_8)), 20);
+        recorder.record(slot, ByteBuffer.wrap("key".getBytes(StandardCharsets.UTF_8)), 20);
+
+        try (MicrometerClusterTrafficMetrics metrics = new MicrometerClusterTrafficMetrics(eventBus)) {
+
+            metrics.bindTo(meterRegistry);
+            eventBus.publish(new ClusterTrafficEvent(recorder.retrieveSnapshot()));
+
+            assertThat(meterRegistry.find(METRIC_SLOT_COMMANDS).tag(LABEL_SLOT, Integer.toString(slot)).gauge().value())
+                    .isEqualTo(2);
+            assertThat(meterRegistry.find(METRIC_SLOT_BYTES).tag(LABEL_SLOT, Integer.toString(slot)).gauge().value())
+                    .isEqualTo(40);
+            assertThat(meterRegistry.find(METRIC_KEY_COMMANDS).tag(LABEL_KEY, "key").gauge().value()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldRemoveStaleSlots() {
+
+        try (MicrometerClusterTrafficMetrics metrics = new MicrometerClusterTrafficMetrics(eventBus)) {
+
+            metrics.bindTo(meterRegistry);
+
+            ClusterTrafficRecorder recorder = ClusterTrafficRecorder.create(ClusterTrafficOptions.create());
+            recorder.record(1, null, 20);
+            metrics.onSnapshot(recorder.retrieveSnapshot());
+
+            assertThat(meterRegistry.find(METRIC_SLOT_COMMANDS).tag(LABEL_SLOT, "1").gauge()).isNotNull();
+
+            recorder.record(2, null, 20);
+            metrics.onSnapshot(recorder.retrieveSnapshot());
+
+            assertThat(meterRegistry.find(METRIC_SLOT_COMMANDS).tag(LABEL_SLOT, "1").gauge()).isNull();
+            assertThat(meterRegistry.find(METRIC_SLOT_COMMANDS).tag(LABEL_SLOT, "2").gauge()).isNotNull();
+        }
+    }
+
+}
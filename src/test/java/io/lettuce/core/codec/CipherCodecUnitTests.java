@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -22,6 +23,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 
 /**
@@ -120,6 +122,91 @@ class CipherCodecUnitTests {
         assertThat(result).isEqualTo("foobar");
     }
 
+    @Test
+    void shouldEncodeValueOfByteBufDelegateUsingValueEncoder() {
+
+        RedisCodec<String, byte[]> delegate = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+        RedisCodec<String, byte[]> crypto = CipherCodec.forValues(new ComposedByteBufCodec(delegate), encrypt, decrypt);
+
+        ByteBuf target = ByteBufAllocator.DEFAULT.buffer();
+        ((ToByteBufEncoder<String, byte[]>) crypto).encodeValue(new byte[] { 1, 2, 3 }, target);
+
+        assertThat(crypto.decodeValue(target.nioBuffer())).containsExactly(1, 2, 3);
+
+        target.release();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cryptoTestValues")
+    void shouldEncryptValueUsingGcm(CryptoTestArgs testArgs) {
+
+        RedisCodec<String, String> crypto = CipherCodec.forValues(StringCodec.UTF8, gcmKeys());
+
+        ByteBuffer encrypted = crypto.encodeValue(testArgs.content);
+
+        assertThat(new String(encrypted.array(), 0, 12)).isEqualTo("$foobar+142$");
+        assertThat(encrypted.remaining()).isEqualTo(12 + 12 + testArgs.content.length() + 16);
+        assertThat(crypto.encodeValue(testArgs.content)).isNotEqualTo(encrypted);
+
+        byte[] stored = Arrays.copyOfRange(encrypted.array(), 0, encrypted.limit());
+        byte[] original = stored.clone();
+
+        assertThat(crypto.decodeValue(ByteBuffer.wrap(stored))).isEqualTo(testArgs.content);
+        assertThat(stored).isEqualTo(original);
+        assertThat(crypto.decodeValue(encrypted)).isEqualTo(testArgs.content);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cryptoTestValues")
+    void shouldEncryptValueToByteBufUsingGcm(CryptoTestArgs testArgs) {
+
+        RedisCodec<String, String> crypto = CipherCodec.forValues(StringCodec.UTF8, gcmKeys());
+
+        ByteBuf target = ByteBufAllocator.DEFAULT.buffer();
+        ((ToByteBufEncoder<String, String>) crypto).encodeValue(testArgs.content, target);
+
+        assertThat(target.toString(0, 12, StandardCharsets.US_ASCII)).isEqualTo("$foobar+142$");
+
+        byte[] encrypted = ByteBufUtil.getBytes(target);
+
+        assertThat(crypto.decodeValue(target.nioBuffer())).isEqualTo(testArgs.content);
+        assertThat(ByteBufUtil.getBytes(target)).isEqualTo(encrypted);
+        assertThat(crypto.decodeValue(target.nioBuffer().asReadOnlyBuffer())).isEqualTo(testArgs.content);
+        assertThat(crypto.decodeValue(crypto.encodeValue(testArgs.content))).isEqualTo(testArgs.content);
+
+        target.release();
+    }
+
+    @Test
+    void shouldRejectTamperedGcmValue() {
+
+        RedisCodec<String, String> crypto = CipherCodec.forValues(StringCodec.UTF8, gcmKeys());
+
+        ByteBuffer encrypted = crypto.encodeValue("foobar");
+        encrypted.put(encrypted.limit() - 1, (byte) (encrypted.get(encrypted.limit() - 1) + 1));
+
+        assertThatThrownBy(() -> crypto.decodeValue(encrypted)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private CipherCodec.SecretKeySupplier gcmKeys() {
+
+        return new CipherCodec.SecretKeySupplier() {
+
+            @Override
+            public SecretKey get(CipherCodec.KeyDescriptor keyDescriptor) {
+
+                assertThat(keyDescriptor.getName()).isEqualTo("foobar");
+                return key;
+            }
+
+            @Override
+            public CipherCodec.KeyDescriptor encryptionKey() {
+                return CipherCodec.KeyDescriptor.create("foobar", 142);
+            }
+
+        };
+    }
+
     @Test
     void shouldRejectPlusAndDollarKeyNames() {
 
@@ -127,6 +214,51 @@ class CipherCodecUnitTests {
         assertThatThrownBy(() -> CipherCodec.KeyDescriptor.create("my$key")).isInstanceOf(IllegalArgumentException.class);
     }
 
+    static class ComposedByteBufCodec implements RedisCodec<String, byte[]>, ToByteBufEncoder<String, byte[]> {
+
+        private final RedisCodec<String, byte[]> delegate;
+
+        ComposedByteBufCodec(RedisCodec<String, byte[]> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return delegate.decodeKey(bytes);
+        }
+
+        @Override
+        public byte[] decodeValue(ByteBuffer bytes) {
+            return delegate.decodeValue(bytes);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            return delegate.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(byte[] value) {
+            return delegate.encodeValue(value);
+        }
+
+        @Override
+        public void encodeKey(String key, ByteBuf target) {
+            target.writeBytes(encodeKey(key));
+        }
+
+        @Override
+        public void encodeValue(byte[] value, ByteBuf target) {
+            target.writeBytes(value);
+        }
+
+        @Override
+        public int estimateSize(Object keyOrValue) {
+            return 16;
+        }
+
+    }
+
     static class CryptoTestArgs {
 
         private final int size;
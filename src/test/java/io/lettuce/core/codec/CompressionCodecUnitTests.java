@@ -5,10 +5,17 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.codec.CompressionCodec.Compressor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * Unit tests for {@link CompressionCodec}.
  *
@@ -65,6 +72,318 @@ class CompressionCodecUnitTests {
         assertThatThrownBy(() -> sut.decodeValue(ByteBuffer.wrap(keyGzipBytes))).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void compressorValueTest() {
+
+        String value = largeValue();
+
+        for (Compressor compressor : new Compressor[] { Compressor.deflate(), Compressor.lz4(), Lz4Compressor.INSTANCE,
+                Compressor.zstd() }) {
+
+            RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, compressor);
+            ByteBuffer byteBuffer = sut.encodeValue(value);
+
+            assertThat(byteBuffer.get(0)).isEqualTo(compressor.getId());
+            assertThat(byteBuffer.remaining()).isLessThan(value.length());
+            assertThat(sut.decodeValue(byteBuffer)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void deflateCompressorsShouldShareDeflatersPerLevel() {
+
+        String value = largeValue();
+
+        for (int level : new int[] { 1, 9 }) {
+
+            RedisCodec<String, String> first = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(level));
+            RedisCodec<String, String> second = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(level));
+
+            assertThat(second.decodeValue(first.encodeValue(value))).isEqualTo(value);
+            assertThat(first.decodeValue(second.encodeValue(value))).isEqualTo(value);
+        }
+
+        assertThat(DeflateCompressor.deflater(1)).isSameAs(DeflateCompressor.deflater(1))
+                .isNotSameAs(DeflateCompressor.deflater(9));
+        assertThat(DeflateCompressor.deflater(-1)).isSameAs(DeflateCompressor.deflater(-1));
+    }
+
+    @Test
+    void lz4ImplementationsShouldReadEachOthersValues() {
+
+        String value = largeValue();
+
+        RedisCodec<String, String> pureJava = CompressionCodec.valueCompressor(StringCodec.UTF8, Lz4Compressor.INSTANCE);
+        RedisCodec<String, String> lz4 = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.lz4());
+
+        assertThat(lz4.decodeValue(pureJava.encodeValue(value))).isEqualTo(value);
+        assertThat(pureJava.decodeValue(lz4.encodeValue(value))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldNotCompressValuesBelowThreshold() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.lz4());
+        ByteBuffer byteBuffer = sut.encodeValue(value);
+
+        assertThat(toBytes(byteBuffer.duplicate())).startsWith(CompressionCodec.UNCOMPRESSED)
+                .endsWith(value.getBytes(StandardCharsets.UTF_8));
+        assertThat(sut.decodeValue(byteBuffer)).isEqualTo(value);
+    }
+
+    @Test
+    void shouldNotCompressIncompressibleValues() {
+
+        byte[] random = new byte[1024];
+        new Random(1).nextBytes(random);
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(ByteArrayCodec.INSTANCE, Lz4Compressor.INSTANCE);
+        ByteBuffer byteBuffer = sut.encodeValue(random);
+
+        assertThat(byteBuffer.get(0)).isEqualTo(CompressionCodec.UNCOMPRESSED);
+        assertThat(byteBuffer.remaining()).isEqualTo(random.length + 1);
+        assertThat(sut.decodeValue(byteBuffer)).isEqualTo(random);
+    }
+
+    @Test
+    void shouldCompressIntoByteBuf() {
+
+        String value = largeValue();
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate());
+        ByteBuf target = Unpooled.buffer();
+        target.writeByte('$');
+
+        ((ToByteBufEncoder<String, String>) sut).encodeValue(value, target);
+
+        assertThat(target.getByte(1)).isEqualTo(CompressionCodec.DEFLATE);
+        assertThat(sut.decodeValue(target.nioBuffer(1, target.readableBytes() - 1))).isEqualTo(value);
+        assertThat(target.nioBuffer(1, target.readableBytes() - 1)).isEqualTo(sut.encodeValue(value));
+
+        target.release();
+    }
+
+    @Test
+    void compressorShouldDecodeLegacyValues() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.lz4());
+
+        assertThat(sut.decodeValue(ByteBuffer.wrap(keyGzipBytes))).isEqualTo(key);
+        assertThat(sut.decodeValue(ByteBuffer.wrap(keyDeflateBytes))).isEqualTo(key);
+    }
+
+    @Test
+    void compressorShouldDecodeValuesOfOtherBuiltinCompressors() {
+
+        String value = largeValue();
+
+        RedisCodec<String, String> deflate = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate());
+        RedisCodec<String, String> lz4 = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.lz4());
+
+        assertThat(lz4.decodeValue(deflate.encodeValue(value))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectReservedCompressorIds() {
+
+        Compressor compressor = new Lz4Compressor() {
+
+            @Override
+            public byte getId() {
+                return CompressionCodec.GZIP_MAGIC;
+            }
+
+        };
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CompressionCodec.valueCompressor(StringCodec.UTF8, compressor));
+    }
+
+    @Test
+    void lz4CompressorRoundTrip() {
+
+        byte[] compressible = largeValue().getBytes(StandardCharsets.UTF_8);
+        byte[] incompressible = new byte[4096];
+        new Random(1).nextBytes(incompressible);
+
+        for (byte[] bytes : new byte[][] { compressible, incompressible, new byte[0], new byte[] { 1, 2, 3 } }) {
+
+            ByteBuffer compressed = ByteBuffer.allocateDirect(Lz4Compressor.INSTANCE.maxCompressedLength(bytes.length));
+            Lz4Compressor.INSTANCE.compress(ByteBuffer.wrap(bytes), compressed);
+            compressed.flip();
+
+            ByteBuffer decompressed = ByteBuffer.allocate(bytes.length);
+            Lz4Compressor.INSTANCE.decompress(compressed, decompressed);
+
+            assertThat(decompressed.array()).isEqualTo(bytes);
+        }
+    }
+
+    @Test
+    void lz4CompressorShouldRejectMalformedInput() {
+
+        assertThatIllegalStateException().isThrownBy(() -> Lz4Compressor.INSTANCE
+                .decompress(ByteBuffer.wrap(new byte[] { (byte) 0xf0, 5 }), ByteBuffer.allocate(10)));
+    }
+
+    @Test
+    void dictionaryCompressorShouldCompressSmallValues() {
+
+        for (boolean zstd : new boolean[] { false, true }) {
+
+            CompressionDictionaries dictionaries = CompressionDictionaries.create();
+            Compressor compressor = zstd ? Compressor.zstd(dictionaries) : Compressor.deflate(dictionaries);
+            RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, compressor, 64);
+
+            Random random = new Random(1);
+            for (int i = 0; i < 100; i++) {
+                sut.encodeValue(smallValue(random));
+            }
+
+            String value = smallValue(random);
+            int withoutDictionary = sut.encodeValue(value).remaining();
+
+            CompressionDictionary dictionary = dictionaries.train();
+            ByteBuffer compressed = sut.encodeValue(value);
+
+            assertThat(dictionary.getId()).isEqualTo(1);
+            assertThat(compressed.get(0)).isEqualTo(compressor.getId());
+            assertThat(compressed.remaining()).isLessThan(withoutDictionary / 2);
+            assertThat(sut.decodeValue(compressed)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void dictionaryCompressorShouldDecodeValuesOfRotatedDictionaries() {
+
+        CompressionDictionaries dictionaries = CompressionDictionaries.create();
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(dictionaries),
+                64);
+
+        Random random = new Random(1);
+        String value = smallValue(random);
+
+        ByteBuffer withoutDictionary = sut.encodeValue(value);
+        dictionaries.train();
+        ByteBuffer first = sut.encodeValue(value);
+        CompressionDictionary rotated = dictionaries.train();
+        ByteBuffer second = sut.encodeValue(value);
+
+        assertThat(rotated.getId()).isEqualTo(2);
+        assertThat(sut.decodeValue(withoutDictionary)).isEqualTo(value);
+        assertThat(sut.decodeValue(first.duplicate())).isEqualTo(value);
+        assertThat(sut.decodeValue(second)).isEqualTo(value);
+
+        dictionaries.remove(1);
+
+        assertThatIllegalStateException().isThrownBy(() -> sut.decodeValue(first));
+        assertThatIllegalStateException().isThrownBy(() -> dictionaries.remove(2));
+    }
+
+    @Test
+    void dictionaryCompressorShouldSampleValuesBelowThreshold() {
+
+        CompressionDictionaries dictionaries = CompressionDictionaries.create();
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(dictionaries),
+                1024);
+
+        ByteBuffer encoded = sut.encodeValue(smallValue(new Random(1)));
+
+        assertThat(encoded.get(0)).isEqualTo(CompressionCodec.UNCOMPRESSED);
+        assertThat(dictionaries.getSampleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dictionaryCompressorShouldUseDictionaryThresholdByDefault() {
+
+        CompressionDictionaries dictionaries = CompressionDictionaries.create();
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(dictionaries));
+
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            sut.encodeValue(smallValue(random));
+        }
+
+        dictionaries.train();
+        String value = smallValue(random);
+        ByteBuffer compressed = sut.encodeValue(value);
+
+        assertThat(value.length()).isLessThan(CompressionCodec.DEFAULT_THRESHOLD);
+        assertThat(compressed.get(0)).isEqualTo(CompressionCodec.DEFLATE_DICTIONARY);
+        assertThat(sut.decodeValue(compressed)).isEqualTo(value);
+    }
+
+    @Test
+    void zstdDictionaryCompressorShouldReleaseReplacedDictionaries() {
+
+        CompressionDictionaries dictionaries = CompressionDictionaries.create();
+        DictionaryZstdCompressor compressor = (DictionaryZstdCompressor) Compressor.zstd(dictionaries);
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, compressor, 64);
+
+        Random random = new Random(1);
+        String value = smallValue(random);
+
+        sut.encodeValue(value);
+        dictionaries.train();
+        ByteBuffer first = sut.encodeValue(value);
+        assertThat(sut.decodeValue(first.duplicate())).isEqualTo(value);
+        assertThat(compressor.getCachedDictionaryCount()).isEqualTo(2);
+
+        dictionaries.train();
+        ByteBuffer second = sut.encodeValue(value);
+        assertThat(sut.decodeValue(second)).isEqualTo(value);
+        assertThat(compressor.getCachedDictionaryCount()).isEqualTo(3);
+
+        dictionaries.remove(1);
+        sut.encodeValue(value);
+
+        assertThat(compressor.getCachedDictionaryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dictionaryCompressorShouldUseRegisteredDictionary() {
+
+        List<byte[]> samples = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            samples.add(smallValue(random).getBytes(StandardCharsets.UTF_8));
+        }
+
+        CompressionDictionary trained = CompressionDictionary.train(7, samples, 1024);
+
+        CompressionDictionaries writer = CompressionDictionaries.create();
+        writer.activate(trained);
+
+        CompressionDictionaries reader = CompressionDictionaries.create();
+        reader.add(CompressionDictionary.of(7, trained.getBytes()));
+
+        String value = smallValue(random);
+        ByteBuffer compressed = CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(writer), 64)
+                .encodeValue(value);
+
+        assertThat(trained.size()).isLessThanOrEqualTo(1024);
+        assertThat(CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.deflate(reader), 64)
+                .decodeValue(compressed.duplicate())).isEqualTo(value);
+        assertThatIllegalStateException().isThrownBy(
+                () -> CompressionCodec.valueCompressor(StringCodec.UTF8, Compressor.lz4(), 64).decodeValue(compressed));
+    }
+
+    private static String smallValue(Random random) {
+        return "{\"id\":" + random.nextInt(1000000) + ",\"type\":\"order\",\"customer\":{\"name\":\"customer-"
+                + random.nextInt(5000) + "\",\"email\":\"user" + random.nextInt(9999)
+                + "@example.com\"},\"status\":\"CREATED\",\"currency\":\"EUR\",\"shipping\":{\"method\":\"standard\"}}";
+    }
+
+    private static String largeValue() {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("{\"id\":").append(i).append(",\"name\":\"value-").append(i % 10).append("\"}");
+        }
+
+        return builder.toString();
+    }
+
     private String toString(ByteBuffer buffer) {
         byte[] bytes = toBytes(buffer);
         return new String(bytes, StandardCharsets.UTF_8);
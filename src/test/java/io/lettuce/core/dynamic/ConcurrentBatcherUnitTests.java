@@ -0,0 +1,192 @@
+package io.lettuce.core.dynamic;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+
+/**
+ * Unit tests for {@link ConcurrentBatcher}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+class ConcurrentBatcherUnitTests {
+
+    @Mock
+    private StatefulConnection<Object, Object> connection;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Test
+    void shouldBatchWithDefaultSize() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+        RedisCommand<Object, Object, Object> c3 = createCommand();
+        RedisCommand<Object, Object, Object> c4 = createCommand();
+
+        ConcurrentBatcher batcher = new ConcurrentBatcher(connection, 2);
+
+        assertThat(batcher.batch(c1, null)).isEqualTo(BatchTasks.EMPTY);
+        verifyNoInteractions(connection);
+
+        BatchTasks batch = batcher.batch(c2, null);
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+        assertThat(batch).contains(c1, c2);
+
+        batcher.batch(c3, null);
+        verifyNoMoreInteractions(connection);
+
+        batcher.batch(c4, null);
+        verify(connection).dispatch(Arrays.asList(c3, c4));
+    }
+
+    @Test
+    void shouldBatchWithoutSize() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        ConcurrentBatcher batcher = new ConcurrentBatcher(connection, -1);
+
+        batcher.batch(c1, null);
+        verify(connection).dispatch(c1);
+
+        batcher.batch(c2, null);
+        verify(connection).dispatch(c2);
+    }
+
+    @Test
+    void shouldBatchWithBatchControlQueueOverqueue() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+        RedisCommand<Object, Object, Object> c3 = createCommand();
+        RedisCommand<Object, Object, Object> c4 = createCommand();
+        RedisCommand<Object, Object, Object> c5 = createCommand();
+
+        ConcurrentBatcher batcher = new ConcurrentBatcher(connection, 2);
+
+        batcher.batch(c1, CommandBatching.queue());
+        batcher.batch(c2, CommandBatching.queue());
+        batcher.batch(c3, CommandBatching.queue());
+        batcher.batch(c4, CommandBatching.queue());
+        verifyNoInteractions(connection);
+
+        batcher.batch(c5, null);
+
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+        verify(connection).dispatch(Arrays.asList(c3, c4));
+        verifyNoMoreInteractions(connection);
+
+        assertThat(batcher.flush()).containsExactly(c5);
+        verify(connection).dispatch(c5);
+    }
+
+    @Test
+    void shouldBatchWithBatchControlFlush() {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        ConcurrentBatcher batcher = new ConcurrentBatcher(connection, 4);
+
+        batcher.batch(c1, null);
+        batcher.batch(c2, CommandBatching.flush());
+
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+    }
+
+    @Test
+    void shouldFlushPartialBatchAfterMaxLinger() {
+
+        DefaultEventExecutorGroup executor = new DefaultEventExecutorGroup(1);
+        when(connection.getResources()).thenReturn(clientResources);
+        when(clientResources.eventExecutorGroup()).thenReturn(executor);
+
+        try {
+            RedisCommand<Object, Object, Object> c1 = createCommand();
+            RedisCommand<Object, Object, Object> c2 = createCommand();
+
+            ConcurrentBatcher batcher = new ConcurrentBatcher(connection, 10, Duration.ofMillis(10));
+
+            batcher.batch(c1, null);
+            batcher.batch(c2, null);
+
+            verify(connection, timeout(1000)).dispatch(Arrays.asList(c1, c2));
+            verify(clientResources).eventExecutorGroup();
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDispatchEachCommandOnceWhenBatchingConcurrently() throws Exception {
+
+        List<RedisCommand<?, ?, ?>> dispatched = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            dispatched.addAll(invocation.getArgument(0));
+            return null;
+        }).when(connection).dispatch(anyCollection());
+        lenient().doAnswer(invocation -> {
+            dispatched.add(invocation.getArgument(0));
+            return null;
+        }).when(connection).dispatch(any(RedisCommand.class));
+
+        ConcurrentBatcher batcher = new ConcurrentBatcher(connection, 7);
+
+        int threads = 4;
+        int commandsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < commandsPerThread; j++) {
+                    batcher.batch(createCommand(), null);
+                }
+                latch.countDown();
+            });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        batcher.flush();
+
+        assertThat(dispatched).hasSize(threads * commandsPerThread).doesNotHaveDuplicates();
+        verify(connection, atLeast(threads * commandsPerThread / 7)).dispatch(any(Collection.class));
+    }
+
+    private static RedisCommand<Object, Object, Object> createCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.COMMAND, null, null));
+    }
+
+}
@@ -4,8 +4,10 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -13,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.lettuce.core.*;
+import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.dynamic.CodecAwareMethodParametersAccessor.TypeContext;
+import io.lettuce.core.dynamic.annotation.Key;
+import io.lettuce.core.dynamic.annotation.Param;
 import io.lettuce.core.dynamic.segment.CommandSegment;
 import io.lettuce.core.dynamic.segment.CommandSegments;
 import io.lettuce.core.dynamic.support.ReflectionUtils;
@@ -180,6 +186,66 @@ class ParameterBinderUnitTests {
         assertThat(args.toCommandString()).isEqualTo("LINDEX");
     }
 
+    @Test
+    void bindingPlanBindsLikeParameterBinder() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod.create(ReflectionUtils.findMethod(MyCommands.class, "mixed",
+                String.class, String.class, long.class, double.class, float.class, byte[].class, Object.class, String[].class,
+                List.class, Limit.class, CommandType.class));
+
+        assertPlanBindsLikeParameterBinder(commandMethod, segments, "key", "value", 1L, 2.5d, 3.5f, "raw".getBytes(), "object",
+                new String[] { "a", "b" }, Arrays.asList("k1", "k2"), Limit.create(1, 2), CommandType.GET);
+        assertPlanBindsLikeParameterBinder(commandMethod, segments, "key", "value", 1L, 2.5d, 3.5f, "raw".getBytes(), 42L,
+                new String[0], Collections.emptyList(), null, null);
+        assertPlanBindsLikeParameterBinder(commandMethod, segments, null, null, 1L, 2.5d, 3.5f, null, null, null, null, null,
+                null);
+    }
+
+    @Test
+    void bindingPlanConsidersSegmentParameters() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod
+                .create(ReflectionUtils.findMethod(MyCommands.class, "segments", String.class, String.class, Range.class));
+        CommandSegments segments = new CommandSegments(Arrays.asList(CommandSegment.constant("NR.RUN"),
+                CommandSegment.namedParameter("name"), CommandSegment.constant("WITH"), CommandSegment.indexedParameter(0)));
+
+        CommandArgs<Object, Object> args = assertPlanBindsLikeParameterBinder(commandMethod, segments, "key", "name",
+                Range.create("a", "b"));
+
+        assertThat(args.toCommandString()).startsWith("key<name> WITH key<key>");
+    }
+
+    @Test
+    void bindingPlanIsNotCreatedForUnresolvableSegments() {
+
+        CommandMethod commandMethod = DeclaredCommandMethod
+                .create(ReflectionUtils.findMethod(MyCommands.class, "justObject", Object.class));
+        CommandSegments segments = new CommandSegments(
+                Arrays.asList(CommandSegment.constant("NR.RUN"), CommandSegment.namedParameter("unknown")));
+
+        assertThat(binder.plan(segments, commandMethod.getParameters(), new TypeContext(StringCodec.UTF8))).isNull();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private CommandArgs<Object, Object> assertPlanBindsLikeParameterBinder(CommandMethod commandMethod,
+            CommandSegments segments, Object... parameters) {
+
+        TypeContext typeContext = new TypeContext(StringCodec.UTF8);
+        RedisCodec<Object, Object> codec = (RedisCodec) StringCodec.UTF8;
+
+        CommandArgs<Object, Object> expected = new CommandArgs<>(codec);
+        binder.bind(expected, codec, segments, new CodecAwareMethodParametersAccessor(
+                new DefaultMethodParametersAccessor(commandMethod.getParameters(), parameters), typeContext));
+
+        ParameterBinder.BindingPlan plan = binder.plan(segments, commandMethod.getParameters(), typeContext);
+        CommandArgs<Object, Object> actual = plan.bind(new CommandArgs<>(codec), codec, parameters);
+
+        assertThat(actual.toCommandString()).isEqualTo(expected.toCommandString());
+        assertThat(actual.count()).isEqualTo(expected.count());
+
+        return actual;
+    }
+
     private CommandArgs<String, String> bind(Object object) {
         CommandMethod commandMethod = DeclaredCommandMethod
                 .create(ReflectionUtils.findMethod(MyCommands.class, "justObject", Object.class));
@@ -202,6 +268,12 @@ class ParameterBinderUnitTests {
 
         void valueRange(@io.lettuce.core.dynamic.annotation.Value Range<String> value);
 
+        void mixed(String key, @io.lettuce.core.dynamic.annotation.Value String value, long count, double score, float ratio,
+                byte[] raw, Object object, String[] strings, @Key List<String> keys, Limit limit, CommandType type);
+
+        void segments(String key, @Param("name") String name,
+                @io.lettuce.core.dynamic.annotation.Value Range<String> range);
+
     }
 
 }
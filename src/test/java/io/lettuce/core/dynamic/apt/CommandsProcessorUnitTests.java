@@ -0,0 +1,183 @@
+package io.lettuce.core.dynamic.apt;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link CommandsProcessor}.
+ */
+@Tag(UNIT_TEST)
+class CommandsProcessorUnitTests {
+
+    private static final String COMMANDS = "package example;\n" //
+            + "import java.util.List;\n" //
+            + "import io.lettuce.core.RedisFuture;\n" //
+            + "import io.lettuce.core.dynamic.Commands;\n" //
+            + "import io.lettuce.core.dynamic.annotation.*;\n" //
+            + "@GenerateCommands\n" //
+            + "public interface MyCommands extends Commands {\n" //
+            + "  RedisFuture<String> set(String key, @Value String value);\n" //
+            + "  @Command(\"MGET\") RedisFuture<List<String>> mget(@Key List<String> keys);\n" //
+            + "  @Command(\"NR.RUN ?1\") RedisFuture<List<Object>> nrRun(Object value, long count);\n" //
+            + "  RedisFuture<String> clientSetname(String name);\n" //
+            + "  default String version() { return \"1\"; }\n" //
+            + "}\n";
+
+    @TempDir
+    Path directory;
+
+    private StatefulConnection<Object, Object> connection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        connection = mock(StatefulConnection.class);
+        when(connection.dispatch(any(RedisCommand.class))).then(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldGenerateImplementation() throws Exception {
+
+        assertThat(compile("example.MyCommands", COMMANDS)).isEmpty();
+
+        String source = new String(Files.readAllBytes(directory.resolve("example/MyCommandsImpl.java")),
+                StandardCharsets.UTF_8);
+
+        assertThat(source).contains("class MyCommandsImpl extends io.lettuce.core.dynamic.AbstractGeneratedCommands")
+                .contains("bindKey(args, arg0);").contains("bindValue(args, arg1);").contains("bindKeys(args, arg0);")
+                .contains("new io.lettuce.core.output.KeyListOutput").contains("commandType(\"NR.RUN\")")
+                .doesNotContain("version()");
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void shouldDispatchCommands() throws Exception {
+
+        assertThat(compile("example.MyCommands", COMMANDS)).isEmpty();
+
+        Object commands = newInstance("example.MyCommandsImpl");
+
+        assertThat(invoke(commands, "set", "key", "value")).isInstanceOf(CompletableFuture.class);
+        assertThat(invoke(commands, "mget", Arrays.asList("k1", "k2"))).isInstanceOf(CompletableFuture.class);
+        invoke(commands, "nrRun", 42L, 2L);
+        invoke(commands, "clientSetname", "name");
+
+        ArgumentCaptor<RedisCommand<Object, Object, Object>> captor = (ArgumentCaptor) ArgumentCaptor.forClass(RedisCommand.class);
+        verify(connection, times(4)).dispatch(captor.capture());
+
+        List<RedisCommand<Object, Object, Object>> dispatched = captor.getAllValues();
+
+        assertThat(dispatched.get(0).getType()).isEqualTo(CommandType.SET);
+        assertThat(dispatched.get(0).getArgs().toCommandString()).isEqualTo("key<key> value<value>");
+        assertThat(dispatched.get(1).getArgs().toCommandString()).isEqualTo("key<k1> key<k2>");
+        assertThat(dispatched.get(2).getType().toString()).isEqualTo("NR.RUN");
+        assertThat(dispatched.get(2).getArgs().toCommandString()).isEqualTo("2 42");
+        assertThat(dispatched.get(3).getType()).isEqualTo(CommandType.CLIENT);
+        assertThat(dispatched.get(3).getArgs().toCommandString()).isEqualTo("SETNAME key<name>");
+    }
+
+    @Test
+    void shouldReportUnsupportedMethods() throws Exception {
+
+        String source = "package example;\n" //
+                + "import io.lettuce.core.dynamic.annotation.*;\n" //
+                + "@GenerateCommands\n" //
+                + "public interface Unsupported {\n" //
+                + "  reactor.core.publisher.Mono<String> get(String key);\n" //
+                + "  String set(String key, boolean flag);\n" //
+                + "}\n";
+
+        List<String> errors = compile("example.Unsupported", source);
+
+        assertThat(errors).hasSize(2);
+        assertThat(errors.get(0)).contains("Reactive execution is not supported");
+        assertThat(errors.get(1)).contains("Cannot bind parameter of type boolean");
+        assertThat(directory.resolve("example/UnsupportedImpl.java")).doesNotExist();
+    }
+
+    private List<String> compile(String className, String source) throws Exception {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertThat(compiler).isNotNull();
+
+        Path sourceFile = directory.resolve(className.replace('.', File.separatorChar) + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+
+            List<String> options = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+                    directory.toString(), "-s", directory.toString(), "-proc:only"));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+            task.setProcessors(Collections.singletonList(new CommandsProcessor()));
+            task.call();
+
+            Path generated = sourceFile.resolveSibling(
+                    sourceFile.getFileName().toString().replace(".java", CommandsProcessor.IMPLEMENTATION_SUFFIX + ".java"));
+            if (diagnostics.getDiagnostics().stream().noneMatch(it -> it.getKind() == Diagnostic.Kind.ERROR)
+                    && Files.exists(generated)) {
+
+                options.set(options.indexOf("-proc:only"), "-proc:none");
+                compiler.getTask(null, fileManager, diagnostics, options, null,
+                        fileManager.getJavaFileObjects(sourceFile.toFile(), generated.toFile())).call();
+            }
+        }
+
+        return diagnostics.getDiagnostics().stream().filter(it -> it.getKind() == Diagnostic.Kind.ERROR)
+                .map(it -> it.getMessage(null)).collect(Collectors.toList());
+    }
+
+    private Object newInstance(String className) throws Exception {
+
+        ClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, getClass().getClassLoader());
+
+        return classLoader.loadClass(className).getConstructor(StatefulConnection.class, io.lettuce.core.codec.RedisCodec.class)
+                .newInstance(connection, StringCodec.UTF8);
+    }
+
+    private static Object invoke(Object target, String methodName, Object... arguments) throws Exception {
+
+        return Arrays.stream(target.getClass().getMethods()).filter(method -> method.getName().equals(methodName))
+                .findFirst().orElseThrow(IllegalArgumentException::new).invoke(target, arguments);
+    }
+
+}
@@ -104,4 +104,35 @@ class DefaultJsonParserUnitTests {
 
     }
 
+    @Test
+    void toObject() {
+        final byte[] unprocessed = "  {\"name\":\"Walter\",\"age\":52}".getBytes();
+
+        DefaultJsonParser parser = new DefaultJsonParser();
+
+        ByteBuffer heap = ByteBuffer.wrap(unprocessed, 2, unprocessed.length - 2).slice();
+        Person person = parser.toObject(heap, Person.class);
+
+        assertThat(person.name).isEqualTo("Walter");
+        assertThat(person.age).isEqualTo(52);
+        assertThat(heap.remaining()).isEqualTo(unprocessed.length - 2);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(unprocessed.length);
+        direct.put(unprocessed).flip();
+
+        assertThat(parser.toObject(direct, Person.class).name).isEqualTo("Walter");
+        assertThat(direct.remaining()).isEqualTo(unprocessed.length);
+
+        assertThatThrownBy(() -> parser.toObject(ByteBuffer.wrap("{".getBytes()), Person.class))
+                .isInstanceOf(RedisJsonException.class);
+    }
+
+    static class Person {
+
+        public String name;
+
+        public int age;
+
+    }
+
 }
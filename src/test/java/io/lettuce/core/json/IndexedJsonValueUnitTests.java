@@ -0,0 +1,80 @@
+package io.lettuce.core.json;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IndexedJsonValue}.
+ */
+@Tag(UNIT_TEST)
+class IndexedJsonValueUnitTests {
+
+    private static final String DOCUMENT = " [{\"name\":\"Bike\",\"specs\":{\"tags\":[\"a\",\"}]\"]},\"price\":-12.5,"
+            + "\"available\":true,\"owner\":null,\"esc\\\"key\":\"line\\nbreak\"}, [], 42 ] ";
+
+    private final ProjectingJsonParser parser = new ProjectingJsonParser();
+
+    @Test
+    void shouldProjectNestedValues() {
+
+        JsonValue value = parser.loadJsonValue(ByteBuffer.wrap(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(value.isJsonArray()).isTrue();
+        assertThat(value.asJsonArray().size()).isEqualTo(3);
+
+        JsonObject bike = value.asJsonArray().getFirst().asJsonObject();
+
+        assertThat(bike.size()).isEqualTo(6);
+        assertThat(bike.get("name").asString()).isEqualTo("Bike");
+        assertThat(bike.get("price").asNumber()).isEqualTo(-12.5);
+        assertThat(bike.get("available").asBoolean()).isTrue();
+        assertThat(bike.get("owner").isNull()).isTrue();
+        assertThat(bike.get("esc\"key").asString()).isEqualTo("line\nbreak");
+        assertThat(bike.get("missing")).isNull();
+        assertThat(bike.get("specs").asJsonObject().get("tags").asJsonArray().get(1).asString()).isEqualTo("}]");
+        assertThat(bike.get("specs").toString()).isEqualTo("{\"tags\":[\"a\",\"}]\"]}");
+
+        assertThat(value.asJsonArray().get(1).asJsonArray().size()).isZero();
+        assertThat(value.asJsonArray().get(2).asNumber()).isEqualTo(42);
+        assertThat(value.asJsonArray().get(3)).isNull();
+        assertThat(value.asJsonArray().asList()).hasSize(3);
+    }
+
+    @Test
+    void shouldBindProjectedValue() {
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put("{\"bike\":{\"name\":\"Bike\",\"age\":3}}".getBytes(StandardCharsets.UTF_8)).flip();
+
+        JsonValue bike = parser.loadJsonValue(buffer).asJsonObject().get("bike");
+
+        assertThat(bike.toObject(DefaultJsonParserUnitTests.Person.class).name).isEqualTo("Bike");
+        assertThat(bike.asByteBuffer().remaining()).isEqualTo(23);
+    }
+
+    @Test
+    void shouldRejectModification() {
+
+        JsonValue value = parser.loadJsonValue(ByteBuffer.wrap("{\"a\":[1]}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> value.asJsonObject().remove("a")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> value.asJsonObject().get("a").asJsonArray().remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReportMalformedDocument() {
+
+        JsonValue value = parser.loadJsonValue(ByteBuffer.wrap("{\"a\":[1,}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> value.asJsonObject().get("a")).isInstanceOf(RedisJsonException.class);
+    }
+
+}
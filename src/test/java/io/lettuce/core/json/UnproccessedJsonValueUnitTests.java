@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
+import java.util.Map;
 
 import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -139,4 +140,23 @@ class UnproccessedJsonValueUnitTests {
         Assertions.assertThat(underTest.isBoolean()).isFalse();
     }
 
+    @Test
+    void shouldRetainSourceDataUntilModifiable() {
+        final String unprocessed = "{ \"a\" : 1 }";
+
+        DefaultJsonParser parser = new DefaultJsonParser();
+        UnproccessedJsonValue underTest = new UnproccessedJsonValue(ByteBuffer.wrap(unprocessed.getBytes()), parser);
+
+        Assertions.assertThat(underTest.toObject(Map.class)).containsEntry("a", 1);
+        Assertions.assertThat(underTest.isDeserialized()).isFalse();
+
+        Assertions.assertThat(underTest.isJsonObject()).isTrue();
+        Assertions.assertThat(underTest.toString()).isEqualTo(unprocessed);
+        Assertions.assertThat(underTest.asByteBuffer()).isEqualTo(ByteBuffer.wrap(unprocessed.getBytes()));
+
+        underTest.asJsonObject();
+
+        Assertions.assertThat(underTest.toString()).isEqualTo("{\"a\":1}");
+    }
+
 }
@@ -7,26 +7,40 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.LagAwareReadFrom;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.models.role.RedisInstance;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
 
 /**
  * @author Mark Paluch
@@ -75,4 +89,137 @@ class MasterReplicaConnectionProviderUnitTests {
         verify(channelHandlerMock).closeAsync();
     }
 
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void shouldRecordReplicationOffsetsAndPollWithLagAwareReadFrom() {
+
+        ClientResources resources = mock(ClientResources.class);
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        ScheduledFuture polling = mock(ScheduledFuture.class);
+
+        when(clientMock.getResources()).thenReturn(resources);
+        when(resources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(executorGroup.scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS)))
+                .thenReturn(polling);
+
+        RedisURI seed = RedisURI.create("localhost", 1);
+        sut.setKnownNodes(Arrays.asList(new RedisMasterReplicaNode("localhost", 1, seed, RedisInstance.Role.UPSTREAM, 1000),
+                new RedisMasterReplicaNode("replica-1", 2, seed, RedisInstance.Role.SLAVE, 990),
+                new RedisMasterReplicaNode("replica-2", 3, seed, RedisInstance.Role.SLAVE, 100)));
+
+        LagAwareReadFrom readFrom = LagAwareReadFrom.create(100);
+        sut.setReadFrom(readFrom);
+
+        assertThat(readFrom.getLag("replica-1", 2)).isEqualTo(10);
+        assertThat(readFrom.getLag("replica-2", 3)).isEqualTo(900);
+        verify(executorGroup).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS));
+
+        when(channelHandlerMock.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        sut.close();
+
+        verify(polling).cancel(false);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void shouldPollReplicationOffsetsOverDedicatedConnectionDuringTransaction() {
+
+        ClientResources resources = mock(ClientResources.class);
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        ArgumentCaptor<Runnable> poller = ArgumentCaptor.forClass(Runnable.class);
+
+        when(clientMock.getResources()).thenReturn(resources);
+        when(resources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(executorGroup.scheduleWithFixedDelay(poller.capture(), anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS)))
+                .thenReturn(mock(ScheduledFuture.class));
+
+        StatefulRedisConnection<String, String> pollingConnection = mock(StatefulRedisConnection.class);
+        RedisAsyncCommands<String, String> pollingCommands = mock(RedisAsyncCommands.class);
+        AsyncCommand<String, String, String> info = new AsyncCommand<>(new Command<>(CommandType.INFO, null));
+        info.complete("# Replication\r\nrole:master\r\nconnected_slaves:1\r\n"
+                + "slave0:ip=replica-1,port=2,state=online,offset=900,lag=0\r\nmaster_repl_offset:1000\r\n");
+
+        when(pollingConnection.isOpen()).thenReturn(true);
+        when(pollingConnection.async()).thenReturn(pollingCommands);
+        when(pollingCommands.info("replication")).thenReturn(info);
+        when(nodeConnectionMock.sync()).thenReturn(commandsMock);
+        when(clientMock.connectAsync(eq(StringCodec.UTF8), any())).thenReturn(
+                ConnectionFuture.completed(null, nodeConnectionMock), ConnectionFuture.completed(null, pollingConnection));
+
+        LagAwareReadFrom readFrom = LagAwareReadFrom.create(100);
+        sut.setReadFrom(readFrom);
+
+        StatefulRedisConnection<String, String> connection = sut.getConnection(ConnectionIntent.WRITE);
+        connection.sync().multi();
+
+        poller.getValue().run();
+        poller.getValue().run();
+
+        connection.sync().exec();
+
+        assertThat(connection).isSameAs(nodeConnectionMock);
+        assertThat(readFrom.getLag("replica-1", 2)).isEqualTo(100);
+        verify(pollingCommands, times(2)).info("replication");
+        verify(clientMock, times(2)).connectAsync(eq(StringCodec.UTF8), any());
+        verify(commandsMock).multi();
+        verify(commandsMock).exec();
+        verifyNoMoreInteractions(commandsMock);
+        verify(nodeConnectionMock, never()).async();
+
+        when(channelHandlerMock.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(pollingConnection.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        sut.close();
+
+        verify(pollingConnection).closeAsync();
+    }
+
+    @Test
+    void shouldSwitchMaster() {
+
+        RedisURI seed = RedisURI.create("localhost", 1);
+        sut.setKnownNodes(Arrays.asList(new RedisMasterReplicaNode("localhost", 1, seed, RedisInstance.Role.UPSTREAM),
+                new RedisMasterReplicaNode("localhost", 2, seed, RedisInstance.Role.SLAVE),
+                new RedisMasterReplicaNode("localhost", 3, seed, RedisInstance.Role.SLAVE)));
+
+        assertThat(sut.switchMaster("localhost", 1)).isNull();
+
+        List<RedisNodeDescription> nodes = sut.switchMaster("localhost", 2);
+
+        assertThat(nodes).hasSize(2);
+        assertThat(sut.getMaster().getUri().getPort()).isEqualTo(2);
+        assertThat(nodes.get(1).getUri().getPort()).isEqualTo(3);
+        assertThat(nodes.get(1).getRole().isReplica()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void replayShouldDispatchToOtherNodeExcludingFailedEndpoint() {
+
+        DefaultEndpoint failedEndpoint = mock(DefaultEndpoint.class);
+        DefaultEndpoint replicaEndpoint = mock(DefaultEndpoint.class);
+        RedisChannelHandler<String, String> replicaConnection = mock(RedisChannelHandler.class,
+                withSettings().extraInterfaces(StatefulRedisConnection.class));
+
+        when(channelHandlerMock.getChannelWriter()).thenReturn(failedEndpoint);
+        when(channelHandlerMock.isOpen()).thenReturn(true);
+        when(replicaConnection.getChannelWriter()).thenReturn(replicaEndpoint);
+        when(replicaConnection.isOpen()).thenReturn(true);
+
+        when(clientMock.connectAsync(eq(StringCodec.UTF8), argThat(uri -> uri != null && uri.getPort() == 1)))
+                .thenReturn(ConnectionFuture.completed(null, nodeConnectionMock));
+        when(clientMock.connectAsync(eq(StringCodec.UTF8), argThat(uri -> uri != null && uri.getPort() == 2)))
+                .thenReturn(ConnectionFuture.completed(null, (StatefulRedisConnection) replicaConnection));
+
+        RedisURI seed = RedisURI.create("localhost", 1);
+        sut.setKnownNodes(Arrays.asList(new RedisMasterReplicaNode("localhost", 1, seed, RedisInstance.Role.UPSTREAM),
+                new RedisMasterReplicaNode("localhost", 2, seed, RedisInstance.Role.SLAVE)));
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, null);
+
+        assertThat(sut.replay(command, failedEndpoint)).isTrue();
+
+        verify(nodeConnectionMock, never()).dispatch(any(RedisCommand.class));
+        verify((StatefulRedisConnection) replicaConnection).dispatch(command);
+    }
+
 }
@@ -162,6 +162,19 @@ class MasterReplicaTopologyProviderUnitTests {
         assertThat(replica3.getUri().getPort()).isEqualTo(6484);
     }
 
+    @Test
+    void shouldParseReplicationOffsets() {
+
+        String info = "# Replication\r\n" + "role:master\r\n"
+                + "slave0:ip=127.0.0.1,port=6483,state=online,offset=56000,lag=1\r\n" + "master_repl_offset:56276\r\n"
+                + "repl_backlog_active:1\r\n";
+
+        List<RedisNodeDescription> result = sut.getNodesFromInfo(info);
+
+        assertThat(((RedisMasterReplicaNode) result.get(0)).getReplicationOffset()).isEqualTo(56276);
+        assertThat(((RedisMasterReplicaNode) result.get(1)).getReplicationOffset()).isEqualTo(56000);
+    }
+
     @Test
     void shouldParseIPv6SlaveAddress() {
 
@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.masterreplica.SentinelTopologyRefresh.PubSubMessageHandler;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
@@ -72,6 +74,9 @@ class SentinelTopologyRefreshUnitTests {
     @Mock
     private Runnable refreshRunnable;
 
+    @Mock
+    private Consumer<HostAndPort> masterSwitchListener;
+
     @Captor
     private ArgumentCaptor<Runnable> captor;
 
@@ -370,6 +375,91 @@ class SentinelTopologyRefreshUnitTests {
         verify(refreshRunnable, times(1)).run();
     }
 
+    @Test
+    void shouldCoalesceMessagesIntoPendingRefresh() {
+
+        PubSubMessageHandler adapter = getMessageHandler();
+        sut.bind(refreshRunnable);
+
+        adapter.handle("*", "+sdown", "replica 127.0.0.1:6483 127.0.0.1 6483-2020 @ mymaster 127.0.0.1 6482");
+        adapter.handle("*", "+slave", "replica 127.0.0.1:8483 127.0.0.1 8483-2020 @ mymaster 127.0.0.1 6482");
+
+        verify(eventExecutors, times(1)).schedule(captor.capture(), anyLong(), any());
+        captor.getValue().run();
+        verify(refreshRunnable, times(1)).run();
+
+        adapter.handle("*", "-sdown", "replica 127.0.0.1:6483 127.0.0.1 6483-2020 @ mymaster 127.0.0.1 6482");
+
+        verify(eventExecutors, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void shouldApplySwitchMasterDirectly() {
+
+        PubSubMessageHandler adapter = getMessageHandler();
+        sut.bind(refreshRunnable, masterSwitchListener);
+
+        adapter.handle("*", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+
+        verify(eventExecutors).submit(captor.capture());
+        captor.getValue().run();
+
+        verify(masterSwitchListener).accept(HostAndPort.of("127.0.0.1", 6483));
+        verify(eventExecutors, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        verify(refreshRunnable, never()).run();
+    }
+
+    @Test
+    void shouldApplySwitchMasterAfterQuorum() {
+
+        sut = new SentinelTopologyRefresh(redisClient, "mymaster", Arrays.asList(host1, host2));
+
+        when(redisClient.connectPubSubAsync(any(StringCodec.class), eq(host2)))
+                .thenReturn(ConnectionFuture.from(null, Futures.failed(new RedisConnectionException("err"))));
+
+        PubSubMessageHandler adapter = getMessageHandler();
+        sut.bind(refreshRunnable, masterSwitchListener);
+
+        adapter.handle("sentinel-1", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+        adapter.handle("sentinel-1", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+        adapter.handle("sentinel-2", "+switch-master", "othermaster 127.0.0.1 6482 127.0.0.1 6483");
+
+        verify(eventExecutors, never()).submit(any(Runnable.class));
+
+        adapter.handle("sentinel-2", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+        adapter.handle("sentinel-3", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+
+        verify(eventExecutors, times(1)).submit(captor.capture());
+        captor.getValue().run();
+
+        verify(masterSwitchListener).accept(HostAndPort.of("127.0.0.1", 6483));
+    }
+
+    @Test
+    void shouldRetainSwitchMasterVotesAcrossDebouncedRefresh() {
+
+        sut = new SentinelTopologyRefresh(redisClient, "mymaster", Arrays.asList(host1, host2));
+
+        when(redisClient.connectPubSubAsync(any(StringCodec.class), eq(host2)))
+                .thenReturn(ConnectionFuture.from(null, Futures.failed(new RedisConnectionException("err"))));
+
+        PubSubMessageHandler adapter = getMessageHandler();
+        sut.bind(refreshRunnable, masterSwitchListener);
+
+        adapter.handle("sentinel-1", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+
+        verify(eventExecutors).schedule(captor.capture(), anyLong(), any());
+        captor.getValue().run();
+        verify(refreshRunnable).run();
+
+        adapter.handle("sentinel-2", "+switch-master", "mymaster 127.0.0.1 6482 127.0.0.1 6483");
+
+        verify(eventExecutors).submit(captor.capture());
+        captor.getValue().run();
+
+        verify(masterSwitchListener).accept(HostAndPort.of("127.0.0.1", 6483));
+    }
+
     @Test
     void shouldNotProcessIfExecutorIsShuttingDown() {
 
@@ -0,0 +1,67 @@
+package io.lettuce.core.output;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.json.DefaultJsonParser;
+import io.lettuce.core.json.JsonCodec;
+
+/**
+ * Unit tests for {@link TypedJsonListOutput}.
+ */
+@Tag(UNIT_TEST)
+class TypedJsonListOutputUnitTests {
+
+    @Test
+    void shouldDecodeEagerly() {
+
+        AtomicInteger decoded = new AtomicInteger();
+        JsonCodec<int[]> codec = JsonCodec.of(new DefaultJsonParser(), int[].class);
+        TypedJsonListOutput<String, String, int[]> sut = new TypedJsonListOutput<>(StringCodec.UTF8, bytes -> {
+            decoded.incrementAndGet();
+            return codec.decode(bytes);
+        });
+
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("[1,2,3]".getBytes(StandardCharsets.UTF_8)));
+        sut.set(null);
+
+        assertThat(decoded).hasValue(1);
+        assertThat(sut.get()).hasSize(2);
+        assertThat(sut.get().get(0)).containsExactly(1, 2, 3);
+        assertThat(sut.get().get(1)).isNull();
+    }
+
+    @Test
+    void shouldDecodeLazilyOnFirstAccess() {
+
+        AtomicInteger decoded = new AtomicInteger();
+        JsonCodec<String> codec = JsonCodec.lazy(bytes -> {
+            decoded.incrementAndGet();
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        });
+        TypedJsonListOutput<String, String, String> sut = new TypedJsonListOutput<>(StringCodec.UTF8, codec);
+
+        ByteBuffer response = ByteBuffer.wrap("\"hello\"".getBytes(StandardCharsets.UTF_8));
+        sut.set(response);
+        response.clear().put("garbage".getBytes(StandardCharsets.UTF_8));
+
+        List<String> result = sut.get();
+
+        assertThat(decoded).hasValue(0);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).isEqualTo("\"hello\"");
+        assertThat(result.get(0)).isEqualTo("\"hello\"");
+        assertThat(decoded).hasValue(1);
+    }
+
+}
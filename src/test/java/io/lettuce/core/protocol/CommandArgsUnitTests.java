@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.*;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -185,4 +186,32 @@ class CommandArgsUnitTests {
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
 
+    @Test
+    void shouldEncodeFirstKeyOnce() {
+
+        AtomicInteger encodeCount = new AtomicInteger();
+        StringCodec codec = new StringCodec() {
+
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                encodeCount.incrementAndGet();
+                return super.encodeKey(key);
+            }
+
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key").addValue("value");
+
+        ByteBuffer first = args.getFirstEncodedKey();
+        first.get();
+
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("key".getBytes()));
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat(encodeCount).hasValue(1);
+    }
+
 }
@@ -486,6 +486,47 @@ class CommandHandlerUnitTests {
         sut.channelUnregistered(context);
     }
 
+    @Test
+    void shouldTrackTransactionState() throws Exception {
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(context, new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)), channelPromise);
+        assertThat(sut.isInTransaction()).isTrue();
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("+OK\r\n".getBytes()));
+        assertThat(sut.isInTransaction()).isTrue();
+
+        sut.write(context, new Command<>(CommandType.DISCARD, new StatusOutput<>(StringCodec.UTF8)), channelPromise);
+        assertThat(sut.isInTransaction()).isTrue();
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("+OK\r\n".getBytes()));
+        assertThat(sut.isInTransaction()).isFalse();
+
+        sut.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldEndTransactionIfMultiFails() throws Exception {
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(context, new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)), channelPromise);
+        sut.channelRead(context, Unpooled.wrappedBuffer("-ERR failure\r\n".getBytes()));
+
+        assertThat(sut.isInTransaction()).isFalse();
+
+        sut.channelUnregistered(context);
+    }
+
     @Test
     void shouldIgnoreNonReadableBuffers() throws Exception {
 
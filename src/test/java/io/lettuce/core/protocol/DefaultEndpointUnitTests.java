@@ -36,6 +36,8 @@ import org.mockito.quality.Strictness;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.CommandsReplayedEvent;
 import io.lettuce.core.internal.LettuceFactories;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.resource.ClientResources;
@@ -203,6 +205,146 @@ class DefaultEndpointUnitTests {
         verify(channel, never()).write(any());
     }
 
+    @Test
+    void notifyDrainQueuedCommandsShouldReplayRetrySafeCommands() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        EventBus eventBus = mock(EventBus.class);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().failoverReplay(true).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.setReplayWriter(replayWriter);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        when(replayWriter.replay(get, sut)).thenReturn(true);
+
+        Queue<RedisCommand<?, ?, ?>> q = LettuceFactories.newConcurrentQueue(100);
+        q.add(command);
+        q.add(get);
+
+        sut.notifyDrainQueuedCommands(() -> q);
+
+        verify(replayWriter).replay(get, sut);
+        verify(replayWriter, never()).replay(command, sut);
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(command);
+        assertThat(sut.getReplayedCommandCount()).isEqualTo(1);
+
+        ArgumentCaptor<CommandsReplayedEvent> captor = ArgumentCaptor.forClass(CommandsReplayedEvent.class);
+        verify(eventBus).publish(captor.capture());
+        assertThat(captor.getValue().getReplayed()).isEqualTo(1);
+        assertThat(captor.getValue().getFailed()).isZero();
+    }
+
+    @Test
+    void writeDisconnectedShouldReplayRetrySafeCommands() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        when(clientResources.eventBus()).thenReturn(mock(EventBus.class));
+
+        sut = new DefaultEndpoint(ClientOptions.builder().failoverReplay(true).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.setReplayWriter(replayWriter);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        when(replayWriter.replay(get, sut)).thenReturn(true);
+
+        sut.write(get);
+        sut.write(command);
+
+        verify(replayWriter).replay(get, sut);
+        verify(replayWriter, never()).replay(command, sut);
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(command);
+        assertThat(sut.getReplayedCommandCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replayBufferedCommandsShouldReplayCommandsOnceRoutable() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        when(clientResources.eventBus()).thenReturn(mock(EventBus.class));
+
+        sut = new DefaultEndpoint(ClientOptions.builder().failoverReplay(true).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.setReplayWriter(replayWriter);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+
+        sut.write(get);
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(get);
+        assertThat(sut.getReplayedCommandCount()).isZero();
+
+        when(replayWriter.replay(get, sut)).thenReturn(true);
+        sut.replayBufferedCommands();
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).isEmpty();
+        assertThat(sut.getReplayedCommandCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replayBufferedCommandsShouldNotReplayTransactions() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        when(replayWriter.replay(any(), any())).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().failoverReplay(true).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.setReplayWriter(replayWriter);
+
+        Command<String, String, String> multi = new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> exec = new Command<>(CommandType.EXEC, new StatusOutput<>(StringCodec.UTF8), null);
+
+        Queue<RedisCommand<?, ?, ?>> q = LettuceFactories.newConcurrentQueue(100);
+        q.add(multi);
+        q.add(get);
+        q.add(exec);
+
+        sut.notifyDrainQueuedCommands(() -> q);
+        sut.replayBufferedCommands();
+
+        verify(replayWriter, never()).replay(any(), any());
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsExactly(multi, get, exec);
+        assertThat(sut.getReplayedCommandCount()).isZero();
+    }
+
+    @Test
+    void writeDisconnectedShouldNotReplayTransactionalCommands() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        when(replayWriter.replay(any(), any())).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().failoverReplay(true).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.setReplayWriter(replayWriter);
+
+        TransactionalCommand<String, String, String> get = new TransactionalCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+
+        sut.write(get);
+
+        verify(replayWriter, never()).replay(any(), any());
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(get);
+    }
+
+    @Test
+    void notifyDrainQueuedCommandsShouldNotReplayWithoutFailoverReplay() {
+
+        ReplayWriter replayWriter = mock(ReplayWriter.class);
+        sut.setReplayWriter(replayWriter);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+
+        Queue<RedisCommand<?, ?, ?>> q = LettuceFactories.newConcurrentQueue(100);
+        q.add(get);
+
+        sut.notifyDrainQueuedCommands(() -> q);
+
+        verifyNoInteractions(replayWriter);
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).contains(get);
+    }
+
     @Test
     void notifyDrainQueuedCommandsShouldWriteCommands() {
 
@@ -0,0 +1,173 @@
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.LivenessOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Unit tests for {@link LivenessHandler}.
+ */
+@Tag(UNIT_TEST)
+class LivenessHandlerUnitTests {
+
+    private static final LivenessOptions OPTIONS = LivenessOptions.builder().enable().idleTimeout(Duration.ofMillis(20))
+            .pingTimeout(Duration.ofMillis(20)).build();
+
+    @Test
+    void shouldProbeIdleConnectionAndCloseWithoutResponse() throws Exception {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(OPTIONS));
+
+        awaitAndRunTasks(channel);
+
+        RedisCommand<?, ?, ?> probe = channel.readOutbound();
+        assertThat(probe.getType()).isEqualTo(CommandType.PING);
+        assertThat(ActivationCommand.isActivationCommand(probe)).isTrue();
+        assertThat(channel.isActive()).isTrue();
+
+        awaitAndRunTasks(channel);
+
+        assertThat(channel.isActive()).isFalse();
+    }
+
+    @Test
+    void shouldRetainConnectionReceivingResponse() throws Exception {
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(OPTIONS));
+
+        awaitAndRunTasks(channel);
+        assertThat((Object) channel.readOutbound()).isNotNull();
+
+        channel.writeInbound(Unpooled.copiedBuffer("+PONG\r\n", StandardCharsets.US_ASCII));
+        ((ByteBuf) channel.readInbound()).release();
+
+        awaitAndRunTasks(channel);
+
+        assertThat(channel.isActive()).isTrue();
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldNotProbeWithinTransaction() throws Exception {
+
+        CommandHandler commandHandler = mockCommandHandler(new ArrayDeque<>());
+        when(commandHandler.isInTransaction()).thenReturn(true);
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(OPTIONS), commandHandler);
+
+        awaitAndRunTasks(channel);
+        awaitAndRunTasks(channel);
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(channel.isActive()).isTrue();
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldNotProbeWithBlockingCommandInFlight() throws Exception {
+
+        Queue<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
+        stack.add(new Command<>(CommandType.WAITAOF, new StatusOutput<>(StringCodec.ASCII)));
+
+        LivenessOptions options = OPTIONS.mutate().inFlightTimeout(Duration.ofMillis(1)).build();
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(options), mockCommandHandler(stack));
+
+        awaitAndRunTasks(channel);
+        awaitAndRunTasks(channel);
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(channel.isActive()).isTrue();
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldAwaitInFlightTimeoutWithCommandsInFlight() throws Exception {
+
+        Queue<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
+        stack.add(new Command<>(CommandType.KEYS, new StatusOutput<>(StringCodec.ASCII)));
+
+        LivenessOptions options = OPTIONS.mutate().inFlightTimeout(Duration.ofMillis(100)).build();
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(options), mockCommandHandler(stack));
+
+        awaitAndRunTasks(channel);
+        awaitAndRunTasks(channel);
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(channel.isActive()).isTrue();
+
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+
+        RedisCommand<?, ?, ?> probe = channel.readOutbound();
+        assertThat(probe.getType()).isEqualTo(CommandType.PING);
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldProbeStalledCommandBeforeIdleAndCommandTimeout() throws Exception {
+
+        Queue<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.ASCII)));
+        stack.add(command);
+
+        LivenessOptions options = OPTIONS.mutate().idleTimeout(Duration.ofSeconds(60)).inFlightTimeout(Duration.ofMillis(20))
+                .build();
+
+        EmbeddedChannel channel = new EmbeddedChannel(new LivenessHandler(options), mockCommandHandler(stack));
+
+        awaitAndRunTasks(channel);
+
+        RedisCommand<?, ?, ?> probe = channel.readOutbound();
+        assertThat(probe.getType()).isEqualTo(CommandType.PING);
+        assertThat(command.isDone()).isFalse();
+
+        awaitAndRunTasks(channel);
+
+        assertThat(channel.isActive()).isFalse();
+    }
+
+    private static CommandHandler mockCommandHandler(Queue<RedisCommand<?, ?, ?>> stack) throws Exception {
+
+        CommandHandler commandHandler = mock(CommandHandler.class);
+        when(commandHandler.getStack()).thenReturn(stack);
+
+        doAnswer(invocation -> ((ChannelHandlerContext) invocation.getArgument(0)).write(invocation.getArgument(1),
+                invocation.getArgument(2))).when(commandHandler).write(any(), any(), any(ChannelPromise.class));
+        doAnswer(invocation -> ((ChannelHandlerContext) invocation.getArgument(0)).flush()).when(commandHandler)
+                .flush(any());
+
+        return commandHandler;
+    }
+
+    private static void awaitAndRunTasks(EmbeddedChannel channel) throws InterruptedException {
+
+        Thread.sleep(30);
+        channel.runScheduledPendingTasks();
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.lettuce.core.pubsub;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ExecutorPubSubListener}.
+ */
+@Tag(UNIT_TEST)
+class ExecutorPubSubListenerUnitTests {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final List<String> received = new ArrayList<>();
+
+    private final RedisPubSubAdapter<String, String> delegate = new RedisPubSubAdapter<String, String>() {
+
+        @Override
+        public void message(String channel, String message) {
+            received.add(channel + "=" + message);
+        }
+
+        @Override
+        public void subscribed(String channel, long count) {
+            received.add("subscribed:" + channel);
+        }
+
+    };
+
+    @Test
+    void shouldDeliverInBatchesOnExecutor() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(tasks::add)
+                .batchSize(2).build();
+
+        sut.subscribed("channel", 1);
+        sut.message("channel", "a");
+        sut.message("channel", "b");
+
+        assertThat(received).isEmpty();
+        assertThat(tasks).hasSize(1);
+        assertThat(sut.getPendingSignals()).isEqualTo(3);
+
+        tasks.poll().run();
+
+        assertThat(received).containsExactly("subscribed:channel", "channel=a");
+        assertThat(tasks).hasSize(1);
+
+        tasks.poll().run();
+
+        assertThat(received).containsExactly("subscribed:channel", "channel=a", "channel=b");
+        assertThat(tasks).isEmpty();
+        assertThat(sut.getDeliveredSignals()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDropSignalsWhenFull() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(tasks::add).capacity(2)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            sut.message("channel", "" + i);
+        }
+
+        tasks.poll().run();
+
+        assertThat(sut.getDroppedSignals()).isEqualTo(10 - sut.getDeliveredSignals());
+        assertThat(received).startsWith("channel=0", "channel=1");
+    }
+
+    @Test
+    void shouldDropSignalsWhenExecutorRejects() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(command -> {
+            throw new RejectedExecutionException();
+        }).build();
+
+        sut.message("channel", "a");
+
+        assertThat(sut.getDroppedSignals()).isEqualTo(1);
+        assertThat(sut.getPendingSignals()).isZero();
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.lettuce.core.pubsub;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PubSubChannelInterner}.
+ */
+@Tag(UNIT_TEST)
+class PubSubChannelInternerUnitTests {
+
+    @Test
+    void shouldReturnSameInstanceForSameName() {
+
+        PubSubChannelInterner sut = new PubSubChannelInterner();
+
+        PubSubChannel first = sut.intern(ByteBuffer.wrap("channel".getBytes()));
+        PubSubChannel second = sut.intern(ByteBuffer.wrap("channel".getBytes()));
+        PubSubChannel other = sut.intern(ByteBuffer.wrap("other".getBytes()));
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getId()).isEqualTo(0);
+        assertThat(other.getId()).isEqualTo(1);
+        assertThat(first.toString()).isEqualTo("channel");
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotConsumeBuffer() {
+
+        PubSubChannelInterner sut = new PubSubChannelInterner();
+        ByteBuffer buffer = ByteBuffer.wrap("xxchannel".getBytes());
+        buffer.position(2);
+
+        PubSubChannel channel = sut.intern(buffer);
+
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(channel.matches(ByteBuffer.wrap("channel".getBytes()))).isTrue();
+        assertThat(channel.getName()).isEqualTo(ByteBuffer.wrap("channel".getBytes()));
+    }
+
+    @Test
+    void shouldResizeTable() {
+
+        PubSubChannelInterner sut = new PubSubChannelInterner();
+
+        for (int i = 0; i < 1000; i++) {
+            sut.intern(ByteBuffer.wrap(("channel-" + i).getBytes()));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sut.intern(ByteBuffer.wrap(("channel-" + i).getBytes())).getId()).isEqualTo(i);
+        }
+
+        assertThat(sut.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldNotInternBeyondMaxSize() {
+
+        PubSubChannelInterner sut = new PubSubChannelInterner(1);
+
+        PubSubChannel interned = sut.intern(ByteBuffer.wrap("a".getBytes()));
+        PubSubChannel overflow = sut.intern(ByteBuffer.wrap("b".getBytes()));
+
+        assertThat(interned.isInterned()).isTrue();
+        assertThat(overflow.isInterned()).isFalse();
+        assertThat(overflow.getId()).isEqualTo(-1);
+        assertThat(overflow).isEqualTo(new PubSubChannelInterner(0).intern(ByteBuffer.wrap("b".getBytes())));
+    }
+
+    @Test
+    void shouldConfigureMaxSizeThroughSystemProperty() {
+
+        System.setProperty(PubSubChannelInterner.MAX_SIZE_KEY, "1");
+
+        try {
+            PubSubChannelInterner sut = new PubSubChannelInterner();
+
+            assertThat(sut.intern(ByteBuffer.wrap("a".getBytes())).isInterned()).isTrue();
+            assertThat(sut.intern(ByteBuffer.wrap("b".getBytes())).isInterned()).isFalse();
+        } finally {
+            System.clearProperty(PubSubChannelInterner.MAX_SIZE_KEY);
+        }
+    }
+
+}
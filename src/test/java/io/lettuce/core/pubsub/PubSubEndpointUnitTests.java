@@ -4,6 +4,9 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Tag;
@@ -107,6 +110,186 @@ class PubSubEndpointUnitTests {
         assertThat(notified).hasValue(1);
     }
 
+    @Test
+    void shouldNotifyChannelListenersOnlyForTheirChannel() {
+
+        PubSubEndpoint<byte[], byte[]> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> channel1 = new ArrayList<>();
+        List<String> all = new ArrayList<>();
+        RedisPubSubAdapter<byte[], byte[]> channelListener = new RedisPubSubAdapter<byte[], byte[]>() {
+
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                channel1.add(new String(message));
+            }
+
+        };
+
+        sut.addChannelListener("channel1".getBytes(), channelListener);
+        sut.addListener(new RedisPubSubAdapter<byte[], byte[]>() {
+
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                all.add(new String(message));
+            }
+
+        });
+
+        sut.notifyMessage(createMessage("message", "channel1", "one", ByteArrayCodec.INSTANCE));
+        sut.notifyMessage(createMessage("message", "channel2", "two", ByteArrayCodec.INSTANCE));
+
+        sut.removeChannelListener("channel1".getBytes(), channelListener);
+        sut.notifyMessage(createMessage("message", "channel1", "three", ByteArrayCodec.INSTANCE));
+
+        assertThat(channel1).containsExactly("one");
+        assertThat(all).containsExactly("one", "two", "three");
+    }
+
+    @Test
+    void shouldNotifyPatternListenersByMatchingPattern() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> received = new ArrayList<>();
+        sut.addPatternListener("ch*", new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String pattern, String channel, String message) {
+                received.add(channel + "=" + message);
+            }
+
+        });
+
+        PubSubOutput<String, String> matching = new PubSubOutput<>(StringCodec.UTF8);
+        matching.set(ByteBuffer.wrap("pmessage".getBytes()));
+        matching.set(ByteBuffer.wrap("ch*".getBytes()));
+        matching.set(ByteBuffer.wrap("channel".getBytes()));
+        matching.set(ByteBuffer.wrap("hello".getBytes()));
+
+        sut.notifyMessage(matching);
+        sut.notifyMessage(createMessage("message", "channel", "ignored", StringCodec.UTF8));
+
+        assertThat(received).containsExactly("channel=hello");
+    }
+
+    @Test
+    void shouldDispatchToRawListenersWithoutDecoding() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> received = new ArrayList<>();
+        List<PubSubChannel> channels = new ArrayList<>();
+        sut.addRawListener(message -> {
+            channels.add(message.channel());
+            received.add(message.channel() + "=" + StandardCharsets.UTF_8.decode(message.body()));
+        });
+
+        PubSubOutput<String, String> first = createRawMessage(sut, "message", "channel", "hello");
+        PubSubOutput<String, String> second = createRawMessage(sut, "message", "channel", "world");
+
+        assertThat(received).containsExactly("channel=hello", "channel=world");
+        assertThat(channels.get(0)).isSameAs(channels.get(1));
+        assertThat(first.isRawOnly()).isTrue();
+        assertThat(first.channel()).isNull();
+        assertThat(first.get()).isNull();
+        assertThat(second.isRawOnly()).isTrue();
+    }
+
+    @Test
+    void shouldDecodeMessagesIfDecodingListenersAreRegistered() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> raw = new ArrayList<>();
+        List<String> decoded = new ArrayList<>();
+        sut.addRawListener(message -> raw.add(message.pattern() + ":" + message.channel()));
+        sut.addListener(new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String pattern, String channel, String message) {
+                decoded.add(pattern + ":" + channel + "=" + message);
+            }
+
+        });
+
+        PubSubOutput<String, String> output = new PubSubOutput<>(StringCodec.UTF8, sut);
+        output.set(ByteBuffer.wrap("pmessage".getBytes()));
+        output.set(ByteBuffer.wrap("ch*".getBytes()));
+        output.set(ByteBuffer.wrap("channel".getBytes()));
+        output.set(ByteBuffer.wrap("hello".getBytes()));
+
+        assertThat(output.isRawOnly()).isFalse();
+
+        sut.notifyMessage(output);
+
+        assertThat(raw).containsExactly("ch*:channel");
+        assertThat(decoded).containsExactly("ch*:channel=hello");
+    }
+
+    @Test
+    void shouldRewindBodyForEachRawListener() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> received = new ArrayList<>();
+        RawPubSubListener listener = message -> received.add(StandardCharsets.UTF_8.decode(message.body()).toString());
+        sut.addRawListener(listener);
+        sut.addRawListener(listener);
+
+        PubSubOutput<String, String> output = createRawMessage(sut, "message", "channel", "hello");
+        output.reset();
+        createRawMessage(output, "message", "other", "world");
+
+        assertThat(received).containsExactly("hello", "hello", "world", "world");
+    }
+
+    @Test
+    void shouldExposeReadOnlyBodyToRawListeners() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<Boolean> readOnly = new ArrayList<>();
+        sut.addRawListener(message -> {
+            readOnly.add(message.body().isReadOnly());
+            message.body().position(message.body().limit());
+        });
+
+        PubSubOutput<String, String> output = new PubSubOutput<>(StringCodec.UTF8, sut);
+        ByteBuffer body = ByteBuffer.wrap("hello".getBytes());
+
+        output.set(ByteBuffer.wrap("message".getBytes()));
+        output.set(ByteBuffer.wrap("channel".getBytes()));
+        output.set(body);
+
+        assertThat(readOnly).containsExactly(true);
+        assertThat(body.position()).isZero();
+    }
+
+    private static PubSubOutput<String, String> createRawMessage(PubSubEndpoint<String, String> endpoint, String action,
+            String channel, String body) {
+        return createRawMessage(new PubSubOutput<>(StringCodec.UTF8, endpoint), action, channel, body);
+    }
+
+    private static PubSubOutput<String, String> createRawMessage(PubSubOutput<String, String> output, String action,
+            String channel, String body) {
+
+        output.set(ByteBuffer.wrap(action.getBytes()));
+        output.set(ByteBuffer.wrap(channel.getBytes()));
+        output.set(ByteBuffer.wrap(body.getBytes()));
+
+        return output;
+    }
+
+    private static <K, V> PubSubOutput<K, V> createMessage(String action, String channel, String body,
+            RedisCodec<K, V> codec) {
+
+        PubSubOutput<K, V> output = createMessage(action, channel, codec);
+        output.set(ByteBuffer.wrap(body.getBytes()));
+
+        return output;
+    }
+
     private static <K, V> PubSubOutput<K, V> createMessage(String action, String channel, RedisCodec<K, V> codec) {
 
         PubSubOutput<K, V> output = new PubSubOutput<>(codec);
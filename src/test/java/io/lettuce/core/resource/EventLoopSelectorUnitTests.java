@@ -0,0 +1,87 @@
+package io.lettuce.core.resource;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisURI;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Unit tests for {@link EventLoopSelector}.
+ */
+@Tag(UNIT_TEST)
+class EventLoopSelectorUnitTests {
+
+    private NioEventLoopGroup eventLoopGroup;
+
+    private List<EventLoop> eventLoops;
+
+    @BeforeEach
+    void before() {
+
+        eventLoopGroup = new NioEventLoopGroup(3);
+        eventLoops = EventLoopSelector.eventLoops(eventLoopGroup);
+    }
+
+    @AfterEach
+    void after() {
+        eventLoopGroup.shutdownGracefully(0, 10, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    void shouldSelectLeastLoadedEventLoop() throws Exception {
+
+        Channel first = register(eventLoops.get(0));
+        Channel second = register(eventLoops.get(1));
+
+        assertThat(EventLoopSelector.leastLoaded().select(eventLoopGroup, null)).isSameAs(eventLoops.get(2));
+
+        first.close().sync();
+        second.close().sync();
+    }
+
+    @Test
+    void shouldPinConnections() {
+
+        RedisURI critical = RedisURI.create("redis://critical:6379");
+        RedisURI other = RedisURI.create("redis://other:6379");
+
+        EventLoopSelector sut = EventLoopSelector.roundRobin()
+                .pinned(redisURI -> redisURI.getHost().equals("critical") ? 4 : null);
+
+        assertThat(sut.select(eventLoopGroup, critical)).isSameAs(eventLoops.get(1));
+        assertThat(sut.select(eventLoopGroup, critical)).isSameAs(eventLoops.get(1));
+        assertThat(eventLoops).contains(sut.select(eventLoopGroup, other));
+    }
+
+    @Test
+    void shouldReportEventLoopMetrics() throws Exception {
+
+        Channel channel = register(eventLoops.get(0));
+
+        List<EventLoopMetrics> metrics = EventLoopMetrics.of(eventLoopGroup);
+
+        assertThat(metrics).hasSize(3);
+        assertThat(metrics.get(0).getRegisteredChannels()).isEqualTo(1);
+        assertThat(metrics.get(1).getRegisteredChannels()).isZero();
+        assertThat(metrics.get(0).getPendingTasks()).isGreaterThanOrEqualTo(0);
+
+        channel.close().sync();
+    }
+
+    private static Channel register(EventLoop eventLoop) throws InterruptedException {
+        return eventLoop.register(new NioSocketChannel()).sync().channel();
+    }
+
+}
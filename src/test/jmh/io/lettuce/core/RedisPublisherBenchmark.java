@@ -0,0 +1,110 @@
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Benchmark for {@link RedisPublisher} emitting a collection response on a publishOn executor.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>element-wise dispatch of data signals ({@code batchSize = 1})</li>
+ * <li>batched dispatch of data signals</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class RedisPublisherBenchmark {
+
+    private static final int ELEMENTS = 10_000;
+
+    @Param({ "1", "16", "256" })
+    int batchSize;
+
+    private final ByteBuffer[] elements = new ByteBuffer[ELEMENTS];
+
+    private EventExecutor executor;
+
+    @Setup
+    public void setup() {
+
+        executor = new DefaultEventExecutor();
+
+        for (int i = 0; i < ELEMENTS; i++) {
+            elements[i] = ByteBuffer.wrap(("member-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownGracefully();
+    }
+
+    @Benchmark
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void emitCollection(Blackhole blackhole) throws InterruptedException {
+
+        Command<String, String, List<String>> command = new Command<>(CommandType.ZRANGE,
+                new ValueListOutput<>(StringCodec.UTF8));
+        RedisPublisher.RedisSubscription<String> subscription = new RedisPublisher.RedisSubscription<>(
+                EmptyStatefulRedisConnection.INSTANCE, (Command) command, true, executor, batchSize);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        subscription.subscribe(new ConsumingSubscriber(blackhole, latch));
+        subscription.request(Long.MAX_VALUE);
+
+        for (ByteBuffer element : elements) {
+            command.getOutput().set(element.duplicate());
+        }
+
+        new RedisPublisher.SubscriptionCommand<>(command, subscription, true).complete();
+
+        latch.await();
+    }
+
+    static class ConsumingSubscriber implements CoreSubscriber<String> {
+
+        private final Blackhole blackhole;
+
+        private final CountDownLatch latch;
+
+        ConsumingSubscriber(Blackhole blackhole, CountDownLatch latch) {
+            this.blackhole = blackhole;
+            this.latch = latch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+        }
+
+        @Override
+        public void onNext(String s) {
+            blackhole.consume(s);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            latch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            latch.countDown();
+        }
+
+    }
+
+}
@@ -7,6 +7,10 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import io.lettuce.core.codec.CRC16;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandArgs;
+
 /**
  * @author Mark Paluch
  */
@@ -21,6 +25,20 @@ public class SlotHashBenchmark {
     private static final ByteBuffer heapTagged = (ByteBuffer) ByteBuffer.allocate(tagged.length).put(tagged).flip();
     private static final ByteBuffer directTagged = (ByteBuffer) ByteBuffer.allocateDirect(tagged.length).put(tagged).flip();
 
+    private static final byte[] longKey = "user:session:3f2a9c4e-8b1d-4e6f-a0c7-5d9e2b1f4a8c:attributes".getBytes();
+
+    private static final int[] LOOKUP_TABLE = new int[256];
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            int crc = b << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            LOOKUP_TABLE[b] = crc & 0xFFFF;
+        }
+    }
+
     @Benchmark
     public void measureSlotHashHeap(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(heap));
@@ -40,4 +58,29 @@ public class SlotHashBenchmark {
     public void measureSlotHashTaggedDirect(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(directTagged));
     }
+
+    @Benchmark
+    public void measureCrc16Slicing(Blackhole blackhole) {
+        blackhole.consume(CRC16.crc16(longKey));
+    }
+
+    @Benchmark
+    public void measureCrc16Bytewise(Blackhole blackhole) {
+
+        int crc = 0;
+        for (byte b : longKey) {
+            crc = (crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF];
+        }
+        blackhole.consume(crc & 0xFFFF);
+    }
+
+    @Benchmark
+    public void measureRouteAndEncode(Blackhole blackhole) {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("this is my key").addValue("value");
+
+        blackhole.consume(SlotHash.getSlot(args.getFirstEncodedKey()));
+        blackhole.consume(args.getFirstEncodedKey());
+    }
+
 }
@@ -7,9 +7,16 @@ import org.openjdk.jmh.annotations.*;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.dynamic.batch.BatchSize;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.test.settings.TestSettings;
 
 /**
@@ -22,13 +29,20 @@ public class RedisCommandsBenchmark {
 
     private static final int BATCH_SIZE = 20;
 
+    private static final byte[] KEY = "key".getBytes();
+
+    private static final byte[] VALUE = "value".getBytes();
+
     private RedisClient redisClient;
     private StatefulRedisConnection<byte[], byte[]> connection;
     private CompletableFuture commands[];
     private RegularCommands regularCommands;
     private BatchCommands batchCommands;
+    private SimpleBatcher simpleBatcher;
+    private ConcurrentBatcher concurrentBatcher;
 
     @Setup
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public void setup() {
 
         redisClient = RedisClient.create(RedisURI.create(TestSettings.host(), TestSettings.port()));
@@ -38,6 +52,8 @@ public class RedisCommandsBenchmark {
         regularCommands = redisCommandFactory.getCommands(RegularCommands.class);
         batchCommands = redisCommandFactory.getCommands(BatchCommands.class);
         commands = new CompletableFuture[BATCH_SIZE];
+        simpleBatcher = new SimpleBatcher((StatefulConnection) connection, BATCH_SIZE);
+        concurrentBatcher = new ConcurrentBatcher((StatefulConnection) connection, BATCH_SIZE);
     }
 
     @TearDown
@@ -67,6 +83,43 @@ public class RedisCommandsBenchmark {
         }
     }
 
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batchSetConcurrent() {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchCommands.set("key", "value");
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void simpleBatcherConcurrent() {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            simpleBatcher.batch(createSet(), null);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void concurrentBatcherConcurrent() {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            concurrentBatcher.batch(createSet(), null);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static RedisCommand<Object, Object, Object> createSet() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(KEY).addValue(VALUE);
+        return new AsyncCommand(new Command<>(CommandType.SET, new StatusOutput<>(ByteArrayCodec.INSTANCE), args));
+    }
+
     interface RegularCommands extends Commands {
 
         RedisFuture<String> set(String key, String value);
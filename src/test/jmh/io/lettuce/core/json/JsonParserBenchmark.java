@@ -0,0 +1,98 @@
+package io.lettuce.core.json;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmark for {@link DefaultJsonParser} comparing tree parsing, direct binding and source data reuse against creating a new
+ * {@link ObjectMapper} per document. Also compares reading individual fields through the {@link ProjectingJsonParser}.
+ */
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    private static final byte[] DOCUMENT = ("{\"id\":4711,\"name\":\"Walter White\",\"email\":\"walter@example.com\","
+            + "\"tags\":[\"chemistry\",\"teacher\",\"albuquerque\"],\"address\":{\"street\":\"308 Negra Arroyo Lane\","
+            + "\"city\":\"Albuquerque\",\"zip\":\"87104\"},\"active\":true,\"score\":98.5}").getBytes();
+
+    private final DefaultJsonParser parser = new DefaultJsonParser();
+
+    private final ProjectingJsonParser projectingParser = new ProjectingJsonParser();
+
+    private final ByteBuffer heap = ByteBuffer.wrap(DOCUMENT);
+
+    private final ByteBuffer direct = (ByteBuffer) ByteBuffer.allocateDirect(DOCUMENT.length).put(DOCUMENT).flip();
+
+    @Benchmark
+    public void parseTreeNewObjectMapper(Blackhole blackhole) throws Exception {
+
+        ByteBuffer buffer = heap.duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        JsonNode node = new ObjectMapper().readTree(bytes);
+        blackhole.consume(node);
+    }
+
+    @Benchmark
+    public void parseTreeHeap(Blackhole blackhole) {
+        blackhole.consume(parser.createJsonValue(heap));
+    }
+
+    @Benchmark
+    public void parseTreeDirect(Blackhole blackhole) {
+        blackhole.consume(parser.createJsonValue(direct));
+    }
+
+    @Benchmark
+    public void bindViaTree(Blackhole blackhole) {
+        blackhole.consume(parser.createJsonValue(heap).toObject(Map.class));
+    }
+
+    @Benchmark
+    public void bindDirectHeap(Blackhole blackhole) {
+        blackhole.consume(parser.toObject(heap, Map.class));
+    }
+
+    @Benchmark
+    public void bindDirectDirect(Blackhole blackhole) {
+        blackhole.consume(parser.toObject(direct, Map.class));
+    }
+
+    @Benchmark
+    public void loadedAsByteBuffer(Blackhole blackhole) {
+
+        JsonValue value = parser.loadJsonValue(heap.duplicate());
+        blackhole.consume(value.isJsonObject());
+        blackhole.consume(value.asByteBuffer());
+    }
+
+    @Benchmark
+    public void readFieldsLoaded(Blackhole blackhole) {
+
+        JsonObject object = parser.loadJsonValue(heap.duplicate()).asJsonObject();
+        blackhole.consume(object.get("name").asString());
+        blackhole.consume(object.get("address").asJsonObject().get("city").asString());
+    }
+
+    @Benchmark
+    public void readFieldsProjected(Blackhole blackhole) {
+
+        JsonObject object = projectingParser.loadJsonValue(heap.duplicate()).asJsonObject();
+        blackhole.consume(object.get("name").asString());
+        blackhole.consume(object.get("address").asJsonObject().get("city").asString());
+    }
+
+    @Benchmark
+    public void parsedAsByteBuffer(Blackhole blackhole) {
+        blackhole.consume(parser.createJsonValue(heap).asByteBuffer());
+    }
+
+}